@@ -49,6 +49,7 @@ subprojects {
         "implementation"("org.slf4j:slf4j-api")
 
         "testImplementation"("org.springframework.boot:spring-boot-starter-test")
+        "testRuntimeOnly"("org.junit.platform:junit-platform-launcher")
         "testCompileOnly"("org.projectlombok:lombok")
         "testAnnotationProcessor"("org.projectlombok:lombok")
     }
@@ -2,6 +2,7 @@ package com.mhub.api.controller;
 
 import com.mhub.api.service.OrderCommissionService;
 import com.mhub.common.dto.ApiResponse;
+import com.mhub.common.dto.CursorPageResponse;
 import com.mhub.common.dto.PageResponse;
 import com.mhub.core.domain.entity.TenantMarketplaceCredential;
 import com.mhub.core.domain.enums.MarketplaceType;
@@ -11,6 +12,7 @@ import com.mhub.core.service.OrderService;
 import com.mhub.core.service.dto.OrderItemMappingRequest;
 import com.mhub.core.service.dto.OrderItemResponse;
 import com.mhub.core.service.dto.OrderResponse;
+import com.mhub.core.service.dto.OrderSearchCondition;
 import com.mhub.core.tenant.TenantContext;
 import com.mhub.marketplace.service.OrderSyncService;
 import io.swagger.v3.oas.annotations.Operation;
@@ -37,6 +39,8 @@ import java.util.UUID;
 @RequiredArgsConstructor
 public class OrderController {
 
+    private static final int MAX_SEARCH_PAGE_SIZE = 100;
+
     private final OrderService orderService;
     private final OrderSyncService orderSyncService;
     private final TenantMarketplaceCredentialRepository credentialRepository;
@@ -72,6 +76,37 @@ public class OrderController {
                 orders.getSize(), orders.getTotalElements()));
     }
 
+    @Operation(summary = "Search orders (cursor pagination)",
+            description = "주문일 최신순 커서 페이지네이션. 응답의 nextCursor를 다음 요청의 cursor로 전달합니다. " +
+                    "includeTotal=true면 일자 통계 기준 예상 건수를 함께 반환합니다 (검색어가 있으면 null).")
+    @GetMapping("/search")
+    public ApiResponse<CursorPageResponse<OrderResponse>> searchOrders(
+            @RequestParam(required = false) List<OrderStatus> statuses,
+            @RequestParam(required = false) MarketplaceType marketplace,
+            @RequestParam(required = false) String search,
+            @RequestParam(required = false) LocalDate startDate,
+            @RequestParam(required = false) LocalDate endDate,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size,
+            @RequestParam(defaultValue = "false") boolean includeTotal) {
+        OrderSearchCondition condition = new OrderSearchCondition(statuses, marketplace, search,
+                startDate != null ? startDate.atStartOfDay() : null,
+                endDate != null ? endDate.atTime(LocalTime.MAX) : null);
+        int pageSize = Math.max(1, Math.min(size, MAX_SEARCH_PAGE_SIZE));
+        return ApiResponse.ok(orderService.searchOrders(condition, cursor, pageSize, includeTotal));
+    }
+
+    @Operation(summary = "Keyword search orders (ranked)",
+            description = "주문번호(일치/앞부분/부분), 송장번호 앞부분, 수취인명, 상품명·옵션명, 구매자 전화번호 뒷자리 4자리를 " +
+                    "관련도 순으로 검색합니다. 검색어는 2글자 이상이어야 합니다.")
+    @GetMapping("/keyword-search")
+    public ApiResponse<List<OrderResponse>> searchOrdersByKeyword(
+            @RequestParam String q,
+            @RequestParam(defaultValue = "20") int limit) {
+        int pageSize = Math.max(1, Math.min(limit, MAX_SEARCH_PAGE_SIZE));
+        return ApiResponse.ok(orderService.searchByKeyword(q, pageSize));
+    }
+
     @Operation(summary = "Get order detail")
     @GetMapping("/{id}")
     public ApiResponse<OrderResponse> getOrder(@PathVariable UUID id) {
@@ -9,6 +9,7 @@ import com.mhub.core.domain.enums.MarketplaceType;
 import com.mhub.core.domain.repository.CoupangCategoryRepository;
 import com.mhub.core.domain.repository.CoupangCommissionRateRepository;
 import com.mhub.core.domain.repository.TenantMarketplaceCredentialRepository;
+import com.mhub.core.service.CoupangCommissionRateService;
 import com.mhub.core.tenant.TenantContext;
 import com.mhub.marketplace.adapter.coupang.CoupangAdapter;
 import com.mhub.marketplace.adapter.coupang.dto.CoupangCategoryDto;
@@ -34,18 +35,21 @@ public class CoupangCategoryService {
     private final TenantMarketplaceCredentialRepository credentialRepository;
     private final CoupangAdapter coupangAdapter;
     private final JdbcTemplate jdbcTemplate;
+    private final CoupangCommissionRateService commissionRateService;
 
     public CoupangCategoryService(
             CoupangCategoryRepository categoryRepository,
             CoupangCommissionRateRepository commissionRateRepository,
             TenantMarketplaceCredentialRepository credentialRepository,
             CoupangAdapter coupangAdapter,
-            JdbcTemplate jdbcTemplate) {
+            JdbcTemplate jdbcTemplate,
+            CoupangCommissionRateService commissionRateService) {
         this.categoryRepository = categoryRepository;
         this.commissionRateRepository = commissionRateRepository;
         this.credentialRepository = credentialRepository;
         this.coupangAdapter = coupangAdapter;
         this.jdbcTemplate = jdbcTemplate;
+        this.commissionRateService = commissionRateService;
     }
 
     /**
@@ -101,6 +105,9 @@ public class CoupangCategoryService {
             // 대분류 카테고리를 수수료 테이블에 자동 추가
             int commissionRateCount = syncRootCategoriesToCommissionRate();
 
+            // 카테고리 트리/수수료율이 바뀌었으므로 수수료율 조회 스냅샷 갱신
+            commissionRateService.invalidate();
+
             Map<String, Object> result = new HashMap<>();
             result.put("commissionRateCount", commissionRateCount);
             result.put("success", true);
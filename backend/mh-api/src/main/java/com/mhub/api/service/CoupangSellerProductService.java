@@ -7,6 +7,7 @@ import com.mhub.core.domain.entity.TenantMarketplaceCredential;
 import com.mhub.core.domain.enums.MarketplaceType;
 import com.mhub.core.domain.repository.CoupangSellerProductRepository;
 import com.mhub.core.domain.repository.TenantMarketplaceCredentialRepository;
+import com.mhub.core.service.CoupangCommissionRateService;
 import com.mhub.core.service.dto.CoupangSellerProductResponse;
 import com.mhub.core.service.dto.CoupangSellerProductSyncResponse;
 import com.mhub.core.tenant.TenantContext;
@@ -38,18 +39,21 @@ public class CoupangSellerProductService {
     private final CoupangAdapter coupangAdapter;
     private final JdbcTemplate jdbcTemplate;
     private final TransactionTemplate transactionTemplate;
+    private final CoupangCommissionRateService commissionRateService;
 
     public CoupangSellerProductService(
             CoupangSellerProductRepository sellerProductRepository,
             TenantMarketplaceCredentialRepository credentialRepository,
             CoupangAdapter coupangAdapter,
             JdbcTemplate jdbcTemplate,
-            PlatformTransactionManager transactionManager) {
+            PlatformTransactionManager transactionManager,
+            CoupangCommissionRateService commissionRateService) {
         this.sellerProductRepository = sellerProductRepository;
         this.credentialRepository = credentialRepository;
         this.coupangAdapter = coupangAdapter;
         this.jdbcTemplate = jdbcTemplate;
         this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.commissionRateService = commissionRateService;
     }
 
     /**
@@ -102,6 +106,9 @@ public class CoupangSellerProductService {
                 log.debug("Saved {} products (total: {})", pageProducts.size(), totalCount.get());
             });
 
+            // 상품 → 카테고리 매핑이 바뀌었을 수 있으므로 수수료율 조회 캐시 갱신
+            commissionRateService.invalidateSellerProducts(tenantId);
+
             LocalDateTime completedAt = LocalDateTime.now();
 
             log.info("Coupang seller products sync completed for tenant {}: total={}, inserted={}, updated={}",
@@ -0,0 +1,137 @@
+package com.mhub.api.service;
+
+import com.mhub.core.domain.entity.Order;
+import com.mhub.core.domain.enums.MarketplaceType;
+import com.mhub.core.domain.enums.OrderStatus;
+import com.mhub.core.domain.repository.OrderRepository;
+import com.mhub.core.service.OrderStatsService;
+import com.mhub.core.service.OrderStatsService.OrderStatsSummary;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 대시보드 통계
+ * - 주문 수/매출 통계는 일자 통계 롤업(order_daily_stats)에서 조회하여 orders를 스캔하지 않음
+ * - 개요 응답은 테넌트별로 OVERVIEW_TTL 동안 캐시 (새로고침이 잦은 화면이라 짧은 지연은 허용)
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class DashboardService {
+
+    private static final Duration OVERVIEW_TTL = Duration.ofSeconds(30);
+
+    public static final List<OrderStatus> SHIPPING_STATUSES = List.of(
+            OrderStatus.SHIPPING, OrderStatus.DELIVERED
+    );
+
+    public static final List<OrderStatus> PENDING_STATUSES = List.of(
+            OrderStatus.PAYMENT_COMPLETE, OrderStatus.PREPARING, OrderStatus.SHIPPING_READY
+    );
+
+    public static final List<OrderStatus> EXCLUDE_FROM_REVENUE = List.of(
+            OrderStatus.CANCELLED, OrderStatus.RETURNED
+    );
+
+    public static final Map<MarketplaceType, String> MARKETPLACE_LABELS = Map.of(
+            MarketplaceType.NAVER, "스마트스토어",
+            MarketplaceType.COUPANG, "쿠팡",
+            MarketplaceType.ELEVEN_ST, "11번가",
+            MarketplaceType.GMARKET, "G마켓",
+            MarketplaceType.AUCTION, "옥션"
+    );
+
+    public static final Map<OrderStatus, String> STATUS_LABELS = Map.of(
+            OrderStatus.PAYMENT_COMPLETE, "결제완료",
+            OrderStatus.PREPARING, "상품준비중",
+            OrderStatus.SHIPPING_READY, "배송지시",
+            OrderStatus.SHIPPING, "배송중",
+            OrderStatus.DELIVERED, "배송완료",
+            OrderStatus.CANCELLED, "취소",
+            OrderStatus.RETURNED, "반품",
+            OrderStatus.PURCHASE_CONFIRMED, "구매확정"
+    );
+
+    private final OrderRepository orderRepository;
+    private final OrderStatsService orderStatsService;
+
+    private final ConcurrentHashMap<UUID, CachedOverview> overviewCache = new ConcurrentHashMap<>();
+
+    private record CachedOverview(Map<String, Object> overview, Instant expiresAt) {}
+
+    /**
+     * 대시보드 개요 (캐시 만료 시에만 다시 조회)
+     */
+    public Map<String, Object> getOverview(UUID tenantId) {
+        CachedOverview cached = overviewCache.get(tenantId);
+        if (cached != null && Instant.now().isBefore(cached.expiresAt())) {
+            return cached.overview();
+        }
+        Map<String, Object> overview = buildOverview(tenantId);
+        overviewCache.put(tenantId, new CachedOverview(overview, Instant.now().plus(OVERVIEW_TTL)));
+        return overview;
+    }
+
+    /**
+     * 요약 통계 (롤업 기준)
+     */
+    public OrderStatsSummary getSummary(UUID tenantId) {
+        LocalDate today = LocalDate.now();
+        return orderStatsService.getSummary(tenantId, today, today.withDayOfMonth(1),
+                PENDING_STATUSES, EXCLUDE_FROM_REVENUE);
+    }
+
+    private Map<String, Object> buildOverview(UUID tenantId) {
+        LocalDateTime startOfToday = LocalDate.now().atStartOfDay();
+
+        OrderStatsSummary stats = getSummary(tenantId);
+        // 오늘 발송 수는 상태 변경 시각(updatedAt) 기준이라 롤업 대상이 아님 - (tenant_id, status) 인덱스로 조회
+        long todayShipments = orderRepository.countTodayShipments(tenantId, SHIPPING_STATUSES, startOfToday);
+
+        log.info("Dashboard stats - total: {}, today: {}, pending: {}, revenue: {}",
+                stats.totalOrders(), stats.todayOrders(), stats.pendingOrders(), stats.monthlyRevenue());
+
+        List<Map<String, Object>> recentOrders = orderRepository.findRecentOrders(tenantId, PageRequest.of(0, 10)).stream()
+                .map(this::toOrderSummary)
+                .toList();
+
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("totalOrders", stats.totalOrders());
+        result.put("todayOrders", stats.todayOrders());
+        result.put("todayShipments", todayShipments);
+        result.put("pendingOrders", stats.pendingOrders());
+        result.put("monthlyRevenue", stats.monthlyRevenue());
+        result.put("recentOrders", recentOrders);
+        return result;
+    }
+
+    private Map<String, Object> toOrderSummary(Order order) {
+        Map<String, Object> map = new LinkedHashMap<>();
+        map.put("id", order.getId().toString());
+        map.put("marketplaceOrderId", order.getMarketplaceOrderId());
+        map.put("marketplaceType", MARKETPLACE_LABELS.getOrDefault(order.getMarketplaceType(), order.getMarketplaceType().name()));
+        map.put("receiverName", order.getReceiverName());
+        map.put("status", STATUS_LABELS.getOrDefault(order.getStatus(), order.getStatus().name()));
+        map.put("totalAmount", order.getTotalAmount());
+        map.put("orderedAt", formatDateTime(order.getOrderedAt()));
+        return map;
+    }
+
+    private String formatDateTime(LocalDateTime dateTime) {
+        if (dateTime == null) return null;
+        return dateTime.format(DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm"));
+    }
+}
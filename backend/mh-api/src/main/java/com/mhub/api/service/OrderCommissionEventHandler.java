@@ -0,0 +1,34 @@
+package com.mhub.api.service;
+
+import com.mhub.core.domain.enums.MarketplaceType;
+import com.mhub.core.domain.event.OrderCollectedEvent;
+import com.mhub.core.service.OrderEventHandler;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+/**
+ * 쿠팡 주문 수집 직후 수수료율/정산예정금액 계산
+ * - 이미 수수료율이 있는 상품은 건너뛰므로 같은 이벤트를 다시 처리해도 결과가 같음
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class OrderCommissionEventHandler implements OrderEventHandler {
+
+    private final OrderCommissionService orderCommissionService;
+
+    @Override
+    public String name() {
+        return "order-commission";
+    }
+
+    @Override
+    public void onOrderCollected(OrderCollectedEvent event) {
+        if (event.marketplaceType() != MarketplaceType.COUPANG) {
+            return;
+        }
+        int updated = orderCommissionService.calculateCommissionForOrder(event.orderId());
+        log.debug("Calculated commission for order {}: {} items", event.orderId(), updated);
+    }
+}
@@ -0,0 +1,24 @@
+package com.mhub.common.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * 커서 기반 페이지 응답
+ * - nextCursor를 다음 요청의 cursor로 전달 (hasNext가 false면 null)
+ * - estimatedTotal은 요청한 경우에만 채워지는 예상 건수 (정확한 COUNT가 아님, 계산할 수 없으면 null)
+ */
+@Getter
+@Builder
+@AllArgsConstructor
+public class CursorPageResponse<T> {
+
+    private final List<T> content;
+    private final int size;
+    private final String nextCursor;
+    private final boolean hasNext;
+    private final Long estimatedTotal;
+}
@@ -31,6 +31,8 @@ public final class ErrorCodes {
     public static final String MARKETPLACE_CREDENTIAL_NOT_FOUND = "MKT_004";
     public static final String MARKETPLACE_CREDENTIAL_DUPLICATE = "MKT_005";
     public static final String MARKETPLACE_CONNECTION_FAILED = "MKT_006";
+    public static final String MARKETPLACE_SYNC_IN_PROGRESS = "MKT_007";
+    public static final String MARKETPLACE_SYNC_LEASE_LOST = "MKT_008";
 
     // Shipping
     public static final String SHIPPING_NO_TRACKING_NUMBER = "SHIP_001";
@@ -51,6 +53,7 @@ public final class ErrorCodes {
     public static final String ERP_DOCUMENT_NOT_FOUND = "ERP_011";
     public static final String ERP_DOCUMENT_CANNOT_CANCEL = "ERP_012";
     public static final String ERP_DOCUMENT_ALREADY_SENT = "ERP_013";
+    public static final String ERP_DOCUMENT_SENDING = "ERP_014";
 
     // Product Mapping
     public static final String PRODUCT_MAPPING_NOT_FOUND = "PM_001";
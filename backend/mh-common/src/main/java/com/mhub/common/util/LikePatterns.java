@@ -0,0 +1,31 @@
+package com.mhub.common.util;
+
+/**
+ * LIKE 검색 패턴 - 검색어의 %, _, \ 를 이스케이프하여 와일드카드로 해석되지 않게 함
+ * (이스케이프 문자는 PostgreSQL 기본값과 같은 ESCAPE_CHAR, JPA Criteria에서는 cb.like(..., ESCAPE_CHAR)로 지정)
+ */
+public final class LikePatterns {
+
+    public static final char ESCAPE_CHAR = '\\';
+
+    private LikePatterns() {
+    }
+
+    public static String escape(String value) {
+        return value.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_");
+    }
+
+    /**
+     * 부분 일치 패턴 ('%검색어%')
+     */
+    public static String contains(String value) {
+        return "%" + escape(value) + "%";
+    }
+
+    /**
+     * 앞부분 일치 패턴 ('검색어%')
+     */
+    public static String prefix(String value) {
+        return escape(value) + "%";
+    }
+}
@@ -1,3 +1,7 @@
+plugins {
+    `java-test-fixtures`
+}
+
 dependencies {
     api(project(":mh-common"))
 
@@ -26,4 +30,8 @@ dependencies {
 
     // Hypersistence for JSONB
     implementation("io.hypersistence:hypersistence-utils-hibernate-63")
+
+    // Test fixtures - 각 모듈의 DB 통합 테스트가 공유하는 기반 클래스(PostgresIntegrationTest)와 테스트 설정
+    testFixturesApi("org.springframework.boot:spring-boot-starter-test")
+    testFixturesApi("org.testcontainers:postgresql")
 }
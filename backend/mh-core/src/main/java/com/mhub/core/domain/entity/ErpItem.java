@@ -71,4 +71,7 @@ public class ErpItem extends BaseEntity {
     @Type(JsonType.class)
     @Column(name = "raw_data", columnDefinition = "jsonb")
     private Map<String, Object> rawData;
+
+    @Column(name = "content_hash", length = 64)
+    private String contentHash;
 }
@@ -64,6 +64,26 @@ public class ErpSalesDocument extends BaseEntity {
     @Column(name = "error_message", columnDefinition = "TEXT")
     private String errorMessage;
 
+    @Column(name = "send_attempts", nullable = false)
+    @Builder.Default
+    private int sendAttempts = 0;
+
+    @Column(name = "next_retry_at")
+    private Instant nextRetryAt;
+
+    /**
+     * 전송 선점 시각 (status = SENDING인 동안만 의미 있음, 오래된 선점은 ErpDocumentSender에서 정리)
+     */
+    @Column(name = "send_claimed_at")
+    private Instant sendClaimedAt;
+
+    /**
+     * 전송 선점(UPDATE ... SET status = 'SENDING')과 엔티티 저장이 서로의 변경을 덮어쓰지 않도록 하는 버전
+     */
+    @Version
+    @Column(nullable = false)
+    private Long version;
+
     /**
      * 전표 전송 성공 처리
      */
@@ -72,14 +92,39 @@ public class ErpSalesDocument extends BaseEntity {
         this.erpDocumentId = documentId;
         this.sentAt = Instant.now();
         this.errorMessage = null;
+        this.sendAttempts++;
+        this.nextRetryAt = null;
+        this.sendClaimedAt = null;
     }
 
     /**
-     * 전표 전송 실패 처리
+     * 전표 전송 실패 처리 (자동 재전송하지 않음)
      */
     public void markAsFailed(String errorMessage) {
         this.status = ErpDocumentStatus.FAILED;
         this.errorMessage = errorMessage;
+        this.sendAttempts++;
+        this.nextRetryAt = null;
+        this.sendClaimedAt = null;
+    }
+
+    /**
+     * 일시적 오류로 전송 실패 - nextRetryAt 이후 자동 재전송 대상
+     */
+    public void markForRetry(String errorMessage, Instant nextRetryAt) {
+        this.status = ErpDocumentStatus.FAILED;
+        this.errorMessage = errorMessage;
+        this.sendAttempts++;
+        this.nextRetryAt = nextRetryAt;
+        this.sendClaimedAt = null;
+    }
+
+    /**
+     * 수동 전송 시 자동 재시도 횟수 초기화
+     */
+    public void resetSendAttempts() {
+        this.sendAttempts = 0;
+        this.nextRetryAt = null;
     }
 
     /**
@@ -87,6 +132,7 @@ public class ErpSalesDocument extends BaseEntity {
      */
     public void cancel() {
         this.status = ErpDocumentStatus.CANCELLED;
+        this.nextRetryAt = null;
     }
 
     /**
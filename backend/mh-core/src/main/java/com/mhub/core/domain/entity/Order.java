@@ -1,5 +1,6 @@
 package com.mhub.core.domain.entity;
 
+import com.fasterxml.jackson.databind.JsonNode;
 import com.mhub.core.domain.enums.MarketplaceType;
 import com.mhub.core.domain.enums.OrderStatus;
 import io.hypersistence.utils.hibernate.type.json.JsonType;
@@ -15,7 +16,6 @@ import java.math.BigDecimal;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
-import java.util.Map;
 import java.util.UUID;
 
 @Entity
@@ -101,9 +101,12 @@ public class Order extends BaseEntity {
     @Builder.Default
     private Boolean settlementCollected = false;
 
+    /**
+     * 마켓플레이스 원본 응답 - 응답을 읽은 JsonNode를 Map으로 변환하지 않고 그대로 보관
+     */
     @Type(JsonType.class)
     @Column(name = "raw_data", columnDefinition = "jsonb")
-    private Map<String, Object> rawData;
+    private JsonNode rawData;
 
     @OneToMany(mappedBy = "order", cascade = CascadeType.ALL, orphanRemoval = true)
     @BatchSize(size = 100)
@@ -1,5 +1,6 @@
 package com.mhub.core.domain.entity;
 
+import com.fasterxml.jackson.databind.JsonNode;
 import com.mhub.core.domain.enums.MarketplaceType;
 import io.hypersistence.utils.hibernate.type.json.JsonType;
 import jakarta.persistence.*;
@@ -9,7 +10,6 @@ import org.hibernate.annotations.Type;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
-import java.util.Map;
 import java.util.UUID;
 
 @Entity
@@ -79,7 +79,10 @@ public class OrderSettlement extends BaseEntity {
     @Column(name = "seller_discount_amount", precision = 15, scale = 2)
     private BigDecimal sellerDiscountAmount;
 
+    /**
+     * 마켓플레이스 원본 응답 - 응답을 읽은 JsonNode를 Map으로 변환하지 않고 그대로 보관
+     */
     @Type(JsonType.class)
     @Column(name = "raw_data", columnDefinition = "jsonb")
-    private Map<String, Object> rawData;
+    private JsonNode rawData;
 }
@@ -7,6 +7,7 @@ import jakarta.persistence.*;
 import lombok.*;
 import org.hibernate.annotations.Type;
 
+import java.time.LocalDateTime;
 import java.util.Map;
 import java.util.UUID;
 
@@ -51,4 +52,16 @@ public class TenantErpConfig extends BaseEntity {
     @Column(name = "auto_send_to_erp")
     @Builder.Default
     private Boolean autoSendToErp = false;
+
+    /**
+     * 동시 SaveSale 요청 수 (null이면 erp.send.default-concurrency)
+     */
+    @Column(name = "send_concurrency")
+    private Integer sendConcurrency;
+
+    /**
+     * 마지막 품목 동기화 시각
+     */
+    @Column(name = "item_synced_at")
+    private LocalDateTime itemSyncedAt;
 }
@@ -2,6 +2,7 @@ package com.mhub.core.domain.enums;
 
 public enum ErpDocumentStatus {
     PENDING("미전송"),
+    SENDING("전송중"),
     SENT("전송완료"),
     FAILED("전송실패"),
     CANCELLED("취소");
@@ -1,14 +1,14 @@
 package com.mhub.core.domain.event;
 
 import com.mhub.core.domain.enums.MarketplaceType;
-import lombok.AllArgsConstructor;
-import lombok.Getter;
 import java.util.UUID;
 
-@Getter @AllArgsConstructor
-public class OrderCollectedEvent {
-    private final UUID orderId;
-    private final UUID tenantId;
-    private final MarketplaceType marketplaceType;
-    private final String marketplaceOrderId;
-}
+/**
+ * 새 주문 수집 이벤트 - 주문 저장과 같은 트랜잭션에서 order_event_outbox에 기록
+ */
+public record OrderCollectedEvent(
+        UUID orderId,
+        UUID tenantId,
+        MarketplaceType marketplaceType,
+        String marketplaceOrderId
+) {}
@@ -1,15 +1,15 @@
 package com.mhub.core.domain.event;
 
 import com.mhub.core.domain.enums.OrderStatus;
-import lombok.AllArgsConstructor;
-import lombok.Getter;
 import java.util.UUID;
 
-@Getter @AllArgsConstructor
-public class OrderStatusChangedEvent {
-    private final UUID orderId;
-    private final UUID tenantId;
-    private final OrderStatus fromStatus;
-    private final OrderStatus toStatus;
-    private final String changedBy;
-}
+/**
+ * 주문 상태 변경 이벤트 - 상태 변경과 같은 트랜잭션에서 order_event_outbox에 기록
+ */
+public record OrderStatusChangedEvent(
+        UUID orderId,
+        UUID tenantId,
+        OrderStatus fromStatus,
+        OrderStatus toStatus,
+        String changedBy
+) {}
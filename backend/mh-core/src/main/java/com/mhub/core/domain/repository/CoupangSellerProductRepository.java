@@ -129,4 +129,11 @@ public interface CoupangSellerProductRepository extends JpaRepository<CoupangSel
     Optional<CoupangSellerProduct> findByTenantIdAndProductId(
             @Param("tenantId") UUID tenantId,
             @Param("productId") Long productId);
+
+    /**
+     * 테넌트의 productId → display_category_code 목록 (수수료율 조회 캐시 구성용)
+     */
+    @Query("SELECT p.productId, p.displayCategoryCode FROM CoupangSellerProduct p " +
+           "WHERE p.tenantId = :tenantId AND p.productId IS NOT NULL")
+    List<Object[]> findProductCategoryCodesByTenantId(@Param("tenantId") UUID tenantId);
 }
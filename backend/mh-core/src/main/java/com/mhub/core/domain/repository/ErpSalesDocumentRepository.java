@@ -8,6 +8,7 @@ import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.time.Instant;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -46,6 +47,13 @@ public interface ErpSalesDocumentRepository extends JpaRepository<ErpSalesDocume
      */
     List<ErpSalesDocument> findByTenantIdAndStatus(UUID tenantId, ErpDocumentStatus status);
 
+    /**
+     * 테넌트의 PENDING 전표를 afterId 다음부터 ID 순으로 조회 (자동 전송 배치 청크 처리용)
+     */
+    @Query("SELECT d FROM ErpSalesDocument d WHERE d.tenantId = :tenantId AND d.status = 'PENDING' " +
+            "AND d.id > :afterId ORDER BY d.id")
+    List<ErpSalesDocument> findPendingAfter(@Param("tenantId") UUID tenantId, @Param("afterId") UUID afterId, Pageable pageable);
+
     /**
      * 테넌트의 미전송 전표 수
      */
@@ -56,4 +64,11 @@ public interface ErpSalesDocumentRepository extends JpaRepository<ErpSalesDocume
      */
     @Query("SELECT d FROM ErpSalesDocument d WHERE d.orderId IN :orderIds AND d.status != 'CANCELLED'")
     List<ErpSalesDocument> findActiveByOrderIdIn(@Param("orderIds") List<UUID> orderIds);
+
+    /**
+     * 자동 재전송 시각이 지난 실패 전표 (오래 기다린 순)
+     */
+    @Query("SELECT d FROM ErpSalesDocument d WHERE d.tenantId = :tenantId AND d.status = 'FAILED' " +
+            "AND d.nextRetryAt IS NOT NULL AND d.nextRetryAt <= :now ORDER BY d.nextRetryAt")
+    List<ErpSalesDocument> findDueForRetry(@Param("tenantId") UUID tenantId, @Param("now") Instant now, Pageable pageable);
 }
@@ -3,8 +3,16 @@ package com.mhub.core.domain.repository;
 import com.mhub.core.domain.entity.JobExecutionLog;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
+
+import java.util.Optional;
 import java.util.UUID;
 
 @Repository
 public interface JobExecutionLogRepository extends JpaRepository<JobExecutionLog, UUID> {
+
+    /**
+     * 테넌트의 가장 최근 작업 실행 기록 (상태별) - 중단된 배치의 체크포인트 조회용
+     */
+    Optional<JobExecutionLog> findFirstByJobNameAndTenantIdAndStatusOrderByStartedAtDesc(
+            String jobName, UUID tenantId, String status);
 }
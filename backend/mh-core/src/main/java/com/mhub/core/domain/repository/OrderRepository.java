@@ -6,6 +6,7 @@ import com.mhub.core.domain.enums.OrderStatus;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
@@ -15,179 +16,11 @@ import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
+/**
+ * 주문 목록 검색은 조건 조합에 따라 OrderSpecifications로 합성하여 JpaSpecificationExecutor로 조회
+ */
 @Repository
-public interface OrderRepository extends JpaRepository<Order, UUID> {
-    Page<Order> findByTenantId(UUID tenantId, Pageable pageable);
-    Page<Order> findByTenantIdAndStatus(UUID tenantId, OrderStatus status, Pageable pageable);
-    Page<Order> findByTenantIdAndStatusIn(UUID tenantId, List<OrderStatus> statuses, Pageable pageable);
-    Page<Order> findByTenantIdAndMarketplaceType(UUID tenantId, MarketplaceType marketplaceType, Pageable pageable);
-    Page<Order> findByTenantIdAndStatusAndMarketplaceType(UUID tenantId, OrderStatus status, MarketplaceType marketplaceType, Pageable pageable);
-    Page<Order> findByTenantIdAndStatusInAndMarketplaceType(UUID tenantId, List<OrderStatus> statuses, MarketplaceType marketplaceType, Pageable pageable);
-
-    // ===================== 검색 쿼리 =====================
-
-    /**
-     * 검색 (주문번호 또는 수취인명)
-     */
-    @Query("SELECT o FROM Order o WHERE o.tenantId = :tenantId " +
-           "AND (o.marketplaceOrderId LIKE CONCAT('%', :search, '%') OR o.receiverName LIKE CONCAT('%', :search, '%'))")
-    Page<Order> searchByKeyword(
-            @Param("tenantId") UUID tenantId,
-            @Param("search") String search,
-            Pageable pageable);
-
-    /**
-     * 검색 + 마켓플레이스 필터
-     */
-    @Query("SELECT o FROM Order o WHERE o.tenantId = :tenantId " +
-           "AND o.marketplaceType = :marketplaceType " +
-           "AND (o.marketplaceOrderId LIKE CONCAT('%', :search, '%') OR o.receiverName LIKE CONCAT('%', :search, '%'))")
-    Page<Order> searchByKeywordAndMarketplace(
-            @Param("tenantId") UUID tenantId,
-            @Param("search") String search,
-            @Param("marketplaceType") MarketplaceType marketplaceType,
-            Pageable pageable);
-
-    /**
-     * 검색 + 상태 필터
-     */
-    @Query("SELECT o FROM Order o WHERE o.tenantId = :tenantId " +
-           "AND o.status IN :statuses " +
-           "AND (o.marketplaceOrderId LIKE CONCAT('%', :search, '%') OR o.receiverName LIKE CONCAT('%', :search, '%'))")
-    Page<Order> searchByKeywordAndStatuses(
-            @Param("tenantId") UUID tenantId,
-            @Param("search") String search,
-            @Param("statuses") List<OrderStatus> statuses,
-            Pageable pageable);
-
-    /**
-     * 검색 + 상태 + 마켓플레이스 필터
-     */
-    @Query("SELECT o FROM Order o WHERE o.tenantId = :tenantId " +
-           "AND o.status IN :statuses " +
-           "AND o.marketplaceType = :marketplaceType " +
-           "AND (o.marketplaceOrderId LIKE CONCAT('%', :search, '%') OR o.receiverName LIKE CONCAT('%', :search, '%'))")
-    Page<Order> searchByKeywordAndStatusesAndMarketplace(
-            @Param("tenantId") UUID tenantId,
-            @Param("search") String search,
-            @Param("statuses") List<OrderStatus> statuses,
-            @Param("marketplaceType") MarketplaceType marketplaceType,
-            Pageable pageable);
-
-    // ===================== 날짜 범위 검색 쿼리 =====================
-
-    /**
-     * 날짜 범위만
-     */
-    @Query("SELECT o FROM Order o WHERE o.tenantId = :tenantId " +
-           "AND o.orderedAt >= :startDate AND o.orderedAt <= :endDate")
-    Page<Order> findByDateRange(
-            @Param("tenantId") UUID tenantId,
-            @Param("startDate") LocalDateTime startDate,
-            @Param("endDate") LocalDateTime endDate,
-            Pageable pageable);
-
-    /**
-     * 날짜 범위 + 상태
-     */
-    @Query("SELECT o FROM Order o WHERE o.tenantId = :tenantId " +
-           "AND o.orderedAt >= :startDate AND o.orderedAt <= :endDate " +
-           "AND o.status IN :statuses")
-    Page<Order> findByDateRangeAndStatuses(
-            @Param("tenantId") UUID tenantId,
-            @Param("startDate") LocalDateTime startDate,
-            @Param("endDate") LocalDateTime endDate,
-            @Param("statuses") List<OrderStatus> statuses,
-            Pageable pageable);
-
-    /**
-     * 날짜 범위 + 마켓플레이스
-     */
-    @Query("SELECT o FROM Order o WHERE o.tenantId = :tenantId " +
-           "AND o.orderedAt >= :startDate AND o.orderedAt <= :endDate " +
-           "AND o.marketplaceType = :marketplaceType")
-    Page<Order> findByDateRangeAndMarketplace(
-            @Param("tenantId") UUID tenantId,
-            @Param("startDate") LocalDateTime startDate,
-            @Param("endDate") LocalDateTime endDate,
-            @Param("marketplaceType") MarketplaceType marketplaceType,
-            Pageable pageable);
-
-    /**
-     * 날짜 범위 + 상태 + 마켓플레이스
-     */
-    @Query("SELECT o FROM Order o WHERE o.tenantId = :tenantId " +
-           "AND o.orderedAt >= :startDate AND o.orderedAt <= :endDate " +
-           "AND o.status IN :statuses " +
-           "AND o.marketplaceType = :marketplaceType")
-    Page<Order> findByDateRangeAndStatusesAndMarketplace(
-            @Param("tenantId") UUID tenantId,
-            @Param("startDate") LocalDateTime startDate,
-            @Param("endDate") LocalDateTime endDate,
-            @Param("statuses") List<OrderStatus> statuses,
-            @Param("marketplaceType") MarketplaceType marketplaceType,
-            Pageable pageable);
-
-    /**
-     * 날짜 범위 + 검색어
-     */
-    @Query("SELECT o FROM Order o WHERE o.tenantId = :tenantId " +
-           "AND o.orderedAt >= :startDate AND o.orderedAt <= :endDate " +
-           "AND (o.marketplaceOrderId LIKE CONCAT('%', :search, '%') OR o.receiverName LIKE CONCAT('%', :search, '%'))")
-    Page<Order> findByDateRangeAndKeyword(
-            @Param("tenantId") UUID tenantId,
-            @Param("startDate") LocalDateTime startDate,
-            @Param("endDate") LocalDateTime endDate,
-            @Param("search") String search,
-            Pageable pageable);
-
-    /**
-     * 날짜 범위 + 검색어 + 상태
-     */
-    @Query("SELECT o FROM Order o WHERE o.tenantId = :tenantId " +
-           "AND o.orderedAt >= :startDate AND o.orderedAt <= :endDate " +
-           "AND o.status IN :statuses " +
-           "AND (o.marketplaceOrderId LIKE CONCAT('%', :search, '%') OR o.receiverName LIKE CONCAT('%', :search, '%'))")
-    Page<Order> findByDateRangeAndKeywordAndStatuses(
-            @Param("tenantId") UUID tenantId,
-            @Param("startDate") LocalDateTime startDate,
-            @Param("endDate") LocalDateTime endDate,
-            @Param("search") String search,
-            @Param("statuses") List<OrderStatus> statuses,
-            Pageable pageable);
-
-    /**
-     * 날짜 범위 + 검색어 + 마켓플레이스
-     */
-    @Query("SELECT o FROM Order o WHERE o.tenantId = :tenantId " +
-           "AND o.orderedAt >= :startDate AND o.orderedAt <= :endDate " +
-           "AND o.marketplaceType = :marketplaceType " +
-           "AND (o.marketplaceOrderId LIKE CONCAT('%', :search, '%') OR o.receiverName LIKE CONCAT('%', :search, '%'))")
-    Page<Order> findByDateRangeAndKeywordAndMarketplace(
-            @Param("tenantId") UUID tenantId,
-            @Param("startDate") LocalDateTime startDate,
-            @Param("endDate") LocalDateTime endDate,
-            @Param("search") String search,
-            @Param("marketplaceType") MarketplaceType marketplaceType,
-            Pageable pageable);
-
-    /**
-     * 날짜 범위 + 검색어 + 상태 + 마켓플레이스
-     */
-    @Query("SELECT o FROM Order o WHERE o.tenantId = :tenantId " +
-           "AND o.orderedAt >= :startDate AND o.orderedAt <= :endDate " +
-           "AND o.status IN :statuses " +
-           "AND o.marketplaceType = :marketplaceType " +
-           "AND (o.marketplaceOrderId LIKE CONCAT('%', :search, '%') OR o.receiverName LIKE CONCAT('%', :search, '%'))")
-    Page<Order> findByDateRangeAndKeywordAndStatusesAndMarketplace(
-            @Param("tenantId") UUID tenantId,
-            @Param("startDate") LocalDateTime startDate,
-            @Param("endDate") LocalDateTime endDate,
-            @Param("search") String search,
-            @Param("statuses") List<OrderStatus> statuses,
-            @Param("marketplaceType") MarketplaceType marketplaceType,
-            Pageable pageable);
-
+public interface OrderRepository extends JpaRepository<Order, UUID>, JpaSpecificationExecutor<Order> {
     Optional<Order> findByTenantIdAndMarketplaceTypeAndMarketplaceOrderIdAndMarketplaceProductOrderId(UUID tenantId, MarketplaceType marketplaceType, String marketplaceOrderId, String marketplaceProductOrderId);
     @Query("SELECT COUNT(o) FROM Order o WHERE o.tenantId = :tenantId AND o.erpSynced = false")
     long countUnsynced(@Param("tenantId") UUID tenantId);
@@ -207,18 +40,6 @@ public interface OrderRepository extends JpaRepository<Order, UUID> {
             @Param("tenantId") UUID tenantId,
             @Param("marketplaceType") MarketplaceType marketplaceType);
 
-    /**
-     * 기존 주문 존재 여부를 배치로 조회 (marketplaceOrderId + marketplaceProductOrderId 기준)
-     * @return 이미 존재하는 주문의 "marketplaceOrderId:marketplaceProductOrderId" 키 목록
-     */
-    @Query("SELECT CONCAT(o.marketplaceOrderId, ':', COALESCE(o.marketplaceProductOrderId, '')) " +
-           "FROM Order o WHERE o.tenantId = :tenantId AND o.marketplaceType = :marketplaceType " +
-           "AND CONCAT(o.marketplaceOrderId, ':', COALESCE(o.marketplaceProductOrderId, '')) IN :orderKeys")
-    List<String> findExistingOrderKeys(
-            @Param("tenantId") UUID tenantId,
-            @Param("marketplaceType") MarketplaceType marketplaceType,
-            @Param("orderKeys") List<String> orderKeys);
-
     /**
      * 미완료 주문 조회 (상태 업데이트 대상)
      * - 완료 상태(배송완료, 구매확정, 취소, 반품, 교환)가 아닌 주문
@@ -254,16 +75,21 @@ public interface OrderRepository extends JpaRepository<Order, UUID> {
     int markSettlementCollected(@Param("orderIds") List<UUID> orderIds);
 
     /**
-     * 전표 미생성 주문 조회 (배송중/배송완료 상태, ERP 전표 없음, 상품매핑 완료)
+     * 전표 미생성 주문 ID를 afterId 다음부터 ID 순으로 조회 (자동 전표 배치 청크 처리용)
+     * - 생성에 실패한 주문은 계속 대상에 남으므로 오프셋 대신 ID 커서로 다음 청크를 가져옴
      */
-    @Query("SELECT o FROM Order o LEFT JOIN FETCH o.items " +
+    @Query("SELECT o.id FROM Order o " +
            "WHERE o.tenantId = :tenantId " +
            "AND o.status IN :statuses " +
+           "AND o.id > :afterId " +
            "AND NOT EXISTS (SELECT 1 FROM ErpSalesDocument d WHERE d.orderId = o.id AND d.status != 'CANCELLED') " +
-           "AND NOT EXISTS (SELECT 1 FROM OrderItem oi WHERE oi.order = o AND oi.erpProdCd IS NULL)")
-    List<Order> findOrdersWithoutErpDocument(
+           "AND NOT EXISTS (SELECT 1 FROM OrderItem oi WHERE oi.order = o AND oi.erpProdCd IS NULL) " +
+           "ORDER BY o.id")
+    List<UUID> findOrderIdsWithoutErpDocumentAfter(
             @Param("tenantId") UUID tenantId,
-            @Param("statuses") List<OrderStatus> statuses);
+            @Param("statuses") List<OrderStatus> statuses,
+            @Param("afterId") UUID afterId,
+            Pageable pageable);
 
     /**
      * 전표 미생성 주문 조회 (페이징) - 상품매핑 완료된 주문만
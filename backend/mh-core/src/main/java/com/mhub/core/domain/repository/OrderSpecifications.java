@@ -0,0 +1,117 @@
+package com.mhub.core.domain.repository;
+
+import com.mhub.common.util.LikePatterns;
+import com.mhub.core.domain.entity.Order;
+import com.mhub.core.domain.enums.MarketplaceType;
+import com.mhub.core.domain.enums.OrderStatus;
+import com.mhub.core.service.dto.OrderCursor;
+import com.mhub.core.service.dto.OrderSearchCondition;
+import org.hibernate.query.criteria.HibernateCriteriaBuilder;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * 주문 목록 조회 조건 (JpaSpecificationExecutor용)
+ * - 검색 조건 조합마다 쿼리 메서드를 두지 않고, 지정된 조건만 AND로 합성
+ * - 커서 페이지네이션은 keysetOrder 순서(주문일 최신순, 같은 주문일은 id 역순)로
+ *   idx_orders_tenant_ordered_keyset 인덱스를 따라 읽음
+ */
+public final class OrderSpecifications {
+
+    /**
+     * orders는 created_at(수집 시각) 기준 월별 파티션이고 수집은 주문 이후에 일어나므로,
+     * 주문일 범위가 있으면 created_at >= (시작일 - 여유)를 함께 걸어 이전 파티션을 건너뜀
+     * (여유는 마켓플레이스와 서버 간 시간대/시계 차이 대비)
+     */
+    private static final Duration CREATED_AT_SLACK = Duration.ofDays(1);
+
+    private OrderSpecifications() {
+    }
+
+    public static Specification<Order> matches(UUID tenantId, OrderSearchCondition condition) {
+        Specification<Order> spec = tenantIs(tenantId);
+        if (condition.hasStatuses()) {
+            spec = spec.and(statusIn(condition.statuses()));
+        }
+        if (condition.hasMarketplace()) {
+            spec = spec.and(marketplaceIs(condition.marketplaceType()));
+        }
+        if (condition.hasKeyword()) {
+            spec = spec.and(keywordContains(condition.keyword()));
+        }
+        if (condition.hasDateRange()) {
+            spec = spec.and(orderedBetween(condition.startDate(), condition.endDate()));
+        }
+        return spec;
+    }
+
+    public static Specification<Order> tenantIs(UUID tenantId) {
+        return (root, query, cb) -> cb.equal(root.get("tenantId"), tenantId);
+    }
+
+    public static Specification<Order> statusIn(List<OrderStatus> statuses) {
+        return (root, query, cb) -> root.get("status").in(statuses);
+    }
+
+    public static Specification<Order> marketplaceIs(MarketplaceType marketplaceType) {
+        return (root, query, cb) -> cb.equal(root.get("marketplaceType"), marketplaceType);
+    }
+
+    /**
+     * 주문번호 또는 수취인명 부분 일치 (pg_trgm GIN 인덱스 사용)
+     * - 검색어의 %, _ 는 와일드카드가 아닌 문자로 찾음
+     * - 상품명/송장번호/전화번호까지 관련도 순으로 찾을 때는 OrderKeywordSearchService 사용
+     */
+    public static Specification<Order> keywordContains(String keyword) {
+        return (root, query, cb) -> {
+            String pattern = LikePatterns.contains(keyword);
+            return cb.or(
+                    cb.like(root.get("marketplaceOrderId"), pattern, LikePatterns.ESCAPE_CHAR),
+                    cb.like(root.get("receiverName"), pattern, LikePatterns.ESCAPE_CHAR));
+        };
+    }
+
+    public static Specification<Order> orderedBetween(LocalDateTime startDate, LocalDateTime endDate) {
+        return (root, query, cb) -> cb.and(
+                cb.greaterThanOrEqualTo(root.get("orderedAt"), startDate),
+                cb.lessThanOrEqualTo(root.get("orderedAt"), endDate),
+                cb.greaterThanOrEqualTo(root.get("createdAt"), startDate.minus(CREATED_AT_SLACK)));
+    }
+
+    /**
+     * 커서 페이지네이션 정렬 - 인덱스 (tenant_id, ordered_at DESC NULLS LAST, id DESC)와 같은 순서
+     * - Spring Data의 Sort는 Criteria 쿼리에서 NULLS LAST를 반영하지 않으므로(PostgreSQL DESC 기본값은 NULLS FIRST)
+     *   조건과 함께 정렬을 직접 지정하고, 조회 시 sortBy는 지정하지 않음
+     */
+    public static Specification<Order> keysetOrder() {
+        return (root, query, cb) -> {
+            HibernateCriteriaBuilder hcb = (HibernateCriteriaBuilder) cb;
+            query.orderBy(hcb.desc(root.get("orderedAt"), false), hcb.desc(root.get("id")));
+            return null;
+        };
+    }
+
+    /**
+     * keysetOrder 순서에서 커서 다음에 오는 주문
+     * (주문일이 없는 주문은 맨 뒤에 id 역순으로 옴)
+     */
+    public static Specification<Order> after(OrderCursor cursor) {
+        return (root, query, cb) -> {
+            if (cursor.orderedAt() == null) {
+                return cb.and(
+                        cb.isNull(root.get("orderedAt")),
+                        cb.lessThan(root.get("id"), cursor.id()));
+            }
+            return cb.or(
+                    cb.lessThan(root.get("orderedAt"), cursor.orderedAt()),
+                    cb.and(
+                            cb.equal(root.get("orderedAt"), cursor.orderedAt()),
+                            cb.lessThan(root.get("id"), cursor.id())),
+                    cb.isNull(root.get("orderedAt")));
+        };
+    }
+}
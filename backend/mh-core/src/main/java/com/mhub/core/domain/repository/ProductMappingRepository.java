@@ -9,6 +9,7 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -37,6 +38,21 @@ public interface ProductMappingRepository extends JpaRepository<ProductMapping,
             @Param("marketplaceType") MarketplaceType marketplaceType,
             @Param("marketplaceProductId") String marketplaceProductId);
 
+    /**
+     * 상품ID 목록으로 매핑 일괄 조회 (미매핑 포함, 주문 수집 시 매핑 인덱스 구성용)
+     */
+    List<ProductMapping> findByTenantIdAndMarketplaceTypeAndMarketplaceProductIdIn(
+            UUID tenantId,
+            MarketplaceType marketplaceType,
+            Collection<String> marketplaceProductIds);
+
+    /**
+     * 상품ID 목록으로 전체 마켓 매핑 일괄 조회 (주문 목록/상세 응답의 매핑 표시용)
+     */
+    List<ProductMapping> findByTenantIdAndMarketplaceProductIdIn(
+            UUID tenantId,
+            Collection<String> marketplaceProductIds);
+
     /**
      * 테넌트의 모든 매핑 조회 (페이징)
      */
@@ -113,11 +129,6 @@ public interface ProductMappingRepository extends JpaRepository<ProductMapping,
      */
     Optional<ProductMapping> findByIdAndTenantId(UUID id, UUID tenantId);
 
-    /**
-     * 특정 마켓플레이스의 모든 매핑 조회 (주문 조회 시 매핑 상태 확인용)
-     */
-    List<ProductMapping> findByTenantIdAndMarketplaceType(UUID tenantId, MarketplaceType marketplaceType);
-
     /**
      * 테넌트의 모든 매핑 삭제
      */
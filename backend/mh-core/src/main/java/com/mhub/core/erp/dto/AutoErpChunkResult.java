@@ -0,0 +1,17 @@
+package com.mhub.core.erp.dto;
+
+import java.util.UUID;
+
+/**
+ * 자동 전표 배치의 청크 1회 처리 결과
+ * - scannedCount가 요청한 청크 크기보다 작으면 더 처리할 대상이 없음
+ * - lastId: 다음 청크 조회 커서 (대상이 없으면 null)
+ */
+public record AutoErpChunkResult(
+        int scannedCount,
+        int generatedCount,
+        int generateFailCount,
+        int sentCount,
+        int sendFailCount,
+        UUID lastId
+) {}
@@ -13,6 +13,7 @@ public class ErpItemSyncResponse {
     private boolean success;
     private int totalCount;
     private int syncedCount;
+    private int changedCount;  // syncedCount 중 새로 추가되었거나 내용이 바뀌어 실제로 저장된 품목 수
     private int failedCount;
     private String message;
     private LocalDateTime syncedAt;
@@ -25,6 +25,8 @@ public record ErpSalesDocumentResponse(
         String erpDocumentId,
         Instant sentAt,
         String errorMessage,
+        int sendAttempts,
+        Instant nextRetryAt,
         Instant createdAt,
         Instant updatedAt
 ) {
@@ -43,6 +45,8 @@ public record ErpSalesDocumentResponse(
                 doc.getErpDocumentId(),
                 doc.getSentAt(),
                 doc.getErrorMessage(),
+                doc.getSendAttempts(),
+                doc.getNextRetryAt(),
                 doc.getCreatedAt() != null ? doc.getCreatedAt().atZone(java.time.ZoneId.systemDefault()).toInstant() : null,
                 doc.getUpdatedAt() != null ? doc.getUpdatedAt().atZone(java.time.ZoneId.systemDefault()).toInstant() : null
         );
@@ -13,6 +13,12 @@ public class InventoryBalanceResponse {
     private List<InventoryBalanceDto> items;
     private Map<String, List<InventoryBalanceDto>> itemsByProdCd;  // prodCd별 그룹핑
     private String errorMessage;
+    private SyncCounts syncCounts;  // DB 동기화 시 반영 건수 (실시간 조회는 null)
+
+    /**
+     * 재고 동기화 반영 건수 - 수량/창고명이 바뀐 행만 updated, 그대로인 행은 unchanged (쓰지 않음)
+     */
+    public record SyncCounts(int inserted, int updated, int deleted, int unchanged) {}
 
     public static InventoryBalanceResponse success(List<InventoryBalanceDto> items,
                                                     Map<String, List<InventoryBalanceDto>> itemsByProdCd) {
@@ -23,6 +29,17 @@ public class InventoryBalanceResponse {
                 .build();
     }
 
+    public static InventoryBalanceResponse synced(List<InventoryBalanceDto> items,
+                                                   Map<String, List<InventoryBalanceDto>> itemsByProdCd,
+                                                   SyncCounts syncCounts) {
+        return InventoryBalanceResponse.builder()
+                .success(true)
+                .items(items)
+                .itemsByProdCd(itemsByProdCd)
+                .syncCounts(syncCounts)
+                .build();
+    }
+
     public static InventoryBalanceResponse error(String message) {
         return InventoryBalanceResponse.builder()
                 .success(false)
@@ -2,7 +2,6 @@ package com.mhub.core.service;
 
 import com.mhub.core.domain.entity.CoupangCategory;
 import com.mhub.core.domain.entity.CoupangCommissionRate;
-import com.mhub.core.domain.entity.CoupangSellerProduct;
 import com.mhub.core.domain.repository.CoupangCategoryRepository;
 import com.mhub.core.domain.repository.CoupangCommissionRateRepository;
 import com.mhub.core.domain.repository.CoupangSellerProductRepository;
@@ -11,19 +10,98 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 
 import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.Instant;
 import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
 
+/**
+ * 쿠팡 수수료율 조회
+ * - 카테고리 트리와 수수료율 테이블을 불변 스냅샷으로 메모리에 올려두고, 조회 시 DB에 접근하지 않음
+ * - 상품(productId) → 노출 카테고리 매핑은 테넌트별로 캐시
+ * - 카테고리/수수료율/등록상품 동기화 시 invalidate 호출로 즉시 갱신하고,
+ *   다른 프로세스(워커 등)에서 변경된 경우를 위해 RELOAD_INTERVAL마다 다시 로드
+ */
 @Service
 @RequiredArgsConstructor
 @Slf4j
 public class CoupangCommissionRateService {
 
+    private static final String DEFAULT_CATEGORY_ID = "DEFAULT";
+    private static final int MAX_CATEGORY_DEPTH = 10; // 무한 루프 방지
+    private static final Duration RELOAD_INTERVAL = Duration.ofMinutes(10);
+
     private final CoupangSellerProductRepository sellerProductRepository;
     private final CoupangCategoryRepository categoryRepository;
     private final CoupangCommissionRateRepository commissionRateRepository;
 
+    private final AtomicLong rateVersion = new AtomicLong();
+    private volatile RateSnapshot rateSnapshot;
+    private final ConcurrentHashMap<UUID, ProductCategorySnapshot> productCategories = new ConcurrentHashMap<>();
+
+    private record CategoryNode(String name, Long parentCode) {}
+
+    /**
+     * 카테고리 트리 + 수수료율 불변 스냅샷
+     * ratesByName은 적용 시작일 내림차순 정렬 (findByCategoryNameAndEffectiveDate와 동일하게 가장 최근 것 우선)
+     */
+    private record RateSnapshot(long version, Instant loadedAt,
+                                Map<Long, CategoryNode> categories,
+                                Map<String, List<CoupangCommissionRate>> ratesByName,
+                                List<CoupangCommissionRate> defaultRates) {
+
+        Optional<CoupangCommissionRate> findByName(String categoryName, LocalDate targetDate) {
+            return findEffective(ratesByName.getOrDefault(categoryName, List.of()), targetDate);
+        }
+
+        Optional<CoupangCommissionRate> findDefault(LocalDate targetDate) {
+            return findEffective(defaultRates, targetDate);
+        }
+
+        /**
+         * 카테고리 계층을 따라 상위로 올라가며 수수료율 검색, 없으면 기본 수수료율
+         */
+        Optional<CoupangCommissionRate> resolve(Long displayCategoryCode, LocalDate targetDate) {
+            Long currentCategoryCode = displayCategoryCode;
+            int depth = 0;
+            while (currentCategoryCode != null && depth < MAX_CATEGORY_DEPTH) {
+                CategoryNode category = categories.get(currentCategoryCode);
+                if (category == null) {
+                    log.warn("카테고리를 찾을 수 없습니다. displayCategoryCode={}", currentCategoryCode);
+                    break;
+                }
+                Optional<CoupangCommissionRate> rate = findByName(category.name(), targetDate);
+                if (rate.isPresent()) {
+                    return rate;
+                }
+                currentCategoryCode = category.parentCode();
+                depth++;
+            }
+            return findDefault(targetDate);
+        }
+
+        private static Optional<CoupangCommissionRate> findEffective(List<CoupangCommissionRate> rates, LocalDate targetDate) {
+            for (CoupangCommissionRate rate : rates) {
+                if (!rate.getEffectiveFrom().isAfter(targetDate)
+                        && (rate.getEffectiveTo() == null || !rate.getEffectiveTo().isBefore(targetDate))) {
+                    return Optional.of(rate);
+                }
+            }
+            return Optional.empty();
+        }
+    }
+
+    private record ProductCategorySnapshot(long version, Instant loadedAt, Map<Long, Long> categoryByProductId) {}
+
     /**
      * 주문의 marketplace_product_id(productId)로 수수료율 조회
      *
@@ -35,81 +113,34 @@ public class CoupangCommissionRateService {
      * 5. 최상위까지 없으면 기본 수수료율 반환
      */
     public BigDecimal findCommissionRateByProductId(UUID tenantId, Long productId) {
-        log.info("[DEBUG] findCommissionRateByProductId called: tenantId={}, productId={}", tenantId, productId);
         LocalDate today = LocalDate.now();
 
-        // 1. productId로 seller product 조회
-        Optional<CoupangSellerProduct> sellerProductOpt =
-                sellerProductRepository.findByTenantIdAndProductId(tenantId, productId);
-        log.info("[DEBUG] sellerProductOpt.isPresent={}", sellerProductOpt.isPresent());
-
-        if (sellerProductOpt.isEmpty()) {
-            log.warn("상품을 찾을 수 없습니다. tenantId={}, productId={}", tenantId, productId);
-            return getDefaultCommissionRate(today);
-        }
-
-        CoupangSellerProduct sellerProduct = sellerProductOpt.get();
-        Long displayCategoryCode = sellerProduct.getDisplayCategoryCode();
-        log.info("[DEBUG] displayCategoryCode={}", displayCategoryCode);
-
+        Long displayCategoryCode = findDisplayCategoryCode(tenantId, productId);
         if (displayCategoryCode == null) {
-            log.warn("상품의 카테고리 코드가 없습니다. productId={}", productId);
+            log.debug("상품 카테고리를 찾을 수 없어 기본 수수료율 사용. tenantId={}, productId={}", tenantId, productId);
             return getDefaultCommissionRate(today);
         }
 
-        // 2. 카테고리 계층을 따라가며 수수료율 찾기
-        BigDecimal rate = findCommissionRateByCategory(displayCategoryCode, today);
-        log.info("[DEBUG] Final commission rate for productId={}: {}", productId, rate);
-        return rate;
+        return findCommissionRateByCategory(displayCategoryCode, today);
     }
 
     /**
      * display_category_code로 수수료율 조회 (카테고리 계층을 따라 상위로 올라가며 검색)
      */
     public BigDecimal findCommissionRateByCategory(Long displayCategoryCode, LocalDate targetDate) {
-        Long currentCategoryCode = displayCategoryCode;
-        int maxDepth = 10; // 무한 루프 방지
-        int depth = 0;
-
-        while (currentCategoryCode != null && depth < maxDepth) {
-            // 카테고리 조회
-            Optional<CoupangCategory> categoryOpt =
-                    categoryRepository.findByDisplayCategoryCode(currentCategoryCode);
-
-            if (categoryOpt.isEmpty()) {
-                log.warn("카테고리를 찾을 수 없습니다. displayCategoryCode={}", currentCategoryCode);
-                break;
-            }
-
-            CoupangCategory category = categoryOpt.get();
-            String categoryName = category.getDisplayCategoryName();
-
-            // 카테고리명으로 수수료율 조회
-            Optional<CoupangCommissionRate> rateOpt =
-                    commissionRateRepository.findByCategoryNameAndEffectiveDate(categoryName, targetDate);
-
-            if (rateOpt.isPresent()) {
-                log.debug("수수료율 찾음. categoryName={}, rate={}",
-                        categoryName, rateOpt.get().getCommissionRate());
-                return rateOpt.get().getCommissionRate();
-            }
-
-            // 없으면 부모 카테고리로 이동
-            currentCategoryCode = category.getParentCategoryCode();
-            depth++;
-        }
-
-        // 최상위까지 찾지 못하면 기본 수수료율 반환
-        log.info("카테고리 계층에서 수수료율을 찾지 못함. displayCategoryCode={}, 기본 수수료율 사용",
-                displayCategoryCode);
-        return getDefaultCommissionRate(targetDate);
+        return rates().resolve(displayCategoryCode, targetDate)
+                .map(CoupangCommissionRate::getCommissionRate)
+                .orElseGet(() -> {
+                    log.error("기본 수수료율이 설정되지 않았습니다.");
+                    return BigDecimal.ZERO;
+                });
     }
 
     /**
      * 기본 수수료율 조회
      */
     public BigDecimal getDefaultCommissionRate(LocalDate targetDate) {
-        return commissionRateRepository.findDefaultRate(targetDate)
+        return rates().findDefault(targetDate)
                 .map(CoupangCommissionRate::getCommissionRate)
                 .orElseGet(() -> {
                     log.error("기본 수수료율이 설정되지 않았습니다.");
@@ -123,16 +154,14 @@ public class CoupangCommissionRateService {
     public Optional<CoupangCommissionRate> findCommissionRateDetailByProductId(UUID tenantId, Long productId) {
         LocalDate today = LocalDate.now();
 
-        Optional<CoupangSellerProduct> sellerProductOpt =
-                sellerProductRepository.findByTenantIdAndProductId(tenantId, productId);
-
-        if (sellerProductOpt.isEmpty()) {
+        ProductCategorySnapshot products = productCategories(tenantId);
+        if (!products.categoryByProductId().containsKey(productId)) {
             return Optional.empty();
         }
 
-        Long displayCategoryCode = sellerProductOpt.get().getDisplayCategoryCode();
+        Long displayCategoryCode = products.categoryByProductId().get(productId);
         if (displayCategoryCode == null) {
-            return commissionRateRepository.findDefaultRate(today);
+            return rates().findDefault(today);
         }
 
         return findCommissionRateDetailByCategory(displayCategoryCode, today);
@@ -142,31 +171,91 @@ public class CoupangCommissionRateService {
      * 수수료율 상세 정보 조회 (카테고리 계층을 따라 검색)
      */
     public Optional<CoupangCommissionRate> findCommissionRateDetailByCategory(Long displayCategoryCode, LocalDate targetDate) {
-        Long currentCategoryCode = displayCategoryCode;
-        int maxDepth = 10;
-        int depth = 0;
+        return rates().resolve(displayCategoryCode, targetDate);
+    }
 
-        while (currentCategoryCode != null && depth < maxDepth) {
-            Optional<CoupangCategory> categoryOpt =
-                    categoryRepository.findByDisplayCategoryCode(currentCategoryCode);
+    /**
+     * 카테고리 또는 수수료율 테이블 변경 후 호출 - 다음 조회 시 스냅샷을 다시 로드
+     */
+    public void invalidate() {
+        rateVersion.incrementAndGet();
+        log.info("Coupang commission rate snapshot invalidated");
+    }
 
-            if (categoryOpt.isEmpty()) {
-                break;
+    /**
+     * 테넌트 등록상품 동기화 후 호출 - 상품 → 카테고리 매핑을 다시 로드
+     */
+    public void invalidateSellerProducts(UUID tenantId) {
+        productCategories.remove(tenantId);
+    }
+
+    private Long findDisplayCategoryCode(UUID tenantId, Long productId) {
+        return productCategories(tenantId).categoryByProductId().get(productId);
+    }
+
+    private RateSnapshot rates() {
+        RateSnapshot snapshot = rateSnapshot;
+        if (isFresh(snapshot)) {
+            return snapshot;
+        }
+        synchronized (this) {
+            snapshot = rateSnapshot;
+            if (isFresh(snapshot)) {
+                return snapshot;
             }
+            snapshot = loadRates(rateVersion.get());
+            rateSnapshot = snapshot;
+            return snapshot;
+        }
+    }
 
-            CoupangCategory category = categoryOpt.get();
-            Optional<CoupangCommissionRate> rateOpt =
-                    commissionRateRepository.findByCategoryNameAndEffectiveDate(
-                            category.getDisplayCategoryName(), targetDate);
+    private boolean isFresh(RateSnapshot snapshot) {
+        return snapshot != null
+                && snapshot.version() == rateVersion.get()
+                && Instant.now().isBefore(snapshot.loadedAt().plus(RELOAD_INTERVAL));
+    }
+
+    private RateSnapshot loadRates(long version) {
+        Map<Long, CategoryNode> categories = new HashMap<>();
+        for (CoupangCategory category : categoryRepository.findAll()) {
+            categories.put(category.getDisplayCategoryCode(),
+                    new CategoryNode(category.getDisplayCategoryName(), category.getParentCategoryCode()));
+        }
 
-            if (rateOpt.isPresent()) {
-                return rateOpt;
+        Map<String, List<CoupangCommissionRate>> ratesByName = new HashMap<>();
+        List<CoupangCommissionRate> defaultRates = new ArrayList<>();
+        for (CoupangCommissionRate rate : commissionRateRepository.findAll()) {
+            ratesByName.computeIfAbsent(rate.getCategoryName(), k -> new ArrayList<>()).add(rate);
+            if (DEFAULT_CATEGORY_ID.equals(rate.getCategoryId())) {
+                defaultRates.add(rate);
             }
+        }
+        Comparator<CoupangCommissionRate> latestFirst =
+                Comparator.comparing(CoupangCommissionRate::getEffectiveFrom).reversed();
+        ratesByName.replaceAll((name, rates) -> rates.stream().sorted(latestFirst).toList());
 
-            currentCategoryCode = category.getParentCategoryCode();
-            depth++;
+        log.info("Loaded Coupang commission rate snapshot v{}: categories={}, rates={}",
+                version, categories.size(), ratesByName.values().stream().mapToInt(List::size).sum());
+        return new RateSnapshot(version, Instant.now(), Map.copyOf(categories), Map.copyOf(ratesByName),
+                defaultRates.stream().sorted(latestFirst).toList());
+    }
+
+    private ProductCategorySnapshot productCategories(UUID tenantId) {
+        long version = rateVersion.get();
+        ProductCategorySnapshot snapshot = productCategories.get(tenantId);
+        if (snapshot != null && snapshot.version() == version
+                && Instant.now().isBefore(snapshot.loadedAt().plus(RELOAD_INTERVAL))) {
+            return snapshot;
         }
 
-        return commissionRateRepository.findDefaultRate(targetDate);
+        // 같은 productId에 여러 옵션(등록상품)이 있을 수 있어 첫 번째 것만 사용, 카테고리 없는 상품은 null로 보관
+        Map<Long, Long> categoryByProductId = new HashMap<>();
+        for (Object[] row : sellerProductRepository.findProductCategoryCodesByTenantId(tenantId)) {
+            categoryByProductId.putIfAbsent((Long) row[0], (Long) row[1]);
+        }
+        snapshot = new ProductCategorySnapshot(version, Instant.now(), Collections.unmodifiableMap(categoryByProductId));
+        productCategories.put(tenantId, snapshot);
+        log.debug("Loaded Coupang product categories for tenant {}: {} products", tenantId, categoryByProductId.size());
+        return snapshot;
     }
 }
@@ -0,0 +1,26 @@
+package com.mhub.core.service;
+
+import com.mhub.core.domain.event.OrderCollectedEvent;
+import com.mhub.core.domain.event.OrderStatusChangedEvent;
+
+/**
+ * 주문 도메인 이벤트 핸들러 (order_event_outbox 릴레이가 호출)
+ *
+ * 각 모듈에서 빈으로 등록하면 릴레이가 이벤트마다 호출한다.
+ * 호출 시 TenantContext와 RLS 세션 변수는 이벤트의 테넌트로 설정되어 있다.
+ * 예외를 던지면 백오프 후 재시도하며, 이미 처리를 마친 다른 핸들러는 다시 호출하지 않는다.
+ * 중단 후 재전달될 수 있으므로 같은 이벤트를 두 번 받아도 결과가 같도록 구현할 것.
+ */
+public interface OrderEventHandler {
+
+    /**
+     * 핸들러 이름 - 처리 이력(handled_by)에 저장되므로 바꾸지 말 것
+     */
+    String name();
+
+    default void onOrderCollected(OrderCollectedEvent event) {
+    }
+
+    default void onOrderStatusChanged(OrderStatusChangedEvent event) {
+    }
+}
@@ -0,0 +1,171 @@
+package com.mhub.core.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.mhub.core.domain.event.OrderCollectedEvent;
+import com.mhub.core.domain.event.OrderStatusChangedEvent;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Array;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * 주문 도메인 이벤트 아웃박스 (order_event_outbox)
+ * - 이벤트는 주문 변경과 같은 트랜잭션에서 기록 (append는 트랜잭션 안에서만 호출 가능)
+ *   커밋된 변경의 이벤트만 남고, 커밋 직후 프로세스가 죽어도 릴레이가 나중에 전달
+ * - 릴레이는 claim으로 대기 이벤트를 가져가며 FOR UPDATE SKIP LOCKED로 여러 인스턴스가 나눠 처리
+ * - claim은 주문마다 가장 앞선 PENDING 이벤트만 가져감: 앞선 이벤트가 재시도 대기 중이거나 다른 릴레이가 처리 중이면
+ *   그 이벤트가 DONE 또는 DEAD가 될 때까지 같은 주문의 뒤 이벤트는 전달하지 않음 (주문별 순서 보장)
+ * - 처리 결과는 complete / fail로 반영하고, 재시도 한도를 넘으면 DEAD로 남겨 수동 확인
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class OrderEventOutboxService {
+
+    public static final String ORDER_COLLECTED = "ORDER_COLLECTED";
+    public static final String ORDER_STATUS_CHANGED = "ORDER_STATUS_CHANGED";
+
+    private static final String INSERT_SQL =
+            "INSERT INTO order_event_outbox (tenant_id, order_id, event_type, payload) VALUES (?, ?, ?, ?::jsonb)";
+
+    private static final String CLAIM_SQL =
+            "UPDATE order_event_outbox SET next_attempt_at = NOW() + ? * INTERVAL '1 millisecond' " +
+            "WHERE id IN (SELECT o.id FROM order_event_outbox o " +
+            "WHERE o.status = 'PENDING' AND o.next_attempt_at <= NOW() " +
+            "AND NOT EXISTS (SELECT 1 FROM order_event_outbox e " +
+            "WHERE e.order_id = o.order_id AND e.status = 'PENDING' AND e.id < o.id) " +
+            "ORDER BY o.id LIMIT ? FOR UPDATE SKIP LOCKED) " +
+            "RETURNING id, tenant_id, order_id, event_type, payload::text AS payload, attempts, handled_by";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ObjectMapper objectMapper;
+
+    /**
+     * 릴레이가 가져간 이벤트
+     *
+     * @param event     OrderCollectedEvent 또는 OrderStatusChangedEvent (읽을 수 없으면 null)
+     * @param attempts  지금까지 실패한 횟수
+     * @param handledBy 이미 처리를 마친 핸들러 이름
+     */
+    public record OutboxEntry(long id, UUID tenantId, UUID orderId, Object event, int attempts, Set<String> handledBy) {}
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void append(OrderStatusChangedEvent event) {
+        jdbcTemplate.update(INSERT_SQL, event.tenantId(), event.orderId(), ORDER_STATUS_CHANGED, toJson(event));
+    }
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void appendAll(Collection<OrderCollectedEvent> events) {
+        if (events.isEmpty()) {
+            return;
+        }
+        List<Object[]> batchArgs = new ArrayList<>(events.size());
+        for (OrderCollectedEvent event : events) {
+            batchArgs.add(new Object[] {event.tenantId(), event.orderId(), ORDER_COLLECTED, toJson(event)});
+        }
+        jdbcTemplate.batchUpdate(INSERT_SQL, batchArgs);
+    }
+
+    /**
+     * 전달할 이벤트를 가져감 - 가져간 이벤트는 claimTimeout 동안 다른 릴레이가 가져가지 않음
+     * (처리 중 프로세스가 죽으면 claimTimeout 뒤 다시 전달)
+     *
+     * @return id 순으로 정렬된 이벤트
+     */
+    public List<OutboxEntry> claim(int limit, Duration claimTimeout) {
+        List<OutboxEntry> entries = new ArrayList<>(jdbcTemplate.query(CLAIM_SQL,
+                (rs, rowNum) -> new OutboxEntry(
+                        rs.getLong("id"),
+                        rs.getObject("tenant_id", UUID.class),
+                        rs.getObject("order_id", UUID.class),
+                        fromJson(rs.getString("event_type"), rs.getString("payload")),
+                        rs.getInt("attempts"),
+                        toSet(rs.getArray("handled_by"))),
+                claimTimeout.toMillis(), limit));
+        entries.sort(Comparator.comparingLong(OutboxEntry::id));
+        return entries;
+    }
+
+    /**
+     * 모든 핸들러 처리 완료
+     */
+    public void complete(long id, Set<String> handledBy) {
+        jdbcTemplate.update(
+                "UPDATE order_event_outbox SET status = 'DONE', handled_by = ?, last_error = NULL, processed_at = NOW() " +
+                "WHERE id = ?",
+                handledBy.toArray(String[]::new), id);
+    }
+
+    /**
+     * 처리 실패 - retryDelay 뒤 다시 전달, 실패 횟수가 maxAttempts에 도달하면 DEAD
+     *
+     * @return DEAD로 전환되었으면 true
+     */
+    public boolean fail(long id, Set<String> handledBy, String error, Duration retryDelay, int maxAttempts) {
+        List<String> status = jdbcTemplate.queryForList(
+                "UPDATE order_event_outbox SET attempts = attempts + 1, handled_by = ?, last_error = ?, " +
+                "status = CASE WHEN attempts + 1 >= ? THEN 'DEAD' ELSE 'PENDING' END, " +
+                "next_attempt_at = NOW() + ? * INTERVAL '1 millisecond' " +
+                "WHERE id = ? RETURNING status",
+                String.class, handledBy.toArray(String[]::new), error, maxAttempts, retryDelay.toMillis(), id);
+        return !status.isEmpty() && "DEAD".equals(status.get(0));
+    }
+
+    /**
+     * 처리 완료 후 retention이 지난 이벤트 삭제 (DEAD는 수동 확인을 위해 남김)
+     */
+    public int purgeProcessed(Duration retention) {
+        return jdbcTemplate.update(
+                "DELETE FROM order_event_outbox WHERE status = 'DONE' AND processed_at < NOW() - ? * INTERVAL '1 millisecond'",
+                retention.toMillis());
+    }
+
+    private String toJson(Object event) {
+        try {
+            return objectMapper.writeValueAsString(event);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Failed to serialize order event " + event, e);
+        }
+    }
+
+    /**
+     * 알 수 없는 유형이거나 읽을 수 없는 payload면 null (릴레이가 바로 DEAD 처리)
+     */
+    private Object fromJson(String eventType, String payload) {
+        Class<?> type = switch (eventType) {
+            case ORDER_COLLECTED -> OrderCollectedEvent.class;
+            case ORDER_STATUS_CHANGED -> OrderStatusChangedEvent.class;
+            default -> null;
+        };
+        if (type == null) {
+            log.error("Unknown order event type: {}", eventType);
+            return null;
+        }
+        try {
+            return objectMapper.readValue(payload, type);
+        } catch (JsonProcessingException e) {
+            log.error("Failed to deserialize {} event: {}", eventType, e.getMessage());
+            return null;
+        }
+    }
+
+    private static Set<String> toSet(Array array) throws SQLException {
+        if (array == null) {
+            return Set.of();
+        }
+        return Set.of((String[]) array.getArray());
+    }
+}
@@ -0,0 +1,109 @@
+package com.mhub.core.service;
+
+import com.mhub.common.util.LikePatterns;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.regex.Pattern;
+
+/**
+ * 주문 키워드 검색 (관련도 순)
+ * - 주문번호 / 수취인명 / 상품명·옵션명 / 송장번호 / 구매자 전화번호 뒷자리를 각각 인덱스를 타는 조건으로 찾아 합침
+ *   (V40 pg_trgm GIN, text_pattern_ops, 전화번호 끝자리 표현식 인덱스, V45 수취인명 text_pattern_ops)
+ * - pg_trgm은 3글자 미만 부분 일치에 인덱스를 쓰지 못하므로 2글자 검색어는 앞부분 일치만 사용
+ * - 점수: 주문번호 일치 1.0 > 송장번호 앞부분 0.95 > 주문번호 앞부분 0.9 > 전화번호 뒷자리 0.6 >
+ *   주문번호/수취인명/상품명 부분 일치 (유사도에 따라 0.3 ~ 0.9), 같은 점수는 최근 주문 우선
+ */
+@Service
+@RequiredArgsConstructor
+public class OrderKeywordSearchService {
+
+    public static final int MIN_KEYWORD_LENGTH = 2;
+
+    // pg_trgm 인덱스는 3글자 이상부터 부분 일치에 효과가 있음
+    private static final int MIN_TRIGRAM_LENGTH = 3;
+    private static final Pattern PHONE_SUFFIX = Pattern.compile("\\d{4}");
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public record OrderHit(UUID orderId, double score) {}
+
+    /**
+     * 관련도 순 주문 ID 조회
+     *
+     * @param keyword 검색어 (MIN_KEYWORD_LENGTH 미만이면 빈 결과)
+     */
+    public List<OrderHit> search(UUID tenantId, String keyword, int limit) {
+        String q = keyword != null ? keyword.trim() : "";
+        if (q.length() < MIN_KEYWORD_LENGTH) {
+            return List.of();
+        }
+        String prefix = LikePatterns.prefix(q);
+        String contains = LikePatterns.contains(q);
+        boolean trigram = q.length() >= MIN_TRIGRAM_LENGTH;
+
+        List<String> branches = new ArrayList<>();
+        List<Object> args = new ArrayList<>();
+
+        // 주문번호 일치/앞부분 일치
+        branches.add("SELECT o.id AS order_id, o.ordered_at, CASE WHEN o.marketplace_order_id = ? THEN 1.0 ELSE 0.9 END AS score " +
+                "FROM orders o WHERE o.tenant_id = ? AND o.marketplace_order_id LIKE ?");
+        args.add(q);
+        args.add(tenantId);
+        args.add(prefix);
+
+        // 송장번호 앞부분 일치
+        branches.add("SELECT o.id, o.ordered_at, 0.95 FROM shipment s JOIN orders o ON o.id = s.order_id " +
+                "WHERE s.tenant_id = ? AND s.tracking_number LIKE ?");
+        args.add(tenantId);
+        args.add(prefix);
+
+        // 구매자 전화번호 뒷자리
+        if (PHONE_SUFFIX.matcher(q).matches()) {
+            branches.add("SELECT o.id, o.ordered_at, 0.6 FROM orders o WHERE o.tenant_id = ? " +
+                    "AND right(regexp_replace(o.buyer_phone, '[^0-9]', '', 'g'), 4) = ?");
+            args.add(tenantId);
+            args.add(q);
+        }
+
+        // 수취인명 - 3글자 이상은 부분 일치(trigram), 2글자는 앞부분 일치 (성+이름 첫 글자 등 짧은 이름 검색)
+        branches.add("SELECT o.id, o.ordered_at, 0.4 + 0.4 * similarity(o.receiver_name, ?) FROM orders o " +
+                "WHERE o.tenant_id = ? AND o.receiver_name LIKE ?");
+        args.add(q);
+        args.add(tenantId);
+        args.add(trigram ? contains : prefix);
+
+        if (trigram) {
+            // 주문번호 부분 일치
+            branches.add("SELECT o.id, o.ordered_at, 0.5 + 0.4 * similarity(o.marketplace_order_id, ?) FROM orders o " +
+                    "WHERE o.tenant_id = ? AND o.marketplace_order_id LIKE ?");
+            args.add(q);
+            args.add(tenantId);
+            args.add(contains);
+
+            // 상품명/옵션명 부분 일치
+            branches.add("SELECT o.id, o.ordered_at, 0.3 + 0.4 * GREATEST(similarity(i.product_name, ?), " +
+                    "similarity(COALESCE(i.option_name, ''), ?)) " +
+                    "FROM order_item i JOIN orders o ON o.id = i.order_id " +
+                    "WHERE i.tenant_id = ? AND (i.product_name ILIKE ? OR i.option_name ILIKE ?)");
+            args.add(q);
+            args.add(q);
+            args.add(tenantId);
+            args.add(contains);
+            args.add(contains);
+        }
+
+        String sql = "SELECT order_id, MAX(score) AS score, MAX(ordered_at) AS ordered_at FROM (" +
+                String.join(" UNION ALL ", branches) +
+                ") hits GROUP BY order_id ORDER BY score DESC, ordered_at DESC NULLS LAST LIMIT ?";
+        args.add(limit);
+
+        return jdbcTemplate.query(sql,
+                (rs, rowNum) -> new OrderHit(rs.getObject("order_id", UUID.class), rs.getDouble("score")),
+                args.toArray());
+    }
+}
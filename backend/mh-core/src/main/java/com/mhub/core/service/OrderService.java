@@ -13,19 +13,22 @@ import com.mhub.core.domain.repository.ErpInventoryBalanceRepository;
 import com.mhub.core.domain.repository.ErpItemRepository;
 import com.mhub.core.domain.repository.OrderItemRepository;
 import com.mhub.core.domain.repository.OrderRepository;
+import com.mhub.core.domain.repository.OrderSpecifications;
 import com.mhub.core.domain.repository.OrderStatusLogRepository;
-import com.mhub.core.domain.repository.ProductMappingRepository;
+import com.mhub.core.service.dto.OrderCursor;
 import com.mhub.core.service.dto.OrderItemMappingRequest;
 import com.mhub.core.service.dto.OrderItemResponse;
 import com.mhub.core.service.dto.OrderResponse;
+import com.mhub.core.service.dto.OrderSearchCondition;
 import com.mhub.core.tenant.TenantContext;
 import com.mhub.common.exception.BusinessException;
+import com.mhub.common.dto.CursorPageResponse;
 import com.mhub.common.exception.ErrorCodes;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -35,6 +38,7 @@ import java.time.LocalDateTime;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.UUID;
 
 @Slf4j @Service @RequiredArgsConstructor
@@ -44,10 +48,12 @@ public class OrderService {
     private final OrderStatusLogRepository orderStatusLogRepository;
     private final ErpItemRepository erpItemRepository;
     private final ErpInventoryBalanceRepository erpInventoryBalanceRepository;
-    private final ProductMappingRepository productMappingRepository;
     private final ProductMappingService productMappingService;
     private final CoupangCommissionRateService coupangCommissionRateService;
-    private final ApplicationEventPublisher eventPublisher;
+    private final OrderStatsService orderStatsService;
+    private final OrderEventOutboxService orderEventOutboxService;
+    private final OrderKeywordSearchService orderKeywordSearchService;
+    private final ProductMappingLookup productMappingLookup;
 
     @Transactional(readOnly = true)
     public Page<OrderResponse> getOrders(OrderStatus status, MarketplaceType marketplaceType, Pageable pageable) {
@@ -68,101 +74,96 @@ public class OrderService {
     public Page<OrderResponse> getOrders(List<OrderStatus> statuses, MarketplaceType marketplaceType, String search,
                                          LocalDateTime startDate, LocalDateTime endDate, Pageable pageable) {
         UUID tenantId = TenantContext.requireTenantId();
-        Page<Order> orders;
-        boolean hasStatuses = statuses != null && !statuses.isEmpty();
-        boolean hasSearch = search != null && !search.trim().isEmpty();
-        boolean hasDateRange = startDate != null && endDate != null;
-        boolean hasMarketplace = marketplaceType != null;
-        String searchTerm = hasSearch ? search.trim() : null;
-
-        if (hasDateRange) {
-            // 날짜 범위가 있는 경우 - 조합별 쿼리 사용
-            if (hasSearch && hasStatuses && hasMarketplace) {
-                orders = orderRepository.findByDateRangeAndKeywordAndStatusesAndMarketplace(
-                        tenantId, startDate, endDate, searchTerm, statuses, marketplaceType, pageable);
-            } else if (hasSearch && hasStatuses) {
-                orders = orderRepository.findByDateRangeAndKeywordAndStatuses(
-                        tenantId, startDate, endDate, searchTerm, statuses, pageable);
-            } else if (hasSearch && hasMarketplace) {
-                orders = orderRepository.findByDateRangeAndKeywordAndMarketplace(
-                        tenantId, startDate, endDate, searchTerm, marketplaceType, pageable);
-            } else if (hasSearch) {
-                orders = orderRepository.findByDateRangeAndKeyword(
-                        tenantId, startDate, endDate, searchTerm, pageable);
-            } else if (hasStatuses && hasMarketplace) {
-                orders = orderRepository.findByDateRangeAndStatusesAndMarketplace(
-                        tenantId, startDate, endDate, statuses, marketplaceType, pageable);
-            } else if (hasStatuses) {
-                orders = orderRepository.findByDateRangeAndStatuses(
-                        tenantId, startDate, endDate, statuses, pageable);
-            } else if (hasMarketplace) {
-                orders = orderRepository.findByDateRangeAndMarketplace(
-                        tenantId, startDate, endDate, marketplaceType, pageable);
-            } else {
-                orders = orderRepository.findByDateRange(
-                        tenantId, startDate, endDate, pageable);
-            }
-        } else if (hasSearch) {
-            // 검색어가 있는 경우 (날짜 범위 없음)
-            if (hasStatuses && hasMarketplace) {
-                orders = orderRepository.searchByKeywordAndStatusesAndMarketplace(tenantId, searchTerm, statuses, marketplaceType, pageable);
-            } else if (hasStatuses) {
-                orders = orderRepository.searchByKeywordAndStatuses(tenantId, searchTerm, statuses, pageable);
-            } else if (hasMarketplace) {
-                orders = orderRepository.searchByKeywordAndMarketplace(tenantId, searchTerm, marketplaceType, pageable);
-            } else {
-                orders = orderRepository.searchByKeyword(tenantId, searchTerm, pageable);
-            }
-        } else {
-            // 검색어가 없는 경우 (기존 로직)
-            if (hasStatuses && hasMarketplace) {
-                orders = orderRepository.findByTenantIdAndStatusInAndMarketplaceType(tenantId, statuses, marketplaceType, pageable);
-            } else if (hasStatuses) {
-                orders = orderRepository.findByTenantIdAndStatusIn(tenantId, statuses, pageable);
-            } else if (hasMarketplace) {
-                orders = orderRepository.findByTenantIdAndMarketplaceType(tenantId, marketplaceType, pageable);
-            } else {
-                orders = orderRepository.findByTenantId(tenantId, pageable);
-            }
+        OrderSearchCondition condition = new OrderSearchCondition(statuses, marketplaceType, search, startDate, endDate);
+        Page<Order> orders = orderRepository.findAll(OrderSpecifications.matches(tenantId, condition), pageable);
+
+        Map<MarketplaceType, Map<String, ProductMapping>> mappings = productMappingLookup.lookup(tenantId, orders.getContent());
+        return orders.map(order -> toResponse(order, mappings));
+    }
+
+    /**
+     * 주문 목록 커서 페이지네이션 - 주문일 최신순
+     * - OFFSET/COUNT 없이 커서 다음 size+1건만 읽어 다음 페이지 여부 판단
+     * - includeTotal이면 일자 통계(order_daily_stats) 기준 예상 건수를 함께 반환 (검색어 조건은 통계로 셀 수 없어 null)
+     *
+     * @param cursor 이전 응답의 nextCursor (첫 페이지는 null)
+     */
+    @Transactional(readOnly = true)
+    public CursorPageResponse<OrderResponse> searchOrders(OrderSearchCondition condition, String cursor,
+                                                          int size, boolean includeTotal) {
+        UUID tenantId = TenantContext.requireTenantId();
+
+        Specification<Order> spec = OrderSpecifications.matches(tenantId, condition)
+                .and(OrderSpecifications.keysetOrder());
+        if (cursor != null && !cursor.isBlank()) {
+            spec = spec.and(OrderSpecifications.after(OrderCursor.decode(cursor)));
+        }
+        List<Order> rows = orderRepository.findBy(spec, query -> query
+                .limit(size + 1)
+                .all());
+
+        boolean hasNext = rows.size() > size;
+        List<Order> page = hasNext ? rows.subList(0, size) : rows;
+        String nextCursor = null;
+        if (hasNext) {
+            Order last = page.get(page.size() - 1);
+            nextCursor = new OrderCursor(last.getOrderedAt(), last.getId()).encode();
         }
 
-        // 각 마켓플레이스별 매핑 정보를 조회하여 캐시
-        Map<MarketplaceType, Map<String, ProductMapping>> mappingCache = new HashMap<>();
+        Long estimatedTotal = null;
+        if (includeTotal && !condition.hasKeyword()) {
+            estimatedTotal = orderStatsService.countOrders(tenantId,
+                    condition.statuses(),
+                    condition.marketplaceType(),
+                    condition.hasDateRange() ? condition.startDate().toLocalDate() : null,
+                    condition.hasDateRange() ? condition.endDate().toLocalDate() : null);
+        }
 
-        return orders.map(order -> {
-            Map<String, ProductMapping> mappingMap = mappingCache.computeIfAbsent(
-                    order.getMarketplaceType(),
-                    mt -> buildMappingMap(tenantId, mt)
-            );
-            return OrderResponse.from(order, true, mappingMap);
-        });
+        Map<MarketplaceType, Map<String, ProductMapping>> mappings = productMappingLookup.lookup(tenantId, page);
+        return CursorPageResponse.<OrderResponse>builder()
+                .content(page.stream().map(order -> toResponse(order, mappings)).toList())
+                .size(size)
+                .nextCursor(nextCursor)
+                .hasNext(hasNext)
+                .estimatedTotal(estimatedTotal)
+                .build();
     }
 
     /**
-     * 마켓플레이스별 매핑 정보를 Map으로 변환
+     * 키워드 통합 검색 - 주문번호/수취인명/상품명/송장번호/전화번호 뒷자리를 관련도 순으로 최대 limit건
      */
-    private Map<String, ProductMapping> buildMappingMap(UUID tenantId, MarketplaceType marketplaceType) {
-        List<ProductMapping> mappings = productMappingRepository.findByTenantIdAndMarketplaceType(tenantId, marketplaceType);
-        Map<String, ProductMapping> map = new HashMap<>();
-        for (ProductMapping pm : mappings) {
-            String key = buildMappingKey(pm.getMarketplaceProductId(), pm.getMarketplaceSku());
-            map.put(key, pm);
+    @Transactional(readOnly = true)
+    public List<OrderResponse> searchByKeyword(String keyword, int limit) {
+        UUID tenantId = TenantContext.requireTenantId();
+        List<OrderKeywordSearchService.OrderHit> hits = orderKeywordSearchService.search(tenantId, keyword, limit);
+        if (hits.isEmpty()) {
+            return List.of();
         }
-        return map;
+
+        Map<UUID, Order> ordersById = new HashMap<>();
+        orderRepository.findAllById(hits.stream().map(OrderKeywordSearchService.OrderHit::orderId).toList())
+                .forEach(order -> ordersById.put(order.getId(), order));
+
+        Map<MarketplaceType, Map<String, ProductMapping>> mappings = productMappingLookup.lookup(tenantId, ordersById.values());
+        return hits.stream()
+                .map(hit -> ordersById.get(hit.orderId()))
+                .filter(Objects::nonNull)
+                .map(order -> toResponse(order, mappings))
+                .toList();
     }
 
-    private String buildMappingKey(String productId, String sku) {
-        if (sku == null || sku.isEmpty()) {
-            return productId + ":";
-        }
-        return productId + ":" + sku;
+    /**
+     * 주문 응답 변환 - mappings는 ProductMappingLookup으로 현재 페이지 항목의 매핑만 조회한 것
+     */
+    private OrderResponse toResponse(Order order, Map<MarketplaceType, Map<String, ProductMapping>> mappings) {
+        return OrderResponse.from(order, true, mappings.getOrDefault(order.getMarketplaceType(), Map.of()));
     }
 
     @Transactional(readOnly = true)
     public OrderResponse getOrder(UUID orderId) {
         Order order = orderRepository.findByIdWithItems(orderId)
                 .orElseThrow(() -> new BusinessException(ErrorCodes.ORDER_NOT_FOUND, "Order not found: " + orderId));
-        return OrderResponse.from(order, true);
+        return toResponse(order, productMappingLookup.lookup(order.getTenantId(), List.of(order)));
     }
 
     @Transactional
@@ -172,8 +173,9 @@ public class OrderService {
         OrderStatus oldStatus = order.getStatus();
         order.setStatus(newStatus);
         orderRepository.save(order);
+        orderStatsService.recordStatusChange(order, oldStatus, newStatus);
         orderStatusLogRepository.save(OrderStatusLog.builder().orderId(orderId).tenantId(order.getTenantId()).fromStatus(oldStatus).toStatus(newStatus).changedBy(changedBy).build());
-        eventPublisher.publishEvent(new OrderStatusChangedEvent(orderId, order.getTenantId(), oldStatus, newStatus, changedBy));
+        orderEventOutboxService.append(new OrderStatusChangedEvent(orderId, order.getTenantId(), oldStatus, newStatus, changedBy));
         log.info("Order {} status changed: {} -> {}", orderId, oldStatus, newStatus);
         return OrderResponse.from(order, true);
     }
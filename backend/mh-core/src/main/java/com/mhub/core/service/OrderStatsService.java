@@ -0,0 +1,225 @@
+package com.mhub.core.service;
+
+import com.mhub.core.domain.entity.Order;
+import com.mhub.core.domain.enums.MarketplaceType;
+import com.mhub.core.domain.enums.OrderStatus;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.sql.Date;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * 테넌트별 일자 주문 통계 (order_daily_stats)
+ * - (주문일, 마켓, 상태) 단위로 주문 수/주문 금액을 누적하여 대시보드 통계를 orders 스캔 없이 조회
+ * - 주문 저장 / 상태 변경 시 같은 트랜잭션에서 증감분을 UPSERT로 반영
+ * - 주문일(ordered_at)이 없는 주문은 order_date = '-infinity'로 기록 (전체/상태별 합계에만 포함)
+ * - 반영 경로 밖에서 orders가 변경된 경우를 위해 rebuild로 테넌트 통계를 다시 집계
+ * - 증감 반영과 rebuild는 테넌트별 advisory 잠금으로 직렬화 (반영은 공유, rebuild는 배타 - 다른 테넌트는 서로 막지 않음)
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class OrderStatsService {
+
+    private static final String UPSERT_SQL =
+            "INSERT INTO order_daily_stats (tenant_id, order_date, marketplace_type, status, order_count, total_amount, updated_at) " +
+            "VALUES (?, COALESCE(?::date, '-infinity'::date), ?, ?, ?, ?, NOW()) " +
+            "ON CONFLICT (tenant_id, order_date, marketplace_type, status) DO UPDATE SET " +
+            "order_count = order_daily_stats.order_count + EXCLUDED.order_count, " +
+            "total_amount = order_daily_stats.total_amount + EXCLUDED.total_amount, " +
+            "updated_at = NOW()";
+
+    /** order_daily_stats 테넌트 잠금 네임스페이스 (pg_advisory_xact_lock(int, int)의 첫 번째 키) */
+    private static final int STATS_LOCK_NAMESPACE = 0x0DA1;
+
+    private static final String SUMMARY_SQL =
+            "SELECT COALESCE(SUM(order_count), 0) AS total_orders, " +
+            "COALESCE(SUM(order_count) FILTER (WHERE order_date >= ?), 0) AS today_orders, " +
+            "COALESCE(SUM(order_count) FILTER (WHERE status = ANY(?)), 0) AS pending_orders, " +
+            "COALESCE(SUM(total_amount) FILTER (WHERE order_date >= ? AND NOT (status = ANY(?))), 0) AS monthly_revenue " +
+            "FROM order_daily_stats WHERE tenant_id = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    private record StatsKey(LocalDate orderDate, MarketplaceType marketplaceType, OrderStatus status) {}
+
+    /**
+     * @param totalOrders    전체 주문 수
+     * @param todayOrders    오늘(주문일 기준) 주문 수
+     * @param pendingOrders  미처리 상태 주문 수
+     * @param monthlyRevenue 이번 달(주문일 기준) 매출 합계 (제외 상태 제외)
+     */
+    public record OrderStatsSummary(long totalOrders, long todayOrders, long pendingOrders, long monthlyRevenue) {}
+
+    /**
+     * 새로 저장된 주문들을 통계에 반영
+     */
+    public void recordCollected(UUID tenantId, MarketplaceType mkt, Collection<Order> orders) {
+        Map<StatsKey, Object[]> deltas = new LinkedHashMap<>();
+        for (Order order : orders) {
+            StatsKey key = new StatsKey(orderDate(order), mkt, order.getStatus());
+            Object[] delta = deltas.computeIfAbsent(key, k -> new Object[] {0L, BigDecimal.ZERO});
+            delta[0] = (long) delta[0] + 1;
+            delta[1] = ((BigDecimal) delta[1]).add(amount(order));
+        }
+
+        List<Object[]> batchArgs = new ArrayList<>(deltas.size());
+        deltas.forEach((key, delta) -> batchArgs.add(upsertArgs(tenantId, key, (long) delta[0], (BigDecimal) delta[1])));
+        if (!batchArgs.isEmpty()) {
+            lockTenant(tenantId, true);
+            jdbcTemplate.batchUpdate(UPSERT_SQL, batchArgs);
+        }
+    }
+
+    /**
+     * 주문 상태 변경을 통계에 반영 (이전 상태 -1, 새 상태 +1)
+     */
+    public void recordStatusChange(Order order, OrderStatus fromStatus, OrderStatus toStatus) {
+        if (fromStatus == toStatus) {
+            return;
+        }
+        LocalDate orderDate = orderDate(order);
+        BigDecimal amount = amount(order);
+        lockTenant(order.getTenantId(), true);
+        jdbcTemplate.batchUpdate(UPSERT_SQL, List.of(
+                upsertArgs(order.getTenantId(), new StatsKey(orderDate, order.getMarketplaceType(), fromStatus), -1, amount.negate()),
+                upsertArgs(order.getTenantId(), new StatsKey(orderDate, order.getMarketplaceType(), toStatus), 1, amount)));
+    }
+
+    /**
+     * 대시보드 요약 통계 (단일 집계 쿼리)
+     */
+    public OrderStatsSummary getSummary(UUID tenantId, LocalDate today, LocalDate startOfMonth,
+                                        List<OrderStatus> pendingStatuses, List<OrderStatus> excludeFromRevenue) {
+        return jdbcTemplate.queryForObject(SUMMARY_SQL, (rs, rowNum) -> new OrderStatsSummary(
+                        rs.getLong("total_orders"),
+                        rs.getLong("today_orders"),
+                        rs.getLong("pending_orders"),
+                        rs.getBigDecimal("monthly_revenue").longValue()),
+                Date.valueOf(today),
+                statusNames(pendingStatuses),
+                Date.valueOf(startOfMonth),
+                statusNames(excludeFromRevenue),
+                tenantId);
+    }
+
+    /**
+     * 마켓별 주문 수 (주문일 since 이후)
+     */
+    public Map<MarketplaceType, Long> countByMarketplace(UUID tenantId, LocalDate since) {
+        Map<MarketplaceType, Long> counts = new LinkedHashMap<>();
+        jdbcTemplate.query(
+                "SELECT marketplace_type, SUM(order_count) AS cnt FROM order_daily_stats " +
+                "WHERE tenant_id = ? AND order_date >= ? GROUP BY marketplace_type HAVING SUM(order_count) > 0",
+                rs -> {
+                    counts.put(MarketplaceType.valueOf(rs.getString("marketplace_type")), rs.getLong("cnt"));
+                },
+                tenantId, Date.valueOf(since));
+        return counts;
+    }
+
+    /**
+     * 상태별 주문 수 (주문일 since 이후)
+     */
+    public Map<OrderStatus, Long> countByStatus(UUID tenantId, LocalDate since) {
+        Map<OrderStatus, Long> counts = new LinkedHashMap<>();
+        jdbcTemplate.query(
+                "SELECT status, SUM(order_count) AS cnt FROM order_daily_stats " +
+                "WHERE tenant_id = ? AND order_date >= ? GROUP BY status HAVING SUM(order_count) > 0",
+                rs -> {
+                    counts.put(OrderStatus.valueOf(rs.getString("status")), rs.getLong("cnt"));
+                },
+                tenantId, Date.valueOf(since));
+        return counts;
+    }
+
+    /**
+     * 조건에 맞는 주문 수 (주문 목록 예상 건수용) - 조건이 null이면 적용하지 않음
+     *
+     * @param fromDate 주문일 시작 (toDate와 함께 지정해야 적용, 주문일 없는 주문은 제외됨)
+     */
+    public long countOrders(UUID tenantId, List<OrderStatus> statuses, MarketplaceType marketplaceType,
+                            LocalDate fromDate, LocalDate toDate) {
+        StringBuilder sql = new StringBuilder(
+                "SELECT COALESCE(SUM(order_count), 0) FROM order_daily_stats WHERE tenant_id = ?");
+        List<Object> args = new ArrayList<>();
+        args.add(tenantId);
+        if (statuses != null && !statuses.isEmpty()) {
+            sql.append(" AND status = ANY(?)");
+            args.add(statusNames(statuses));
+        }
+        if (marketplaceType != null) {
+            sql.append(" AND marketplace_type = ?");
+            args.add(marketplaceType.name());
+        }
+        if (fromDate != null && toDate != null) {
+            sql.append(" AND order_date BETWEEN ? AND ?");
+            args.add(Date.valueOf(fromDate));
+            args.add(Date.valueOf(toDate));
+        }
+        Long count = jdbcTemplate.queryForObject(sql.toString(), Long.class, args.toArray());
+        return count != null ? count : 0;
+    }
+
+    /**
+     * 테넌트 통계를 orders에서 다시 집계 (누락/드리프트 보정용)
+     */
+    @Transactional
+    public void rebuild(UUID tenantId) {
+        // 재집계 중 이 테넌트의 증감 UPSERT가 끼어들지 않도록 커밋까지 배타 잠금 (진행 중인 반영 트랜잭션은 먼저 끝날 때까지 대기)
+        lockTenant(tenantId, false);
+        jdbcTemplate.update("DELETE FROM order_daily_stats WHERE tenant_id = ?", tenantId);
+        int rows = jdbcTemplate.update(
+                "INSERT INTO order_daily_stats (tenant_id, order_date, marketplace_type, status, order_count, total_amount, updated_at) " +
+                "SELECT tenant_id, COALESCE(ordered_at::date, '-infinity'::date), marketplace_type, status, " +
+                "COUNT(*), COALESCE(SUM(total_amount), 0), NOW() " +
+                "FROM orders WHERE tenant_id = ? " +
+                "GROUP BY tenant_id, COALESCE(ordered_at::date, '-infinity'::date), marketplace_type, status",
+                tenantId);
+        log.info("Rebuilt order daily stats for tenant {}: {} rows", tenantId, rows);
+    }
+
+    /**
+     * 테넌트 통계 잠금 (트랜잭션 종료 시 해제) - 반영 트랜잭션끼리는 공유 잠금이라 서로 막지 않음
+     */
+    private void lockTenant(UUID tenantId, boolean shared) {
+        jdbcTemplate.query(shared
+                        ? "SELECT pg_advisory_xact_lock_shared(?, hashtext(?::text))"
+                        : "SELECT pg_advisory_xact_lock(?, hashtext(?::text))",
+                rs -> null, STATS_LOCK_NAMESPACE, tenantId);
+    }
+
+    private Object[] upsertArgs(UUID tenantId, StatsKey key, long count, BigDecimal amount) {
+        return new Object[] {
+                tenantId,
+                key.orderDate() != null ? Date.valueOf(key.orderDate()) : null,
+                key.marketplaceType().name(),
+                key.status().name(),
+                count,
+                amount
+        };
+    }
+
+    private static LocalDate orderDate(Order order) {
+        return order.getOrderedAt() != null ? order.getOrderedAt().toLocalDate() : null;
+    }
+
+    private static BigDecimal amount(Order order) {
+        return order.getTotalAmount() != null ? order.getTotalAmount() : BigDecimal.ZERO;
+    }
+
+    private static String[] statusNames(List<OrderStatus> statuses) {
+        return statuses.stream().map(OrderStatus::name).toArray(String[]::new);
+    }
+}
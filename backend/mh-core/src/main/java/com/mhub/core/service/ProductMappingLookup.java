@@ -0,0 +1,159 @@
+package com.mhub.core.service;
+
+import com.mhub.core.domain.entity.Order;
+import com.mhub.core.domain.entity.OrderItem;
+import com.mhub.core.domain.entity.ProductMapping;
+import com.mhub.core.domain.enums.MarketplaceType;
+import com.mhub.core.domain.repository.ProductMappingRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 주문 응답용 상품 매핑 조회
+ * - 주문 목록/상세에 나온 (마켓, 상품ID)의 매핑만 한 번의 쿼리로 조회 (마켓 전체 매핑을 읽지 않음)
+ * - 결과는 마켓별 "상품ID:SKU" -> ProductMapping 맵 (OrderResponse.from의 mappingMap 형식)
+ * - cacheEnabled면 테넌트별 캐시 사용, 매핑이 없는 상품도 캐시하여 다시 조회하지 않음
+ * - ProductMappingService의 매핑 변경은 invalidate로 테넌트 캐시를 비움 (트랜잭션 안이면 커밋 후)
+ */
+@Component
+@RequiredArgsConstructor
+public class ProductMappingLookup {
+
+    private static final int LOOKUP_CHUNK = 1000;
+
+    private final ProductMappingRepository productMappingRepository;
+    private final ProductMappingLookupProperties properties;
+
+    private final ConcurrentHashMap<UUID, TenantMappings> cache = new ConcurrentHashMap<>();
+
+    private record ProductKey(MarketplaceType marketplaceType, String productId) {}
+
+    private record CachedMappings(List<ProductMapping> mappings, Instant expiresAt) {}
+
+    /**
+     * 테넌트 캐시 - 무효화 시 통째로 교체되므로, 무효화 전에 시작한 조회는 버려진 인스턴스에만 기록됨
+     */
+    private static final class TenantMappings {
+        private final ConcurrentHashMap<ProductKey, CachedMappings> entries = new ConcurrentHashMap<>();
+    }
+
+    /**
+     * 주문들의 항목에 해당하는 매핑 조회
+     *
+     * @return 마켓 -> ("상품ID:SKU" -> ProductMapping), 항목이 없는 마켓도 빈 맵으로 포함
+     */
+    public Map<MarketplaceType, Map<String, ProductMapping>> lookup(UUID tenantId, Collection<Order> orders) {
+        Map<MarketplaceType, Map<String, ProductMapping>> result = new EnumMap<>(MarketplaceType.class);
+        Set<ProductKey> keys = new LinkedHashSet<>();
+        for (Order order : orders) {
+            result.computeIfAbsent(order.getMarketplaceType(), mt -> new HashMap<>());
+            if (order.getItems() == null) {
+                continue;
+            }
+            for (OrderItem item : order.getItems()) {
+                if (item.getMarketplaceProductId() != null) {
+                    keys.add(new ProductKey(order.getMarketplaceType(), item.getMarketplaceProductId()));
+                }
+            }
+        }
+        if (keys.isEmpty()) {
+            return result;
+        }
+
+        TenantMappings tenantMappings = properties.cacheEnabled()
+                ? cache.computeIfAbsent(tenantId, id -> new TenantMappings())
+                : null;
+        Instant now = Instant.now();
+
+        Set<ProductKey> misses = new LinkedHashSet<>();
+        for (ProductKey key : keys) {
+            CachedMappings cached = tenantMappings != null ? tenantMappings.entries.get(key) : null;
+            if (cached != null && cached.expiresAt().isAfter(now)) {
+                cached.mappings().forEach(pm -> put(result, pm));
+            } else {
+                misses.add(key);
+            }
+        }
+        if (misses.isEmpty()) {
+            return result;
+        }
+
+        Map<ProductKey, List<ProductMapping>> loaded = new HashMap<>();
+        misses.forEach(key -> loaded.put(key, new ArrayList<>()));
+        List<String> productIds = misses.stream().map(ProductKey::productId).distinct().toList();
+        for (int from = 0; from < productIds.size(); from += LOOKUP_CHUNK) {
+            List<String> chunk = productIds.subList(from, Math.min(from + LOOKUP_CHUNK, productIds.size()));
+            for (ProductMapping pm : productMappingRepository.findByTenantIdAndMarketplaceProductIdIn(tenantId, chunk)) {
+                List<ProductMapping> bucket = loaded.get(new ProductKey(pm.getMarketplaceType(), pm.getMarketplaceProductId()));
+                if (bucket != null) {
+                    bucket.add(pm);
+                }
+            }
+        }
+
+        loaded.values().forEach(mappings -> mappings.forEach(pm -> put(result, pm)));
+        if (tenantMappings != null) {
+            store(tenantMappings, loaded, now.plus(properties.cacheTtl()));
+        }
+        return result;
+    }
+
+    /**
+     * 테넌트 매핑 캐시 무효화 - 트랜잭션 안이면 커밋 후에 비워 커밋 전 데이터가 다시 캐시되지 않게 함
+     */
+    public void invalidate(UUID tenantId) {
+        if (!properties.cacheEnabled()) {
+            return;
+        }
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    cache.remove(tenantId);
+                }
+            });
+        } else {
+            cache.remove(tenantId);
+        }
+    }
+
+    private void store(TenantMappings tenantMappings, Map<ProductKey, List<ProductMapping>> loaded, Instant expiresAt) {
+        if (tenantMappings.entries.size() + loaded.size() > properties.maxProductsPerTenant()) {
+            Instant now = Instant.now();
+            tenantMappings.entries.values().removeIf(cached -> !cached.expiresAt().isAfter(now));
+            if (tenantMappings.entries.size() + loaded.size() > properties.maxProductsPerTenant()) {
+                tenantMappings.entries.clear();
+            }
+        }
+        loaded.forEach((key, mappings) -> tenantMappings.entries.put(key, new CachedMappings(List.copyOf(mappings), expiresAt)));
+    }
+
+    private static void put(Map<MarketplaceType, Map<String, ProductMapping>> result, ProductMapping pm) {
+        result.computeIfAbsent(pm.getMarketplaceType(), mt -> new HashMap<>())
+                .put(mappingKey(pm.getMarketplaceProductId(), pm.getMarketplaceSku()), pm);
+    }
+
+    /**
+     * OrderResponse의 매핑 키와 같은 형식 ("상품ID:SKU", SKU 없으면 "상품ID:")
+     */
+    private static String mappingKey(String productId, String sku) {
+        if (sku == null || sku.isEmpty()) {
+            return productId + ":";
+        }
+        return productId + ":" + sku;
+    }
+}
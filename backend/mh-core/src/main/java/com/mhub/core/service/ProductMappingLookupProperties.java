@@ -0,0 +1,19 @@
+package com.mhub.core.service;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * 주문 조회용 상품 매핑 캐시 설정
+ * - cacheEnabled: 테넌트별로 (마켓, 상품ID) 단위 매핑 조회 결과를 캐시 (매핑 변경 시 테넌트 단위 무효화)
+ * - cacheTtl: 캐시 항목 유효 기간 (ProductMappingService 밖에서 매핑이 바뀐 경우 대비)
+ * - maxProductsPerTenant: 테넌트당 캐시하는 상품 수 상한 (초과 시 만료 항목 정리 후 그래도 많으면 비움)
+ */
+@ConfigurationProperties(prefix = "product-mapping.lookup")
+public record ProductMappingLookupProperties(
+        @DefaultValue("false") boolean cacheEnabled,
+        @DefaultValue("5m") Duration cacheTtl,
+        @DefaultValue("10000") int maxProductsPerTenant
+) {}
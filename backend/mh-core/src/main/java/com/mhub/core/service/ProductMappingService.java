@@ -27,9 +27,13 @@ import org.springframework.util.StringUtils;
 import java.math.BigDecimal;
 import java.math.RoundingMode;
 import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
 
 @Slf4j
@@ -42,6 +46,9 @@ public class ProductMappingService {
     private final ErpInventoryBalanceRepository erpInventoryBalanceRepository;
     private final OrderItemRepository orderItemRepository;
     private final CoupangCommissionRateService coupangCommissionRateService;
+    private final ProductMappingLookup productMappingLookup;
+
+    private static final int MAPPING_LOOKUP_CHUNK = 1000;
 
     /**
      * 주문의 상품 정보를 product_mapping에 등록 또는 업데이트 (UPSERT)
@@ -54,72 +61,8 @@ public class ProductMappingService {
         if (order.getItems() == null || order.getItems().isEmpty()) {
             return 0;
         }
-
-        List<ProductMapping> toSave = new ArrayList<>();
-        int newCount = 0;
-        int updateCount = 0;
-
-        for (OrderItem item : order.getItems()) {
-            if (!StringUtils.hasText(item.getMarketplaceProductId())) {
-                continue;
-            }
-
-            // 기존 매핑 여부 확인
-            Optional<ProductMapping> existingMapping = findMappingIncludingUnmapped(
-                    tenantId,
-                    marketplaceType,
-                    item.getMarketplaceProductId(),
-                    item.getMarketplaceSku()
-            );
-
-            if (existingMapping.isEmpty()) {
-                // INSERT: 신규 상품 등록 (미매핑 상태)
-                String sku = StringUtils.hasText(item.getMarketplaceSku()) ? item.getMarketplaceSku() : null;
-                ProductMapping newMapping = ProductMapping.builder()
-                        .tenantId(tenantId)
-                        .marketplaceType(marketplaceType)
-                        .marketplaceProductId(item.getMarketplaceProductId())
-                        .marketplaceSku(sku)
-                        .marketplaceProductName(item.getProductName())
-                        .marketplaceOptionName(item.getOptionName())
-                        .erpItemId(null)
-                        .erpProdCd(null)  // 미매핑 상태
-                        .autoCreated(true)
-                        .useCount(0)
-                        .build();
-                toSave.add(newMapping);
-                newCount++;
-            } else {
-                // UPDATE: 기존 상품 정보 업데이트 (erp_prod_cd는 유지)
-                ProductMapping existing = existingMapping.get();
-                boolean updated = false;
-
-                // 상품명 변경 시 업데이트
-                if (!Objects.equals(existing.getMarketplaceProductName(), item.getProductName())) {
-                    existing.setMarketplaceProductName(item.getProductName());
-                    updated = true;
-                }
-                // 옵션명 변경 시 업데이트
-                if (!Objects.equals(existing.getMarketplaceOptionName(), item.getOptionName())) {
-                    existing.setMarketplaceOptionName(item.getOptionName());
-                    updated = true;
-                }
-
-                if (updated) {
-                    toSave.add(existing);
-                    updateCount++;
-                }
-            }
-        }
-
-        // 배치 UPSERT
-        if (!toSave.isEmpty()) {
-            productMappingRepository.saveAll(toSave);
-            log.info("Batch registered/updated products for order: marketplaceOrderId={}, new={}, updated={}",
-                    order.getMarketplaceOrderId(), newCount, updateCount);
-        }
-
-        return toSave.size();
+        List<Order> orders = List.of(order);
+        return registerProducts(orders, loadMappingIndex(tenantId, marketplaceType, orders), tenantId, marketplaceType);
     }
 
     /**
@@ -130,54 +73,67 @@ public class ProductMappingService {
      */
     @Transactional
     public int applyAutoMapping(Order order, UUID tenantId, MarketplaceType marketplaceType) {
-        if (order.getItems() == null || order.getItems().isEmpty()) {
+        return applyAutoMapping(List.of(order), tenantId, marketplaceType);
+    }
+
+    /**
+     * 여러 주문에 자동 매핑 일괄 적용 (주문 수집용)
+     * - 주문들에 포함된 상품ID의 매핑을 한 번에 조회해 인덱스를 만들고, 모든 항목을 메모리에서 조회
+     * - 상품 등록 중 새로 만든 매핑도 인덱스에 반영하여 같은 배치의 다른 주문이 바로 사용
+     * @return 매핑이 적용된 항목 수
+     */
+    @Transactional
+    public int applyAutoMapping(List<Order> orders, UUID tenantId, MarketplaceType marketplaceType) {
+        List<Order> ordersWithItems = orders.stream()
+                .filter(o -> o.getItems() != null && !o.getItems().isEmpty())
+                .toList();
+        if (ordersWithItems.isEmpty()) {
             return 0;
         }
 
+        MappingIndex index = loadMappingIndex(tenantId, marketplaceType, ordersWithItems);
+
         // 먼저 주문의 상품 정보를 product_mapping에 등록
-        registerProductsFromOrder(order, tenantId, marketplaceType);
+        registerProducts(ordersWithItems, index, tenantId, marketplaceType);
 
         List<ProductMapping> mappingsToUpdate = new ArrayList<>();
         int mappedCount = 0;
         int commissionCount = 0;
 
-        for (OrderItem item : order.getItems()) {
-            boolean needsMapping = !StringUtils.hasText(item.getErpProdCd());
-            boolean needsCommission = marketplaceType == MarketplaceType.COUPANG && item.getCommissionRate() == null;
+        for (Order order : ordersWithItems) {
+            for (OrderItem item : order.getItems()) {
+                boolean needsMapping = !StringUtils.hasText(item.getErpProdCd());
+                boolean needsCommission = marketplaceType == MarketplaceType.COUPANG && item.getCommissionRate() == null;
 
-            // 이미 매핑되고 수수료도 계산된 항목은 스킵
-            if (!needsMapping && !needsCommission) {
-                continue;
-            }
+                // 이미 매핑되고 수수료도 계산된 항목은 스킵
+                if (!needsMapping && !needsCommission) {
+                    continue;
+                }
 
-            // 매핑 적용
-            if (needsMapping) {
-                Optional<ProductMapping> mapping = findMapping(
-                        tenantId,
-                        marketplaceType,
-                        item.getMarketplaceProductId(),
-                        item.getMarketplaceSku()
-                );
-
-                // 매핑이 존재하고 erp_prod_cd가 설정된 경우에만 적용
-                if (mapping.isPresent() && StringUtils.hasText(mapping.get().getErpProdCd())) {
-                    ProductMapping pm = mapping.get();
-                    item.setErpItemId(pm.getErpItemId());
-                    item.setErpProdCd(pm.getErpProdCd());
-                    item.setErpWhCd(pm.getErpWhCd());
-                    pm.recordUsage();
-                    mappingsToUpdate.add(pm);
-                    mappedCount++;
-                    log.debug("Auto-mapped order item: productId={}, sku={} -> erpProdCd={}, whCd={}",
-                            item.getMarketplaceProductId(), item.getMarketplaceSku(), pm.getErpProdCd(), pm.getErpWhCd());
+                // 매핑 적용 (erp_prod_cd가 설정된 경우에만)
+                if (needsMapping) {
+                    Optional<ProductMapping> mapping = index.find(item.getMarketplaceProductId(), item.getMarketplaceSku())
+                            .filter(pm -> StringUtils.hasText(pm.getErpProdCd()));
+
+                    if (mapping.isPresent()) {
+                        ProductMapping pm = mapping.get();
+                        item.setErpItemId(pm.getErpItemId());
+                        item.setErpProdCd(pm.getErpProdCd());
+                        item.setErpWhCd(pm.getErpWhCd());
+                        pm.recordUsage();
+                        mappingsToUpdate.add(pm);
+                        mappedCount++;
+                        log.debug("Auto-mapped order item: productId={}, sku={} -> erpProdCd={}, whCd={}",
+                                item.getMarketplaceProductId(), item.getMarketplaceSku(), pm.getErpProdCd(), pm.getErpWhCd());
+                    }
                 }
-            }
 
-            // 쿠팡 상품 수수료 계산 (매핑된 항목만)
-            if (needsCommission && StringUtils.hasText(item.getErpProdCd())) {
-                calculateAndApplyCommission(item, tenantId);
-                if (item.getCommissionRate() != null) {
-                    commissionCount++;
+                // 쿠팡 상품 수수료 계산 (매핑된 항목만)
+                if (needsCommission && StringUtils.hasText(item.getErpProdCd())) {
+                    calculateAndApplyCommission(item, tenantId);
+                    if (item.getCommissionRate() != null) {
+                        commissionCount++;
+                    }
                 }
             }
         }
@@ -188,13 +144,136 @@ public class ProductMappingService {
         }
 
         if (mappedCount > 0 || commissionCount > 0) {
-            log.info("Auto-mapped {} items, calculated commission for {} items for order: marketplaceOrderId={}",
-                    mappedCount, commissionCount, order.getMarketplaceOrderId());
+            log.info("Auto-mapped {} items, calculated commission for {} items across {} orders",
+                    mappedCount, commissionCount, ordersWithItems.size());
         }
 
         return mappedCount;
     }
 
+    private int registerProducts(List<Order> orders, MappingIndex index, UUID tenantId, MarketplaceType marketplaceType) {
+        List<ProductMapping> toSave = new ArrayList<>();
+        int newCount = 0;
+        int updateCount = 0;
+
+        for (Order order : orders) {
+            for (OrderItem item : order.getItems()) {
+                if (!StringUtils.hasText(item.getMarketplaceProductId())) {
+                    continue;
+                }
+
+                // 기존 매핑 여부 확인
+                Optional<ProductMapping> existingMapping = index.find(item.getMarketplaceProductId(), item.getMarketplaceSku());
+
+                if (existingMapping.isEmpty()) {
+                    // INSERT: 신규 상품 등록 (미매핑 상태)
+                    String sku = StringUtils.hasText(item.getMarketplaceSku()) ? item.getMarketplaceSku() : null;
+                    ProductMapping newMapping = ProductMapping.builder()
+                            .tenantId(tenantId)
+                            .marketplaceType(marketplaceType)
+                            .marketplaceProductId(item.getMarketplaceProductId())
+                            .marketplaceSku(sku)
+                            .marketplaceProductName(item.getProductName())
+                            .marketplaceOptionName(item.getOptionName())
+                            .erpItemId(null)
+                            .erpProdCd(null)  // 미매핑 상태
+                            .autoCreated(true)
+                            .useCount(0)
+                            .build();
+                    toSave.add(newMapping);
+                    index.put(newMapping);
+                    newCount++;
+                } else {
+                    // UPDATE: 기존 상품 정보 업데이트 (erp_prod_cd는 유지)
+                    ProductMapping existing = existingMapping.get();
+                    boolean updated = false;
+
+                    // 상품명 변경 시 업데이트
+                    if (!Objects.equals(existing.getMarketplaceProductName(), item.getProductName())) {
+                        existing.setMarketplaceProductName(item.getProductName());
+                        updated = true;
+                    }
+                    // 옵션명 변경 시 업데이트
+                    if (!Objects.equals(existing.getMarketplaceOptionName(), item.getOptionName())) {
+                        existing.setMarketplaceOptionName(item.getOptionName());
+                        updated = true;
+                    }
+
+                    if (updated) {
+                        toSave.add(existing);
+                        updateCount++;
+                    }
+                }
+            }
+        }
+
+        // 배치 UPSERT
+        if (!toSave.isEmpty()) {
+            productMappingRepository.saveAll(toSave);
+            productMappingLookup.invalidate(tenantId);
+            log.info("Batch registered/updated products for {} orders: new={}, updated={}",
+                    orders.size(), newCount, updateCount);
+        }
+
+        return toSave.size();
+    }
+
+    /**
+     * 주문들에 포함된 상품ID의 매핑을 일괄 조회하여 인덱스 구성 (미매핑 포함)
+     */
+    private MappingIndex loadMappingIndex(UUID tenantId, MarketplaceType marketplaceType, List<Order> orders) {
+        Set<String> productIds = new HashSet<>();
+        for (Order order : orders) {
+            for (OrderItem item : order.getItems()) {
+                if (StringUtils.hasText(item.getMarketplaceProductId())) {
+                    productIds.add(item.getMarketplaceProductId());
+                }
+            }
+        }
+
+        MappingIndex index = new MappingIndex();
+        List<String> ids = new ArrayList<>(productIds);
+        for (int i = 0; i < ids.size(); i += MAPPING_LOOKUP_CHUNK) {
+            productMappingRepository.findByTenantIdAndMarketplaceTypeAndMarketplaceProductIdIn(
+                            tenantId, marketplaceType, ids.subList(i, Math.min(i + MAPPING_LOOKUP_CHUNK, ids.size())))
+                    .forEach(index::put);
+        }
+        return index;
+    }
+
+    /**
+     * 상품 매핑 메모리 인덱스 - findMappingIncludingUnmapped와 동일한 2단계 조회 (SKU 일치 → 상품 레벨 fallback)
+     */
+    private static final class MappingIndex {
+        private final Map<String, ProductMapping> bySku = new HashMap<>();
+        private final Map<String, ProductMapping> byProduct = new HashMap<>();
+
+        void put(ProductMapping mapping) {
+            if (StringUtils.hasText(mapping.getMarketplaceSku())) {
+                bySku.putIfAbsent(skuKey(mapping.getMarketplaceProductId(), mapping.getMarketplaceSku()), mapping);
+            } else {
+                byProduct.putIfAbsent(mapping.getMarketplaceProductId(), mapping);
+            }
+        }
+
+        Optional<ProductMapping> find(String marketplaceProductId, String marketplaceSku) {
+            if (!StringUtils.hasText(marketplaceProductId)) {
+                return Optional.empty();
+            }
+            if (StringUtils.hasText(marketplaceSku)) {
+                ProductMapping exactMatch = bySku.get(skuKey(marketplaceProductId, marketplaceSku));
+                if (exactMatch != null) {
+                    return Optional.of(exactMatch);
+                }
+            }
+            return Optional.ofNullable(byProduct.get(marketplaceProductId));
+        }
+
+        private static String skuKey(String marketplaceProductId, String marketplaceSku) {
+            return marketplaceProductId + "\u0000" + marketplaceSku;
+        }
+    }
+
     /**
      * 매핑 조회 (2단계: SKU 포함 조회 → 상품 레벨 fallback)
      * 미매핑 상태(erp_prod_cd=null)인 매핑도 포함하여 조회
@@ -322,6 +401,7 @@ public class ProductMappingService {
         }
 
         mapping = productMappingRepository.save(mapping);
+        productMappingLookup.invalidate(tenantId);
 
         // 해당 상품의 모든 OrderItem에 매핑 적용 및 수수료 계산
         UUID erpItemId = erpItem != null ? erpItem.getId() : null;
@@ -489,6 +569,7 @@ public class ProductMappingService {
         }
 
         productMappingRepository.save(mapping);
+        productMappingLookup.invalidate(tenantId);
     }
 
     /**
@@ -541,6 +622,7 @@ public class ProductMappingService {
                 .orElseThrow(() -> new BusinessException(ErrorCodes.PRODUCT_MAPPING_NOT_FOUND,
                         "Product mapping not found: " + id));
         productMappingRepository.delete(mapping);
+        productMappingLookup.invalidate(tenantId);
         log.info("Deleted product mapping: id={}, productId={}, erpProdCd={}",
                 id, mapping.getMarketplaceProductId(), mapping.getErpProdCd());
     }
@@ -603,6 +685,7 @@ public class ProductMappingService {
             deletedCount = productMappingRepository.deleteByTenantId(tenantId);
             log.info("Deleted all product mappings: tenantId={}, count={}", tenantId, deletedCount);
         }
+        productMappingLookup.invalidate(tenantId);
 
         return deletedCount;
     }
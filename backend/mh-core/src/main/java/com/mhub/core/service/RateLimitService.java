@@ -1,5 +1,7 @@
 package com.mhub.core.service;
 
+import com.mhub.common.exception.BusinessException;
+import com.mhub.common.exception.ErrorCodes;
 import com.mhub.core.domain.enums.MarketplaceType;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -7,10 +9,18 @@ import org.springframework.data.redis.core.StringRedisTemplate;
 import org.springframework.data.redis.core.script.DefaultRedisScript;
 import org.springframework.stereotype.Service;
 
-import java.util.Collections;
+import java.time.Duration;
+import java.util.List;
 import java.util.Map;
 import java.util.UUID;
 
+/**
+ * 마켓플레이스 API 호출 속도 제어 (Redis 토큰 버킷)
+ * - 전역(마켓플레이스) / 테넌트 / 인증정보 3단계 버킷을 Lua 스크립트로 원자적으로 차감
+ * - 모든 외부 요청 직전에 acquire()를 호출하면 토큰이 생길 때까지 대기
+ * - 429 응답 시 reportThrottled()로 Retry-After 동안 해당 인증정보를 차단하고 버킷 속도를 절반으로 줄임
+ *   (감속은 THROTTLE_DECAY 동안 유지되며, 키 만료 시 원래 속도로 복귀)
+ */
 @Slf4j
 @Service
 @RequiredArgsConstructor
@@ -18,59 +28,184 @@ public class RateLimitService {
 
     private final StringRedisTemplate redisTemplate;
 
-    private static final Map<MarketplaceType, Integer> GLOBAL_LIMITS = Map.of(
-            MarketplaceType.NAVER, 5,
-            MarketplaceType.COUPANG, 10
+    /**
+     * 초당 토큰 보충 속도와 최대 버스트 용량
+     */
+    private record BucketSpec(double ratePerSecond, int burst) {}
+
+    // 전역 버킷은 버스트를 초당 한도와 같게 두어 전체 호출량이 벤더 쿼터(NAVER 5/s, COUPANG 10/s)를 넘지 않게 함
+    private static final Map<MarketplaceType, BucketSpec> GLOBAL_LIMITS = Map.of(
+            MarketplaceType.NAVER, new BucketSpec(5, 5),
+            MarketplaceType.COUPANG, new BucketSpec(10, 10)
+    );
+    // 테넌트 버킷은 한 테넌트가 전역 한도를 독점하지 못하도록 전역보다 작게 설정
+    private static final Map<MarketplaceType, BucketSpec> TENANT_LIMITS = Map.of(
+            MarketplaceType.NAVER, new BucketSpec(2, 4),
+            MarketplaceType.COUPANG, new BucketSpec(4, 8)
     );
-    private static final int DEFAULT_TENANT_LIMIT = 2;
-    private static final String SCRIPT = """
-            local key = KEYS[1]
-            local limit = tonumber(ARGV[1])
-            local window = tonumber(ARGV[2])
-            local now = tonumber(ARGV[3])
-            redis.call('ZREMRANGEBYSCORE', key, 0, now - window)
-            local count = redis.call('ZCARD', key)
-            if count < limit then
-                redis.call('ZADD', key, now, now .. '-' .. math.random(1000000))
-                redis.call('EXPIRE', key, window / 1000 + 1)
-                return 1
+    private static final Map<MarketplaceType, BucketSpec> CREDENTIAL_LIMITS = Map.of(
+            MarketplaceType.NAVER, new BucketSpec(2, 4),
+            MarketplaceType.COUPANG, new BucketSpec(4, 8)
+    );
+    private static final BucketSpec DEFAULT_GLOBAL_LIMIT = new BucketSpec(10, 10);
+    private static final BucketSpec DEFAULT_TENANT_LIMIT = new BucketSpec(2, 4);
+
+    private static final Duration MAX_WAIT = Duration.ofSeconds(60);
+    private static final long MAX_SLEEP_MILLIS = 1000;
+    private static final double MIN_THROTTLE_FACTOR = 0.125;
+    private static final Duration THROTTLE_DECAY = Duration.ofMinutes(2);
+
+    /**
+     * KEYS[1..3]: 전역/테넌트/인증정보 버킷 (hash: tokens, ts)
+     * KEYS[4]: 인증정보 차단 만료 시각 (Retry-After)
+     * KEYS[5]: 인증정보 감속 계수 (429 피드백)
+     * ARGV: rate1, burst1, rate2, burst2, rate3, burst3
+     * 반환: 0이면 토큰 획득, 양수면 다음 시도까지 대기할 밀리초
+     */
+    private static final String TOKEN_BUCKET_SCRIPT = """
+            local t = redis.call('TIME')
+            local now = tonumber(t[1]) * 1000 + math.floor(tonumber(t[2]) / 1000)
+            local blockedUntil = tonumber(redis.call('GET', KEYS[4]) or '0')
+            if blockedUntil > now then
+                return blockedUntil - now
+            end
+            local factor = tonumber(redis.call('GET', KEYS[5]) or '1')
+            local wait = 0
+            local tokens = {}
+            for i = 1, 3 do
+                local rate = tonumber(ARGV[i * 2 - 1])
+                local burst = tonumber(ARGV[i * 2])
+                if i == 3 then
+                    rate = rate * factor
+                end
+                local state = redis.call('HMGET', KEYS[i], 'tokens', 'ts')
+                local current = tonumber(state[1]) or burst
+                local ts = tonumber(state[2]) or now
+                current = math.min(burst, current + math.max(0, now - ts) * rate / 1000)
+                tokens[i] = current
+                if current < 1 then
+                    local need = math.ceil((1 - current) * 1000 / rate)
+                    if need > wait then
+                        wait = need
+                    end
+                end
+            end
+            if wait > 0 then
+                return wait
+            end
+            for i = 1, 3 do
+                local rate = tonumber(ARGV[i * 2 - 1])
+                local burst = tonumber(ARGV[i * 2])
+                redis.call('HSET', KEYS[i], 'tokens', tostring(tokens[i] - 1), 'ts', tostring(now))
+                redis.call('PEXPIRE', KEYS[i], math.ceil(burst * 1000 / rate) + 1000)
             end
             return 0
             """;
-    private final DefaultRedisScript<Long> slidingWindowScript = new DefaultRedisScript<>(SCRIPT, Long.class);
+    private final DefaultRedisScript<Long> tokenBucketScript = new DefaultRedisScript<>(TOKEN_BUCKET_SCRIPT, Long.class);
 
-    public boolean tryAcquire(MarketplaceType marketplaceType, UUID tenantId) {
-        try {
-            long now = System.currentTimeMillis();
-
-            // Global rate limit check
-            String globalKey = "ratelimit:global:" + marketplaceType.name();
-            int globalLimit = GLOBAL_LIMITS.getOrDefault(marketplaceType, 10);
-            Long globalResult = redisTemplate.execute(slidingWindowScript,
-                    Collections.singletonList(globalKey),
-                    String.valueOf(globalLimit), "1000", String.valueOf(now));
-
-            if (globalResult == null || globalResult == 0) {
-                log.debug("Global rate limit exceeded for {}", marketplaceType);
-                return false;
+    /**
+     * KEYS[1]: 인증정보 차단 만료 시각, KEYS[2]: 인증정보 감속 계수
+     * ARGV: 차단 밀리초, 최소 감속 계수, 감속 유지 밀리초
+     * 동시에 여러 429가 와도 계수가 호출 수만큼 절반씩 줄도록 읽기-쓰기를 한 스크립트에서 처리하고,
+     * 이미 더 늦게까지 차단되어 있으면 차단 시각을 앞당기지 않음
+     * 반환: 줄어든 감속 계수 (Lua 숫자는 정수로 반환되므로 문자열)
+     */
+    private static final String THROTTLE_SCRIPT = """
+            local t = redis.call('TIME')
+            local now = tonumber(t[1]) * 1000 + math.floor(tonumber(t[2]) / 1000)
+            local blockMillis = tonumber(ARGV[1])
+            local blockedUntil = now + blockMillis
+            if tonumber(redis.call('GET', KEYS[1]) or '0') < blockedUntil then
+                redis.call('SET', KEYS[1], tostring(blockedUntil), 'PX', blockMillis + 1000)
+            end
+            local factor = tonumber(redis.call('GET', KEYS[2]) or '1')
+            local reduced = math.max(tonumber(ARGV[2]), factor / 2)
+            redis.call('SET', KEYS[2], tostring(reduced), 'PX', ARGV[3])
+            return tostring(reduced)
+            """;
+    private final DefaultRedisScript<String> throttleScript = new DefaultRedisScript<>(THROTTLE_SCRIPT, String.class);
+
+    /**
+     * 외부 API 요청 1건에 대한 토큰 획득 (토큰이 생길 때까지 대기)
+     *
+     * @throws BusinessException MAX_WAIT 내에 토큰을 얻지 못한 경우
+     */
+    public void acquire(MarketplaceType marketplaceType, UUID tenantId, UUID credentialId) {
+        BucketSpec global = GLOBAL_LIMITS.getOrDefault(marketplaceType, DEFAULT_GLOBAL_LIMIT);
+        BucketSpec tenant = TENANT_LIMITS.getOrDefault(marketplaceType, DEFAULT_TENANT_LIMIT);
+        BucketSpec credential = CREDENTIAL_LIMITS.getOrDefault(marketplaceType, DEFAULT_TENANT_LIMIT);
+
+        List<String> keys = List.of(
+                "ratelimit:global:" + marketplaceType.name(),
+                "ratelimit:" + marketplaceType.name() + ":tenant:" + tenantId,
+                "ratelimit:" + marketplaceType.name() + ":credential:" + credentialId,
+                blockedKey(marketplaceType, credentialId),
+                factorKey(marketplaceType, credentialId));
+
+        long deadline = System.currentTimeMillis() + MAX_WAIT.toMillis();
+        while (true) {
+            Long waitMillis;
+            try {
+                waitMillis = redisTemplate.execute(tokenBucketScript, keys,
+                        String.valueOf(global.ratePerSecond()), String.valueOf(global.burst()),
+                        String.valueOf(tenant.ratePerSecond()), String.valueOf(tenant.burst()),
+                        String.valueOf(credential.ratePerSecond()), String.valueOf(credential.burst()));
+            } catch (Exception e) {
+                // Redis 연결 실패 시 rate limit 스킵 (로컬 개발 환경 지원)
+                log.warn("Redis unavailable, skipping rate limit check: {}", e.getMessage());
+                return;
             }
 
-            // Tenant rate limit check
-            String tenantKey = "ratelimit:" + marketplaceType.name() + ":tenant:" + tenantId;
-            Long tenantResult = redisTemplate.execute(slidingWindowScript,
-                    Collections.singletonList(tenantKey),
-                    String.valueOf(DEFAULT_TENANT_LIMIT), "1000", String.valueOf(now));
+            if (waitMillis == null || waitMillis <= 0) {
+                return;
+            }
 
-            if (tenantResult == null || tenantResult == 0) {
-                log.debug("Tenant rate limit exceeded for {} {}", tenantId, marketplaceType);
-                return false;
+            long remaining = deadline - System.currentTimeMillis();
+            if (remaining <= 0) {
+                log.warn("Rate limit wait exceeded {}s: tenant={} mkt={} credential={}",
+                        MAX_WAIT.toSeconds(), tenantId, marketplaceType, credentialId);
+                throw new BusinessException(ErrorCodes.MARKETPLACE_RATE_LIMITED,
+                        "API 호출 한도 초과로 요청을 처리하지 못했습니다. 잠시 후 다시 시도해주세요.");
             }
 
-            return true;
+            sleep(Math.min(Math.min(waitMillis, MAX_SLEEP_MILLIS), remaining));
+        }
+    }
+
+    /**
+     * 마켓플레이스가 429(요청 한도 초과)를 반환했을 때 호출
+     * - Retry-After 동안 해당 인증정보의 요청을 차단
+     * - 인증정보 버킷 속도를 절반으로 줄이고 THROTTLE_DECAY 후 원복
+     * - 차단/감속은 Lua 스크립트로 원자적으로 갱신 (여러 워커가 동시에 429를 받아도 감속이 누락되지 않음)
+     */
+    public void reportThrottled(MarketplaceType marketplaceType, UUID credentialId, Duration retryAfter) {
+        try {
+            long blockMillis = Math.max(retryAfter.toMillis(), 1);
+            String reduced = redisTemplate.execute(throttleScript,
+                    List.of(blockedKey(marketplaceType, credentialId), factorKey(marketplaceType, credentialId)),
+                    String.valueOf(blockMillis), String.valueOf(MIN_THROTTLE_FACTOR), String.valueOf(THROTTLE_DECAY.toMillis()));
+            log.warn("Marketplace throttled: mkt={} credential={} retryAfter={}ms rateFactor={}",
+                    marketplaceType, credentialId, blockMillis, reduced);
         } catch (Exception e) {
-            // Redis 연결 실패 시 rate limit 스킵 (로컬 개발 환경 지원)
-            log.warn("Redis unavailable, skipping rate limit check: {}", e.getMessage());
-            return true;
+            log.warn("Redis unavailable, skipping throttle feedback: {}", e.getMessage());
+            sleep(Math.min(retryAfter.toMillis(), MAX_WAIT.toMillis()));
+        }
+    }
+
+    private String blockedKey(MarketplaceType marketplaceType, UUID credentialId) {
+        return "ratelimit:" + marketplaceType.name() + ":credential:" + credentialId + ":blocked-until";
+    }
+
+    private String factorKey(MarketplaceType marketplaceType, UUID credentialId) {
+        return "ratelimit:" + marketplaceType.name() + ":credential:" + credentialId + ":factor";
+    }
+
+    private void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new BusinessException(ErrorCodes.MARKETPLACE_RATE_LIMITED, "API 호출 대기 중 중단되었습니다.");
         }
     }
 }
@@ -0,0 +1,38 @@
+package com.mhub.core.service.dto;
+
+import com.mhub.common.exception.BusinessException;
+import com.mhub.common.exception.ErrorCodes;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+import java.util.UUID;
+
+/**
+ * 주문 목록 커서 - 마지막으로 받은 주문의 (orderedAt, id)
+ * 클라이언트에는 불투명한 문자열(Base64 URL)로 전달
+ *
+ * @param orderedAt 주문일 (없는 주문이면 null - 목록 맨 뒤에 정렬됨)
+ */
+public record OrderCursor(LocalDateTime orderedAt, UUID id) {
+
+    private static final String SEPARATOR = "|";
+
+    public String encode() {
+        String raw = (orderedAt != null ? orderedAt.toString() : "") + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static OrderCursor decode(String cursor) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int idx = raw.indexOf(SEPARATOR);
+            String orderedAt = raw.substring(0, idx);
+            return new OrderCursor(
+                    orderedAt.isEmpty() ? null : LocalDateTime.parse(orderedAt),
+                    UUID.fromString(raw.substring(idx + 1)));
+        } catch (RuntimeException e) {
+            throw new BusinessException(ErrorCodes.VALIDATION_ERROR, "Invalid cursor: " + cursor);
+        }
+    }
+}
@@ -0,0 +1,43 @@
+package com.mhub.core.service.dto;
+
+import com.mhub.core.domain.enums.MarketplaceType;
+import com.mhub.core.domain.enums.OrderStatus;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 주문 목록 검색 조건 - null/빈 값인 조건은 적용하지 않음
+ *
+ * @param search    주문번호 또는 수취인명 부분 일치
+ * @param startDate 주문일(orderedAt) 시작 (endDate와 함께 지정해야 적용)
+ * @param endDate   주문일(orderedAt) 끝
+ */
+public record OrderSearchCondition(
+        List<OrderStatus> statuses,
+        MarketplaceType marketplaceType,
+        String search,
+        LocalDateTime startDate,
+        LocalDateTime endDate
+) {
+
+    public boolean hasStatuses() {
+        return statuses != null && !statuses.isEmpty();
+    }
+
+    public boolean hasMarketplace() {
+        return marketplaceType != null;
+    }
+
+    public boolean hasKeyword() {
+        return search != null && !search.trim().isEmpty();
+    }
+
+    public String keyword() {
+        return hasKeyword() ? search.trim() : null;
+    }
+
+    public boolean hasDateRange() {
+        return startDate != null && endDate != null;
+    }
+}
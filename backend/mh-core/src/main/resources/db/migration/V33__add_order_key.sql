@@ -0,0 +1,37 @@
+-- ============================================================
+-- 주문 중복 방지 키 테이블
+-- orders는 created_at 기준 파티션 테이블이라 (tenant_id, marketplace_type, marketplace_order_id,
+-- marketplace_product_order_id) 단독 UNIQUE 제약을 걸 수 없음 (V30 참고)
+-- → 파티션되지 않은 키 테이블에 UNIQUE 키를 두고, 수집 시 INSERT ... ON CONFLICT DO NOTHING으로
+--   새로 들어온 주문만 판별하여 orders / order_item에 배치 INSERT
+-- ============================================================
+CREATE TABLE IF NOT EXISTS order_key (
+    tenant_id                    UUID NOT NULL,
+    marketplace_type             VARCHAR(30) NOT NULL,
+    marketplace_order_id         VARCHAR(255) NOT NULL,
+    marketplace_product_order_id VARCHAR(255) NOT NULL DEFAULT '',
+    order_id                     UUID NOT NULL,
+    order_created_at             TIMESTAMP NOT NULL,
+    created_at                   TIMESTAMP NOT NULL DEFAULT NOW(),
+    PRIMARY KEY (tenant_id, marketplace_type, marketplace_order_id, marketplace_product_order_id)
+);
+
+CREATE INDEX IF NOT EXISTS idx_order_key_order ON order_key(order_id);
+
+COMMENT ON TABLE order_key IS '주문 중복 방지 키 (마켓플레이스 주문번호 + 상품주문번호, 상품주문번호 없으면 빈 문자열)';
+COMMENT ON COLUMN order_key.order_created_at IS 'orders 파티션 키 (created_at)';
+
+-- 기존 주문 키 적재 (중복 행이 있으면 가장 먼저 생성된 주문을 기준으로 함)
+INSERT INTO order_key (tenant_id, marketplace_type, marketplace_order_id, marketplace_product_order_id,
+                       order_id, order_created_at)
+SELECT DISTINCT ON (tenant_id, marketplace_type, marketplace_order_id, COALESCE(marketplace_product_order_id, ''))
+       tenant_id, marketplace_type, marketplace_order_id, COALESCE(marketplace_product_order_id, ''),
+       id, created_at
+FROM orders
+ORDER BY tenant_id, marketplace_type, marketplace_order_id, COALESCE(marketplace_product_order_id, ''), created_at
+ON CONFLICT DO NOTHING;
+
+ALTER TABLE order_key ENABLE ROW LEVEL SECURITY;
+DROP POLICY IF EXISTS tenant_isolation_order_key ON order_key;
+CREATE POLICY tenant_isolation_order_key ON order_key
+    USING (tenant_id::text = current_setting('app.current_tenant_id', true));
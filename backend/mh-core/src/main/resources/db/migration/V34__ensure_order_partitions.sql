@@ -0,0 +1,17 @@
+-- ============================================================
+-- orders 월별 파티션 보충
+-- V1에서 2026_08까지만 생성되어 이후 월의 주문 INSERT가 실패하므로 누락된 월을 채움
+-- 이후로는 OrderPartitionScheduler가 매일 이번 달 + look-ahead 구간을 유지
+-- ============================================================
+DO $$
+DECLARE
+    target_date DATE := DATE '2026-09-01';
+    last_date   DATE := DATE_TRUNC('month', NOW())::DATE + INTERVAL '3 months';
+BEGIN
+    WHILE target_date <= last_date LOOP
+        PERFORM create_monthly_partition('orders',
+            EXTRACT(YEAR FROM target_date)::INT,
+            EXTRACT(MONTH FROM target_date)::INT);
+        target_date := target_date + INTERVAL '1 month';
+    END LOOP;
+END $$;
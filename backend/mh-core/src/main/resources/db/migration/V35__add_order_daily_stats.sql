@@ -0,0 +1,30 @@
+-- ============================================================
+-- 테넌트별 일자 주문 통계 (대시보드용 롤업)
+-- 주문 저장 / 상태 변경 시 증감분을 UPSERT로 반영 (OrderStatsService)
+-- ordered_at이 없는 주문은 order_date = '-infinity'
+-- ============================================================
+CREATE TABLE IF NOT EXISTS order_daily_stats (
+    tenant_id        UUID NOT NULL,
+    order_date       DATE NOT NULL,
+    marketplace_type VARCHAR(30) NOT NULL,
+    status           VARCHAR(30) NOT NULL,
+    order_count      BIGINT NOT NULL DEFAULT 0,
+    total_amount     NUMERIC(18,2) NOT NULL DEFAULT 0,
+    updated_at       TIMESTAMP NOT NULL DEFAULT NOW(),
+    PRIMARY KEY (tenant_id, order_date, marketplace_type, status)
+);
+
+COMMENT ON TABLE order_daily_stats IS '테넌트별 (주문일, 마켓, 상태) 주문 수/금액 롤업';
+
+-- 기존 주문 집계
+INSERT INTO order_daily_stats (tenant_id, order_date, marketplace_type, status, order_count, total_amount)
+SELECT tenant_id, COALESCE(ordered_at::date, '-infinity'::date), marketplace_type, status,
+       COUNT(*), COALESCE(SUM(total_amount), 0)
+FROM orders
+GROUP BY tenant_id, COALESCE(ordered_at::date, '-infinity'::date), marketplace_type, status
+ON CONFLICT DO NOTHING;
+
+ALTER TABLE order_daily_stats ENABLE ROW LEVEL SECURITY;
+DROP POLICY IF EXISTS tenant_isolation_order_daily_stats ON order_daily_stats;
+CREATE POLICY tenant_isolation_order_daily_stats ON order_daily_stats
+    USING (tenant_id::text = current_setting('app.current_tenant_id', true));
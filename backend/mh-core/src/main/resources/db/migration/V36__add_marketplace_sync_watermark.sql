@@ -0,0 +1,19 @@
+-- ============================================================
+-- 마켓플레이스 동기화 워터마크 (credential × 동기화 종류)
+-- high_water_at: 마지막으로 성공(커밋)한 동기화 구간의 끝 시각 - 다음 동기화는 여기서 overlap만큼 앞에서 시작
+-- last_full_sync_at: 변경분이 아닌 전체 조회로 동기화한 마지막 시각 (주기적 전체 보정용)
+-- ============================================================
+CREATE TABLE IF NOT EXISTS marketplace_sync_watermark (
+    credential_id     UUID NOT NULL REFERENCES tenant_marketplace_credential(id) ON DELETE CASCADE,
+    stream            VARCHAR(30) NOT NULL,
+    tenant_id         UUID NOT NULL,
+    high_water_at     TIMESTAMP NOT NULL,
+    last_full_sync_at TIMESTAMP,
+    updated_at        TIMESTAMP NOT NULL DEFAULT NOW(),
+    PRIMARY KEY (credential_id, stream)
+);
+
+ALTER TABLE marketplace_sync_watermark ENABLE ROW LEVEL SECURITY;
+DROP POLICY IF EXISTS tenant_isolation_marketplace_sync_watermark ON marketplace_sync_watermark;
+CREATE POLICY tenant_isolation_marketplace_sync_watermark ON marketplace_sync_watermark
+    USING (tenant_id::text = current_setting('app.current_tenant_id', true));
@@ -0,0 +1,26 @@
+-- ============================================================
+-- 주문 동기화 리스 락 (credential × 동기화 종류)
+-- 여러 인스턴스(mh-api / mh-scheduler)에서 같은 credential을 동시에 수집하지 않도록 하는 클러스터 락
+-- fence_token: 획득할 때마다 증가하는 펜싱 토큰 - 쓰기 트랜잭션에서 자신의 토큰이 아직 유효한지 확인
+-- lease_until: 리스 만료 시각 (보유 중에는 주기적으로 연장, 해제 시 NOW()로 설정)
+-- released_at / result_count: 정상 해제 시각과 결과 (대기하던 요청이 결과를 재사용)
+-- ============================================================
+CREATE SEQUENCE IF NOT EXISTS sync_lease_fence_seq;
+
+CREATE TABLE IF NOT EXISTS sync_lease (
+    credential_id UUID NOT NULL REFERENCES tenant_marketplace_credential(id) ON DELETE CASCADE,
+    stream        VARCHAR(30) NOT NULL,
+    tenant_id     UUID NOT NULL,
+    fence_token   BIGINT NOT NULL,
+    owner         VARCHAR(255) NOT NULL,
+    acquired_at   TIMESTAMP NOT NULL,
+    lease_until   TIMESTAMP NOT NULL,
+    released_at   TIMESTAMP,
+    result_count  INT,
+    PRIMARY KEY (credential_id, stream)
+);
+
+-- shedlock과 같이 백엔드 내부용 락 테이블이므로 테넌트 컨텍스트 없이 접근 허용
+ALTER TABLE sync_lease ENABLE ROW LEVEL SECURITY;
+DROP POLICY IF EXISTS sync_lease_backend_access ON sync_lease;
+CREATE POLICY sync_lease_backend_access ON sync_lease FOR ALL USING (true);
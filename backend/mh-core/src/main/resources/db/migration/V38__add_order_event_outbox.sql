@@ -0,0 +1,33 @@
+-- ============================================================
+-- 주문 도메인 이벤트 아웃박스
+-- 주문 저장/상태 변경과 같은 트랜잭션에서 기록하고, 릴레이(OrderEventRelay)가 핸들러로 전달
+-- status: PENDING(전달 대기/재시도 대기) / DONE(모든 핸들러 처리 완료) / DEAD(재시도 한도 초과)
+-- handled_by: 처리를 마친 핸들러 이름 - 재시도 시 이미 처리한 핸들러는 다시 호출하지 않음
+-- next_attempt_at: 다음 전달 시각 (릴레이가 가져가면 claim 만료 시각으로 미뤄 두어 중단 시 자동 재전달)
+-- ============================================================
+CREATE TABLE IF NOT EXISTS order_event_outbox (
+    id              BIGSERIAL PRIMARY KEY,
+    tenant_id       UUID NOT NULL,
+    order_id        UUID NOT NULL,
+    event_type      VARCHAR(40) NOT NULL,
+    payload         JSONB NOT NULL,
+    status          VARCHAR(20) NOT NULL DEFAULT 'PENDING',
+    attempts        INT NOT NULL DEFAULT 0,
+    handled_by      TEXT[] NOT NULL DEFAULT '{}',
+    last_error      TEXT,
+    next_attempt_at TIMESTAMP NOT NULL DEFAULT NOW(),
+    created_at      TIMESTAMP NOT NULL DEFAULT NOW(),
+    processed_at    TIMESTAMP
+);
+
+CREATE INDEX IF NOT EXISTS idx_order_event_outbox_pending
+    ON order_event_outbox (next_attempt_at, id) WHERE status = 'PENDING';
+CREATE INDEX IF NOT EXISTS idx_order_event_outbox_processed
+    ON order_event_outbox (processed_at) WHERE status = 'DONE';
+CREATE INDEX IF NOT EXISTS idx_order_event_outbox_dead
+    ON order_event_outbox (tenant_id, created_at) WHERE status = 'DEAD';
+
+-- 릴레이가 테넌트 구분 없이 읽으므로 job_execution_log와 같이 백엔드 접근 허용
+ALTER TABLE order_event_outbox ENABLE ROW LEVEL SECURITY;
+DROP POLICY IF EXISTS order_event_outbox_backend_access ON order_event_outbox;
+CREATE POLICY order_event_outbox_backend_access ON order_event_outbox FOR ALL USING (true);
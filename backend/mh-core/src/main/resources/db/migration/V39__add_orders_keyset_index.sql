@@ -0,0 +1,9 @@
+-- ============================================================
+-- 주문 목록 커서 페이지네이션용 인덱스
+-- 정렬 순서(ordered_at DESC NULLS LAST, id DESC)와 같게 만들어 커서 다음 행부터 인덱스 순서대로 읽음
+-- 기존 (tenant_id, ordered_at) 인덱스는 같은 선두 컬럼으로 대체되므로 삭제
+-- ============================================================
+CREATE INDEX IF NOT EXISTS idx_orders_tenant_ordered_keyset
+    ON orders (tenant_id, ordered_at DESC NULLS LAST, id DESC);
+
+DROP INDEX IF EXISTS idx_orders_ordered_at;
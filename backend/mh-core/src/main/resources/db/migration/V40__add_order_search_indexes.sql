@@ -0,0 +1,24 @@
+-- ============================================================
+-- 주문 키워드 검색 인덱스
+-- - 부분 일치(LIKE '%키워드%'): pg_trgm GIN 인덱스 (주문번호, 수취인명, 상품명, 옵션명)
+-- - 앞부분 일치(LIKE '키워드%'): text_pattern_ops B-tree (주문번호, 송장번호)
+-- - 전화번호 뒷자리: 숫자만 남긴 구매자 전화번호 끝 4자리 표현식 인덱스
+-- ============================================================
+CREATE EXTENSION IF NOT EXISTS pg_trgm;
+
+CREATE INDEX IF NOT EXISTS idx_orders_marketplace_order_id_trgm
+    ON orders USING GIN (marketplace_order_id gin_trgm_ops);
+CREATE INDEX IF NOT EXISTS idx_orders_receiver_name_trgm
+    ON orders USING GIN (receiver_name gin_trgm_ops);
+CREATE INDEX IF NOT EXISTS idx_orders_marketplace_order_id_prefix
+    ON orders (tenant_id, marketplace_order_id text_pattern_ops);
+CREATE INDEX IF NOT EXISTS idx_orders_buyer_phone_suffix
+    ON orders (tenant_id, right(regexp_replace(buyer_phone, '[^0-9]', '', 'g'), 4));
+
+CREATE INDEX IF NOT EXISTS idx_order_item_product_name_trgm
+    ON order_item USING GIN (product_name gin_trgm_ops);
+CREATE INDEX IF NOT EXISTS idx_order_item_option_name_trgm
+    ON order_item USING GIN (option_name gin_trgm_ops);
+
+CREATE INDEX IF NOT EXISTS idx_shipment_tracking_prefix
+    ON shipment (tenant_id, tracking_number text_pattern_ops);
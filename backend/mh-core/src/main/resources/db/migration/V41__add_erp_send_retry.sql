@@ -0,0 +1,16 @@
+-- ============================================================
+-- ERP 전표 전송 재시도 큐
+-- send_attempts: 자동 재시도 주기 안에서 전송을 시도한 횟수 (수동 전송 시 0부터 다시 셈)
+-- next_retry_at: 일시적 오류(ERP 5xx/429, 네트워크 오류, 시간 초과)로 실패한 전표의 다음 자동 재전송 시각
+--                영구 오류(라인 검증 실패 등)이거나 재시도 한도를 넘으면 NULL - 수동 재전송 대기
+-- tenant_erp_config.send_concurrency: ERP 설정별 동시 SaveSale 요청 수 (NULL이면 erp.send.default-concurrency)
+-- ============================================================
+ALTER TABLE erp_sales_document
+    ADD COLUMN IF NOT EXISTS send_attempts INT NOT NULL DEFAULT 0,
+    ADD COLUMN IF NOT EXISTS next_retry_at TIMESTAMP;
+
+CREATE INDEX IF NOT EXISTS idx_erp_sales_document_retry
+    ON erp_sales_document (tenant_id, next_retry_at) WHERE status = 'FAILED' AND next_retry_at IS NOT NULL;
+
+ALTER TABLE tenant_erp_config
+    ADD COLUMN IF NOT EXISTS send_concurrency INT;
@@ -0,0 +1,12 @@
+-- ============================================================
+-- ERP 품목 스트리밍 동기화
+-- erp_item.content_hash: ECount 품목 원본(JSON)의 SHA-256 - 값이 같으면 UPSERT에서 행을 갱신하지 않음
+--                        (기존 행은 NULL이므로 첫 동기화에서 한 번 채워짐)
+-- tenant_erp_config.item_synced_at: 마지막 품목 동기화 시각
+--                        (변경 없는 품목은 last_synced_at을 갱신하지 않으므로 동기화 시각은 설정에 기록)
+-- ============================================================
+ALTER TABLE erp_item
+    ADD COLUMN IF NOT EXISTS content_hash VARCHAR(64);
+
+ALTER TABLE tenant_erp_config
+    ADD COLUMN IF NOT EXISTS item_synced_at TIMESTAMP;
@@ -0,0 +1,14 @@
+-- ============================================================
+-- ERP 전표 전송 선점
+-- 전송하는 쪽(수동 전송, 자동 재전송 스케줄러, 주문 이벤트 자동전송, 야간 배치)이 HTTP 요청 전에
+-- status를 SENDING으로 바꾸는 UPDATE ... FOR UPDATE SKIP LOCKED로 전표를 선점하고, 선점한 쪽만 SaveSale 호출
+-- (ECount SaveSale은 같은 전표를 두 번 받으면 판매전표가 두 건 생기므로 중복 전송을 막아야 함)
+-- send_claimed_at: 선점 시각 - 프로세스가 전송 중 종료되어 SENDING으로 남은 전표를 찾는 데 사용
+-- version: 엔티티 @Version - 선점 UPDATE와 JPA 저장이 서로의 상태 변경을 덮어쓰지 않도록 함
+-- ============================================================
+ALTER TABLE erp_sales_document
+    ADD COLUMN IF NOT EXISTS send_claimed_at TIMESTAMP,
+    ADD COLUMN IF NOT EXISTS version BIGINT NOT NULL DEFAULT 0;
+
+CREATE INDEX IF NOT EXISTS idx_erp_sales_document_sending
+    ON erp_sales_document (tenant_id, send_claimed_at) WHERE status = 'SENDING';
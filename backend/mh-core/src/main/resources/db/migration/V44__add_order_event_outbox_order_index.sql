@@ -0,0 +1,7 @@
+-- ============================================================
+-- 주문별 이벤트 순서 보장용 인덱스
+-- 릴레이 claim은 같은 주문에 앞선 PENDING 이벤트(재시도 대기/처리 중)가 있으면 뒤 이벤트를 가져가지 않음
+-- 그 확인(order_id, id < ?)을 주문별 범위 조회로 처리
+-- ============================================================
+CREATE INDEX IF NOT EXISTS idx_order_event_outbox_order_pending
+    ON order_event_outbox (order_id, id) WHERE status = 'PENDING';
@@ -0,0 +1,6 @@
+-- ============================================================
+-- 수취인명 앞부분 일치 인덱스
+-- pg_trgm GIN은 3글자 미만 검색어에 쓰이지 않으므로 2글자 수취인명 검색은 LIKE '검색어%'로 찾음
+-- ============================================================
+CREATE INDEX IF NOT EXISTS idx_orders_receiver_name_prefix
+    ON orders (tenant_id, receiver_name text_pattern_ops);
@@ -0,0 +1,133 @@
+package com.mhub.core.domain.repository;
+
+import com.mhub.core.domain.entity.Order;
+import com.mhub.core.domain.enums.MarketplaceType;
+import com.mhub.core.domain.enums.OrderStatus;
+import com.mhub.core.service.dto.OrderCursor;
+import com.mhub.core.service.dto.OrderSearchCondition;
+import com.mhub.support.PostgresIntegrationTest;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class OrderSpecificationsTest extends PostgresIntegrationTest {
+
+    private static final LocalDateTime T1 = LocalDateTime.of(2026, 9, 3, 10, 0);
+    private static final LocalDateTime T2 = LocalDateTime.of(2026, 9, 2, 10, 0);
+    private static final LocalDateTime T3 = LocalDateTime.of(2026, 9, 1, 10, 0, 30);
+
+    @Autowired
+    private OrderRepository orderRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private UUID tenantId;
+
+    @BeforeEach
+    void setUp() {
+        tenantId = UUID.randomUUID();
+        List<Order> orders = new ArrayList<>();
+        // 같은 주문일이 여러 건인 경우(id로 순서 결정)와 주문일이 없는 주문을 섞어서 저장
+        for (int i = 0; i < 4; i++) {
+            orders.add(order(tenantId, "T1-" + i, OrderStatus.PAYMENT_COMPLETE, T1));
+        }
+        for (int i = 0; i < 2; i++) {
+            orders.add(order(tenantId, "T2-" + i, OrderStatus.PREPARING, T2));
+        }
+        orders.add(order(tenantId, "T3-0", OrderStatus.PAYMENT_COMPLETE, T3));
+        for (int i = 0; i < 5; i++) {
+            orders.add(order(tenantId, "NULL-" + i, i % 2 == 0 ? OrderStatus.PAYMENT_COMPLETE : OrderStatus.PREPARING, null));
+        }
+        orderRepository.saveAll(orders);
+
+        // 다른 테넌트 주문은 목록에 나오지 않아야 함
+        orderRepository.save(order(UUID.randomUUID(), "OTHER", OrderStatus.PAYMENT_COMPLETE, T1));
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 3, 4, 5, 12, 20})
+    void cursorPagesVisitEveryOrderOnceInKeysetOrder(int size) {
+        OrderSearchCondition condition = new OrderSearchCondition(null, null, null, null, null);
+
+        assertThat(readAllPages(condition, size)).containsExactlyElementsOf(expectedOrder(null));
+    }
+
+    @Test
+    void cursorPagesApplySearchConditions() {
+        OrderSearchCondition condition = new OrderSearchCondition(
+                List.of(OrderStatus.PAYMENT_COMPLETE), MarketplaceType.NAVER, null, null, null);
+
+        assertThat(readAllPages(condition, 2)).containsExactlyElementsOf(expectedOrder(OrderStatus.PAYMENT_COMPLETE));
+    }
+
+    @Test
+    void cursorWithoutOrderedAtContinuesWithinNullGroup() {
+        List<UUID> expected = expectedOrder(null);
+        UUID firstNull = expected.get(7);
+
+        List<Order> rows = orderRepository.findBy(
+                OrderSpecifications.tenantIs(tenantId)
+                        .and(OrderSpecifications.keysetOrder())
+                        .and(OrderSpecifications.after(new OrderCursor(null, firstNull))),
+                query -> query.all());
+
+        assertThat(rows).extracting(Order::getId).containsExactlyElementsOf(expected.subList(8, expected.size()));
+    }
+
+    /**
+     * OrderService.searchOrders와 같은 방식으로 size+1건씩 읽으며 커서를 인코딩/디코딩하여 끝까지 넘김
+     */
+    private List<UUID> readAllPages(OrderSearchCondition condition, int size) {
+        List<UUID> visited = new ArrayList<>();
+        String cursor = null;
+        int pages = 0;
+        do {
+            Specification<Order> spec = OrderSpecifications.matches(tenantId, condition)
+                    .and(OrderSpecifications.keysetOrder());
+            if (cursor != null) {
+                spec = spec.and(OrderSpecifications.after(OrderCursor.decode(cursor)));
+            }
+            List<Order> rows = orderRepository.findBy(spec, query -> query
+                    .limit(size + 1)
+                    .all());
+
+            boolean hasNext = rows.size() > size;
+            List<Order> page = hasNext ? rows.subList(0, size) : rows;
+            page.forEach(order -> visited.add(order.getId()));
+            cursor = hasNext
+                    ? new OrderCursor(page.get(page.size() - 1).getOrderedAt(), page.get(page.size() - 1).getId()).encode()
+                    : null;
+            assertThat(++pages).isLessThanOrEqualTo(100);
+        } while (cursor != null);
+        return visited;
+    }
+
+    private List<UUID> expectedOrder(OrderStatus status) {
+        return jdbcTemplate.queryForList(
+                "SELECT id FROM orders WHERE tenant_id = ? AND (?::text IS NULL OR status = ?) " +
+                "ORDER BY ordered_at DESC NULLS LAST, id DESC",
+                UUID.class, tenantId, status != null ? status.name() : null, status != null ? status.name() : null);
+    }
+
+    private static Order order(UUID tenantId, String marketplaceOrderId, OrderStatus status, LocalDateTime orderedAt) {
+        return Order.builder()
+                .tenantId(tenantId)
+                .marketplaceType(MarketplaceType.NAVER)
+                .marketplaceOrderId(marketplaceOrderId)
+                .status(status)
+                .orderedAt(orderedAt)
+                .build();
+    }
+}
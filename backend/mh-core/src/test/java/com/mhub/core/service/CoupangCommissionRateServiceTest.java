@@ -0,0 +1,310 @@
+package com.mhub.core.service;
+
+import com.mhub.core.domain.entity.CoupangCategory;
+import com.mhub.core.domain.entity.CoupangCommissionRate;
+import com.mhub.core.domain.entity.CoupangSellerProduct;
+import com.mhub.core.domain.repository.CoupangCategoryRepository;
+import com.mhub.core.domain.repository.CoupangCommissionRateRepository;
+import com.mhub.core.domain.repository.CoupangSellerProductRepository;
+import com.mhub.support.PostgresIntegrationTest;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.Random;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.SoftAssertions.assertSoftly;
+
+/**
+ * 스냅샷 기반 수수료율 조회가 기존 단계별 조회(상품 → 카테고리 → 수수료율을 한 단계씩 DB 조회)와 같은 결과를 내는지 확인
+ * - 생성한 카테고리 트리: 이름 공유, 적용 기간이 겹치거나 끝난 수수료율, 순환 참조, 최대 깊이 초과, 없는 상위 카테고리
+ * - 마이그레이션으로 들어간 기본 수수료율(DEFAULT)과 카테고리별 수수료율도 함께 조회됨
+ */
+class CoupangCommissionRateServiceTest extends PostgresIntegrationTest {
+
+    private static final long CODE_BASE = 9_000_000_000L;
+    private static final int NODE_COUNT = 400;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private CoupangSellerProductRepository sellerProductRepository;
+
+    @Autowired
+    private CoupangCategoryRepository categoryRepository;
+
+    @Autowired
+    private CoupangCommissionRateRepository commissionRateRepository;
+
+    private final Random random = new Random(20260316L);
+    private final LocalDate today = LocalDate.now();
+    private String prefix;
+    private UUID tenantId;
+    private long nextCode;
+    private List<Long> codes;
+    private List<Long> productIds;
+    private CoupangCommissionRateService service;
+    private PerProductResolver perProduct;
+
+    @BeforeEach
+    void setUp() {
+        prefix = "PT-" + UUID.randomUUID().toString().substring(0, 8);
+        tenantId = UUID.randomUUID();
+        nextCode = CODE_BASE;
+        codes = new ArrayList<>();
+        productIds = new ArrayList<>();
+
+        generateCategoryTree();
+        generateProducts();
+
+        service = new CoupangCommissionRateService(sellerProductRepository, categoryRepository, commissionRateRepository);
+        perProduct = new PerProductResolver(sellerProductRepository, categoryRepository, commissionRateRepository);
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (prefix == null) {
+            return;
+        }
+        jdbcTemplate.update("DELETE FROM coupang_seller_product WHERE tenant_id = ?", tenantId);
+        jdbcTemplate.update("DELETE FROM coupang_category WHERE display_category_code >= ?", CODE_BASE);
+        jdbcTemplate.update("DELETE FROM coupang_commission_rate WHERE category_id LIKE ?", prefix + "%");
+    }
+
+    @Test
+    void categoryResolutionMatchesPerLevelQueries() {
+        // 기본 수수료율(2026-02-01~) 적용 전 날짜 포함 - 기본 수수료율도 없으면 두 방식 모두 0
+        List<LocalDate> dates = List.of(today, today.minusDays(200), today.plusDays(45), LocalDate.of(2026, 1, 15));
+        List<Long> targets = new ArrayList<>(codes);
+        targets.add(CODE_BASE - 1); // 없는 카테고리
+
+        assertSoftly(softly -> {
+            for (LocalDate date : dates) {
+                for (Long code : targets) {
+                    softly.assertThat(service.findCommissionRateByCategory(code, date))
+                            .as("rate code=%d date=%s", code, date)
+                            .isEqualTo(perProduct.findCommissionRateByCategory(code, date));
+                    softly.assertThat(service.findCommissionRateDetailByCategory(code, date).map(CoupangCommissionRate::getId))
+                            .as("detail code=%d date=%s", code, date)
+                            .isEqualTo(perProduct.findCommissionRateDetailByCategory(code, date).map(CoupangCommissionRate::getId));
+                }
+            }
+        });
+    }
+
+    @Test
+    void productResolutionMatchesPerProductQueries() {
+        List<Long> targets = new ArrayList<>(productIds);
+        for (int i = 0; i < 30; i++) {
+            targets.add(CODE_BASE + 500_000 + i); // 등록되지 않은 상품
+        }
+
+        assertSoftly(softly -> {
+            for (Long productId : targets) {
+                softly.assertThat(service.findCommissionRateByProductId(tenantId, productId))
+                        .as("rate productId=%d", productId)
+                        .isEqualTo(perProduct.findCommissionRateByProductId(tenantId, productId));
+                softly.assertThat(service.findCommissionRateDetailByProductId(tenantId, productId).map(CoupangCommissionRate::getId))
+                        .as("detail productId=%d", productId)
+                        .isEqualTo(perProduct.findCommissionRateDetailByProductId(tenantId, productId).map(CoupangCommissionRate::getId));
+            }
+        });
+    }
+
+    @Test
+    void invalidateReloadsChangedRates() {
+        Long leaf = codes.get(codes.size() - 1);
+        BigDecimal before = service.findCommissionRateByCategory(leaf, today);
+
+        String leafName = categoryRepository.findByDisplayCategoryCode(leaf).orElseThrow().getDisplayCategoryName();
+        jdbcTemplate.update("DELETE FROM coupang_commission_rate WHERE category_name = ?", leafName);
+        insertRate(leafName, new BigDecimal("1.23"), today.minusDays(1), null);
+
+        // invalidate 전에는 이전 스냅샷 (최대 RELOAD_INTERVAL 동안)
+        assertThat(service.findCommissionRateByCategory(leaf, today)).isEqualTo(before).isNotEqualByComparingTo("1.23");
+
+        service.invalidate();
+        assertThat(service.findCommissionRateByCategory(leaf, today)).isEqualByComparingTo("1.23");
+        assertThat(service.findCommissionRateByCategory(leaf, today))
+                .isEqualTo(perProduct.findCommissionRateByCategory(leaf, today));
+    }
+
+    private void generateCategoryTree() {
+        List<String> sharedNames = new ArrayList<>();
+        for (int i = 0; i < 15; i++) {
+            sharedNames.add(prefix + "-공통-" + i);
+        }
+
+        // 대분류 6개 아래로 무작위 트리 (깊이 최대 6)
+        List<Long> parents = new ArrayList<>();
+        List<Integer> depths = new ArrayList<>();
+        for (int i = 0; i < NODE_COUNT; i++) {
+            Long parent = null;
+            int depth = 1;
+            if (i >= 6) {
+                int p;
+                do {
+                    p = random.nextInt(parents.size());
+                } while (depths.get(p) >= 6);
+                parent = codes.get(p);
+                depth = depths.get(p) + 1;
+            }
+            String name = random.nextInt(10) == 0
+                    ? sharedNames.get(random.nextInt(sharedNames.size()))
+                    : prefix + "-" + i;
+            Long code = insertCategory(name, parent, depth);
+            parents.add(parent);
+            depths.add(depth);
+            maybeInsertRates(name);
+        }
+
+        // 순환 참조 (A → B → A), 수수료율 없음 - 최대 깊이에서 멈추고 기본 수수료율
+        long a = nextCode++;
+        long b = nextCode++;
+        insertCategory(a, prefix + "-cycle-a", b, 2);
+        insertCategory(b, prefix + "-cycle-b", a, 2);
+
+        // 수수료율이 있는 대분류 아래 12단계 체인 - 10단계까지만 올라가므로 말단은 기본 수수료율
+        Long chainParent = insertCategory(prefix + "-chain-root", null, 1);
+        insertRate(prefix + "-chain-root", new BigDecimal("4.50"), today.minusYears(1), null);
+        for (int i = 1; i <= 12; i++) {
+            chainParent = insertCategory(prefix + "-chain-" + i, chainParent, i + 1);
+        }
+
+        // DB에 없는 상위 카테고리
+        insertCategory(prefix + "-orphan", CODE_BASE - 2, 3);
+
+        // 마이그레이션으로 들어간 카테고리명 - 생성한 트리 아래에서도 같은 이름이면 해당 수수료율 적용
+        List<String> seededNames = jdbcTemplate.queryForList(
+                "SELECT category_name FROM coupang_commission_rate WHERE category_id <> 'DEFAULT' ORDER BY category_name LIMIT 3",
+                String.class);
+        for (String seededName : seededNames) {
+            insertCategory(seededName, codes.get(random.nextInt(6)), 2);
+        }
+    }
+
+    /**
+     * 이름의 40%에 1~3개 수수료율 - 끝났거나, 앞으로 적용되거나, 기간이 겹치는 버전 포함
+     */
+    private void maybeInsertRates(String name) {
+        Integer existing = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM coupang_commission_rate WHERE category_name = ?", Integer.class, name);
+        if (existing > 0 || random.nextInt(10) >= 4) {
+            return;
+        }
+        int versions = 1 + random.nextInt(3);
+        for (int v = 0; v < versions; v++) {
+            LocalDate from = today.minusDays(400).plusDays(random.nextInt(460));
+            LocalDate to = random.nextBoolean() ? null : from.plusDays(30 + random.nextInt(270));
+            BigDecimal rate = BigDecimal.valueOf(200 + random.nextInt(1300), 2);
+            insertRate(name, rate, from, to);
+        }
+    }
+
+    private void generateProducts() {
+        for (int i = 0; i < 600; i++) {
+            long productId = CODE_BASE + 100_000 + i;
+            Long category = random.nextInt(20) == 0 ? null : codes.get(random.nextInt(codes.size()));
+            insertProduct(productId, category);
+            // 같은 productId의 다른 옵션 - 같은 노출 카테고리
+            if (random.nextInt(10) == 0) {
+                insertProduct(productId, category);
+            }
+            productIds.add(productId);
+        }
+    }
+
+    private Long insertCategory(String name, Long parentCode, int depth) {
+        return insertCategory(nextCode++, name, parentCode, depth);
+    }
+
+    private Long insertCategory(long code, String name, Long parentCode, int depth) {
+        jdbcTemplate.update("INSERT INTO coupang_category (display_category_code, display_category_name, "
+                + "parent_category_code, depth_level) VALUES (?, ?, ?, ?)", code, name, parentCode, depth);
+        codes.add(code);
+        return code;
+    }
+
+    private void insertRate(String name, BigDecimal rate, LocalDate from, LocalDate to) {
+        jdbcTemplate.update("INSERT INTO coupang_commission_rate (category_id, category_name, commission_rate, "
+                        + "effective_from, effective_to) VALUES (?, ?, ?, ?, ?)",
+                prefix + "-" + UUID.randomUUID(), name, rate, from, to);
+    }
+
+    private void insertProduct(long productId, Long displayCategoryCode) {
+        jdbcTemplate.update("INSERT INTO coupang_seller_product (tenant_id, seller_product_id, product_id, "
+                        + "display_category_code) VALUES (?, ?, ?, ?)",
+                tenantId, nextCode++, productId, displayCategoryCode);
+    }
+
+    /**
+     * 스냅샷 도입 전 조회 방식 - 단계마다 리포지토리를 조회 (비교 기준)
+     */
+    private record PerProductResolver(CoupangSellerProductRepository sellerProductRepository,
+                                      CoupangCategoryRepository categoryRepository,
+                                      CoupangCommissionRateRepository commissionRateRepository) {
+
+        BigDecimal findCommissionRateByProductId(UUID tenantId, Long productId) {
+            LocalDate today = LocalDate.now();
+            Optional<CoupangSellerProduct> sellerProduct = sellerProductRepository.findByTenantIdAndProductId(tenantId, productId);
+            if (sellerProduct.isEmpty() || sellerProduct.get().getDisplayCategoryCode() == null) {
+                return getDefaultCommissionRate(today);
+            }
+            return findCommissionRateByCategory(sellerProduct.get().getDisplayCategoryCode(), today);
+        }
+
+        BigDecimal findCommissionRateByCategory(Long displayCategoryCode, LocalDate targetDate) {
+            return findCommissionRateDetailByCategory(displayCategoryCode, targetDate)
+                    .map(CoupangCommissionRate::getCommissionRate)
+                    .orElse(BigDecimal.ZERO);
+        }
+
+        BigDecimal getDefaultCommissionRate(LocalDate targetDate) {
+            return commissionRateRepository.findDefaultRate(targetDate)
+                    .map(CoupangCommissionRate::getCommissionRate)
+                    .orElse(BigDecimal.ZERO);
+        }
+
+        Optional<CoupangCommissionRate> findCommissionRateDetailByProductId(UUID tenantId, Long productId) {
+            LocalDate today = LocalDate.now();
+            Optional<CoupangSellerProduct> sellerProduct = sellerProductRepository.findByTenantIdAndProductId(tenantId, productId);
+            if (sellerProduct.isEmpty()) {
+                return Optional.empty();
+            }
+            Long displayCategoryCode = sellerProduct.get().getDisplayCategoryCode();
+            if (displayCategoryCode == null) {
+                return commissionRateRepository.findDefaultRate(today);
+            }
+            return findCommissionRateDetailByCategory(displayCategoryCode, today);
+        }
+
+        Optional<CoupangCommissionRate> findCommissionRateDetailByCategory(Long displayCategoryCode, LocalDate targetDate) {
+            Long currentCategoryCode = displayCategoryCode;
+            int depth = 0;
+            while (currentCategoryCode != null && depth < 10) {
+                Optional<CoupangCategory> category = categoryRepository.findByDisplayCategoryCode(currentCategoryCode);
+                if (category.isEmpty()) {
+                    break;
+                }
+                Optional<CoupangCommissionRate> rate = commissionRateRepository.findByCategoryNameAndEffectiveDate(
+                        category.get().getDisplayCategoryName(), targetDate);
+                if (rate.isPresent()) {
+                    return rate;
+                }
+                currentCategoryCode = category.get().getParentCategoryCode();
+                depth++;
+            }
+            return commissionRateRepository.findDefaultRate(targetDate);
+        }
+    }
+}
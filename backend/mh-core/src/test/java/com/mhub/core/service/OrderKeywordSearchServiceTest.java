@@ -0,0 +1,168 @@
+package com.mhub.core.service;
+
+import com.mhub.core.domain.entity.Order;
+import com.mhub.core.domain.entity.OrderItem;
+import com.mhub.core.domain.enums.MarketplaceType;
+import com.mhub.core.domain.enums.OrderStatus;
+import com.mhub.core.domain.repository.OrderRepository;
+import com.mhub.core.domain.repository.OrderSpecifications;
+import com.mhub.core.service.OrderKeywordSearchService.OrderHit;
+import com.mhub.support.PostgresIntegrationTest;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+@Import(OrderKeywordSearchService.class)
+class OrderKeywordSearchServiceTest extends PostgresIntegrationTest {
+
+    @Autowired
+    private OrderKeywordSearchService searchService;
+
+    @Autowired
+    private OrderRepository orderRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private UUID tenantId;
+    private Order exactId;
+    private Order longerId;
+    private Order underscoreName;
+    private Order plainName;
+    private Order percentOption;
+    private Order similarProduct;
+
+    @BeforeEach
+    void setUp() {
+        tenantId = UUID.randomUUID();
+        exactId = save(order(tenantId, "2026100112345", "김철수", "010-1234-5678", "무선 이어폰 블랙", null, 1));
+        longerId = save(order(tenantId, "2026100112345678", "박김철", "010-9999-0000", "유선 이어폰", null, 2));
+        underscoreName = save(order(tenantId, "A-100", "홍_길동", null, "텀블러", null, 3));
+        plainName = save(order(tenantId, "A-200", "홍길동", null, "텀블러", null, 4));
+        percentOption = save(order(tenantId, "A-300", "이영희", null, "생수", "50%할인", 5));
+        similarProduct = save(order(tenantId, "A-400", "최민수", null, "500ml 생수", null, 6));
+        jdbcTemplate.update("INSERT INTO shipment (order_id, tenant_id, courier_type, tracking_number) VALUES (?, ?, 'CJ', ?)",
+                plainName.getId(), tenantId, "6891234567890");
+
+        // 다른 테넌트의 같은 수취인명은 검색되지 않아야 함
+        save(order(UUID.randomUUID(), "2026100112345", "김철수", null, "무선 이어폰", null, 1));
+    }
+
+    @Test
+    void exactOrderIdRanksAbovePrefixMatch() {
+        List<OrderHit> hits = searchService.search(tenantId, "2026100112345", 10);
+
+        assertThat(hits).extracting(OrderHit::orderId).containsExactly(exactId.getId(), longerId.getId());
+        assertThat(hits.get(0).score()).isEqualTo(1.0);
+        assertThat(hits.get(1).score()).isEqualTo(0.9);
+    }
+
+    @Test
+    void trackingPrefixAndPhoneSuffixMatch() {
+        List<OrderHit> tracking = searchService.search(tenantId, "689123", 10);
+        assertThat(tracking).extracting(OrderHit::orderId).containsExactly(plainName.getId());
+        assertThat(tracking.get(0).score()).isEqualTo(0.95);
+
+        List<OrderHit> phone = searchService.search(tenantId, "5678", 10);
+        assertThat(phone).filteredOn(hit -> hit.orderId().equals(exactId.getId()))
+                .singleElement().extracting(OrderHit::score).isEqualTo(0.6);
+    }
+
+    @Test
+    void twoCharacterReceiverNameUsesPrefixMatch() {
+        // '박김철'은 부분 일치로만 맞으므로 2글자 검색에서는 제외
+        assertThat(searchService.search(tenantId, "김철", 10))
+                .extracting(OrderHit::orderId).containsExactly(exactId.getId());
+
+        assertThat(searchService.search(tenantId, "김철수", 10))
+                .extracting(OrderHit::orderId).containsExactly(exactId.getId());
+        assertThat(searchService.search(tenantId, "김", 10)).isEmpty();
+    }
+
+    @Test
+    void productNameSubstringIsRankedBySimilarity() {
+        List<OrderHit> hits = searchService.search(tenantId, "이어폰", 10);
+
+        assertThat(hits).extracting(OrderHit::orderId).containsExactlyInAnyOrder(exactId.getId(), longerId.getId());
+        assertThat(hits).allSatisfy(hit -> assertThat(hit.score()).isBetween(0.3, 0.7));
+        // '유선 이어폰'이 '무선 이어폰 블랙'보다 검색어와 유사
+        assertThat(hits.get(0).orderId()).isEqualTo(longerId.getId());
+        assertThat(hits.get(0).score()).isGreaterThan(hits.get(1).score());
+        assertThat(hits.get(0).score() - hits.get(1).score()).isNotCloseTo(0.0, within(1e-9));
+    }
+
+    @Test
+    void likeWildcardsInKeywordAreLiteral() {
+        assertThat(searchService.search(tenantId, "홍_", 10))
+                .extracting(OrderHit::orderId).containsExactly(underscoreName.getId());
+        assertThat(searchService.search(tenantId, "50%", 10))
+                .extracting(OrderHit::orderId).containsExactly(percentOption.getId());
+        assertThat(searchService.search(tenantId, "%%", 10)).isEmpty();
+
+        assertThat(orderRepository.findAll(OrderSpecifications.tenantIs(tenantId)
+                .and(OrderSpecifications.keywordContains("홍_"))))
+                .extracting(Order::getId).containsExactly(underscoreName.getId());
+        assertThat(orderRepository.findAll(OrderSpecifications.tenantIs(tenantId)
+                .and(OrderSpecifications.keywordContains("%")))).isEmpty();
+        assertThat(similarProduct.getId()).isNotNull();
+    }
+
+    @Test
+    void shortReceiverPrefixIsServedByIndex() {
+        // 테넌트 주문이 많아야 tenant_id 단독 인덱스보다 수령인 접두 인덱스가 싸짐 - 통계를 갱신한 뒤 실행 계획 확인
+        jdbcTemplate.update("""
+                INSERT INTO orders (tenant_id, marketplace_type, marketplace_order_id, status, receiver_name)
+                SELECT ?, 'NAVER', 'BULK-' || g, 'PAYMENT_COMPLETE', '수령인' || g
+                FROM generate_series(1, 5000) g
+                """, tenantId);
+        jdbcTemplate.execute("ANALYZE orders");
+
+        try {
+            String plan = String.join("\n", jdbcTemplate.queryForList(
+                    "EXPLAIN SELECT o.id FROM orders o WHERE o.tenant_id = ? AND o.receiver_name LIKE ?",
+                    String.class, tenantId, "김철%"));
+
+            // 빈 파티션은 비용 0인 순차 스캔이므로 주문이 쌓인 파티션이 접두 범위 조건으로 인덱스를 타는지만 확인
+            assertThat(plan).containsPattern("Index Cond: .*receiver_name\\)::text ~>=~ '김철'");
+        } finally {
+            jdbcTemplate.update("DELETE FROM orders WHERE tenant_id = ? AND marketplace_order_id LIKE 'BULK-%'", tenantId);
+        }
+    }
+
+    private Order save(Order order) {
+        return orderRepository.save(order);
+    }
+
+    private static Order order(UUID tenantId, String marketplaceOrderId, String receiverName, String buyerPhone,
+                               String productName, String optionName, int hoursAgo) {
+        Order order = Order.builder()
+                .tenantId(tenantId)
+                .marketplaceType(MarketplaceType.NAVER)
+                .marketplaceOrderId(marketplaceOrderId)
+                .status(OrderStatus.PAYMENT_COMPLETE)
+                .receiverName(receiverName)
+                .buyerPhone(buyerPhone)
+                .totalAmount(BigDecimal.TEN)
+                .orderedAt(LocalDateTime.now().minusHours(hoursAgo))
+                .build();
+        order.addItem(OrderItem.builder()
+                .tenantId(tenantId)
+                .productName(productName)
+                .optionName(optionName)
+                .quantity(1)
+                .unitPrice(BigDecimal.TEN)
+                .totalPrice(BigDecimal.TEN)
+                .build());
+        return order;
+    }
+}
@@ -0,0 +1,262 @@
+package com.mhub.core.service;
+
+import com.mhub.core.domain.entity.Order;
+import com.mhub.core.domain.enums.MarketplaceType;
+import com.mhub.core.domain.enums.OrderStatus;
+import com.mhub.core.domain.repository.OrderRepository;
+import com.mhub.support.PostgresIntegrationTest;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 일자 통계(order_daily_stats) 조회가 기존 orders 실시간 집계(OrderRepository 대시보드 쿼리)와 같은 값을 내는지 확인
+ * - 주문일 없는 주문, 여러 마켓/상태, 이번 달 이전 주문, 상태 변경(증감 반영)을 섞어 생성
+ */
+@Import(OrderStatsService.class)
+class OrderStatsServiceTest extends PostgresIntegrationTest {
+
+    private static final List<OrderStatus> PENDING_STATUSES = List.of(
+            OrderStatus.PAYMENT_COMPLETE, OrderStatus.PREPARING, OrderStatus.SHIPPING_READY);
+    private static final List<OrderStatus> EXCLUDE_FROM_REVENUE = List.of(OrderStatus.CANCELLED, OrderStatus.RETURNED);
+    private static final List<MarketplaceType> MARKETPLACES = List.of(
+            MarketplaceType.NAVER, MarketplaceType.COUPANG, MarketplaceType.GMARKET);
+
+    @Autowired
+    private OrderStatsService orderStatsService;
+
+    @Autowired
+    private OrderRepository orderRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private final Random random = new Random(20261016L);
+    private final LocalDate today = LocalDate.now();
+    private final LocalDate startOfMonth = today.withDayOfMonth(1);
+    private final List<UUID> tenants = new ArrayList<>();
+    private TransactionTemplate tx;
+
+    @BeforeEach
+    void setUp() {
+        tx = new TransactionTemplate(transactionManager);
+    }
+
+    @AfterEach
+    void tearDown() {
+        for (UUID tenantId : tenants) {
+            jdbcTemplate.update("DELETE FROM order_daily_stats WHERE tenant_id = ?", tenantId);
+            jdbcTemplate.update("DELETE FROM orders WHERE tenant_id = ?", tenantId);
+        }
+    }
+
+    @Test
+    void incrementalStatsMatchLiveAggregates() {
+        UUID tenantId = newTenant();
+        List<Order> orders = ingestRandomOrders(tenantId, 400);
+        changeRandomStatuses(orders, 150);
+
+        assertMatchesLiveAggregates(tenantId);
+    }
+
+    @Test
+    void rebuildProducesSameStatsAsIncrementalUpdates() {
+        UUID tenantId = newTenant();
+        List<Order> orders = ingestRandomOrders(tenantId, 300);
+        changeRandomStatuses(orders, 100);
+        List<Map<String, Object>> incremental = nonZeroStats(tenantId);
+
+        orderStatsService.rebuild(tenantId);
+
+        assertThat(nonZeroStats(tenantId)).isEqualTo(incremental);
+        assertMatchesLiveAggregates(tenantId);
+    }
+
+    @Test
+    void rebuildRepairsDriftFromWritesOutsideStats() {
+        UUID tenantId = newTenant();
+        ingestRandomOrders(tenantId, 200);
+        // 통계 반영 경로를 거치지 않은 변경
+        jdbcTemplate.update("UPDATE orders SET status = 'CANCELLED' WHERE tenant_id = ? AND marketplace_type = 'NAVER'",
+                tenantId);
+        jdbcTemplate.update("DELETE FROM orders WHERE tenant_id = ? AND marketplace_type = 'GMARKET'", tenantId);
+
+        orderStatsService.rebuild(tenantId);
+
+        assertMatchesLiveAggregates(tenantId);
+    }
+
+    @Test
+    void rebuildWaitsForSameTenantWritersButNotOtherTenants() throws Exception {
+        UUID tenantId = newTenant();
+        UUID otherTenantId = newTenant();
+        List<Order> orders = ingestRandomOrders(tenantId, 50);
+        Order changed = orders.get(0);
+        OrderStatus from = changed.getStatus();
+        OrderStatus to = from == OrderStatus.DELIVERED ? OrderStatus.PURCHASE_CONFIRMED : OrderStatus.DELIVERED;
+
+        CountDownLatch writerHolding = new CountDownLatch(1);
+        CountDownLatch releaseWriter = new CountDownLatch(1);
+        try (ExecutorService executor = Executors.newFixedThreadPool(3)) {
+            // 상태 변경 트랜잭션이 커밋되지 않은 채로 통계 잠금(공유)을 잡고 있음
+            Future<?> writer = executor.submit(() -> tx.executeWithoutResult(status -> {
+                changed.setStatus(to);
+                orderRepository.save(changed);
+                orderStatsService.recordStatusChange(changed, from, to);
+                writerHolding.countDown();
+                await(releaseWriter);
+            }));
+            assertThat(writerHolding.await(10, TimeUnit.SECONDS)).isTrue();
+
+            Future<?> rebuild = executor.submit(() -> orderStatsService.rebuild(tenantId));
+            assertThatThrownBy(() -> rebuild.get(500, TimeUnit.MILLISECONDS)).isInstanceOf(TimeoutException.class);
+
+            // 다른 테넌트의 반영은 막히지 않음
+            executor.submit(() -> ingestRandomOrders(otherTenantId, 20)).get(5, TimeUnit.SECONDS);
+
+            releaseWriter.countDown();
+            writer.get(10, TimeUnit.SECONDS);
+            rebuild.get(10, TimeUnit.SECONDS);
+        }
+
+        assertMatchesLiveAggregates(tenantId);
+        assertMatchesLiveAggregates(otherTenantId);
+    }
+
+    private void assertMatchesLiveAggregates(UUID tenantId) {
+        OrderStatsService.OrderStatsSummary summary = orderStatsService.getSummary(
+                tenantId, today, startOfMonth, PENDING_STATUSES, EXCLUDE_FROM_REVENUE);
+
+        assertThat(summary.totalOrders()).isEqualTo(liveTotalOrders(tenantId));
+        assertThat(summary.todayOrders()).isEqualTo(orderRepository.countTodayOrders(tenantId, today.atStartOfDay()));
+        assertThat(summary.pendingOrders()).isEqualTo(orderRepository.countPendingOrders(tenantId, PENDING_STATUSES));
+        assertThat(summary.monthlyRevenue()).isEqualTo(
+                orderRepository.sumMonthlyRevenue(tenantId, startOfMonth.atStartOfDay(), EXCLUDE_FROM_REVENUE));
+
+        Map<MarketplaceType, Long> liveByMarketplace = new EnumMap<>(MarketplaceType.class);
+        for (Object[] row : orderRepository.countOrdersByMarketplace(tenantId, startOfMonth.atStartOfDay())) {
+            liveByMarketplace.put((MarketplaceType) row[0], (Long) row[1]);
+        }
+        assertThat(orderStatsService.countByMarketplace(tenantId, startOfMonth))
+                .containsExactlyInAnyOrderEntriesOf(liveByMarketplace);
+
+        LocalDate since = today.minusDays(7);
+        Map<OrderStatus, Long> liveByStatus = new EnumMap<>(OrderStatus.class);
+        for (Object[] row : orderRepository.countOrdersByStatus(tenantId, since.atStartOfDay())) {
+            liveByStatus.put((OrderStatus) row[0], (Long) row[1]);
+        }
+        assertThat(orderStatsService.countByStatus(tenantId, since)).containsExactlyInAnyOrderEntriesOf(liveByStatus);
+
+        LocalDate from = today.minusDays(20);
+        assertThat(orderStatsService.countOrders(tenantId, PENDING_STATUSES, MarketplaceType.COUPANG, from, today))
+                .isEqualTo(jdbcTemplate.queryForObject(
+                        "SELECT COUNT(*) FROM orders WHERE tenant_id = ? AND status IN ('PAYMENT_COMPLETE', 'PREPARING', 'SHIPPING_READY') " +
+                        "AND marketplace_type = 'COUPANG' AND ordered_at::date BETWEEN ? AND ?",
+                        Long.class, tenantId, from, today));
+        assertThat(orderStatsService.countOrders(tenantId, null, null, null, null))
+                .isEqualTo(liveTotalOrders(tenantId));
+    }
+
+    private long liveTotalOrders(UUID tenantId) {
+        return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM orders WHERE tenant_id = ?", Long.class, tenantId);
+    }
+
+    private UUID newTenant() {
+        UUID tenantId = UUID.randomUUID();
+        tenants.add(tenantId);
+        return tenantId;
+    }
+
+    /**
+     * 주문 저장과 통계 반영을 같은 트랜잭션에서 수행 (OrderIngestionService와 같은 방식)
+     */
+    private List<Order> ingestRandomOrders(UUID tenantId, int count) {
+        List<Order> orders = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            orders.add(randomOrder(tenantId, i));
+        }
+        return tx.execute(status -> {
+            List<Order> saved = new ArrayList<>();
+            for (MarketplaceType mkt : MARKETPLACES) {
+                List<Order> batch = orderRepository.saveAll(
+                        orders.stream().filter(o -> o.getMarketplaceType() == mkt).toList());
+                orderStatsService.recordCollected(tenantId, mkt, batch);
+                saved.addAll(batch);
+            }
+            return saved;
+        });
+    }
+
+    private void changeRandomStatuses(List<Order> orders, int changes) {
+        OrderStatus[] statuses = OrderStatus.values();
+        for (int i = 0; i < changes; i++) {
+            Order order = orders.get(random.nextInt(orders.size()));
+            OrderStatus from = order.getStatus();
+            OrderStatus to = statuses[random.nextInt(statuses.length)];
+            tx.executeWithoutResult(status -> {
+                order.setStatus(to);
+                orderRepository.save(order);
+                orderStatsService.recordStatusChange(order, from, to);
+            });
+        }
+    }
+
+    private Order randomOrder(UUID tenantId, int index) {
+        // 10%는 주문일 없음, 나머지는 최근 60일 (이번 달 이전 포함)
+        LocalDateTime orderedAt = random.nextInt(10) == 0 ? null
+                : today.minusDays(random.nextInt(60)).atTime(random.nextInt(24), random.nextInt(60));
+        OrderStatus[] statuses = OrderStatus.values();
+        return Order.builder()
+                .tenantId(tenantId)
+                .marketplaceType(MARKETPLACES.get(random.nextInt(MARKETPLACES.size())))
+                .marketplaceOrderId("STATS-" + index)
+                .marketplaceProductOrderId("STATS-" + index + "-1")
+                .status(statuses[random.nextInt(statuses.length)])
+                .receiverName("수령인")
+                .totalAmount(random.nextInt(8) == 0 ? null : BigDecimal.valueOf(1_000L * (1 + random.nextInt(200))))
+                .orderedAt(orderedAt)
+                .build();
+    }
+
+    private List<Map<String, Object>> nonZeroStats(UUID tenantId) {
+        return jdbcTemplate.queryForList(
+                "SELECT order_date::text AS order_date, marketplace_type, status, order_count, total_amount " +
+                "FROM order_daily_stats WHERE tenant_id = ? AND order_count <> 0 " +
+                "ORDER BY order_date, marketplace_type, status", tenantId);
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(10, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
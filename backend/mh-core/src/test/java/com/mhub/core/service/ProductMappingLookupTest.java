@@ -0,0 +1,234 @@
+package com.mhub.core.service;
+
+import com.mhub.core.domain.entity.Order;
+import com.mhub.core.domain.entity.OrderItem;
+import com.mhub.core.domain.entity.ProductMapping;
+import com.mhub.core.domain.enums.MarketplaceType;
+import com.mhub.core.domain.enums.OrderStatus;
+import com.mhub.core.domain.repository.ProductMappingRepository;
+import com.mhub.support.PostgresIntegrationTest;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.AdditionalAnswers.delegatesTo;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.clearInvocations;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+/**
+ * 주문 응답용 매핑 조회가 페이지에 나온 (마켓, 상품ID)의 매핑만 "상품ID:SKU" 형식으로 돌려주는지와 캐시 동작 확인
+ * - 저장소는 실제 저장소에 위임하는 목으로 감싸 IN 조회 횟수와 조회한 상품ID를 검증
+ * - 캐시: 매핑 없는 상품도 캐시, 트랜잭션 안의 무효화는 커밋 후에만 반영, 롤백 시 유지
+ */
+class ProductMappingLookupTest extends PostgresIntegrationTest {
+
+    @Autowired
+    private ProductMappingRepository productMappingRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private ProductMappingRepository repository;
+    private UUID tenantId;
+    private UUID otherTenantId;
+
+    @BeforeEach
+    void setUp() {
+        tenantId = UUID.randomUUID();
+        otherTenantId = UUID.randomUUID();
+        repository = mock(ProductMappingRepository.class, delegatesTo(productMappingRepository));
+
+        saveMapping(tenantId, MarketplaceType.NAVER, "P1", "S1", "PROD-P1-S1");
+        saveMapping(tenantId, MarketplaceType.NAVER, "P1", null, "PROD-P1");
+        saveMapping(tenantId, MarketplaceType.NAVER, "P2", null, null);
+        saveMapping(tenantId, MarketplaceType.NAVER, "P9", null, "PROD-P9");
+        saveMapping(tenantId, MarketplaceType.COUPANG, "P1", "C1", "PROD-C-P1");
+        saveMapping(otherTenantId, MarketplaceType.NAVER, "P1", "S1", "OTHER-P1-S1");
+    }
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.update("DELETE FROM product_mapping WHERE tenant_id IN (?, ?)", tenantId, otherTenantId);
+    }
+
+    @Test
+    void pageLookupReturnsOnlyMappingsOfProductsOnPage() {
+        ProductMappingLookup lookup = lookup(false);
+        List<Order> page = List.of(
+                order(MarketplaceType.NAVER, "P1", "P2", "P3"),
+                order(MarketplaceType.COUPANG, "P5"),
+                order(MarketplaceType.ELEVEN_ST));
+
+        Map<MarketplaceType, Map<String, ProductMapping>> result = lookup.lookup(tenantId, page);
+
+        assertThat(result.keySet()).containsExactlyInAnyOrder(
+                MarketplaceType.NAVER, MarketplaceType.COUPANG, MarketplaceType.ELEVEN_ST);
+        // P9는 페이지에 없고, 쿠팡 P1은 쿠팡 주문에 없으며, 다른 테넌트 매핑은 제외
+        assertThat(result.get(MarketplaceType.NAVER)).containsOnlyKeys("P1:S1", "P1:", "P2:");
+        assertThat(result.get(MarketplaceType.NAVER).get("P1:S1").getErpProdCd()).isEqualTo("PROD-P1-S1");
+        assertThat(result.get(MarketplaceType.NAVER).get("P2:").getErpProdCd()).isNull();
+        assertThat(result.get(MarketplaceType.COUPANG)).isEmpty();
+        assertThat(result.get(MarketplaceType.ELEVEN_ST)).isEmpty();
+        verify(repository, times(1)).findByTenantIdAndMarketplaceProductIdIn(eq(tenantId), anyCollection());
+    }
+
+    @Test
+    void largePageIsLookedUpInChunks() {
+        ProductMappingLookup lookup = lookup(false);
+        List<String> productIds = new ArrayList<>();
+        for (int i = 0; i < 2_500; i++) {
+            productIds.add("BULK-" + i);
+        }
+        saveMapping(tenantId, MarketplaceType.NAVER, "BULK-2400", null, "PROD-BULK");
+
+        Map<MarketplaceType, Map<String, ProductMapping>> result =
+                lookup.lookup(tenantId, List.of(order(MarketplaceType.NAVER, productIds.toArray(String[]::new))));
+
+        assertThat(result.get(MarketplaceType.NAVER)).containsOnlyKeys("BULK-2400:");
+        verify(repository, times(3)).findByTenantIdAndMarketplaceProductIdIn(eq(tenantId), anyCollection());
+    }
+
+    @Test
+    void disabledCacheQueriesEveryTime() {
+        ProductMappingLookup lookup = lookup(false);
+        List<Order> page = List.of(order(MarketplaceType.NAVER, "P1"));
+
+        lookup.lookup(tenantId, page);
+        lookup.invalidate(tenantId);
+        lookup.lookup(tenantId, page);
+
+        verify(repository, times(2)).findByTenantIdAndMarketplaceProductIdIn(eq(tenantId), anyCollection());
+    }
+
+    @Test
+    void cacheServesMappedAndUnmappedProductsAndQueriesOnlyMisses() {
+        ProductMappingLookup lookup = lookup(true);
+        Map<MarketplaceType, Map<String, ProductMapping>> first =
+                lookup.lookup(tenantId, List.of(order(MarketplaceType.NAVER, "P1", "P3")));
+        clearInvocations(repository);
+
+        // P3는 매핑이 없지만 캐시되어 다시 조회하지 않음
+        Map<MarketplaceType, Map<String, ProductMapping>> cached =
+                lookup.lookup(tenantId, List.of(order(MarketplaceType.NAVER, "P1", "P3")));
+        assertThat(cached.get(MarketplaceType.NAVER)).containsOnlyKeys(first.get(MarketplaceType.NAVER).keySet());
+        verify(repository, never()).findByTenantIdAndMarketplaceProductIdIn(any(), anyCollection());
+
+        Map<MarketplaceType, Map<String, ProductMapping>> withMiss =
+                lookup.lookup(tenantId, List.of(order(MarketplaceType.NAVER, "P1", "P3", "P2")));
+        assertThat(withMiss.get(MarketplaceType.NAVER)).containsOnlyKeys("P1:S1", "P1:", "P2:");
+        verify(repository, times(1)).findByTenantIdAndMarketplaceProductIdIn(eq(tenantId),
+                argThat((Collection<String> ids) -> ids.size() == 1 && ids.contains("P2")));
+
+        // 캐시는 테넌트별
+        clearInvocations(repository);
+        Map<MarketplaceType, Map<String, ProductMapping>> other =
+                lookup.lookup(otherTenantId, List.of(order(MarketplaceType.NAVER, "P1")));
+        assertThat(other.get(MarketplaceType.NAVER).get("P1:S1").getErpProdCd()).isEqualTo("OTHER-P1-S1");
+        verify(repository, times(1)).findByTenantIdAndMarketplaceProductIdIn(eq(otherTenantId), anyCollection());
+    }
+
+    @Test
+    void invalidationInsideTransactionAppliesAfterCommit() {
+        ProductMappingLookup lookup = lookup(true);
+        List<Order> page = List.of(order(MarketplaceType.NAVER, "P3"));
+        assertThat(lookup.lookup(tenantId, page).get(MarketplaceType.NAVER)).isEmpty();
+
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            saveMapping(tenantId, MarketplaceType.NAVER, "P3", null, "PROD-P3");
+            lookup.invalidate(tenantId);
+            // 커밋 전에는 기존 캐시(매핑 없음)가 유지되어 커밋 전 데이터가 캐시되지 않음
+            clearInvocations(repository);
+            assertThat(lookup.lookup(tenantId, page).get(MarketplaceType.NAVER)).isEmpty();
+            verify(repository, never()).findByTenantIdAndMarketplaceProductIdIn(any(), anyCollection());
+        });
+
+        assertThat(lookup.lookup(tenantId, page).get(MarketplaceType.NAVER)).containsOnlyKeys("P3:");
+        verify(repository, times(1)).findByTenantIdAndMarketplaceProductIdIn(eq(tenantId), anyCollection());
+    }
+
+    @Test
+    void invalidationInRolledBackTransactionKeepsCache() {
+        ProductMappingLookup lookup = lookup(true);
+        List<Order> page = List.of(order(MarketplaceType.NAVER, "P1"));
+        lookup.lookup(tenantId, page);
+
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            lookup.invalidate(tenantId);
+            status.setRollbackOnly();
+        });
+        clearInvocations(repository);
+
+        assertThat(lookup.lookup(tenantId, page).get(MarketplaceType.NAVER)).containsOnlyKeys("P1:S1", "P1:");
+        verify(repository, never()).findByTenantIdAndMarketplaceProductIdIn(any(), anyCollection());
+    }
+
+    @Test
+    void expiredEntriesAreLookedUpAgain() {
+        ProductMappingLookup lookup = new ProductMappingLookup(repository,
+                new ProductMappingLookupProperties(true, Duration.ZERO, 10_000));
+        List<Order> page = List.of(order(MarketplaceType.NAVER, "P1"));
+
+        lookup.lookup(tenantId, page);
+        lookup.lookup(tenantId, page);
+
+        verify(repository, times(2)).findByTenantIdAndMarketplaceProductIdIn(eq(tenantId), anyCollection());
+    }
+
+    private ProductMappingLookup lookup(boolean cacheEnabled) {
+        return new ProductMappingLookup(repository,
+                new ProductMappingLookupProperties(cacheEnabled, Duration.ofMinutes(5), 10_000));
+    }
+
+    private void saveMapping(UUID tenant, MarketplaceType marketplaceType, String productId, String sku, String erpProdCd) {
+        productMappingRepository.save(ProductMapping.builder()
+                .tenantId(tenant)
+                .marketplaceType(marketplaceType)
+                .marketplaceProductId(productId)
+                .marketplaceSku(sku)
+                .erpProdCd(erpProdCd)
+                .build());
+    }
+
+    private Order order(MarketplaceType marketplaceType, String... productIds) {
+        Order order = Order.builder()
+                .tenantId(tenantId)
+                .marketplaceType(marketplaceType)
+                .marketplaceOrderId(UUID.randomUUID().toString())
+                .status(OrderStatus.PAYMENT_COMPLETE)
+                .build();
+        for (String productId : productIds) {
+            order.addItem(OrderItem.builder()
+                    .tenantId(tenantId)
+                    .productName(productId)
+                    .quantity(1)
+                    .unitPrice(BigDecimal.TEN)
+                    .totalPrice(BigDecimal.TEN)
+                    .marketplaceProductId(productId)
+                    .build());
+        }
+        return order;
+    }
+}
@@ -0,0 +1,215 @@
+package com.mhub.core.service;
+
+import com.mhub.core.domain.entity.Order;
+import com.mhub.core.domain.entity.OrderItem;
+import com.mhub.core.domain.entity.ProductMapping;
+import com.mhub.core.domain.enums.MarketplaceType;
+import com.mhub.core.domain.enums.OrderStatus;
+import com.mhub.core.domain.repository.ProductMappingRepository;
+import com.mhub.support.PostgresIntegrationTest;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 주문 수집용 일괄 자동 매핑(메모리 인덱스)이 기존 방식(주문마다 findMappingIncludingUnmapped로 항목별 조회)과 같은 결과를 내는지 확인
+ * - 같은 상품/주문 데이터를 두 테넌트에 만들고, 한쪽은 목록 한 번에, 다른 쪽은 주문 하나씩 적용해 비교
+ * - 생성 데이터: SKU 매핑 + 상품 레벨 매핑, 미매핑 상태 매핑, 매핑 없는 상품, 상품ID 없는 항목, 같은 배치 안의 신규 상품 반복
+ */
+@Import(ProductMappingService.class)
+class ProductMappingServiceTest extends PostgresIntegrationTest {
+
+    private static final MarketplaceType MKT = MarketplaceType.NAVER;
+    private static final int PRODUCT_COUNT = 80;
+
+    @Autowired
+    private ProductMappingService productMappingService;
+
+    @Autowired
+    private ProductMappingRepository productMappingRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @MockBean
+    private CoupangCommissionRateService coupangCommissionRateService;
+
+    @MockBean
+    private ProductMappingLookup productMappingLookup;
+
+    private final List<UUID> tenants = new ArrayList<>();
+
+    @AfterEach
+    void tearDown() {
+        for (UUID tenantId : tenants) {
+            jdbcTemplate.update("DELETE FROM product_mapping WHERE tenant_id = ?", tenantId);
+        }
+    }
+
+    @Test
+    void batchMappingMatchesPerOrderMapping() {
+        UUID batchTenant = newTenant();
+        UUID perOrderTenant = newTenant();
+        generateMappings(batchTenant, new Random(7));
+        generateMappings(perOrderTenant, new Random(7));
+
+        List<Order> batchOrders = generateOrders(batchTenant, new Random(11), 250);
+        List<Order> perOrderOrders = generateOrders(perOrderTenant, new Random(11), 250);
+
+        // 적용 전 상태 기준 기존 단계별 조회 결과
+        List<String> expectedProdCds = new ArrayList<>();
+        for (Order order : perOrderOrders) {
+            for (OrderItem item : order.getItems()) {
+                expectedProdCds.add(productMappingService.findMapping(perOrderTenant, MKT,
+                        item.getMarketplaceProductId(), item.getMarketplaceSku())
+                        .map(ProductMapping::getErpProdCd).orElse(null));
+            }
+        }
+
+        int batchMapped = productMappingService.applyAutoMapping(batchOrders, batchTenant, MKT);
+        int perOrderMapped = 0;
+        for (Order order : perOrderOrders) {
+            perOrderMapped += productMappingService.applyAutoMapping(order, perOrderTenant, MKT);
+        }
+
+        assertThat(batchMapped).isEqualTo(perOrderMapped).isPositive();
+        assertThat(itemProdCds(batchOrders)).isEqualTo(expectedProdCds);
+        assertThat(itemProdCds(perOrderOrders)).isEqualTo(expectedProdCds);
+        assertThat(mappingRows(batchTenant)).isEqualTo(mappingRows(perOrderTenant));
+    }
+
+    @Test
+    void batchResolvesMappingsBeyondOneLookupChunk() {
+        UUID tenantId = newTenant();
+        int products = 2_100;
+        List<ProductMapping> mappings = new ArrayList<>();
+        for (int i = 0; i < products; i++) {
+            mappings.add(mapping(tenantId, "CH-" + i, null, "ERP-" + i));
+        }
+        productMappingRepository.saveAll(mappings);
+
+        List<Order> orders = new ArrayList<>();
+        for (int i = 0; i < products; i++) {
+            orders.add(order(tenantId, List.of(item(tenantId, "CH-" + i, "SKU-" + i, "상품 " + i))));
+        }
+
+        assertThat(productMappingService.applyAutoMapping(orders, tenantId, MKT)).isEqualTo(products);
+        for (int i = 0; i < products; i++) {
+            assertThat(orders.get(i).getItems().get(0).getErpProdCd()).isEqualTo("ERP-" + i);
+        }
+        // 상품명이 바뀐 기존 매핑만 갱신되고 새 매핑은 만들지 않음
+        assertThat(mappingRows(tenantId)).hasSize(products);
+    }
+
+    private UUID newTenant() {
+        UUID tenantId = UUID.randomUUID();
+        tenants.add(tenantId);
+        return tenantId;
+    }
+
+    /**
+     * 상품마다 매핑 형태를 무작위로 선택: 없음 / 상품 레벨 / SKU만 / SKU + 상품 레벨, 일부는 미매핑(erp_prod_cd 없음)
+     */
+    private void generateMappings(UUID tenantId, Random random) {
+        List<ProductMapping> mappings = new ArrayList<>();
+        for (int p = 0; p < PRODUCT_COUNT; p++) {
+            String productId = "P-" + p;
+            int shape = random.nextInt(4);
+            if (shape == 1 || shape == 3) {
+                mappings.add(mapping(tenantId, productId, null, random.nextInt(5) == 0 ? null : "ERP-" + p));
+            }
+            if (shape == 2 || shape == 3) {
+                for (int s = 0; s < 2; s++) {
+                    mappings.add(mapping(tenantId, productId, "S" + s,
+                            random.nextInt(5) == 0 ? null : "ERP-" + p + "-S" + s));
+                }
+            }
+        }
+        productMappingRepository.saveAll(mappings);
+    }
+
+    private List<Order> generateOrders(UUID tenantId, Random random, int count) {
+        List<Order> orders = new ArrayList<>();
+        for (int o = 0; o < count; o++) {
+            List<OrderItem> items = new ArrayList<>();
+            int itemCount = 1 + random.nextInt(3);
+            for (int i = 0; i < itemCount; i++) {
+                // 매핑이 없는 상품(P-80 이후)과 상품ID 없는 항목 포함
+                String productId = random.nextInt(20) == 0 ? null : "P-" + random.nextInt(PRODUCT_COUNT + 20);
+                String sku = switch (random.nextInt(4)) {
+                    case 0 -> null;
+                    case 1 -> "S0";
+                    case 2 -> "S1";
+                    default -> "S9";
+                };
+                items.add(item(tenantId, productId, sku, "상품 " + random.nextInt(3)));
+            }
+            orders.add(order(tenantId, items));
+        }
+        return orders;
+    }
+
+    private ProductMapping mapping(UUID tenantId, String productId, String sku, String erpProdCd) {
+        return ProductMapping.builder()
+                .tenantId(tenantId)
+                .marketplaceType(MKT)
+                .marketplaceProductId(productId)
+                .marketplaceSku(sku)
+                .marketplaceProductName("기존 상품명")
+                .erpProdCd(erpProdCd)
+                .erpWhCd(erpProdCd != null ? "100" : null)
+                .autoCreated(false)
+                .useCount(0)
+                .build();
+    }
+
+    private Order order(UUID tenantId, List<OrderItem> items) {
+        Order order = Order.builder()
+                .tenantId(tenantId)
+                .marketplaceType(MKT)
+                .marketplaceOrderId(UUID.randomUUID().toString())
+                .status(OrderStatus.PAYMENT_COMPLETE)
+                .items(new ArrayList<>())
+                .build();
+        items.forEach(order::addItem);
+        return order;
+    }
+
+    private OrderItem item(UUID tenantId, String productId, String sku, String productName) {
+        return OrderItem.builder()
+                .tenantId(tenantId)
+                .productName(productName)
+                .quantity(1)
+                .unitPrice(BigDecimal.TEN)
+                .totalPrice(BigDecimal.TEN)
+                .marketplaceProductId(productId)
+                .marketplaceSku(sku)
+                .build();
+    }
+
+    private static List<String> itemProdCds(List<Order> orders) {
+        return orders.stream()
+                .flatMap(order -> order.getItems().stream())
+                .map(OrderItem::getErpProdCd)
+                .toList();
+    }
+
+    private List<Map<String, Object>> mappingRows(UUID tenantId) {
+        return jdbcTemplate.queryForList(
+                "SELECT marketplace_product_id, marketplace_sku, marketplace_product_name, erp_prod_cd, " +
+                "auto_created, use_count FROM product_mapping WHERE tenant_id = ? " +
+                "ORDER BY marketplace_product_id, COALESCE(marketplace_sku, '')", tenantId);
+    }
+}
@@ -0,0 +1,211 @@
+package com.mhub.core.service;
+
+import com.mhub.core.domain.enums.MarketplaceType;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.testcontainers.DockerClientFactory;
+import org.testcontainers.containers.GenericContainer;
+
+import java.net.URI;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * Redis 토큰 버킷 통합 테스트
+ * - MHUB_TEST_REDIS_URL(redis://host:port)이 있으면 그 Redis를 사용, 없으면 Testcontainers로 Redis를 띄움
+ *   (Docker도 없으면 건너뜀)
+ * - 호출 수 상한은 버스트 + 초당 한도 × 측정 시간, 하한은 초당 한도 × 측정 시간으로 확인
+ */
+class RateLimitServiceTest {
+
+    private static final Duration WINDOW = Duration.ofSeconds(3);
+
+    private static final URI REDIS = resolveRedis();
+    private static LettuceConnectionFactory connectionFactory;
+    private static StringRedisTemplate redisTemplate;
+
+    private RateLimitService rateLimitService;
+
+    @BeforeAll
+    static void connect() {
+        assumeTrue(REDIS != null, "MHUB_TEST_REDIS_URL is not set and Docker is not available");
+        connectionFactory = new LettuceConnectionFactory(new RedisStandaloneConfiguration(REDIS.getHost(), REDIS.getPort()));
+        connectionFactory.afterPropertiesSet();
+        connectionFactory.start();
+        redisTemplate = new StringRedisTemplate(connectionFactory);
+    }
+
+    @AfterAll
+    static void disconnect() {
+        // Redis가 없어 건너뛰면 connect가 실행되지 않음
+        if (connectionFactory != null) {
+            connectionFactory.destroy();
+        }
+    }
+
+    @BeforeEach
+    void setUp() {
+        // 전역 버킷은 마켓플레이스별로 하나이므로 테스트마다 가득 찬 상태에서 시작
+        redisTemplate.delete(List.of("ratelimit:global:NAVER", "ratelimit:global:COUPANG"));
+        rateLimitService = new RateLimitService(redisTemplate);
+    }
+
+    @Test
+    void naverCallsAcrossTenantsStayUnderGlobalLimit() throws Exception {
+        // 테넌트 5곳 × 2스레드 - 테넌트 한도(2/s) 합계 10/s가 전역 한도 5/s를 넘음
+        int acquired = acquireDuringWindow(MarketplaceType.NAVER, tenants(5), 2);
+
+        assertThat(acquired).isBetween(5 * 3, 5 + 5 * 3 + 1);
+    }
+
+    @Test
+    void coupangCallsAcrossTenantsStayUnderGlobalLimit() throws Exception {
+        // 테넌트 5곳 × 2스레드 - 테넌트 한도(4/s) 합계 20/s가 전역 한도 10/s를 넘음
+        int acquired = acquireDuringWindow(MarketplaceType.COUPANG, tenants(5), 2);
+
+        assertThat(acquired).isBetween(10 * 3, 10 + 10 * 3 + 1);
+    }
+
+    @Test
+    void busyTenantDoesNotStarveOtherTenant() throws Exception {
+        UUID busyTenant = UUID.randomUUID();
+        UUID busyCredential = UUID.randomUUID();
+        UUID quietTenant = UUID.randomUUID();
+        UUID quietCredential = UUID.randomUUID();
+        AtomicInteger busy = new AtomicInteger();
+        AtomicInteger quiet = new AtomicInteger();
+
+        long deadline = System.currentTimeMillis() + WINDOW.toMillis();
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < 8; i++) {
+                executor.submit(() -> acquireUntil(deadline, MarketplaceType.NAVER, busyTenant, busyCredential, busy));
+            }
+            executor.submit(() -> acquireUntil(deadline, MarketplaceType.NAVER, quietTenant, quietCredential, quiet));
+        }
+
+        // 바쁜 테넌트는 자기 테넌트 한도(버스트 4 + 2/s)에서 막히고, 남은 전역 한도로 조용한 테넌트도 자기 한도만큼 호출
+        assertThat(busy.get()).isLessThanOrEqualTo(4 + 2 * 3 + 1);
+        assertThat(quiet.get()).isGreaterThanOrEqualTo(2 * 3);
+    }
+
+    @Test
+    void concurrentThrottleReportsEachHalveTheRate() throws Exception {
+        // 같은 인증정보로 동시에 두 번 429 - 원자적이지 않으면 둘 다 1을 읽어 0.5가 될 수 있음
+        for (int round = 0; round < 20; round++) {
+            UUID credentialId = UUID.randomUUID();
+            CountDownLatch start = new CountDownLatch(1);
+            try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+                for (int i = 0; i < 2; i++) {
+                    executor.submit(() -> {
+                        start.await();
+                        rateLimitService.reportThrottled(MarketplaceType.NAVER, credentialId, Duration.ofMillis(100));
+                        return null;
+                    });
+                }
+                start.countDown();
+            }
+
+            assertThat(redisTemplate.opsForValue().get("ratelimit:NAVER:credential:" + credentialId + ":factor"))
+                    .isEqualTo("0.25");
+        }
+    }
+
+    @Test
+    void throttleFactorStopsAtMinimumAndKeepsLongerBlock() {
+        UUID credentialId = UUID.randomUUID();
+        String blockedKey = "ratelimit:COUPANG:credential:" + credentialId + ":blocked-until";
+
+        rateLimitService.reportThrottled(MarketplaceType.COUPANG, credentialId, Duration.ofSeconds(30));
+        long blockedUntil = Long.parseLong(redisTemplate.opsForValue().get(blockedKey));
+        for (int i = 0; i < 5; i++) {
+            rateLimitService.reportThrottled(MarketplaceType.COUPANG, credentialId, Duration.ofMillis(10));
+        }
+
+        // 짧은 Retry-After가 이미 걸린 긴 차단을 앞당기지 않음
+        assertThat(Long.parseLong(redisTemplate.opsForValue().get(blockedKey))).isEqualTo(blockedUntil);
+        assertThat(redisTemplate.opsForValue().get("ratelimit:COUPANG:credential:" + credentialId + ":factor"))
+                .isEqualTo("0.125");
+        assertThat(redisTemplate.getExpire(blockedKey)).isBetween(29L, 31L);
+    }
+
+    @Test
+    void throttledCredentialWaitsForRetryAfter() {
+        UUID tenantId = UUID.randomUUID();
+        UUID credentialId = UUID.randomUUID();
+
+        rateLimitService.reportThrottled(MarketplaceType.NAVER, credentialId, Duration.ofMillis(800));
+        long start = System.nanoTime();
+        rateLimitService.acquire(MarketplaceType.NAVER, tenantId, credentialId);
+
+        assertThat(Duration.ofNanos(System.nanoTime() - start)).isGreaterThanOrEqualTo(Duration.ofMillis(700));
+    }
+
+    private int acquireDuringWindow(MarketplaceType marketplaceType, List<UUID> tenants, int threadsPerTenant)
+            throws Exception {
+        AtomicInteger acquired = new AtomicInteger();
+        long deadline = System.currentTimeMillis() + WINDOW.toMillis();
+        List<Future<?>> workers = new ArrayList<>();
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (UUID tenantId : tenants) {
+                UUID credentialId = UUID.randomUUID();
+                for (int i = 0; i < threadsPerTenant; i++) {
+                    workers.add(executor.submit(() -> acquireUntil(deadline, marketplaceType, tenantId, credentialId, acquired)));
+                }
+            }
+        }
+        for (Future<?> worker : workers) {
+            worker.get();
+        }
+        return acquired.get();
+    }
+
+    /**
+     * 마감 전까지 토큰을 계속 획득 - 마감 후에 끝난 대기는 세지 않음
+     */
+    private void acquireUntil(long deadline, MarketplaceType marketplaceType, UUID tenantId, UUID credentialId,
+                              AtomicInteger acquired) {
+        while (System.currentTimeMillis() < deadline) {
+            rateLimitService.acquire(marketplaceType, tenantId, credentialId);
+            if (System.currentTimeMillis() < deadline) {
+                acquired.incrementAndGet();
+            }
+        }
+    }
+
+    private static List<UUID> tenants(int count) {
+        List<UUID> tenants = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            tenants.add(UUID.randomUUID());
+        }
+        return tenants;
+    }
+
+    private static URI resolveRedis() {
+        String url = System.getenv("MHUB_TEST_REDIS_URL");
+        if (url != null && !url.isBlank()) {
+            return URI.create(url);
+        }
+        if (!DockerClientFactory.instance().isDockerAvailable()) {
+            return null;
+        }
+        // 컨테이너는 JVM 종료 시 Testcontainers(Ryuk)가 정리
+        GenericContainer<?> container = new GenericContainer<>("redis:7-alpine").withExposedPorts(6379);
+        container.start();
+        return URI.create("redis://" + container.getHost() + ":" + container.getMappedPort(6379));
+    }
+}
@@ -0,0 +1,68 @@
+package com.mhub.support;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.ContextConfiguration;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.testcontainers.DockerClientFactory;
+import org.testcontainers.containers.PostgreSQLContainer;
+
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * PostgreSQL 통합 테스트 기반 클래스
+ * - MHUB_TEST_JDBC_URL이 있으면 그 DB를 사용 (MHUB_TEST_DB_USERNAME / MHUB_TEST_DB_PASSWORD, 기본 postgres / 빈 값)
+ * - 없으면 Testcontainers로 PostgreSQL 컨테이너를 한 번 띄워 모든 테스트가 공유 (Docker가 없으면 테스트 건너뜀)
+ * - 스키마는 Flyway 마이그레이션으로 만들고, 테스트는 테넌트를 새로 만들어 서로의 데이터와 섞이지 않게 함
+ * - 동시성 검증을 위해 테스트 메서드를 트랜잭션으로 감싸지 않음 (각 서비스 호출이 실제로 커밋됨)
+ */
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@ContextConfiguration(classes = PostgresTestConfiguration.class)
+@ActiveProfiles("test")
+public abstract class PostgresIntegrationTest {
+
+    private record TestDatabase(String url, String username, String password) {}
+
+    private static final TestDatabase DATABASE = resolveDatabase();
+
+    @BeforeAll
+    static void requireDatabase() {
+        assumeTrue(DATABASE != null, "MHUB_TEST_JDBC_URL is not set and Docker is not available");
+    }
+
+    @DynamicPropertySource
+    static void databaseProperties(DynamicPropertyRegistry registry) {
+        if (DATABASE == null) {
+            return;
+        }
+        registry.add("spring.datasource.url", DATABASE::url);
+        registry.add("spring.datasource.username", DATABASE::username);
+        registry.add("spring.datasource.password", DATABASE::password);
+        registry.add("spring.flyway.url", DATABASE::url);
+        registry.add("spring.flyway.user", DATABASE::username);
+        registry.add("spring.flyway.password", DATABASE::password);
+    }
+
+    private static TestDatabase resolveDatabase() {
+        String url = System.getenv("MHUB_TEST_JDBC_URL");
+        if (url != null && !url.isBlank()) {
+            return new TestDatabase(url,
+                    System.getenv().getOrDefault("MHUB_TEST_DB_USERNAME", "postgres"),
+                    System.getenv().getOrDefault("MHUB_TEST_DB_PASSWORD", ""));
+        }
+        if (!DockerClientFactory.instance().isDockerAvailable()) {
+            return null;
+        }
+        // 컨테이너는 JVM 종료 시 Testcontainers(Ryuk)가 정리
+        PostgreSQLContainer<?> container = new PostgreSQLContainer<>("postgres:16-alpine");
+        container.start();
+        return new TestDatabase(container.getJdbcUrl(), container.getUsername(), container.getPassword());
+    }
+}
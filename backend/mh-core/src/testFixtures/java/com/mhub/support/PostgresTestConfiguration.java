@@ -0,0 +1,22 @@
+package com.mhub.support;
+
+import com.mhub.core.config.JpaConfig;
+import com.mhub.core.crypto.AesEncryptor;
+import com.mhub.core.crypto.EncryptionProperties;
+import org.springframework.boot.SpringBootConfiguration;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.domain.EntityScan;
+import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
+import org.springframework.context.annotation.Import;
+
+/**
+ * DB 통합 테스트용 최소 컨텍스트 - 엔티티/리포지토리와 JdbcTemplate, Flyway만 올리고
+ * 테스트 대상 서비스는 각 테스트에서 @Import로 등록
+ * (암호화 컬럼 컨버터가 AesEncryptor를 주입받으므로 함께 등록)
+ */
+@SpringBootConfiguration
+@EntityScan(basePackages = "com.mhub")
+@Import({JpaConfig.class, EncryptionProperties.class, AesEncryptor.class})
+@ImportAutoConfiguration(JacksonAutoConfiguration.class)
+public class PostgresTestConfiguration {
+}
@@ -2,4 +2,11 @@ dependencies {
     api(project(":mh-core"))
 
     implementation("org.springframework.boot:spring-boot-starter-webflux")
+
+    // Resilience4j (ECount 전송 서킷 브레이커)
+    implementation("io.github.resilience4j:resilience4j-spring-boot3")
+
+    // Test
+    testImplementation(testFixtures(project(":mh-core")))
+    testImplementation("org.wiremock:wiremock-standalone")
 }
@@ -4,6 +4,7 @@ import com.mhub.core.domain.entity.TenantErpConfig;
 import com.mhub.core.domain.enums.ErpType;
 import java.util.List;
 import java.util.Map;
+import java.util.function.Consumer;
 
 public interface ErpAdapter {
     ErpType getErpType();
@@ -11,16 +12,30 @@ public interface ErpAdapter {
     DocumentResult createSalesDocument(TenantErpConfig config, SalesDocumentRequest request);
     DocumentResult createJournalEntry(TenantErpConfig config, JournalEntryRequest request);
     DocumentStatus getDocumentStatus(TenantErpConfig config, String documentId);
-    ItemFetchResult fetchItems(TenantErpConfig config);
 
     record SalesDocumentRequest(String date, String customerName, String productName, int quantity, java.math.BigDecimal unitPrice, java.math.BigDecimal totalAmount, Map<String, Object> extraFields) {}
     record JournalEntryRequest(String date, String description, java.math.BigDecimal debitAmount, java.math.BigDecimal creditAmount, String debitAccount, String creditAccount, Map<String, Object> extraFields) {}
-    record DocumentResult(boolean success, String documentId, String errorMessage, Map<String, Object> responseData) {}
+    /**
+     * @param retryable ERP가 요청을 처리하기 전에 실패하여(연결 실패, 요청 제한 429) 다시 보내도 중복 등록되지 않는 경우 true
+     */
+    record DocumentResult(boolean success, String documentId, String errorMessage, Map<String, Object> responseData, boolean retryable) {
+        public DocumentResult(boolean success, String documentId, String errorMessage, Map<String, Object> responseData) {
+            this(success, documentId, errorMessage, responseData, false);
+        }
+    }
     record DocumentStatus(String documentId, String status, Map<String, Object> details) {}
-    record ItemFetchResult(boolean success, List<Map<String, Object>> items, String errorMessage, int totalCount) {}
     record InventoryFetchResult(boolean success, List<Map<String, Object>> items, String errorMessage) {}
+    record ItemStreamResult(boolean success, int totalCount, String errorMessage) {}
 
     default InventoryFetchResult fetchInventoryBalance(TenantErpConfig config, String baseDate, List<String> prodCds) {
         return new InventoryFetchResult(false, List.of(), "지원하지 않는 ERP 유형입니다");
     }
+
+    /**
+     * 품목 마스터를 응답 전체를 메모리에 올리지 않고 batchSize건씩 batchConsumer로 전달
+     * - 실패 시점까지 전달된 배치는 이미 처리되었을 수 있으므로 호출 측에서 트랜잭션으로 묶어야 함
+     */
+    default ItemStreamResult streamItems(TenantErpConfig config, int batchSize, Consumer<List<Map<String, Object>>> batchConsumer) {
+        return new ItemStreamResult(false, 0, "지원하지 않는 ERP 유형입니다");
+    }
 }
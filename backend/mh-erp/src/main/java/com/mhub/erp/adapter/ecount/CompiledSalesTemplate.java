@@ -0,0 +1,561 @@
+package com.mhub.erp.adapter.ecount;
+
+import com.mhub.core.domain.entity.ErpSalesTemplate;
+import com.mhub.core.domain.entity.Order;
+import com.mhub.core.domain.entity.OrderItem;
+import com.mhub.core.domain.enums.ErpLineType;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 판매전표 템플릿 실행 계획 (ECountSalesTemplateCompiler가 템플릿 버전마다 한 번 생성)
+ * - 라인 유형별 설정(품목코드, 부가세 방식, 적요, extraFields)과 추가 항목 라인은 컴파일 시점에 값으로 풀어 둠
+ * - 글로벌 필드 매핑은 라인 유형별로 미리 걸러 값 접근자(ValueAccessor) 목록으로 보관
+ * - TEMPLATE 값은 리터럴 조각과 Order/OrderItem 접근자로 나누어 두어 렌더링 시 문자열 치환을 반복하지 않음
+ * - 생성 후 변경되지 않으므로 여러 스레드에서 공유
+ */
+final class CompiledSalesTemplate {
+
+    /**
+     * 라인 값 접근자 - amount는 라인 원금액, vat는 부가세 계산 결과, quantity는 단가 계산용 수량
+     */
+    @FunctionalInterface
+    interface ValueAccessor {
+        String get(Order order, OrderItem item, BigDecimal amount, VatResult vat, int quantity);
+    }
+
+    record VatResult(BigDecimal supplyAmt, BigDecimal vatAmt, BigDecimal totalAmount) {}
+
+    private record FieldRule(String fieldName, ValueAccessor value) {}
+
+    /**
+     * 배송비/수수료 라인 설정 - 마켓별 품목코드/품목명은 기본값과 합쳐 마켓 키로 조회
+     */
+    private record LineSpec(String prodCd, String prodDes, boolean noVat, boolean negateAmount, boolean skipIfZero,
+                            String remarks, List<Map.Entry<String, String>> extraFields,
+                            Map<String, String> prodCdByMarketplace, Map<String, String> prodDesByMarketplace) {
+
+        String prodCdFor(String marketplace) {
+            return prodCdByMarketplace.getOrDefault(marketplace, prodCd);
+        }
+
+        String prodDesFor(String marketplace) {
+            return prodDesByMarketplace.getOrDefault(marketplace, prodDes);
+        }
+    }
+
+    /**
+     * 추가 항목 라인 - WH_CD 이후 필드는 모두 고정값
+     */
+    private record AdditionalLine(String whCd, List<Map.Entry<String, String>> fields) {}
+
+    private static final String[] AMOUNT_FIELDS = {"SUPPLY_AMT", "VAT_AMT", "PRICE"};
+    private static final String[] ALL_AMOUNT_FIELDS = {"SUPPLY_AMT", "VAT_AMT", "PRICE", "USER_PRICE_VAT", "P_AMT1"};
+
+    private final Map<String, Object> defaultHeader;
+    private final Map<String, Map<String, Object>> headerByMarketplace;
+    private final LineSpec productSale;
+    private final LineSpec deliveryFee;
+    private final LineSpec salesCommission;
+    private final LineSpec deliveryCommission;
+    private final List<AdditionalLine> additionalLines;
+    private final Map<ErpLineType, List<FieldRule>> fieldRules;
+
+    private CompiledSalesTemplate(Map<String, Object> defaultHeader,
+                                  Map<String, Map<String, Object>> headerByMarketplace,
+                                  LineSpec productSale, LineSpec deliveryFee,
+                                  LineSpec salesCommission, LineSpec deliveryCommission,
+                                  List<AdditionalLine> additionalLines,
+                                  Map<ErpLineType, List<FieldRule>> fieldRules) {
+        this.defaultHeader = defaultHeader;
+        this.headerByMarketplace = headerByMarketplace;
+        this.productSale = productSale;
+        this.deliveryFee = deliveryFee;
+        this.salesCommission = salesCommission;
+        this.deliveryCommission = deliveryCommission;
+        this.additionalLines = additionalLines;
+        this.fieldRules = fieldRules;
+    }
+
+    // ------------------------------------------------------------------
+    // 컴파일
+    // ------------------------------------------------------------------
+
+    static CompiledSalesTemplate compile(ErpSalesTemplate template) {
+        // 헤더: defaultHeader + marketplaceHeaders[marketplaceType] 병합
+        Map<String, Object> defaultHeader = new LinkedHashMap<>();
+        if (template.getDefaultHeader() != null) {
+            defaultHeader.putAll(template.getDefaultHeader());
+        }
+        Map<String, Map<String, Object>> headerByMarketplace = new HashMap<>();
+        if (template.getMarketplaceHeaders() != null) {
+            template.getMarketplaceHeaders().forEach((mkt, value) -> {
+                if (value instanceof Map<?, ?> mktHeader) {
+                    Map<String, Object> merged = new LinkedHashMap<>(defaultHeader);
+                    mktHeader.forEach((k, v) -> merged.put(String.valueOf(k), v));
+                    headerByMarketplace.put(mkt, merged);
+                }
+            });
+        }
+
+        return new CompiledSalesTemplate(
+                defaultHeader,
+                headerByMarketplace,
+                compileLine(template.getLineProductSale(), ""),
+                compileLine(template.getLineDeliveryFee(), "배송비"),
+                compileLine(template.getLineSalesCommission(), "판매수수료"),
+                compileLine(template.getLineDeliveryCommission(), "배송수수료"),
+                compileAdditionalLines(template.getAdditionalLines()),
+                compileFieldRules(template.getGlobalFieldMappings()));
+    }
+
+    private static LineSpec compileLine(Map<String, Object> lineTemplate, String defaultProdDes) {
+        Map<String, Object> t = lineTemplate != null ? lineTemplate : Map.of();
+        String prodCd = stringField(t, "prodCd", "");
+        String prodDes = stringField(t, "prodDes", defaultProdDes);
+
+        // 마켓별 품목코드: { "marketplaceProdCds": { "COUPANG": { "prodCd": "001", "prodDes": "쿠팡수수료" } } }
+        Map<String, String> prodCdByMarketplace = new HashMap<>();
+        Map<String, String> prodDesByMarketplace = new HashMap<>();
+        if (t.get("marketplaceProdCds") instanceof Map<?, ?> byMarketplace) {
+            byMarketplace.forEach((mkt, entry) -> {
+                if (entry instanceof Map<?, ?> e) {
+                    Object cd = e.get("prodCd");
+                    Object des = e.get("prodDes");
+                    prodCdByMarketplace.put(String.valueOf(mkt),
+                            cd != null && !cd.toString().isBlank() ? cd.toString() : prodCd);
+                    prodDesByMarketplace.put(String.valueOf(mkt),
+                            des != null && !des.toString().isBlank() ? des.toString() : prodDes);
+                }
+            });
+        }
+
+        String remarks = stringField(t, "remarks", "");
+        return new LineSpec(
+                prodCd,
+                prodDes,
+                "NO_VAT".equals(stringField(t, "vatCalculation", "SUPPLY_DIV_11")),
+                boolField(t, "negateAmount"),
+                boolField(t, "skipIfZero"),
+                remarks.isBlank() ? null : remarks,
+                compileExtraFields(t),
+                prodCdByMarketplace,
+                prodDesByMarketplace);
+    }
+
+    private static List<Map.Entry<String, String>> compileExtraFields(Map<String, Object> lineTemplate) {
+        List<Map.Entry<String, String>> fields = new ArrayList<>();
+        if (lineTemplate.get("extraFields") instanceof Map<?, ?> extra) {
+            extra.forEach((k, v) -> {
+                if (v != null && !v.toString().isBlank()) {
+                    fields.add(Map.entry(String.valueOf(k), v.toString()));
+                }
+            });
+        }
+        return List.copyOf(fields);
+    }
+
+    private static List<AdditionalLine> compileAdditionalLines(List<Map<String, Object>> additionalLines) {
+        if (additionalLines == null) {
+            return List.of();
+        }
+        List<AdditionalLine> compiled = new ArrayList<>();
+        for (Map<String, Object> t : additionalLines) {
+            // 활성화된 항목만 처리
+            if (!boolField(t, "enabled")) {
+                continue;
+            }
+
+            List<Map.Entry<String, String>> fields = new ArrayList<>();
+            String prodCd = stringField(t, "prodCd", "");
+            if (!prodCd.isBlank()) {
+                fields.add(Map.entry("PROD_CD", prodCd));
+            }
+            fields.add(Map.entry("PROD_DES", stringField(t, "prodDes", "")));
+
+            Object qtyObj = t.get("qty");
+            int qty = qtyObj != null ? Integer.parseInt(qtyObj.toString()) : 1;
+            fields.add(Map.entry("QTY", String.valueOf(qty)));
+
+            Object unitPriceObj = t.get("unitPrice");
+            BigDecimal unitPrice = unitPriceObj != null ? new BigDecimal(unitPriceObj.toString()) : BigDecimal.ZERO;
+            VatResult vat = calculateVat(unitPrice.multiply(BigDecimal.valueOf(qty)),
+                    "NO_VAT".equals(stringField(t, "vatCalculation", "SUPPLY_DIV_11")));
+            addAmountFields(fields, vat, boolField(t, "negateAmount"));
+
+            String remarks = stringField(t, "remarks", "");
+            if (!remarks.isBlank()) {
+                fields.add(Map.entry("REMARKS", remarks));
+            }
+
+            String whCd = stringField(t, "whCd", "");
+            compiled.add(new AdditionalLine(whCd.isBlank() ? null : whCd, List.copyOf(fields)));
+        }
+        return List.copyOf(compiled);
+    }
+
+    /**
+     * 글로벌 필드 매핑을 라인 유형별 규칙 목록으로 변환 (lineTypes가 없으면 모든 라인에 적용)
+     * - 값이 항상 비어 있는 규칙(빈 고정값/템플릿)은 적용해도 라인이 바뀌지 않으므로 제외
+     */
+    private static Map<ErpLineType, List<FieldRule>> compileFieldRules(List<Map<String, Object>> globalMappings) {
+        Map<ErpLineType, List<FieldRule>> rules = new EnumMap<>(ErpLineType.class);
+        for (ErpLineType type : ErpLineType.values()) {
+            rules.put(type, new ArrayList<>());
+        }
+        if (globalMappings == null) {
+            return rules;
+        }
+
+        for (Map<String, Object> mapping : globalMappings) {
+            String fieldName = stringField(mapping, "fieldName", "");
+            if (fieldName.isBlank()) {
+                continue;
+            }
+            ValueAccessor accessor = compileValueSource(
+                    stringField(mapping, "valueSource", "FIXED"),
+                    stringField(mapping, "fixedValue", ""),
+                    stringField(mapping, "templateValue", ""));
+            if (accessor == null) {
+                continue;
+            }
+
+            FieldRule rule = new FieldRule(fieldName, accessor);
+            Object lineTypes = mapping.get("lineTypes");
+            for (ErpLineType type : ErpLineType.values()) {
+                if (appliesTo(lineTypes, type)) {
+                    rules.get(type).add(rule);
+                }
+            }
+        }
+        rules.replaceAll((type, list) -> List.copyOf(list));
+        return rules;
+    }
+
+    private static boolean appliesTo(Object lineTypes, ErpLineType type) {
+        if (lineTypes instanceof List<?> list) {
+            return list.contains("ALL") || list.contains(type.name());
+        }
+        if (lineTypes instanceof String s) {
+            return "ALL".equals(s) || type.name().equals(s);
+        }
+        return true;
+    }
+
+    /**
+     * 값 소스별 접근자 (null이면 항상 빈 값이라 적용할 필요 없음)
+     */
+    private static ValueAccessor compileValueSource(String valueSource, String fixedValue, String templateValue) {
+        return switch (valueSource) {
+            case "FIXED" -> fixedValue.isBlank() ? null : (o, i, amount, vat, qty) -> fixedValue;
+            case "ORDER_ID" -> (o, i, amount, vat, qty) -> o.getId() != null ? o.getId().toString() : "";
+            case "MARKETPLACE_ORDER_ID" -> (o, i, amount, vat, qty) -> nullToEmpty(o.getMarketplaceOrderId());
+            case "BUYER_NAME" -> (o, i, amount, vat, qty) -> nullToEmpty(o.getBuyerName());
+            case "RECEIVER_NAME" -> (o, i, amount, vat, qty) -> nullToEmpty(o.getReceiverName());
+            case "PRODUCT_NAME" -> (o, i, amount, vat, qty) -> i != null ? nullToEmpty(i.getProductName()) : "";
+            case "OPTION_NAME" -> (o, i, amount, vat, qty) -> i != null ? nullToEmpty(i.getOptionName()) : "";
+            case "UNIT_PRICE_VAT" -> (o, i, amount, vat, qty) -> {
+                // 단가 = 총금액 / 수량
+                if (amount == null || qty <= 0) {
+                    return "0";
+                }
+                return amount.divide(BigDecimal.valueOf(qty), 0, RoundingMode.HALF_UP).toPlainString();
+            };
+            case "TOTAL_AMOUNT" -> (o, i, amount, vat, qty) ->
+                    amount != null ? amount.setScale(0, RoundingMode.HALF_UP).toPlainString() : "0";
+            case "SUPPLY_AMOUNT" -> (o, i, amount, vat, qty) -> vat.supplyAmt().toPlainString();
+            case "VAT_AMOUNT" -> (o, i, amount, vat, qty) -> vat.vatAmt().toPlainString();
+            case "TEMPLATE" -> templateValue.isBlank() ? null : compileTemplate(templateValue);
+            default -> null;
+        };
+    }
+
+    /**
+     * "주문:{orderId} / {buyerName}" 형태의 템플릿을 리터럴 조각과 접근자로 분해
+     * - 알 수 없는 플레이스홀더는 원문 그대로 출력
+     */
+    private static ValueAccessor compileTemplate(String template) {
+        List<ValueAccessor> parts = new ArrayList<>();
+        StringBuilder literal = new StringBuilder();
+        int pos = 0;
+        while (pos < template.length()) {
+            char c = template.charAt(pos);
+            int close = c == '{' ? template.indexOf('}', pos + 1) : -1;
+            ValueAccessor placeholder = close > 0 ? templatePlaceholder(template.substring(pos + 1, close)) : null;
+            if (placeholder == null) {
+                literal.append(c);
+                pos++;
+                continue;
+            }
+            if (!literal.isEmpty()) {
+                String text = literal.toString();
+                parts.add((o, i, amount, vat, qty) -> text);
+                literal.setLength(0);
+            }
+            parts.add(placeholder);
+            pos = close + 1;
+        }
+        if (!literal.isEmpty()) {
+            String text = literal.toString();
+            parts.add((o, i, amount, vat, qty) -> text);
+        }
+
+        if (parts.size() == 1) {
+            return parts.get(0);
+        }
+        ValueAccessor[] segments = parts.toArray(new ValueAccessor[0]);
+        return (o, i, amount, vat, qty) -> {
+            StringBuilder sb = new StringBuilder(template.length() + 32);
+            for (ValueAccessor segment : segments) {
+                sb.append(segment.get(o, i, amount, vat, qty));
+            }
+            return sb.toString();
+        };
+    }
+
+    private static ValueAccessor templatePlaceholder(String name) {
+        return switch (name) {
+            case "orderId" -> (o, i, amount, vat, qty) -> o.getId() != null ? o.getId().toString() : "";
+            case "marketplaceOrderId" -> (o, i, amount, vat, qty) -> nullToEmpty(o.getMarketplaceOrderId());
+            case "buyerName" -> (o, i, amount, vat, qty) -> nullToEmpty(o.getBuyerName());
+            case "receiverName" -> (o, i, amount, vat, qty) -> nullToEmpty(o.getReceiverName());
+            case "marketplace" -> (o, i, amount, vat, qty) ->
+                    o.getMarketplaceType() != null ? o.getMarketplaceType().name() : "";
+            case "productName" -> (o, i, amount, vat, qty) -> i != null ? nullToEmpty(i.getProductName()) : "";
+            case "optionName" -> (o, i, amount, vat, qty) -> i != null ? nullToEmpty(i.getOptionName()) : "";
+            default -> null;
+        };
+    }
+
+    // ------------------------------------------------------------------
+    // 렌더링
+    // ------------------------------------------------------------------
+
+    /**
+     * 주문 1건의 전표 라인 생성 (1주문 = 1전표, UPLOAD_SER_NO로 묶임)
+     * 라인 순서: 상품판매 → 배송비 → 판매수수료 → 배송수수료 → 추가 항목
+     */
+    List<Map<String, Object>> renderLines(Order order, String ioDate, String uploadSerNo,
+                                          BigDecimal commissionAmount, BigDecimal deliveryCommissionAmount) {
+        String mktKey = order.getMarketplaceType().name();
+        Map<String, Object> header = headerByMarketplace.getOrDefault(mktKey, defaultHeader);
+        List<Map<String, Object>> lines = new ArrayList<>(order.getItems().size() + 3 + additionalLines.size());
+        int lineNo = 1;
+
+        // 첫 번째 상품의 창고코드 (배송비/수수료 라인에서 사용)
+        String defaultWhCd = null;
+        for (OrderItem item : order.getItems()) {
+            if (item.getErpWhCd() != null && !item.getErpWhCd().isBlank()) {
+                defaultWhCd = item.getErpWhCd();
+                break;
+            }
+        }
+
+        // 1) 상품판매 라인: OrderItem별 개별 라인
+        for (OrderItem item : order.getItems()) {
+            Map<String, Object> line = baseLine(header, ioDate, uploadSerNo, lineNo++);
+
+            // WH_CD / PROD_CD: ProductMapping에서 매핑된 창고코드/품목코드
+            String whCd = item.getErpWhCd();
+            if (whCd != null && !whCd.isBlank()) {
+                line.put("WH_CD", whCd);
+            }
+            String prodCd = item.getErpProdCd();
+            if (prodCd == null || prodCd.isBlank()) {
+                prodCd = productSale.prodCd();
+            }
+            line.put("PROD_CD", prodCd);
+
+            // ERP 코드가 매핑되어 있으면 ERP에서 품목명을 채우므로 PROD_DES를 보내지 않음
+            if (prodCd.isBlank()) {
+                String prodDes = item.getProductName();
+                if (item.getOptionName() != null && !item.getOptionName().isBlank()) {
+                    prodDes = prodDes + " / " + item.getOptionName();
+                }
+                line.put("PROD_DES", prodDes);
+            }
+            line.put("QTY", String.valueOf(item.getQuantity()));
+
+            BigDecimal amount = item.getTotalPrice();
+            VatResult vat = calculateVat(amount, productSale.noVat());
+            putAmounts(line, vat, false);
+            putRemarksAndExtras(line, productSale);
+            applyFieldRules(line, ErpLineType.PRODUCT_SALE, order, item, amount, vat, item.getQuantity());
+            lines.add(line);
+        }
+
+        // 2) 배송비 라인
+        BigDecimal deliveryFeeAmount = order.getDeliveryFee();
+        if (shouldAddLine(deliveryFeeAmount, deliveryFee)) {
+            Map<String, Object> line = baseLine(header, ioDate, uploadSerNo, lineNo++);
+            if (defaultWhCd != null) {
+                line.put("WH_CD", defaultWhCd);
+            }
+            line.put("PROD_CD", deliveryFee.prodCd());
+            line.put("PROD_DES", deliveryFee.prodDes());
+            line.put("QTY", "1");
+            VatResult vat = calculateVat(deliveryFeeAmount, deliveryFee.noVat());
+            putAmounts(line, vat, deliveryFee.negateAmount());
+            putRemarksAndExtras(line, deliveryFee);
+            applyFieldRules(line, ErpLineType.DELIVERY_FEE, order, null, deliveryFeeAmount, vat, 1);
+            lines.add(line);
+        }
+
+        // 3) 판매수수료 / 4) 배송수수료 라인 (마켓별 품목코드 지원, 금액은 항상 마이너스)
+        if (shouldAddLine(commissionAmount, salesCommission)) {
+            lines.add(commissionLine(header, ioDate, uploadSerNo, lineNo++, defaultWhCd, mktKey,
+                    salesCommission, ErpLineType.SALES_COMMISSION, order, commissionAmount));
+        }
+        if (shouldAddLine(deliveryCommissionAmount, deliveryCommission)) {
+            lines.add(commissionLine(header, ioDate, uploadSerNo, lineNo++, defaultWhCd, mktKey,
+                    deliveryCommission, ErpLineType.DELIVERY_COMMISSION, order, deliveryCommissionAmount));
+        }
+
+        // 5) 추가 항목 라인
+        for (AdditionalLine additional : additionalLines) {
+            Map<String, Object> line = baseLine(header, ioDate, uploadSerNo, lineNo++);
+            if (additional.whCd() != null) {
+                line.put("WH_CD", additional.whCd());
+            } else if (defaultWhCd != null) {
+                line.put("WH_CD", defaultWhCd);
+            }
+            for (Map.Entry<String, String> field : additional.fields()) {
+                line.put(field.getKey(), field.getValue());
+            }
+            lines.add(line);
+        }
+
+        return lines;
+    }
+
+    private Map<String, Object> commissionLine(Map<String, Object> header, String ioDate, String uploadSerNo,
+                                               int lineNo, String defaultWhCd, String mktKey, LineSpec spec,
+                                               ErpLineType lineType, Order order, BigDecimal amount) {
+        Map<String, Object> line = baseLine(header, ioDate, uploadSerNo, lineNo);
+        if (defaultWhCd != null) {
+            line.put("WH_CD", defaultWhCd);
+        }
+        line.put("PROD_CD", spec.prodCdFor(mktKey));
+        line.put("PROD_DES", spec.prodDesFor(mktKey));
+        line.put("QTY", "1");
+        VatResult vat = calculateVat(amount, spec.noVat());
+        putAmounts(line, vat, false);
+        putRemarksAndExtras(line, spec);
+        applyFieldRules(line, lineType, order, null, amount, vat, 1);
+        // 글로벌 필드 매핑으로 들어온 금액 필드(USER_PRICE_VAT, P_AMT1 등)까지 마이너스로 변환
+        for (String field : ALL_AMOUNT_FIELDS) {
+            negateField(line, field);
+        }
+        return line;
+    }
+
+    private Map<String, Object> baseLine(Map<String, Object> header, String ioDate, String uploadSerNo, int lineNo) {
+        Map<String, Object> line = new LinkedHashMap<>(header);
+        line.put("IO_DATE", ioDate);
+        line.put("UPLOAD_SER_NO", uploadSerNo);
+        line.put("LINE_NO", String.valueOf(lineNo));
+        return line;
+    }
+
+    private void putAmounts(Map<String, Object> line, VatResult vat, boolean negate) {
+        line.put("SUPPLY_AMT", (negate ? vat.supplyAmt().negate() : vat.supplyAmt()).toPlainString());
+        line.put("VAT_AMT", (negate ? vat.vatAmt().negate() : vat.vatAmt()).toPlainString());
+        line.put("PRICE", (negate ? vat.totalAmount().negate() : vat.totalAmount()).toPlainString());
+    }
+
+    private void putRemarksAndExtras(Map<String, Object> line, LineSpec spec) {
+        if (spec.remarks() != null) {
+            line.put("REMARKS", spec.remarks());
+        }
+        for (Map.Entry<String, String> field : spec.extraFields()) {
+            line.put(field.getKey(), field.getValue());
+        }
+    }
+
+    private void applyFieldRules(Map<String, Object> line, ErpLineType lineType, Order order, OrderItem item,
+                                 BigDecimal amount, VatResult vat, int quantity) {
+        for (FieldRule rule : fieldRules.get(lineType)) {
+            String value = rule.value().get(order, item, amount, vat, quantity);
+            if (value != null && !value.isBlank()) {
+                line.put(rule.fieldName(), value);
+            }
+        }
+    }
+
+    private boolean shouldAddLine(BigDecimal amount, LineSpec spec) {
+        if (amount == null || amount.compareTo(BigDecimal.ZERO) == 0) {
+            return !spec.skipIfZero();
+        }
+        return true;
+    }
+
+    // ------------------------------------------------------------------
+    // 금액 계산 (ECountSalesDocumentBuilder와 공유)
+    // ------------------------------------------------------------------
+
+    /**
+     * 부가세 계산
+     * - NO_VAT: 공급가 = 총액, 부가세 0
+     * - SUPPLY_DIV_11 (기본): 부가세 = round(총액/11), 공급가 = 총액 - 부가세
+     */
+    static VatResult calculateVat(BigDecimal totalAmount, boolean noVat) {
+        if (totalAmount == null) totalAmount = BigDecimal.ZERO;
+
+        if (noVat) {
+            BigDecimal total = totalAmount.setScale(0, RoundingMode.HALF_UP);
+            return new VatResult(total, BigDecimal.ZERO, total);
+        }
+        BigDecimal vatAmt = totalAmount.divide(BigDecimal.valueOf(11), 0, RoundingMode.HALF_UP);
+        BigDecimal supplyAmt = totalAmount.subtract(vatAmt);
+        return new VatResult(
+                supplyAmt.setScale(0, RoundingMode.HALF_UP),
+                vatAmt.setScale(0, RoundingMode.HALF_UP),
+                totalAmount.setScale(0, RoundingMode.HALF_UP));
+    }
+
+    static void negateAmounts(Map<String, Object> line) {
+        for (String field : AMOUNT_FIELDS) {
+            negateField(line, field);
+        }
+    }
+
+    private static void negateField(Map<String, Object> line, String field) {
+        Object val = line.get(field);
+        if (val != null) {
+            try {
+                line.put(field, new BigDecimal(val.toString()).negate().toPlainString());
+            } catch (NumberFormatException ignored) {
+            }
+        }
+    }
+
+    private static void addAmountFields(List<Map.Entry<String, String>> fields, VatResult vat, boolean negate) {
+        fields.add(Map.entry("SUPPLY_AMT", (negate ? vat.supplyAmt().negate() : vat.supplyAmt()).toPlainString()));
+        fields.add(Map.entry("VAT_AMT", (negate ? vat.vatAmt().negate() : vat.vatAmt()).toPlainString()));
+        fields.add(Map.entry("PRICE", (negate ? vat.totalAmount().negate() : vat.totalAmount()).toPlainString()));
+    }
+
+    private static String nullToEmpty(String value) {
+        return value != null ? value : "";
+    }
+
+    private static String stringField(Map<String, Object> map, String key, String defaultValue) {
+        if (map == null) return defaultValue;
+        Object val = map.get(key);
+        return val != null ? val.toString() : defaultValue;
+    }
+
+    private static boolean boolField(Map<String, Object> map, String key) {
+        if (map == null) return false;
+        Object val = map.get(key);
+        if (val instanceof Boolean b) return b;
+        return val != null && "true".equalsIgnoreCase(val.toString());
+    }
+}
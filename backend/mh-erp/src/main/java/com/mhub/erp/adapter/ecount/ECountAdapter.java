@@ -1,20 +1,58 @@
 package com.mhub.erp.adapter.ecount;
 
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.mhub.common.exception.BusinessException;
 import com.mhub.common.exception.ErrorCodes;
 import com.mhub.core.domain.entity.TenantErpConfig;
 import com.mhub.core.domain.enums.ErpType;
 import com.mhub.erp.adapter.ErpAdapter;
+import com.mhub.erp.adapter.ecount.ECountSessionCache.ECountSession;
+import com.mhub.erp.config.ErpSendProperties;
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import jakarta.annotation.PreDestroy;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.slf4j.MDC;
 import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.stereotype.Component;
 import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.reactive.function.client.WebClientRequestException;
 import org.springframework.web.reactive.function.client.WebClientResponseException;
-
+import reactor.core.Disposable;
+import reactor.core.scheduler.Schedulers;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.PipedInputStream;
+import java.io.PipedOutputStream;
+import java.net.ConnectException;
+import java.net.UnknownHostException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
 
 @Slf4j
 @Component
@@ -22,9 +60,39 @@ import java.util.Map;
 public class ECountAdapter implements ErpAdapter {
 
     private static final String ZONE_API_URL = "https://oapi.ecount.com/OAPI/V2/Zone";
+    // ECount 세션은 마지막 사용 후 일정 시간 지나면 만료되므로 여유 있게 짧게 유지
+    private static final Duration SESSION_TTL = Duration.ofMinutes(20);
+    private static final Duration ZONE_TTL = Duration.ofHours(12);
+    // resilience4j.circuitbreaker.configs.ecount - ERP 설정마다 별도 인스턴스 생성
+    private static final String CIRCUIT_BREAKER_CONFIG = "ecount";
+    static final String UNKNOWN_OUTCOME_MESSAGE = "ERP 등록 여부를 알 수 없습니다. ECount에서 전표를 확인 후 재전송해주세요: ";
+    // 스트리밍 응답 파이프 버퍼 - 파싱(DB 저장)이 밀리면 네트워크 수신도 함께 멈춤
+    private static final int STREAM_PIPE_SIZE = 256 * 1024;
+    private static final TypeReference<Map<String, Object>> MAP_TYPE = new TypeReference<>() {};
 
     @Qualifier("erpWebClient")
     private final WebClient webClient;
+    private final ECountApiProperties properties;
+    private final ErpSendProperties sendProperties;
+    private final CircuitBreakerRegistry circuitBreakerRegistry;
+    private final ObjectMapper objectMapper;
+
+    private final ECountSessionCache sessionCache = new ECountSessionCache();
+    private final ConcurrentHashMap<String, CachedZone> zoneCache = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<UUID, SendPermits> sendPermits = new ConcurrentHashMap<>();
+    private final ExecutorService sendExecutor = Executors.newVirtualThreadPerTaskExecutor();
+
+    private record CachedZone(String zone, Instant expiresAt) {}
+
+    /**
+     * 스트리밍으로 읽은 응답의 Status / Error와 Data.Result 건수 (Result 항목은 배치로 전달 후 버림)
+     */
+    private record StreamedResponse(String status, Map<String, Object> error, int resultCount) {}
+
+    /**
+     * ERP 설정별 SaveSale 동시 요청 한도 - 호출 경로(수동 전송, 이벤트, 배치, 재전송)와 관계없이 공유
+     */
+    private record SendPermits(int limit, Semaphore semaphore) {}
 
     @Override
     public ErpType getErpType() {
@@ -161,6 +229,75 @@ public class ECountAdapter implements ErpAdapter {
         }
     }
 
+    private String getCachedZone(String companyCode) {
+        CachedZone cached = zoneCache.get(companyCode);
+        if (cached != null && Instant.now().isBefore(cached.expiresAt())) {
+            return cached.zone();
+        }
+        String zone = getZone(companyCode);
+        zoneCache.put(companyCode, new CachedZone(zone, Instant.now().plus(ZONE_TTL)));
+        return zone;
+    }
+
+    private ECountSession openSession(TenantErpConfig config) {
+        String zone = getCachedZone(config.getCompanyCode());
+        String sessionId = login(zone, config.getCompanyCode(), config.getUserId(), config.getApiKey());
+        log.info("ECount session opened for company {}, zone={}", config.getCompanyCode(), zone);
+        return new ECountSession(zone, sessionId, Instant.now().plus(SESSION_TTL));
+    }
+
+    /**
+     * 캐시된 세션으로 ECount API 호출
+     * 세션 만료 응답을 받으면 캐시를 비우고 한 번 재로그인하여 재시도
+     *
+     * @param apiPath "Sale/SaveSale" 처럼 /OAPI/V2/ 이후 경로
+     */
+    @SuppressWarnings("unchecked")
+    private Map<String, Object> postWithSession(TenantErpConfig config, String apiPath, Object requestBody) {
+        ECountSession session = sessionCache.get(config, this::openSession);
+        Map<String, Object> response = post(buildApiUrl(session, apiPath), requestBody);
+
+        if (isSessionExpired(response)) {
+            log.info("ECount session expired for company {}, logging in again", config.getCompanyCode());
+            sessionCache.invalidate(config, session);
+            session = sessionCache.get(config, this::openSession);
+            response = post(buildApiUrl(session, apiPath), requestBody);
+        }
+        return response;
+    }
+
+    @SuppressWarnings("unchecked")
+    private Map<String, Object> post(String apiUrl, Object requestBody) {
+        return webClient.post()
+                .uri(apiUrl)
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(requestBody)
+                .retrieve()
+                .bodyToMono(Map.class)
+                .block();
+    }
+
+    private String buildApiUrl(ECountSession session, String apiPath) {
+        return String.format("https://oapi%s.ecount.com/OAPI/V2/%s?SESSION_ID=%s",
+                session.zone(), apiPath, session.sessionId());
+    }
+
+    /**
+     * 세션 만료/미로그인 응답 여부 (Error.Message에 로그인/세션 관련 문구가 포함됨)
+     */
+    private boolean isSessionExpired(Map<String, Object> response) {
+        return response != null && isSessionExpiredError(response.get("Error"));
+    }
+
+    private boolean isSessionExpiredError(Object error) {
+        if (!(error instanceof Map<?, ?> errorMap)) {
+            return false;
+        }
+        String message = String.valueOf(errorMap.get("Message")).toLowerCase();
+        return message.contains("login") || message.contains("session")
+                || message.contains("로그인") || message.contains("세션");
+    }
+
     @Override
     public DocumentResult createSalesDocument(TenantErpConfig config, SalesDocumentRequest request) {
         log.info("ECount createSalesDocument for date {}", request.date());
@@ -176,23 +313,9 @@ public class ECountAdapter implements ErpAdapter {
     @SuppressWarnings("unchecked")
     public DocumentResult createSaveSale(TenantErpConfig config, Map<String, Object> saveSaleBody) {
         try {
-            String zone = getZone(config.getCompanyCode());
-            String sessionId = login(zone, config.getCompanyCode(), config.getUserId(), config.getApiKey());
-
-            String apiUrl = String.format(
-                    "https://oapi%s.ecount.com/OAPI/V2/Sale/SaveSale?SESSION_ID=%s",
-                    zone, sessionId);
-
-            log.debug("Calling SaveSale API at {}", apiUrl);
             log.info("SaveSale request body: {}", saveSaleBody);
 
-            Map<String, Object> response = webClient.post()
-                    .uri(apiUrl)
-                    .contentType(MediaType.APPLICATION_JSON)
-                    .bodyValue(saveSaleBody)
-                    .retrieve()
-                    .bodyToMono(Map.class)
-                    .block();
+            Map<String, Object> response = postWithSession(config, "Sale/SaveSale", saveSaleBody);
 
             if (response == null) {
                 return new DocumentResult(false, null, "SaveSale API 응답이 없습니다", Map.of());
@@ -243,6 +366,310 @@ public class ECountAdapter implements ErpAdapter {
         }
     }
 
+    /**
+     * 여러 전표를 SaveSale 요청 하나의 SaleList에 묶어 일괄 등록합니다.
+     * - 요청당 전표 수/라인 수는 ECountApiProperties 설정에 따라 나누어 전송
+     * - 요청 내 전표가 서로 합쳐지지 않도록 UPLOAD_SER_NO를 전표마다 1부터 다시 부여 (원본 라인은 변경하지 않음)
+     * - ResultDetails의 라인별 결과를 전표 단위로 모아, 전표의 모든 라인이 성공한 경우에만 성공 처리
+     *   SlipNos 수가 성공한 전표 수와 다르면 성공한 전표도 실패(재전송 안 함)로 반환하여 확인 대상으로 남김
+     * - 나눈 요청은 가상 스레드에서 병렬 전송하되, ERP 설정별 동시 요청 수(sendConcurrency)를 넘지 않음
+     * - 요청이 처리되기 전에 실패한 것이 확실한 전표만 retryable=true로 반환 (ERP 설정별 서킷이 열려 있으면 요청하지 않고 바로 반환)
+     *   응답 시간 초과/HTTP 5xx처럼 ECount에 등록되었는지 알 수 없는 실패는 retryable=false (다시 보내면 전표가 중복될 수 있음)
+     *
+     * @param config ERP 설정 (인증 정보 포함)
+     * @param documents 전표별 라인 목록 (BulkDatas 내용)
+     * @return 입력 순서와 동일한 전표별 결과
+     */
+    public List<DocumentResult> createSaveSaleBatch(TenantErpConfig config, List<List<Map<String, Object>>> documents) {
+        int batchSize = Math.max(1, properties.saveSaleBatchSize());
+        int maxLines = Math.max(1, properties.saveSaleMaxLines());
+
+        List<List<List<Map<String, Object>>>> chunks = new ArrayList<>();
+        int start = 0;
+        while (start < documents.size()) {
+            int end = start;
+            int lineCount = 0;
+            while (end < documents.size() && end - start < batchSize) {
+                int docLines = documents.get(end) != null ? documents.get(end).size() : 0;
+                if (end > start && lineCount + docLines > maxLines) {
+                    break;
+                }
+                lineCount += docLines;
+                end++;
+            }
+            chunks.add(documents.subList(start, end));
+            start = end;
+        }
+
+        Semaphore permits = sendPermits(config);
+        if (chunks.size() == 1) {
+            return sendWithPermit(config, chunks.get(0), permits);
+        }
+
+        Map<String, String> mdc = MDC.getCopyOfContextMap();
+        List<Future<List<DocumentResult>>> futures = new ArrayList<>(chunks.size());
+        for (List<List<Map<String, Object>>> chunk : chunks) {
+            futures.add(sendExecutor.submit(() -> {
+                if (mdc != null) MDC.setContextMap(mdc);
+                try {
+                    return sendWithPermit(config, chunk, permits);
+                } finally {
+                    MDC.clear();
+                }
+            }));
+        }
+
+        List<DocumentResult> results = new ArrayList<>(documents.size());
+        for (int i = 0; i < chunks.size(); i++) {
+            try {
+                results.addAll(futures.get(i).get());
+            } catch (ExecutionException e) {
+                log.error("SaveSale batch chunk failed", e.getCause());
+                results.addAll(failAll(chunks.get(i).size(), "전표 등록 실패: " + e.getCause().getMessage(), Map.of()));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                futures.forEach(f -> f.cancel(true));
+                // 이미 보낸 요청이 있을 수 있으므로 자동 재전송하지 않음
+                for (int j = i; j < chunks.size(); j++) {
+                    results.addAll(failAll(chunks.get(j).size(), UNKNOWN_OUTCOME_MESSAGE + "전송이 중단되었습니다", Map.of()));
+                }
+                break;
+            }
+        }
+        return results;
+    }
+
+    private List<DocumentResult> sendWithPermit(TenantErpConfig config, List<List<Map<String, Object>>> chunk,
+                                                Semaphore permits) {
+        try {
+            permits.acquire();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return failAll(chunk.size(), "전표 전송이 중단되었습니다", Map.of(), true);
+        }
+        try {
+            return sendSaveSaleChunk(config, chunk);
+        } finally {
+            permits.release();
+        }
+    }
+
+    /**
+     * ERP 설정별 동시 요청 세마포어 - 설정의 동시 요청 수가 바뀌면 새 한도로 교체
+     * (교체 전 세마포어를 잡고 있던 요청은 그대로 끝까지 진행)
+     */
+    private Semaphore sendPermits(TenantErpConfig config) {
+        int limit = config.getSendConcurrency() != null && config.getSendConcurrency() > 0
+                ? config.getSendConcurrency()
+                : Math.max(1, sendProperties.defaultConcurrency());
+        return sendPermits.compute(config.getId(), (id, current) ->
+                current != null && current.limit() == limit ? current : new SendPermits(limit, new Semaphore(limit))
+        ).semaphore();
+    }
+
+    private List<DocumentResult> sendSaveSaleChunk(TenantErpConfig config, List<List<Map<String, Object>>> documents) {
+        List<Map<String, Object>> saleList = new ArrayList<>();
+        int[] lineStart = new int[documents.size() + 1];
+        for (int i = 0; i < documents.size(); i++) {
+            lineStart[i] = saleList.size();
+            List<Map<String, Object>> lines = documents.get(i) != null ? documents.get(i) : List.of();
+            for (Map<String, Object> line : lines) {
+                Map<String, Object> bulkDatas = new LinkedHashMap<>(line);
+                bulkDatas.put("UPLOAD_SER_NO", String.valueOf(i + 1));
+                Map<String, Object> wrapper = new LinkedHashMap<>();
+                wrapper.put("BulkDatas", bulkDatas);
+                saleList.add(wrapper);
+            }
+        }
+        lineStart[documents.size()] = saleList.size();
+
+        CircuitBreaker circuitBreaker = circuitBreakerRegistry.circuitBreaker(
+                "ecount-" + config.getId(), CIRCUIT_BREAKER_CONFIG);
+        Map<String, Object> response;
+        try {
+            log.info("SaveSale batch request: {} documents, {} lines", documents.size(), saleList.size());
+            response = circuitBreaker.executeSupplier(() -> postSaveSale(config, Map.of("SaleList", saleList)));
+        } catch (CallNotPermittedException e) {
+            log.warn("SaveSale skipped for company {}: circuit {} is open", config.getCompanyCode(), circuitBreaker.getName());
+            return failAll(documents.size(), "ECount 전송 일시 중단: 최근 오류가 많아 잠시 후 다시 전송합니다", Map.of(), true);
+        } catch (ECountTransientException e) {
+            log.warn("SaveSale batch transient failure: {}", e.getMessage());
+            return failAll(documents.size(), e.getMessage(), Map.of(), true);
+        } catch (ECountUnknownOutcomeException e) {
+            log.error("SaveSale batch outcome unknown for company {}: {}", config.getCompanyCode(), e.getMessage());
+            return failAll(documents.size(), UNKNOWN_OUTCOME_MESSAGE + e.getMessage(), Map.of());
+        } catch (BusinessException e) {
+            log.error("SaveSale batch failed: {}", e.getMessage());
+            return failAll(documents.size(), e.getMessage(), Map.of());
+        } catch (WebClientResponseException e) {
+            log.error("SaveSale batch API error: {}", e.getResponseBodyAsString());
+            return failAll(documents.size(), "SaveSale API 호출 실패: " + e.getMessage(), Map.of());
+        } catch (Exception e) {
+            log.error("SaveSale batch failed", e);
+            return failAll(documents.size(), "전표 등록 실패: " + e.getMessage(), Map.of());
+        }
+
+        if (response == null) {
+            return failAll(documents.size(), UNKNOWN_OUTCOME_MESSAGE + "SaveSale API 응답이 없습니다", Map.of());
+        }
+        log.debug("SaveSale batch API response: {}", response);
+
+        String status = String.valueOf(response.get("Status"));
+        if (!"200".equals(status)) {
+            Object error = response.get("Error");
+            String errorMsg = error != null ? error.toString() : "HTTP " + status;
+            return failAll(documents.size(), "전표 등록 실패: " + errorMsg, response);
+        }
+        if (!(response.get("Data") instanceof Map<?, ?> data)) {
+            return failAll(documents.size(), "전표 등록 실패: Data 없음", response);
+        }
+
+        // 라인 번호(0부터) → 실패 사유, ResultDetails에 없는 라인은 성공으로 간주
+        Map<Integer, String> lineErrors = new HashMap<>();
+        Object details = data.get("ResultDetails");
+        if (details instanceof List<?> detailList) {
+            for (int i = 0; i < detailList.size(); i++) {
+                if (!(detailList.get(i) instanceof Map<?, ?> detail)) {
+                    continue;
+                }
+                if (!Boolean.parseBoolean(String.valueOf(detail.get("IsSuccess")))) {
+                    int line = parseLineIndex(detail.get("Line"), i);
+                    lineErrors.put(line, describeLineError(detail));
+                }
+            }
+        }
+
+        int failCnt = data.get("FailCnt") != null ? Integer.parseInt(data.get("FailCnt").toString()) : 0;
+        if (failCnt > 0 && lineErrors.isEmpty()) {
+            // 실패 건수는 있으나 어느 라인인지 알 수 없으면 요청 전체를 실패 처리
+            String detailMsg = details != null ? details.toString() : "상세 내용 없음";
+            return failAll(documents.size(), "전표 등록 일부 실패: " + detailMsg, response);
+        }
+
+        List<DocumentResult> results = new ArrayList<>(documents.size());
+        List<Integer> successIndexes = new ArrayList<>();
+        for (int i = 0; i < documents.size(); i++) {
+            String error = null;
+            for (int line = lineStart[i]; line < lineStart[i + 1] && error == null; line++) {
+                error = lineErrors.get(line);
+            }
+            if (error != null) {
+                results.add(new DocumentResult(false, null, "전표 등록 실패: " + error, response));
+            } else {
+                results.add(null);
+                successIndexes.add(i);
+            }
+        }
+
+        // SlipNos는 성공한 전표 순서(UPLOAD_SER_NO 순)로 반환됨
+        // 개수가 다르면 어느 전표번호가 어느 전표의 것인지 알 수 없으므로, 성공한 전표를 전송완료로 두지 않고
+        // 확인 대상(재전송하지 않는 실패)으로 남김 - 전표번호 없이 SENT가 되면 취소/대사가 불가능
+        List<?> slipNos = data.get("SlipNos") instanceof List<?> list ? list : List.of();
+        if (slipNos.size() != successIndexes.size()) {
+            log.warn("SaveSale batch slip count mismatch: successDocs={}, slipNos={}", successIndexes.size(), slipNos.size());
+            DocumentResult unmatched = new DocumentResult(false, null, UNKNOWN_OUTCOME_MESSAGE
+                    + "전표번호 수가 성공한 전표 수와 다릅니다 (성공 " + successIndexes.size() + "건, 전표번호 " + slipNos.size() + "건)",
+                    response);
+            successIndexes.forEach(i -> results.set(i, unmatched));
+            return results;
+        }
+        for (int k = 0; k < successIndexes.size(); k++) {
+            results.set(successIndexes.get(k), new DocumentResult(true, String.valueOf(slipNos.get(k)), null, response));
+        }
+
+        log.info("SaveSale batch completed: documents={}, success={}, fail={}",
+                documents.size(), successIndexes.size(), documents.size() - successIndexes.size());
+        return results;
+    }
+
+    /**
+     * SaveSale 호출 - 실패를 다시 보내도 되는지에 따라 나누어 서킷 브레이커에 기록
+     * - ECountTransientException: 요청이 처리되기 전에 실패한 것이 확실한 경우만
+     *   (연결 거부/연결 시간 초과, DNS 실패 - 요청을 보내기 전, HTTP/Status 429 - ECount가 처리하지 않고 거절)
+     * - ECountUnknownOutcomeException: 요청을 보낸 뒤의 실패 (응답 시간 초과, 응답 중 연결 끊김, HTTP/Status 5xx)
+     *   ECount가 전표를 이미 등록했을 수 있음
+     */
+    private Map<String, Object> postSaveSale(TenantErpConfig config, Object requestBody) {
+        Map<String, Object> response;
+        try {
+            response = postWithSession(config, "Sale/SaveSale", requestBody);
+        } catch (WebClientResponseException e) {
+            int status = e.getStatusCode().value();
+            if (status == HttpStatus.TOO_MANY_REQUESTS.value()) {
+                throw new ECountTransientException("SaveSale API 요청 제한: HTTP " + status, e);
+            }
+            if (status >= 500) {
+                throw new ECountUnknownOutcomeException("SaveSale API 오류: HTTP " + status, e);
+            }
+            throw e;
+        } catch (WebClientRequestException e) {
+            if (isNotSent(e)) {
+                throw new ECountTransientException("SaveSale API 연결 실패: " + e.getMessage(), e);
+            }
+            throw new ECountUnknownOutcomeException("SaveSale API 응답 없음: " + e.getMessage(), e);
+        }
+
+        if (response != null) {
+            String status = String.valueOf(response.get("Status"));
+            if (String.valueOf(HttpStatus.TOO_MANY_REQUESTS.value()).equals(status)) {
+                throw new ECountTransientException("SaveSale API 요청 제한: Status " + status + " " + response.get("Error"), null);
+            }
+            if (status.matches("5\\d{2}")) {
+                throw new ECountUnknownOutcomeException("SaveSale API 오류: Status " + status + " " + response.get("Error"), null);
+            }
+        }
+        return response;
+    }
+
+    /**
+     * 연결을 맺기 전에 실패했는지 여부 - 연결 거부/연결 시간 초과(ConnectException), 호스트 조회 실패(UnknownHostException)
+     * (응답 시간 초과, 응답 중 연결 끊김은 요청이 이미 전달되었을 수 있으므로 false)
+     */
+    private static boolean isNotSent(WebClientRequestException e) {
+        for (Throwable cause = e.getCause(); cause != null; cause = cause.getCause()) {
+            if (cause instanceof ConnectException || cause instanceof UnknownHostException) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private List<DocumentResult> failAll(int count, String errorMessage, Map<String, Object> response) {
+        return failAll(count, errorMessage, response, false);
+    }
+
+    private List<DocumentResult> failAll(int count, String errorMessage, Map<String, Object> response, boolean retryable) {
+        DocumentResult failure = new DocumentResult(false, null, errorMessage, response, retryable);
+        return new ArrayList<>(Collections.nCopies(count, failure));
+    }
+
+    /**
+     * ResultDetails의 Line을 요청 BulkDatas 내 라인 위치로 변환
+     * - Line은 0부터 시작하는 BulkDatas 인덱스로 가정 (ECount API 문서에 기준이 명시되어 있지 않음)
+     *   1부터 시작한다면 실패 사유가 한 라인 뒤(전표 경계에서는 다음 전표)에 붙어 다른 전표가 실패 처리되므로,
+     *   ECount 응답 형식이 바뀌면 여기부터 확인
+     * - Line이 없거나 숫자가 아니면 ResultDetails 내 순서(fallback)를 사용
+     */
+    private int parseLineIndex(Object line, int fallback) {
+        if (line == null) {
+            return fallback;
+        }
+        try {
+            return Integer.parseInt(line.toString().trim());
+        } catch (NumberFormatException e) {
+            return fallback;
+        }
+    }
+
+    private String describeLineError(Map<?, ?> detail) {
+        Object totalError = detail.get("TotalError");
+        if (totalError != null && !totalError.toString().isBlank()) {
+            return totalError.toString();
+        }
+        Object errors = detail.get("Errors");
+        return errors != null ? errors.toString() : "상세 내용 없음";
+    }
+
     @Override
     public DocumentResult createJournalEntry(TenantErpConfig config, JournalEntryRequest request) {
         log.info("ECount createJournalEntry for date {}", request.date());
@@ -255,27 +682,171 @@ public class ECountAdapter implements ErpAdapter {
         return new DocumentStatus(documentId, "UNKNOWN", Map.of());
     }
 
+    /**
+     * 품목 마스터 스트리밍 조회
+     * - 응답 본문을 파이프로 받아 Jackson 스트리밍 파서로 Data.Result 항목을 하나씩 읽고 batchSize건마다 전달
+     * - 메모리에는 파이프 버퍼와 배치 하나만 유지하므로 품목 수와 관계없이 일정
+     * - 세션 만료 응답(품목 0건 + 세션 오류)이면 한 번 재로그인 후 재시도
+     */
     @Override
-    public ItemFetchResult fetchItems(TenantErpConfig config) {
+    public ItemStreamResult streamItems(TenantErpConfig config, int batchSize,
+                                        Consumer<List<Map<String, Object>>> batchConsumer) {
+        Map<String, Object> requestBody = new HashMap<>();
+        requestBody.put("PROD_CD", "");
+        requestBody.put("PROD_TYPE", "");
+        String apiPath = "InventoryBasic/GetBasicProductsList";
+
         try {
-            String zone = getZone(config.getCompanyCode());
-            String sessionId = login(zone, config.getCompanyCode(), config.getUserId(), config.getApiKey());
-            return fetchItemsWithSession(zone, sessionId);
+            ECountSession session = sessionCache.get(config, this::openSession);
+            StreamedResponse response = postAndStreamResult(
+                    buildApiUrl(session, apiPath), requestBody, Math.max(1, batchSize), batchConsumer);
+
+            if (response.resultCount() == 0 && isSessionExpiredError(response.error())) {
+                log.info("ECount session expired for company {}, logging in again", config.getCompanyCode());
+                sessionCache.invalidate(config, session);
+                session = sessionCache.get(config, this::openSession);
+                response = postAndStreamResult(
+                        buildApiUrl(session, apiPath), requestBody, Math.max(1, batchSize), batchConsumer);
+            }
+
+            if (response.error() != null) {
+                return new ItemStreamResult(false, response.resultCount(),
+                        "품목 조회 실패: " + response.error().get("Message"));
+            }
+            if (!"200".equals(response.status())) {
+                return new ItemStreamResult(false, response.resultCount(), "품목 조회 실패: HTTP " + response.status());
+            }
+
+            log.info("ECount items streamed successfully: {} items", response.resultCount());
+            return new ItemStreamResult(true, response.resultCount(), null);
         } catch (BusinessException e) {
-            log.error("ECount fetchItems failed: {}", e.getMessage());
-            return new ItemFetchResult(false, List.of(), e.getMessage(), 0);
+            log.error("ECount streamItems failed: {}", e.getMessage());
+            return new ItemStreamResult(false, 0, e.getMessage());
+        } catch (WebClientResponseException e) {
+            log.error("ECount items API error: {}", e.getResponseBodyAsString());
+            return new ItemStreamResult(false, 0, "품목 조회 API 호출 실패: " + e.getMessage());
         } catch (Exception e) {
-            log.error("ECount fetchItems failed", e);
-            return new ItemFetchResult(false, List.of(), "품목 조회 실패: " + e.getMessage(), 0);
+            log.error("ECount streamItems failed", e);
+            return new ItemStreamResult(false, 0, "품목 조회 실패: " + e.getMessage());
+        }
+    }
+
+    /**
+     * POST 응답 본문을 버퍼링하지 않고 파싱
+     * - 수신은 boundedElastic 스레드에서 파이프에 쓰고(이벤트 루프를 막지 않음), 호출 스레드가 파이프를 읽어 파싱
+     * - publishOn prefetch를 작게 두어 파싱이 느리면 수신 요청(demand)도 줄어듦
+     * - 수신 중 오류(HTTP 오류 상태, 연결 끊김)는 파이프를 닫아 파서를 깨운 뒤 원래 예외로 다시 던짐
+     */
+    private StreamedResponse postAndStreamResult(String apiUrl, Object requestBody, int batchSize,
+                                                 Consumer<List<Map<String, Object>>> batchConsumer) throws IOException {
+        PipedInputStream in = new PipedInputStream(STREAM_PIPE_SIZE);
+        PipedOutputStream out = new PipedOutputStream(in);
+        AtomicReference<Throwable> transferError = new AtomicReference<>();
+
+        Disposable transfer = DataBufferUtils.write(webClient.post()
+                                .uri(apiUrl)
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .bodyValue(requestBody)
+                                .retrieve()
+                                .bodyToFlux(DataBuffer.class)
+                                .publishOn(Schedulers.boundedElastic(), 4),
+                        out)
+                .subscribe(DataBufferUtils.releaseConsumer(),
+                        e -> {
+                            transferError.set(e);
+                            closeQuietly(out);
+                        },
+                        () -> closeQuietly(out));
+
+        try (JsonParser parser = objectMapper.createParser(in)) {
+            return readStreamedResponse(parser, batchSize, batchConsumer);
+        } catch (IOException e) {
+            if (transferError.get() instanceof RuntimeException re) {
+                throw re;
+            }
+            throw e;
+        } finally {
+            transfer.dispose();
+            closeQuietly(in);
+        }
+    }
+
+    private StreamedResponse readStreamedResponse(JsonParser parser, int batchSize,
+                                                  Consumer<List<Map<String, Object>>> batchConsumer) throws IOException {
+        if (parser.nextToken() != JsonToken.START_OBJECT) {
+            throw new IOException("ECount 응답 형식 오류: JSON 객체가 아닙니다");
+        }
+
+        String status = null;
+        Map<String, Object> error = null;
+        int resultCount = 0;
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.currentName();
+            JsonToken value = parser.nextToken();
+            switch (field) {
+                case "Status" -> status = parser.getValueAsString();
+                case "Error" -> {
+                    if (value == JsonToken.START_OBJECT) {
+                        error = parser.readValueAs(MAP_TYPE);
+                    } else if (value != JsonToken.VALUE_NULL) {
+                        error = Map.of("Message", String.valueOf(parser.getValueAsString()));
+                    }
+                }
+                case "Data" -> {
+                    if (value == JsonToken.START_OBJECT) {
+                        resultCount += readDataResult(parser, batchSize, batchConsumer);
+                    } else {
+                        parser.skipChildren();
+                    }
+                }
+                default -> parser.skipChildren();
+            }
+        }
+        return new StreamedResponse(status, error, resultCount);
+    }
+
+    /**
+     * Data 객체 안의 Result 배열만 batchSize건씩 전달하고 나머지 필드는 건너뜀
+     */
+    private int readDataResult(JsonParser parser, int batchSize,
+                               Consumer<List<Map<String, Object>>> batchConsumer) throws IOException {
+        int count = 0;
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.currentName();
+            JsonToken value = parser.nextToken();
+            if (!"Result".equals(field) || value != JsonToken.START_ARRAY) {
+                parser.skipChildren();
+                continue;
+            }
+
+            List<Map<String, Object>> batch = new ArrayList<>(batchSize);
+            while (parser.nextToken() == JsonToken.START_OBJECT) {
+                batch.add(parser.readValueAs(MAP_TYPE));
+                count++;
+                if (batch.size() >= batchSize) {
+                    batchConsumer.accept(batch);
+                    batch = new ArrayList<>(batchSize);
+                }
+            }
+            if (!batch.isEmpty()) {
+                batchConsumer.accept(batch);
+            }
+        }
+        return count;
+    }
+
+    private void closeQuietly(Closeable closeable) {
+        try {
+            closeable.close();
+        } catch (IOException ignored) {
+            // 이미 닫힌 파이프
         }
     }
 
     @Override
     public InventoryFetchResult fetchInventoryBalance(TenantErpConfig config, String baseDate, List<String> prodCds) {
         try {
-            String zone = getZone(config.getCompanyCode());
-            String sessionId = login(zone, config.getCompanyCode(), config.getUserId(), config.getApiKey());
-            return fetchInventoryWithSession(zone, sessionId, baseDate, prodCds);
+            return fetchInventoryWithSession(config, baseDate, prodCds);
         } catch (BusinessException e) {
             log.error("ECount fetchInventoryBalance failed: {}", e.getMessage());
             return new InventoryFetchResult(false, List.of(), e.getMessage());
@@ -285,12 +856,8 @@ public class ECountAdapter implements ErpAdapter {
         }
     }
 
-    private InventoryFetchResult fetchInventoryWithSession(String zone, String sessionId, String baseDate, List<String> prodCds) {
-        String apiUrl = String.format(
-                "https://oapi%s.ecount.com/OAPI/V2/InventoryBalance/GetListInventoryBalanceStatusByLocation?SESSION_ID=%s",
-                zone, sessionId);
-
-        log.debug("Fetching inventory balance from ECount at {}, baseDate={}, prodCds={}", apiUrl, baseDate, prodCds);
+    private InventoryFetchResult fetchInventoryWithSession(TenantErpConfig config, String baseDate, List<String> prodCds) {
+        log.debug("Fetching inventory balance from ECount, baseDate={}, prodCds={}", baseDate, prodCds);
 
         // 요청 body 구성
         Map<String, Object> requestBody = new java.util.HashMap<>();
@@ -300,14 +867,8 @@ public class ECountAdapter implements ErpAdapter {
         }
 
         try {
-            @SuppressWarnings("unchecked")
-            Map<String, Object> response = webClient.post()
-                    .uri(apiUrl)
-                    .contentType(MediaType.APPLICATION_JSON)
-                    .bodyValue(requestBody)
-                    .retrieve()
-                    .bodyToMono(Map.class)
-                    .block();
+            Map<String, Object> response = postWithSession(config,
+                    "InventoryBalance/GetListInventoryBalanceStatusByLocation", requestBody);
 
             if (response == null) {
                 return new InventoryFetchResult(false, List.of(), "재고 조회 API 응답이 없습니다");
@@ -350,67 +911,8 @@ public class ECountAdapter implements ErpAdapter {
         }
     }
 
-    private ItemFetchResult fetchItemsWithSession(String zone, String sessionId) {
-        String apiUrl = String.format(
-                "https://oapi%s.ecount.com/OAPI/V2/InventoryBasic/GetBasicProductsList?SESSION_ID=%s",
-                zone, sessionId);
-
-        log.debug("Fetching items from ECount at {}", apiUrl);
-
-        // 전체 품목 조회 - PROD_TYPE을 비우면 전체 검색
-        Map<String, Object> requestBody = new java.util.HashMap<>();
-        requestBody.put("PROD_CD", "");
-        requestBody.put("PROD_TYPE", "");
-
-        try {
-            @SuppressWarnings("unchecked")
-            Map<String, Object> response = webClient.post()
-                    .uri(apiUrl)
-                    .contentType(MediaType.APPLICATION_JSON)
-                    .bodyValue(requestBody)
-                    .retrieve()
-                    .bodyToMono(Map.class)
-                    .block();
-
-            if (response == null) {
-                return new ItemFetchResult(false, List.of(), "품목 조회 API 응답이 없습니다", 0);
-            }
-
-            log.debug("ECount items API response: Status={}, Error={}", response.get("Status"), response.get("Error"));
-
-            // 에러 체크: Error 필드가 있으면 실패
-            Object error = response.get("Error");
-            if (error != null) {
-                @SuppressWarnings("unchecked")
-                Map<String, Object> errorMap = (Map<String, Object>) error;
-                String errorMessage = String.valueOf(errorMap.get("Message"));
-                return new ItemFetchResult(false, List.of(), "품목 조회 실패: " + errorMessage, 0);
-            }
-
-            // Status가 200이 아니면 실패
-            String status = String.valueOf(response.get("Status"));
-            if (!"200".equals(status)) {
-                return new ItemFetchResult(false, List.of(), "품목 조회 실패: HTTP " + status, 0);
-            }
-
-            @SuppressWarnings("unchecked")
-            Map<String, Object> data = (Map<String, Object>) response.get("Data");
-            if (data == null) {
-                return new ItemFetchResult(false, List.of(), "품목 조회 실패: Data 없음", 0);
-            }
-
-            // 품목 데이터는 Data.Result에 있음
-            @SuppressWarnings("unchecked")
-            List<Map<String, Object>> items = (List<Map<String, Object>>) data.get("Result");
-            if (items == null) {
-                items = List.of();
-            }
-
-            log.info("ECount items fetched successfully: {} items", items.size());
-            return new ItemFetchResult(true, items, null, items.size());
-        } catch (WebClientResponseException e) {
-            log.error("ECount items API error: {}", e.getResponseBodyAsString());
-            return new ItemFetchResult(false, List.of(), "품목 조회 API 호출 실패: " + e.getMessage(), 0);
-        }
+    @PreDestroy
+    public void shutdown() {
+        sendExecutor.shutdownNow();
     }
 }
@@ -0,0 +1,15 @@
+package com.mhub.erp.adapter.ecount;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * ECount Open API 호출 설정
+ * - saveSaleBatchSize: 일괄 전송 시 SaveSale 요청 1건에 담는 최대 전표 수
+ * - saveSaleMaxLines: SaveSale 요청 1건에 담는 최대 라인 수 (ECount 요청당 라인 제한 이하로 유지)
+ */
+@ConfigurationProperties(prefix = "ecount.api")
+public record ECountApiProperties(
+        @DefaultValue("50") int saveSaleBatchSize,
+        @DefaultValue("300") int saveSaleMaxLines
+) {}
@@ -0,0 +1,49 @@
+package com.mhub.erp.adapter.ecount;
+
+import com.mhub.core.domain.entity.ErpSalesTemplate;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 판매전표 템플릿 컴파일러
+ * 템플릿 ID별로 CompiledSalesTemplate을 캐시하고, 템플릿의 updatedAt이 바뀌면 다시 컴파일
+ */
+@Slf4j
+@Component
+public class ECountSalesTemplateCompiler {
+
+    private record CacheEntry(LocalDateTime version, CompiledSalesTemplate compiled) {}
+
+    private final ConcurrentHashMap<UUID, CacheEntry> cache = new ConcurrentHashMap<>();
+
+    CompiledSalesTemplate compile(ErpSalesTemplate template) {
+        UUID templateId = template.getId();
+        if (templateId == null) {
+            // 저장 전 템플릿(미리보기 등)은 캐시하지 않음
+            return CompiledSalesTemplate.compile(template);
+        }
+
+        LocalDateTime version = template.getUpdatedAt();
+        CacheEntry entry = cache.get(templateId);
+        if (entry != null && Objects.equals(entry.version(), version)) {
+            return entry.compiled();
+        }
+
+        CompiledSalesTemplate compiled = CompiledSalesTemplate.compile(template);
+        cache.put(templateId, new CacheEntry(version, compiled));
+        log.debug("Compiled ERP sales template: templateId={}, version={}", templateId, version);
+        return compiled;
+    }
+
+    /**
+     * 템플릿 삭제 시 캐시 제거
+     */
+    public void evict(UUID templateId) {
+        cache.remove(templateId);
+    }
+}
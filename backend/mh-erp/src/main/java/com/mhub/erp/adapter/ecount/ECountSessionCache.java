@@ -0,0 +1,96 @@
+package com.mhub.erp.adapter.ecount;
+
+import com.mhub.core.domain.entity.TenantErpConfig;
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.Instant;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+/**
+ * ECount ZONE / SESSION_ID 캐시 (ERP 설정 단위)
+ * - 세션은 TTL 동안 재사용하고, 만료되었거나 ECount가 세션 만료를 응답하면 다시 로그인
+ * - 동시에 여러 스레드가 같은 설정으로 로그인이 필요하면 한 번만 로그인하고 결과를 공유 (single-flight)
+ * - 캐시 키에 회사코드/사용자ID/API 키를 포함하므로 설정이 변경되면 자연스럽게 새 세션을 사용
+ */
+@Slf4j
+public class ECountSessionCache {
+
+    public record ECountSession(String zone, String sessionId, Instant expiresAt) {
+        boolean isValid() {
+            return Instant.now().isBefore(expiresAt);
+        }
+    }
+
+    private final ConcurrentHashMap<String, CompletableFuture<ECountSession>> sessions = new ConcurrentHashMap<>();
+
+    /**
+     * 유효한 세션 반환, 없으면 loader로 로그인 (동시 호출은 하나의 로그인을 공유)
+     */
+    public ECountSession get(TenantErpConfig config, Function<TenantErpConfig, ECountSession> loader) {
+        String key = cacheKey(config);
+        while (true) {
+            CompletableFuture<ECountSession> existing = sessions.get(key);
+            if (existing != null) {
+                if (!existing.isDone()) {
+                    return join(existing);
+                }
+                ECountSession session = existing.isCompletedExceptionally() ? null : existing.join();
+                if (session != null && session.isValid()) {
+                    return session;
+                }
+            }
+
+            CompletableFuture<ECountSession> mine = new CompletableFuture<>();
+            boolean claimed = existing == null
+                    ? sessions.putIfAbsent(key, mine) == null
+                    : sessions.replace(key, existing, mine);
+            if (!claimed) {
+                // 다른 스레드가 먼저 로그인을 시작함 - 그 결과를 기다림
+                continue;
+            }
+
+            try {
+                ECountSession session = loader.apply(config);
+                mine.complete(session);
+                return session;
+            } catch (RuntimeException e) {
+                mine.completeExceptionally(e);
+                sessions.remove(key, mine);
+                throw e;
+            }
+        }
+    }
+
+    /**
+     * ECount가 세션 만료를 응답했을 때 호출 - 같은 세션이 아직 캐시에 있을 때만 제거하여
+     * 다른 스레드가 이미 갱신한 세션을 지우지 않도록 함
+     */
+    public void invalidate(TenantErpConfig config, ECountSession stale) {
+        String key = cacheKey(config);
+        CompletableFuture<ECountSession> current = sessions.get(key);
+        if (current != null && current.isDone() && !current.isCompletedExceptionally()
+                && current.join().sessionId().equals(stale.sessionId())) {
+            sessions.remove(key, current);
+            log.debug("ECount session invalidated for company {}", config.getCompanyCode());
+        }
+    }
+
+    private ECountSession join(CompletableFuture<ECountSession> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException re) {
+                throw re;
+            }
+            throw e;
+        }
+    }
+
+    private String cacheKey(TenantErpConfig config) {
+        return config.getId() + ":" + config.getCompanyCode() + ":" + config.getUserId() + ":"
+                + (config.getApiKey() != null ? config.getApiKey().hashCode() : 0);
+    }
+}
@@ -0,0 +1,12 @@
+package com.mhub.erp.adapter.ecount;
+
+/**
+ * 요청이 처리되기 전에 실패한 것이 확실한 ECount 호출 실패 (연결 거부/연결 시간 초과, DNS 실패, HTTP 429)
+ * - 다시 보내도 중복 등록되지 않으므로 전표는 재전송 큐로 돌려보내고, 서킷 브레이커에는 실패로 기록
+ */
+public class ECountTransientException extends RuntimeException {
+
+    public ECountTransientException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
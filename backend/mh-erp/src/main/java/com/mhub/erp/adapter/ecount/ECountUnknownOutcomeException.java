@@ -0,0 +1,13 @@
+package com.mhub.erp.adapter.ecount;
+
+/**
+ * 요청이 ECount에 전달된 뒤 결과를 알 수 없게 된 실패 (응답 시간 초과, 응답 중 연결 끊김, HTTP 5xx)
+ * - SaveSale은 같은 요청을 다시 받으면 전표를 한 번 더 만들므로 자동 재전송하지 않고 수동 확인 대상으로 남김
+ * - 서킷 브레이커에는 실패로 기록
+ */
+public class ECountUnknownOutcomeException extends RuntimeException {
+
+    public ECountUnknownOutcomeException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
@@ -8,9 +8,10 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
 
 import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * ERP 필드 값 해석기
@@ -21,7 +22,16 @@ import java.util.regex.Pattern;
 public class ErpFieldResolver {
 
     private static final DateTimeFormatter DATE_FMT = DateTimeFormatter.ofPattern("yyyyMMdd");
-    private static final Pattern PLACEHOLDER_PATTERN = Pattern.compile("\\{([^}]+)}");
+
+    /**
+     * 템플릿 조각 - literal이 null이면 placeholder 값으로 치환
+     */
+    private record TemplatePart(String literal, String placeholder) {}
+
+    /**
+     * 템플릿 문자열별 분해 결과 캐시 (매핑 설정 수만큼만 쌓임)
+     */
+    private final Map<String, List<TemplatePart>> templateCache = new ConcurrentHashMap<>();
 
     /**
      * 필드 매핑에 따라 값 해석
@@ -96,19 +106,49 @@ public class ErpFieldResolver {
             return null;
         }
 
-        StringBuffer result = new StringBuffer();
-        Matcher matcher = PLACEHOLDER_PATTERN.matcher(template);
-
-        while (matcher.find()) {
-            String placeholder = matcher.group(1);
-            String replacement = getPlaceholderValue(placeholder, order, item);
-            matcher.appendReplacement(result, Matcher.quoteReplacement(replacement != null ? replacement : ""));
+        List<TemplatePart> parts = templateCache.computeIfAbsent(template, ErpFieldResolver::parseTemplate);
+        StringBuilder result = new StringBuilder(template.length() + 32);
+        for (TemplatePart part : parts) {
+            if (part.literal() != null) {
+                result.append(part.literal());
+            } else {
+                String replacement = getPlaceholderValue(part.placeholder(), order, item);
+                result.append(replacement != null ? replacement : "");
+            }
         }
-        matcher.appendTail(result);
-
         return result.toString();
     }
 
+    /**
+     * 템플릿을 리터럴/플레이스홀더 조각으로 분해
+     * - '{' 다음 첫 '}'까지를 플레이스홀더 이름으로 사용 ("{}"나 닫히지 않은 '{'는 리터럴)
+     */
+    private static List<TemplatePart> parseTemplate(String template) {
+        List<TemplatePart> parts = new ArrayList<>();
+        int literalStart = 0;
+        int pos = template.indexOf('{');
+        while (pos >= 0) {
+            int close = template.indexOf('}', pos + 1);
+            if (close < 0) {
+                break;
+            }
+            if (close == pos + 1) {
+                pos = template.indexOf('{', pos + 1);
+                continue;
+            }
+            if (pos > literalStart) {
+                parts.add(new TemplatePart(template.substring(literalStart, pos), null));
+            }
+            parts.add(new TemplatePart(null, template.substring(pos + 1, close)));
+            literalStart = close + 1;
+            pos = template.indexOf('{', literalStart);
+        }
+        if (literalStart < template.length()) {
+            parts.add(new TemplatePart(template.substring(literalStart), null));
+        }
+        return List.copyOf(parts);
+    }
+
     /**
      * 플레이스홀더 값 추출
      */
@@ -0,0 +1,26 @@
+package com.mhub.erp.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * ERP 전표 전송 설정
+ * - defaultConcurrency: ERP 설정별 동시 SaveSale 요청 수 (tenant_erp_config.send_concurrency가 없을 때)
+ * - maxAttempts: 일시적 오류로 실패한 전표를 자동 재전송하는 최대 횟수 (초과하면 수동 재전송 대기)
+ * - initialBackoff / maxBackoff: 재전송 간격 (실패할 때마다 두 배, 최대 maxBackoff, 간격의 절반 범위에서 무작위 지연)
+ * - retryBatchSize: 재전송 확인 1회에 테넌트별로 다시 보내는 최대 전표 수
+ * - claimTimeout: 전송 선점(SENDING) 후 이 시간이 지나도 결과가 반영되지 않은 전표는 전송 중 중단된 것으로 보고
+ *   실패(수동 재전송 대기)로 돌림 - ERP에 이미 들어갔을 수 있으므로 자동 재전송하지 않음
+ * 확인 주기(erp.send.retry-poll-interval)는 @Scheduled에서 직접 읽음
+ */
+@ConfigurationProperties(prefix = "erp.send")
+public record ErpSendProperties(
+        @DefaultValue("4") int defaultConcurrency,
+        @DefaultValue("6") int maxAttempts,
+        @DefaultValue("1m") Duration initialBackoff,
+        @DefaultValue("2h") Duration maxBackoff,
+        @DefaultValue("200") int retryBatchSize,
+        @DefaultValue("10m") Duration claimTimeout
+) {}
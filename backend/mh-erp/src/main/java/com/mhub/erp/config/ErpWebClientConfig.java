@@ -16,6 +16,7 @@ import java.util.concurrent.TimeUnit;
 @Configuration
 public class ErpWebClientConfig {
 
+    // 재고 조회처럼 응답 전체를 받는 호출용 (품목 마스터는 스트리밍으로 받으므로 이 한도와 무관)
     private static final int MAX_BUFFER_SIZE = 16 * 1024 * 1024; // 16MB
 
     @Bean(name = "erpWebClient")
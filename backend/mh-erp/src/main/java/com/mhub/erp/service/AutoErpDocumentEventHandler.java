@@ -0,0 +1,32 @@
+package com.mhub.erp.service;
+
+import com.mhub.core.domain.event.OrderStatusChangedEvent;
+import com.mhub.core.service.OrderEventHandler;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+/**
+ * 주문이 배송중/배송완료로 바뀌면 테넌트 설정에 따라 전표 생성 및 ERP 전송
+ * - 야간 자동 전표 배치(runAutoErpDocumentBatch)를 기다리지 않고 상태 변경 직후 처리
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class AutoErpDocumentEventHandler implements OrderEventHandler {
+
+    private final ErpSalesDocumentService erpSalesDocumentService;
+
+    @Override
+    public String name() {
+        return "auto-erp-document";
+    }
+
+    @Override
+    public void onOrderStatusChanged(OrderStatusChangedEvent event) {
+        if (!ErpSalesDocumentService.AUTO_DOCUMENT_STATUSES.contains(event.toStatus())) {
+            return;
+        }
+        erpSalesDocumentService.processAutoErpForOrder(event.orderId());
+    }
+}
@@ -0,0 +1,237 @@
+package com.mhub.erp.service;
+
+import com.mhub.core.domain.entity.ErpSalesDocument;
+import com.mhub.core.domain.entity.Order;
+import com.mhub.core.domain.entity.TenantErpConfig;
+import com.mhub.core.domain.repository.ErpSalesDocumentRepository;
+import com.mhub.core.domain.repository.OrderRepository;
+import com.mhub.core.erp.dto.ErpBatchSendResult;
+import com.mhub.erp.adapter.ErpAdapter;
+import com.mhub.erp.adapter.ecount.ECountAdapter;
+import com.mhub.erp.config.ErpSendProperties;
+import jakarta.persistence.EntityManager;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.*;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * ERP 전표 전송기 - 전표를 선점한 뒤 SaveSale로 전송하고 결과를 반영
+ * - ECount SaveSale은 같은 전표를 두 번 받으면 판매전표가 두 건 생기므로, 여러 곳(수동 전송, 자동 재전송 스케줄러,
+ *   주문 이벤트 자동전송, 야간 배치)에서 같은 전표를 동시에 보내지 않도록 HTTP 요청 전에 행을 선점함
+ * - 선점: status를 SENDING으로 바꾸는 UPDATE ... FOR UPDATE SKIP LOCKED (별도 트랜잭션으로 즉시 커밋)
+ *   이미 다른 쪽이 선점했거나 상태가 바뀐 전표는 보내지 않음
+ * - ERP 호출은 트랜잭션 밖에서 하여 응답을 기다리는 동안 DB 커넥션을 잡지 않음
+ * - 결과 반영도 별도 트랜잭션 - 선점한 쪽만 SENDING에서 SENT/FAILED로 되돌림
+ * - 전송 중 프로세스가 종료되어 SENDING으로 남은 전표는 releaseStaleClaims에서 수동 재전송 대기로 돌림
+ */
+@Slf4j
+@Component
+public class ErpDocumentSender {
+
+    private static final String CLAIM_SQL =
+            "UPDATE erp_sales_document SET status = 'SENDING', send_claimed_at = NOW(), " +
+            "version = version + 1, updated_at = NOW() " +
+            "WHERE id IN (SELECT id FROM erp_sales_document WHERE tenant_id = ? AND id = ANY(?) " +
+            "AND status IN ('PENDING', 'FAILED') FOR UPDATE SKIP LOCKED) " +
+            "RETURNING id";
+
+    private static final String RELEASE_STALE_SQL =
+            "UPDATE erp_sales_document SET status = 'FAILED', next_retry_at = NULL, send_claimed_at = NULL, " +
+            "error_message = ?, version = version + 1, updated_at = NOW() " +
+            "WHERE tenant_id = ? AND status = 'SENDING' AND send_claimed_at < NOW() - ? * INTERVAL '1 millisecond'";
+
+    static final String NOT_CLAIMED_MESSAGE = "다른 전송 작업에서 처리 중이거나 이미 처리된 전표입니다";
+    static final String STALE_CLAIM_MESSAGE = "전송 중 중단되었습니다. ERP에 전표가 등록되었는지 확인 후 재전송해주세요";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ErpSalesDocumentRepository documentRepository;
+    private final OrderRepository orderRepository;
+    private final ErpAdapterFactory erpAdapterFactory;
+    private final ErpSendProperties sendProperties;
+    private final EntityManager entityManager;
+    private final TransactionTemplate sendTransaction;
+
+    public ErpDocumentSender(JdbcTemplate jdbcTemplate, ErpSalesDocumentRepository documentRepository,
+                             OrderRepository orderRepository, ErpAdapterFactory erpAdapterFactory,
+                             ErpSendProperties sendProperties, EntityManager entityManager,
+                             PlatformTransactionManager transactionManager) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.documentRepository = documentRepository;
+        this.orderRepository = orderRepository;
+        this.erpAdapterFactory = erpAdapterFactory;
+        this.sendProperties = sendProperties;
+        this.entityManager = entityManager;
+        this.sendTransaction = new TransactionTemplate(transactionManager);
+        this.sendTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    /**
+     * 전표를 선점하여 전송하고 결과를 반영
+     * - 호출 측 트랜잭션 안에서 호출하지 않음 (선점/반영은 각자 커밋되고, 호출 측 엔티티는 최신 상태가 아닐 수 있음)
+     *
+     * @param resetAttempts 수동 전송이면 true - 자동 재전송 횟수를 새로 셈
+     * @return docs와 같은 순서의 전송 결과 (선점하지 못한 전표는 실패로 반환하고 상태를 바꾸지 않음)
+     */
+    public List<ErpBatchSendResult.SendItemResult> send(TenantErpConfig config, List<ErpSalesDocument> docs,
+                                                        boolean resetAttempts) {
+        if (docs.isEmpty()) {
+            return List.of();
+        }
+        Set<UUID> claimed = claim(config.getTenantId(), docs);
+        List<ErpSalesDocument> claimedDocs = docs.stream()
+                .filter(d -> claimed.contains(d.getId()))
+                .toList();
+        if (claimedDocs.size() < docs.size()) {
+            log.info("Skipped {} ERP documents already claimed by another sender", docs.size() - claimedDocs.size());
+        }
+
+        Map<UUID, ErpBatchSendResult.SendItemResult> resultById = claimedDocs.isEmpty()
+                ? Map.of()
+                : apply(claimedDocs, callErp(config, claimedDocs), resetAttempts);
+
+        List<ErpBatchSendResult.SendItemResult> results = new ArrayList<>(docs.size());
+        for (ErpSalesDocument doc : docs) {
+            ErpBatchSendResult.SendItemResult result = resultById.get(doc.getId());
+            results.add(result != null ? result : new ErpBatchSendResult.SendItemResult(
+                    doc.getId(), doc.getOrderId(), false, null, NOT_CLAIMED_MESSAGE));
+        }
+        return results;
+    }
+
+    /**
+     * claimTimeout이 지나도록 SENDING으로 남은 전표를 실패(수동 재전송 대기)로 돌림
+     * - ERP 요청이 이미 처리되었을 수 있으므로 자동 재전송 대상으로 두지 않음
+     *
+     * @return 정리한 전표 수
+     */
+    public int releaseStaleClaims(UUID tenantId) {
+        Integer released = sendTransaction.execute(status -> jdbcTemplate.update(RELEASE_STALE_SQL,
+                STALE_CLAIM_MESSAGE, tenantId, sendProperties.claimTimeout().toMillis()));
+        if (released != null && released > 0) {
+            log.warn("[ErpSend] tenant={} released {} documents left in SENDING", tenantId, released);
+        }
+        return released != null ? released : 0;
+    }
+
+    private Set<UUID> claim(UUID tenantId, List<ErpSalesDocument> docs) {
+        UUID[] ids = docs.stream().map(ErpSalesDocument::getId).toArray(UUID[]::new);
+        List<UUID> claimed = sendTransaction.execute(status ->
+                jdbcTemplate.queryForList(CLAIM_SQL, UUID.class, tenantId, ids));
+        return claimed != null ? new HashSet<>(claimed) : Set.of();
+    }
+
+    /**
+     * 요청 분할과 라인별 결과 매핑은 ECountAdapter.createSaveSaleBatch에서 처리
+     */
+    private List<ErpAdapter.DocumentResult> callErp(TenantErpConfig config, List<ErpSalesDocument> docs) {
+        try {
+            ECountAdapter adapter = (ECountAdapter) erpAdapterFactory.getAdapter(config.getErpType());
+            return adapter.createSaveSaleBatch(config, docs.stream()
+                    .map(ErpSalesDocument::getDocumentLines)
+                    .toList());
+        } catch (Exception e) {
+            log.error("Batch send failed for {} documents", docs.size(), e);
+            return Collections.nCopies(docs.size(),
+                    new ErpAdapter.DocumentResult(false, null, e.getMessage(), Map.of()));
+        }
+    }
+
+    /**
+     * 선점한 전표의 전송 결과를 반영 (관련 주문은 한 번의 조회로 가져와 일괄 저장)
+     */
+    private Map<UUID, ErpBatchSendResult.SendItemResult> apply(List<ErpSalesDocument> claimedDocs,
+                                                               List<ErpAdapter.DocumentResult> sendResults,
+                                                               boolean resetAttempts) {
+        Map<UUID, ErpAdapter.DocumentResult> sendResultById = new HashMap<>();
+        for (int i = 0; i < claimedDocs.size(); i++) {
+            sendResultById.put(claimedDocs.get(i).getId(), sendResults.get(i));
+        }
+
+        try {
+            return sendTransaction.execute(status -> {
+                // 선점 UPDATE가 올린 version과 SENDING 상태를 읽어야 하므로 영속성 컨텍스트에 남은 엔티티도 새로 읽음
+                List<ErpSalesDocument> docs = documentRepository.findAllById(sendResultById.keySet());
+                docs.forEach(entityManager::refresh);
+
+                Map<UUID, Order> orderMap = orderRepository.findAllById(docs.stream()
+                                .map(ErpSalesDocument::getOrderId)
+                                .distinct()
+                                .toList()).stream()
+                        .collect(Collectors.toMap(Order::getId, Function.identity()));
+
+                Map<UUID, ErpBatchSendResult.SendItemResult> results = new HashMap<>();
+                List<Order> syncedOrders = new ArrayList<>();
+                for (ErpSalesDocument doc : docs) {
+                    ErpAdapter.DocumentResult result = sendResultById.get(doc.getId());
+                    if (resetAttempts) {
+                        doc.resetSendAttempts();
+                    }
+
+                    if (result.success()) {
+                        doc.markAsSent(result.documentId());
+
+                        Order order = orderMap.get(doc.getOrderId());
+                        if (order != null) {
+                            order.setErpSynced(true);
+                            order.setErpDocumentId(result.documentId());
+                            syncedOrders.add(order);
+                        }
+
+                        results.put(doc.getId(), new ErpBatchSendResult.SendItemResult(
+                                doc.getId(), doc.getOrderId(), true, result.documentId(), null));
+                    } else {
+                        // 일시적 오류는 재시도 한도 안에서 재전송 큐로, 영구 오류나 한도 초과는 수동 재전송 대기
+                        if (result.retryable() && doc.getSendAttempts() + 1 < sendProperties.maxAttempts()) {
+                            Instant nextRetryAt = Instant.now().plus(retryBackoff(doc.getSendAttempts()));
+                            doc.markForRetry(result.errorMessage(), nextRetryAt);
+                            log.warn("Failed to send ERP document {} (attempt {}), retrying at {}: {}",
+                                    doc.getId(), doc.getSendAttempts(), nextRetryAt, result.errorMessage());
+                        } else {
+                            doc.markAsFailed(result.errorMessage());
+                            log.warn("Failed to send ERP document {}: {}", doc.getId(), result.errorMessage());
+                        }
+                        results.put(doc.getId(), new ErpBatchSendResult.SendItemResult(
+                                doc.getId(), doc.getOrderId(), false, null, result.errorMessage()));
+                    }
+                }
+
+                documentRepository.saveAll(docs);
+                orderRepository.saveAll(syncedOrders);
+                return results;
+            });
+        } catch (RuntimeException e) {
+            // 반영하지 못한 전표는 SENDING으로 남아 claimTimeout 후 수동 재전송 대기로 정리됨 (ERP 전표번호는 로그로 남김)
+            Map<UUID, String> sentIds = new HashMap<>();
+            sendResultById.forEach((id, result) -> {
+                if (result.success()) {
+                    sentIds.put(id, result.documentId());
+                }
+            });
+            log.error("Failed to record ERP send results for {} documents, sent={}", claimedDocs.size(), sentIds, e);
+            throw e;
+        }
+    }
+
+    /**
+     * initialBackoff * 2^attempts (최대 maxBackoff), 그 절반 ~ 전체 범위에서 무작위로 정하여
+     * 같은 장애로 실패한 전표들이 한꺼번에 다시 몰리지 않도록 함
+     */
+    private Duration retryBackoff(int attempts) {
+        Duration delay = sendProperties.initialBackoff().multipliedBy(1L << Math.min(attempts, 20));
+        if (delay.compareTo(sendProperties.maxBackoff()) > 0) {
+            delay = sendProperties.maxBackoff();
+        }
+        long halfMillis = Math.max(1, delay.toMillis() / 2);
+        return Duration.ofMillis(halfMillis + ThreadLocalRandom.current().nextLong(halfMillis + 1));
+    }
+}
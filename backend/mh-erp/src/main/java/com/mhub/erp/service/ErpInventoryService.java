@@ -6,20 +6,27 @@ import com.mhub.core.domain.repository.ErpInventoryBalanceRepository;
 import com.mhub.core.domain.repository.TenantErpConfigRepository;
 import com.mhub.core.erp.dto.InventoryBalanceDto;
 import com.mhub.core.erp.dto.InventoryBalanceResponse;
+import com.mhub.core.erp.dto.InventoryBalanceResponse.SyncCounts;
 import com.mhub.core.tenant.TenantContext;
 import com.mhub.erp.adapter.ErpAdapter;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.sql.Timestamp;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
 import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.UUID;
 import java.util.stream.Collectors;
 
@@ -31,8 +38,32 @@ public class ErpInventoryService {
     private final TenantErpConfigRepository erpConfigRepository;
     private final ErpInventoryBalanceRepository inventoryBalanceRepository;
     private final ErpAdapterFactory erpAdapterFactory;
+    private final JdbcTemplate jdbcTemplate;
 
     private static final DateTimeFormatter DATE_FORMATTER = DateTimeFormatter.ofPattern("yyyyMMdd");
+    private static final int BATCH_SIZE = 1000;
+    // bal_qty 컬럼 scale - 비교 전에 ERP 값을 같은 scale로 맞춰 매번 변경으로 판정되지 않도록 함
+    private static final int QTY_SCALE = 2;
+
+    private static final String SELECT_STORED_SQL =
+            "SELECT id, prod_cd, wh_cd, wh_des, bal_qty FROM erp_inventory_balance " +
+            "WHERE tenant_id = ? AND erp_config_id = ?";
+
+    private static final String INSERT_BALANCE_SQL =
+            "INSERT INTO erp_inventory_balance (tenant_id, erp_config_id, prod_cd, wh_cd, wh_des, bal_qty, " +
+            "last_synced_at, created_at, updated_at) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?) " +
+            "ON CONFLICT (tenant_id, erp_config_id, prod_cd, wh_cd) DO UPDATE SET " +
+            "wh_des = EXCLUDED.wh_des, bal_qty = EXCLUDED.bal_qty, " +
+            "last_synced_at = EXCLUDED.last_synced_at, updated_at = EXCLUDED.updated_at";
+
+    private static final String UPDATE_BALANCE_SQL =
+            "UPDATE erp_inventory_balance SET wh_des = ?, bal_qty = ?, last_synced_at = ?, updated_at = ? WHERE id = ?";
+
+    private static final String DELETE_BALANCE_SQL = "DELETE FROM erp_inventory_balance WHERE id = ?";
+
+    private record StoredBalance(UUID id, String whDes, BigDecimal balQty) {}
+
+    private record FetchedBalance(String prodCd, String whCd, String whDes, BigDecimal balQty) {}
 
     /**
      * DB에서 재고 조회 (조인용)
@@ -101,7 +132,7 @@ public class ErpInventoryService {
         log.info("품목 동기화 후 재고 동기화 시작 (tenantId: {}, erpConfigId: {})", tenantId, config.getId());
         InventoryBalanceResponse result = syncInventoryBalanceInternal(tenantId, config, List.of());
         if (result.isSuccess()) {
-            log.info("재고 동기화 완료: {}건", result.getItems().size());
+            log.info("재고 동기화 완료: {}건 (변경 {})", result.getItems().size(), result.getSyncCounts());
         } else {
             log.warn("재고 동기화 실패: {}", result.getErrorMessage());
         }
@@ -109,6 +140,10 @@ public class ErpInventoryService {
 
     /**
      * 내부 재고 동기화 로직
+     * - 저장된 재고와 ERP 재고를 (품목코드, 창고코드)로 비교하여 추가/변경/삭제된 행만 JDBC 배치로 반영
+     * - 수량과 창고명이 그대로인 행은 쓰지 않음 (last_synced_at은 행이 마지막으로 바뀐 동기화 시각)
+     * - 호출 트랜잭션 안에서 한 번에 반영되므로 조회 측은 동기화 전 또는 후의 재고만 보게 됨
+     * - prodCds가 비어 있으면 ERP 설정의 전체 재고, 아니면 해당 품목의 재고만 비교 대상
      */
     private InventoryBalanceResponse syncInventoryBalanceInternal(UUID tenantId, TenantErpConfig config, List<String> prodCds) {
         ErpAdapter adapter = erpAdapterFactory.getAdapter(config.getErpType());
@@ -120,19 +155,10 @@ public class ErpInventoryService {
             return InventoryBalanceResponse.error(result.errorMessage());
         }
 
-        LocalDateTime now = LocalDateTime.now();
         UUID erpConfigId = config.getId();
-
-        // 전체 동기화인 경우 기존 데이터 모두 삭제, 아니면 해당 품목만 삭제
-        if (prodCds.isEmpty()) {
-            inventoryBalanceRepository.deleteByTenantIdAndErpConfigId(tenantId, erpConfigId);
-        } else {
-            inventoryBalanceRepository.deleteByTenantIdAndErpConfigIdAndProdCdIn(tenantId, erpConfigId, prodCds);
-        }
-
-        // 새 데이터 저장
-        List<InventoryBalanceDto> items = new ArrayList<>();
-        List<ErpInventoryBalance> entities = new ArrayList<>();
+        List<InventoryBalanceDto> items = new ArrayList<>(result.items().size());
+        // 같은 (품목, 창고)가 여러 번 오면 마지막 값 사용
+        Map<String, FetchedBalance> fetched = new LinkedHashMap<>();
 
         for (Map<String, Object> item : result.items()) {
             String prodCd = getStringValue(item, "PROD_CD");
@@ -140,15 +166,8 @@ public class ErpInventoryService {
             String whDes = getStringValue(item, "WH_DES");
             BigDecimal balQty = getBigDecimalValue(item, "BAL_QTY");
 
-            entities.add(ErpInventoryBalance.builder()
-                    .tenantId(tenantId)
-                    .erpConfigId(erpConfigId)
-                    .prodCd(prodCd)
-                    .whCd(whCd)
-                    .whDes(whDes)
-                    .balQty(balQty)
-                    .lastSyncedAt(now)
-                    .build());
+            fetched.put(balanceKey(prodCd, whCd),
+                    new FetchedBalance(prodCd, whCd, whDes, balQty.setScale(QTY_SCALE, RoundingMode.HALF_UP)));
 
             items.add(InventoryBalanceDto.builder()
                     .prodCd(prodCd)
@@ -158,13 +177,67 @@ public class ErpInventoryService {
                     .build());
         }
 
-        inventoryBalanceRepository.saveAll(entities);
-        log.info("재고 동기화 완료: {}건", entities.size());
+        Map<String, StoredBalance> stored = loadStoredBalances(tenantId, erpConfigId, prodCds);
+        Timestamp nowTs = Timestamp.valueOf(LocalDateTime.now());
+
+        List<Object[]> inserts = new ArrayList<>();
+        List<Object[]> updates = new ArrayList<>();
+        int unchanged = 0;
+        for (Map.Entry<String, FetchedBalance> entry : fetched.entrySet()) {
+            FetchedBalance balance = entry.getValue();
+            StoredBalance existing = stored.remove(entry.getKey());
+            if (existing == null) {
+                inserts.add(new Object[] {
+                        tenantId, erpConfigId, balance.prodCd(), balance.whCd(), balance.whDes(), balance.balQty(),
+                        nowTs, nowTs, nowTs
+                });
+            } else if (existing.balQty().compareTo(balance.balQty()) != 0
+                    || !Objects.equals(Objects.toString(existing.whDes(), ""), balance.whDes())) {
+                updates.add(new Object[] { balance.whDes(), balance.balQty(), nowTs, nowTs, existing.id() });
+            } else {
+                unchanged++;
+            }
+        }
+        // ERP 응답에 없는 나머지 행은 삭제
+        List<Object[]> deletes = stored.values().stream()
+                .map(s -> new Object[] { s.id() })
+                .toList();
+
+        executeInChunks(DELETE_BALANCE_SQL, deletes);
+        executeInChunks(UPDATE_BALANCE_SQL, updates);
+        executeInChunks(INSERT_BALANCE_SQL, inserts);
+
+        SyncCounts counts = new SyncCounts(inserts.size(), updates.size(), deletes.size(), unchanged);
+        log.info("재고 동기화 완료: inserted={}, updated={}, deleted={}, unchanged={}",
+                counts.inserted(), counts.updated(), counts.deleted(), counts.unchanged());
 
         Map<String, List<InventoryBalanceDto>> itemsByProdCd = items.stream()
                 .collect(Collectors.groupingBy(InventoryBalanceDto::getProdCd));
 
-        return InventoryBalanceResponse.success(items, itemsByProdCd);
+        return InventoryBalanceResponse.synced(items, itemsByProdCd, counts);
+    }
+
+    private Map<String, StoredBalance> loadStoredBalances(UUID tenantId, UUID erpConfigId, List<String> prodCds) {
+        Map<String, StoredBalance> stored = new HashMap<>();
+        String sql = prodCds.isEmpty() ? SELECT_STORED_SQL : SELECT_STORED_SQL + " AND prod_cd = ANY(?)";
+        Object[] args = prodCds.isEmpty()
+                ? new Object[] { tenantId, erpConfigId }
+                : new Object[] { tenantId, erpConfigId, prodCds.toArray(new String[0]) };
+        jdbcTemplate.query(sql, rs -> {
+            stored.put(balanceKey(rs.getString("prod_cd"), rs.getString("wh_cd")),
+                    new StoredBalance(rs.getObject("id", UUID.class), rs.getString("wh_des"), rs.getBigDecimal("bal_qty")));
+        }, args);
+        return stored;
+    }
+
+    private String balanceKey(String prodCd, String whCd) {
+        return prodCd + '\u0000' + whCd;
+    }
+
+    private void executeInChunks(String sql, List<Object[]> batchArgs) {
+        for (int i = 0; i < batchArgs.size(); i += BATCH_SIZE) {
+            jdbcTemplate.batchUpdate(sql, batchArgs.subList(i, Math.min(i + BATCH_SIZE, batchArgs.size())));
+        }
     }
 
     /**
@@ -1,5 +1,7 @@
 package com.mhub.erp.service;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.mhub.common.exception.BusinessException;
 import com.mhub.common.exception.ErrorCodes;
 import com.mhub.core.domain.entity.ErpItem;
@@ -15,17 +17,24 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.interceptor.TransactionAspectSupport;
 
 import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.sql.Statement;
+import java.sql.Timestamp;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.UUID;
-import java.util.function.Function;
-import java.util.stream.Collectors;
 
 @Slf4j
 @Service
@@ -36,7 +45,31 @@ public class ErpItemSyncService {
     private final ErpItemRepository erpItemRepository;
     private final ErpAdapterFactory adapterFactory;
     private final ErpInventoryService erpInventoryService;
-
+    private final JdbcTemplate jdbcTemplate;
+    private final ObjectMapper objectMapper;
+
+    private static final int BATCH_SIZE = 500;
+
+    private static final String UPSERT_ITEM_SQL =
+            "INSERT INTO erp_item (tenant_id, erp_config_id, prod_cd, prod_des, size_des, unit, prod_type, " +
+            "in_price, out_price, bar_code, class_cd, class_cd2, class_cd3, set_flag, bal_flag, last_synced_at, " +
+            "raw_data, content_hash, created_at, updated_at) " +
+            "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?::jsonb, ?, ?, ?) " +
+            "ON CONFLICT (tenant_id, erp_config_id, prod_cd) DO UPDATE SET " +
+            "prod_des = EXCLUDED.prod_des, size_des = EXCLUDED.size_des, unit = EXCLUDED.unit, " +
+            "prod_type = EXCLUDED.prod_type, in_price = EXCLUDED.in_price, out_price = EXCLUDED.out_price, " +
+            "bar_code = EXCLUDED.bar_code, class_cd = EXCLUDED.class_cd, class_cd2 = EXCLUDED.class_cd2, " +
+            "class_cd3 = EXCLUDED.class_cd3, set_flag = EXCLUDED.set_flag, bal_flag = EXCLUDED.bal_flag, " +
+            "last_synced_at = EXCLUDED.last_synced_at, raw_data = EXCLUDED.raw_data, " +
+            "content_hash = EXCLUDED.content_hash, updated_at = EXCLUDED.updated_at " +
+            "WHERE erp_item.content_hash IS DISTINCT FROM EXCLUDED.content_hash";
+
+    /**
+     * 품목 동기화 (스트리밍)
+     * - ECount 응답을 BATCH_SIZE건씩 받아 prod_cd 기준 JDBC 배치 UPSERT (메모리 사용량은 품목 수와 무관)
+     * - 원본 JSON의 SHA-256(content_hash)이 같은 품목은 UPSERT의 WHERE 조건으로 갱신하지 않음
+     * - 조회 중 실패하면 이미 저장한 배치까지 롤백하여 이전 상태를 유지
+     */
     @Transactional
     public ErpItemSyncResponse syncItems(UUID erpConfigId) {
         UUID tenantId = TenantContext.requireTenantId();
@@ -44,11 +77,17 @@ public class ErpItemSyncService {
 
         log.info("Starting item sync for ERP config {} (tenant: {})", erpConfigId, tenantId);
 
+        LocalDateTime now = LocalDateTime.now();
+        Timestamp nowTs = Timestamp.valueOf(now);
+        int[] counts = new int[3]; // synced, changed, failed
+
         ErpAdapter adapter = adapterFactory.getAdapter(config.getErpType());
-        ErpAdapter.ItemFetchResult result = adapter.fetchItems(config);
+        ErpAdapter.ItemStreamResult result = adapter.streamItems(config, BATCH_SIZE,
+                batch -> upsertBatch(tenantId, erpConfigId, batch, nowTs, counts));
 
         if (!result.success()) {
             log.error("Item fetch failed for ERP config {}: {}", erpConfigId, result.errorMessage());
+            TransactionAspectSupport.currentTransactionStatus().setRollbackOnly();
             return ErpItemSyncResponse.builder()
                     .success(false)
                     .totalCount(0)
@@ -59,39 +98,14 @@ public class ErpItemSyncService {
                     .build();
         }
 
-        LocalDateTime now = LocalDateTime.now();
-        int syncedCount = 0;
-        int failedCount = 0;
-
-        // 기존 품목을 한 번에 조회하여 Map으로 변환 (prodCd -> ErpItem)
-        Map<String, ErpItem> existingItems = erpItemRepository
-                .findByTenantIdAndErpConfigId(tenantId, erpConfigId, Pageable.unpaged())
-                .getContent()
-                .stream()
-                .collect(Collectors.toMap(ErpItem::getProdCd, Function.identity()));
+        int syncedCount = counts[0];
+        int changedCount = counts[1];
+        int failedCount = counts[2];
+        config.setItemSyncedAt(now);
+        erpConfigRepository.save(config);
 
-        List<ErpItem> itemsToSave = new ArrayList<>();
-
-        for (Map<String, Object> itemData : result.items()) {
-            try {
-                ErpItem item = buildItem(tenantId, config, itemData, now, existingItems);
-                if (item != null) {
-                    itemsToSave.add(item);
-                    syncedCount++;
-                }
-            } catch (Exception e) {
-                log.warn("Failed to process item: {}", itemData.get("PROD_CD"), e);
-                failedCount++;
-            }
-        }
-
-        // 배치 저장
-        if (!itemsToSave.isEmpty()) {
-            erpItemRepository.saveAll(itemsToSave);
-            log.info("Batch saved {} items", itemsToSave.size());
-        }
-
-        log.info("Item sync completed for ERP config {}: synced={}, failed={}", erpConfigId, syncedCount, failedCount);
+        log.info("Item sync completed for ERP config {}: synced={}, changed={}, failed={}",
+                erpConfigId, syncedCount, changedCount, failedCount);
 
         // 품목 동기화 후 재고도 함께 동기화
         try {
@@ -104,43 +118,79 @@ public class ErpItemSyncService {
                 .success(true)
                 .totalCount(result.totalCount())
                 .syncedCount(syncedCount)
+                .changedCount(changedCount)
                 .failedCount(failedCount)
-                .message(String.format("품목 동기화 완료: %d건 성공, %d건 실패", syncedCount, failedCount))
+                .message(String.format("품목 동기화 완료: %d건 성공 (변경 %d건), %d건 실패", syncedCount, changedCount, failedCount))
                 .syncedAt(now)
                 .build();
     }
 
-    private ErpItem buildItem(UUID tenantId, TenantErpConfig config, Map<String, Object> itemData,
-                               LocalDateTime syncedAt, Map<String, ErpItem> existingItems) {
-        String prodCd = getString(itemData, "PROD_CD");
-        if (prodCd == null || prodCd.isBlank()) {
-            return null;
+    /**
+     * 품목 배치 UPSERT - counts: [0] 처리 품목 수, [1] 실제로 저장된 품목 수, [2] 변환 실패 품목 수
+     * - 배치 안에서 같은 prod_cd가 여러 번 오면 마지막 값 사용 (한 배치에서 같은 행을 두 번 갱신하지 않도록)
+     */
+    private void upsertBatch(UUID tenantId, UUID erpConfigId, List<Map<String, Object>> batch,
+                             Timestamp syncedAt, int[] counts) {
+        Map<String, Object[]> rows = new LinkedHashMap<>();
+        for (Map<String, Object> itemData : batch) {
+            String prodCd = getString(itemData, "PROD_CD");
+            if (prodCd == null || prodCd.isBlank()) {
+                continue;
+            }
+            try {
+                rows.put(prodCd, toUpsertArgs(tenantId, erpConfigId, prodCd, itemData, syncedAt));
+            } catch (Exception e) {
+                log.warn("Failed to process item: {}", prodCd, e);
+                counts[2]++;
+            }
+        }
+        if (rows.isEmpty()) {
+            return;
         }
 
-        // 기존 품목이 있으면 업데이트, 없으면 새로 생성
-        ErpItem item = existingItems.getOrDefault(prodCd,
-                ErpItem.builder()
-                        .tenantId(tenantId)
-                        .erpConfig(config)
-                        .prodCd(prodCd)
-                        .build());
-
-        item.setProdDes(getString(itemData, "PROD_DES", ""));
-        item.setSizeDes(getString(itemData, "SIZE_DES"));
-        item.setUnit(getString(itemData, "UNIT"));
-        item.setProdType(getString(itemData, "PROD_TYPE"));
-        item.setInPrice(getBigDecimal(itemData, "IN_PRICE"));
-        item.setOutPrice(getBigDecimal(itemData, "OUT_PRICE"));
-        item.setBarCode(getString(itemData, "BAR_CODE"));
-        item.setClassCd(getString(itemData, "CLASS_CD"));
-        item.setClassCd2(getString(itemData, "CLASS_CD2"));
-        item.setClassCd3(getString(itemData, "CLASS_CD3"));
-        item.setSetFlag(getBoolean(itemData, "SET_FLAG", false));
-        item.setBalFlag(getBoolean(itemData, "BAL_FLAG", true));
-        item.setLastSyncedAt(syncedAt);
-        item.setRawData(itemData);
-
-        return item;
+        int[] updated = jdbcTemplate.batchUpdate(UPSERT_ITEM_SQL, new ArrayList<>(rows.values()));
+        counts[0] += rows.size();
+        for (int count : updated) {
+            // 드라이버가 행별 결과를 주지 않으면(SUCCESS_NO_INFO) 저장된 것으로 셈
+            if (count > 0 || count == Statement.SUCCESS_NO_INFO) {
+                counts[1]++;
+            }
+        }
+    }
+
+    private Object[] toUpsertArgs(UUID tenantId, UUID erpConfigId, String prodCd, Map<String, Object> itemData,
+                                  Timestamp syncedAt) throws JsonProcessingException {
+        byte[] rawJson = objectMapper.writeValueAsBytes(itemData);
+        return new Object[] {
+                tenantId,
+                erpConfigId,
+                prodCd,
+                getString(itemData, "PROD_DES", ""),
+                getString(itemData, "SIZE_DES"),
+                getString(itemData, "UNIT"),
+                getString(itemData, "PROD_TYPE"),
+                getBigDecimal(itemData, "IN_PRICE"),
+                getBigDecimal(itemData, "OUT_PRICE"),
+                getString(itemData, "BAR_CODE"),
+                getString(itemData, "CLASS_CD"),
+                getString(itemData, "CLASS_CD2"),
+                getString(itemData, "CLASS_CD3"),
+                getBoolean(itemData, "SET_FLAG", false),
+                getBoolean(itemData, "BAL_FLAG", true),
+                syncedAt,
+                new String(rawJson, StandardCharsets.UTF_8),
+                contentHash(rawJson),
+                syncedAt,
+                syncedAt
+        };
+    }
+
+    private String contentHash(byte[] rawJson) {
+        try {
+            return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(rawJson));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
     }
 
     @Transactional(readOnly = true)
@@ -161,10 +211,14 @@ public class ErpItemSyncService {
     @Transactional(readOnly = true)
     public ErpItemSyncStatusResponse getSyncStatus(UUID erpConfigId) {
         UUID tenantId = TenantContext.requireTenantId();
-        findConfigOrThrow(erpConfigId, tenantId);
+
+        TenantErpConfig config = findConfigOrThrow(erpConfigId, tenantId);
 
         long totalItems = erpItemRepository.countByTenantIdAndErpConfigId(tenantId, erpConfigId);
-        LocalDateTime lastSyncedAt = erpItemRepository.findLastSyncedAt(tenantId, erpConfigId).orElse(null);
+        // 변경 없는 품목은 last_synced_at을 갱신하지 않으므로 설정에 기록된 동기화 시각을 우선 사용
+        LocalDateTime lastSyncedAt = config.getItemSyncedAt() != null
+                ? config.getItemSyncedAt()
+                : erpItemRepository.findLastSyncedAt(tenantId, erpConfigId).orElse(null);
 
         return ErpItemSyncStatusResponse.builder()
                 .totalItems(totalItems)
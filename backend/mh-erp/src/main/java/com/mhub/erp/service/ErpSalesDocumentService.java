@@ -6,13 +6,13 @@ import com.mhub.core.domain.entity.*;
 import com.mhub.core.domain.enums.ErpDocumentStatus;
 import com.mhub.core.domain.enums.OrderStatus;
 import com.mhub.core.domain.repository.*;
+import com.mhub.core.erp.dto.AutoErpChunkResult;
 import com.mhub.core.erp.dto.ErpBatchSendResult;
 import com.mhub.core.erp.dto.ErpSalesDocumentResponse;
 import com.mhub.core.service.ErpDocumentGenerator;
 import com.mhub.core.tenant.TenantContext;
-import com.mhub.erp.adapter.ErpAdapter;
-import com.mhub.erp.adapter.ecount.ECountAdapter;
 import com.mhub.erp.adapter.ecount.ECountSalesDocumentBuilder;
+import com.mhub.erp.config.ErpSendProperties;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
@@ -21,8 +21,10 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.math.BigDecimal;
+import java.time.Instant;
 import java.time.LocalDate;
 import java.util.*;
 import java.util.function.Function;
@@ -33,13 +35,20 @@ import java.util.stream.Collectors;
 @RequiredArgsConstructor
 public class ErpSalesDocumentService implements ErpDocumentGenerator {
 
+    /**
+     * 자동 전표생성 대상 주문 상태
+     */
+    public static final List<OrderStatus> AUTO_DOCUMENT_STATUSES = List.of(OrderStatus.SHIPPING, OrderStatus.DELIVERED);
+
     private final ErpSalesDocumentRepository documentRepository;
     private final OrderRepository orderRepository;
     private final OrderSettlementRepository orderSettlementRepository;
     private final TenantErpConfigRepository erpConfigRepository;
     private final ErpSalesTemplateRepository erpSalesTemplateRepository;
     private final ECountSalesDocumentBuilder documentBuilder;
-    private final ErpAdapterFactory erpAdapterFactory;
+    private final ErpDocumentSender documentSender;
+    private final ErpSendProperties sendProperties;
+    private final TransactionTemplate transactionTemplate;
 
     /**
      * 전표 생성 (출고 완료 시 호출)
@@ -179,6 +188,9 @@ public class ErpSalesDocumentService implements ErpDocumentGenerator {
                 .filter(d -> d.getTenantId().equals(tenantId))
                 .orElseThrow(() -> new BusinessException(ErrorCodes.ERP_DOCUMENT_NOT_FOUND, "전표를 찾을 수 없습니다"));
 
+        if (doc.getStatus() == ErpDocumentStatus.SENDING) {
+            throw new BusinessException(ErrorCodes.ERP_DOCUMENT_SENDING, "전송 중인 전표는 취소할 수 없습니다");
+        }
         if (!doc.canCancel()) {
             throw new BusinessException(ErrorCodes.ERP_DOCUMENT_CANNOT_CANCEL,
                     "전송 완료된 전표는 취소할 수 없습니다");
@@ -191,8 +203,8 @@ public class ErpSalesDocumentService implements ErpDocumentGenerator {
 
     /**
      * 개별 전표 전송
+     * - 전송 메서드는 트랜잭션 없이 실행: 선점/결과 반영은 ErpDocumentSender가 각자 커밋하고, ERP 응답을 기다리는 동안 커넥션을 잡지 않음
      */
-    @Transactional
     public ErpSalesDocumentResponse sendDocument(UUID documentId) {
         UUID tenantId = TenantContext.requireTenantId();
 
@@ -200,6 +212,9 @@ public class ErpSalesDocumentService implements ErpDocumentGenerator {
                 .filter(d -> d.getTenantId().equals(tenantId))
                 .orElseThrow(() -> new BusinessException(ErrorCodes.ERP_DOCUMENT_NOT_FOUND, "전표를 찾을 수 없습니다"));
 
+        if (doc.getStatus() == ErpDocumentStatus.SENDING) {
+            throw new BusinessException(ErrorCodes.ERP_DOCUMENT_SENDING, "전송 중인 전표입니다");
+        }
         if (!doc.canRetry()) {
             throw new BusinessException(ErrorCodes.ERP_DOCUMENT_ALREADY_SENT,
                     "이미 전송 완료된 전표입니다");
@@ -208,85 +223,23 @@ public class ErpSalesDocumentService implements ErpDocumentGenerator {
         TenantErpConfig config = erpConfigRepository.findById(doc.getErpConfigId())
                 .orElseThrow(() -> new BusinessException(ErrorCodes.ERP_CONFIG_NOT_FOUND, "ERP 설정을 찾을 수 없습니다"));
 
-        try {
-            ECountAdapter adapter = (ECountAdapter) erpAdapterFactory.getAdapter(config.getErpType());
-            // documentLines를 BulkDatas로 감싸서 ECount API 형식에 맞게 변환
-            List<Map<String, Object>> saleList = wrapWithBulkDatas(doc.getDocumentLines());
-            Map<String, Object> requestBody = Map.of("SaleList", saleList);
-            ErpAdapter.DocumentResult result = adapter.createSaveSale(config, requestBody);
-
-            if (result.success()) {
-                doc.markAsSent(result.documentId());
-
-                // Order 엔티티도 업데이트
-                orderRepository.findById(doc.getOrderId()).ifPresent(order -> {
-                    order.setErpSynced(true);
-                    order.setErpDocumentId(result.documentId());
-                    orderRepository.save(order);
-                });
-
-                log.info("Sent ERP document {} with ERP document ID {}", documentId, result.documentId());
-            } else {
-                doc.markAsFailed(result.errorMessage());
-                log.warn("Failed to send ERP document {}: {}", documentId, result.errorMessage());
-            }
-
-            documentRepository.save(doc);
-
-        } catch (Exception e) {
-            log.error("Error sending ERP document {}", documentId, e);
-            doc.markAsFailed(e.getMessage());
-            documentRepository.save(doc);
+        // 수동 전송은 자동 재전송 횟수를 새로 셈
+        ErpBatchSendResult.SendItemResult result = documentSender.send(config, List.of(doc), true).get(0);
+        if (result.success()) {
+            log.info("Sent ERP document {} with ERP document ID {}", documentId, result.erpDocumentId());
+        } else if (ErpDocumentSender.NOT_CLAIMED_MESSAGE.equals(result.errorMessage())) {
+            throw new BusinessException(ErrorCodes.ERP_DOCUMENT_SENDING, "전송 중인 전표입니다");
         }
 
+        doc = documentRepository.findById(documentId).orElseThrow();
         Order order = orderRepository.findById(doc.getOrderId()).orElse(null);
         String marketplaceOrderId = order != null ? order.getMarketplaceOrderId() : null;
         return ErpSalesDocumentResponse.from(doc, marketplaceOrderId);
     }
 
-    /**
-     * 전표 전송 (내부용 - TenantContext 없이 사용, 배치 처리용)
-     */
-    private void sendDocumentInternal(ErpSalesDocument doc) {
-        if (!doc.canRetry()) {
-            log.debug("Document {} already sent or cancelled, skipping", doc.getId());
-            return;
-        }
-
-        TenantErpConfig config = erpConfigRepository.findById(doc.getErpConfigId())
-                .orElseThrow(() -> new BusinessException(ErrorCodes.ERP_CONFIG_NOT_FOUND, "ERP 설정을 찾을 수 없습니다"));
-
-        try {
-            ECountAdapter adapter = (ECountAdapter) erpAdapterFactory.getAdapter(config.getErpType());
-            List<Map<String, Object>> saleList = wrapWithBulkDatas(doc.getDocumentLines());
-            Map<String, Object> requestBody = Map.of("SaleList", saleList);
-            ErpAdapter.DocumentResult result = adapter.createSaveSale(config, requestBody);
-
-            if (result.success()) {
-                doc.markAsSent(result.documentId());
-                orderRepository.findById(doc.getOrderId()).ifPresent(order -> {
-                    order.setErpSynced(true);
-                    order.setErpDocumentId(result.documentId());
-                    orderRepository.save(order);
-                });
-                log.info("[AutoErpBatch] Sent document {} -> ERP ID {}", doc.getId(), result.documentId());
-            } else {
-                doc.markAsFailed(result.errorMessage());
-                log.warn("[AutoErpBatch] Failed to send document {}: {}", doc.getId(), result.errorMessage());
-            }
-            documentRepository.save(doc);
-        } catch (Exception e) {
-            log.error("[AutoErpBatch] Error sending document {}", doc.getId(), e);
-            doc.markAsFailed(e.getMessage());
-            documentRepository.save(doc);
-            throw e;
-        }
-    }
-
     /**
      * 일괄 전송
      */
-    @Transactional
     public ErpBatchSendResult sendAllPending() {
         UUID tenantId = TenantContext.requireTenantId();
 
@@ -298,47 +251,9 @@ public class ErpSalesDocumentService implements ErpDocumentGenerator {
         }
 
         TenantErpConfig config = getActiveErpConfig(tenantId);
-        ECountAdapter adapter = (ECountAdapter) erpAdapterFactory.getAdapter(config.getErpType());
-
-        List<ErpBatchSendResult.SendItemResult> results = new ArrayList<>();
-        int successCount = 0;
-        int failCount = 0;
-
-        for (ErpSalesDocument doc : pendingDocs) {
-            try {
-                List<Map<String, Object>> saleList = wrapWithBulkDatas(doc.getDocumentLines());
-                Map<String, Object> requestBody = Map.of("SaleList", saleList);
-                ErpAdapter.DocumentResult result = adapter.createSaveSale(config, requestBody);
-
-                if (result.success()) {
-                    doc.markAsSent(result.documentId());
-
-                    // Order 엔티티도 업데이트
-                    orderRepository.findById(doc.getOrderId()).ifPresent(order -> {
-                        order.setErpSynced(true);
-                        order.setErpDocumentId(result.documentId());
-                        orderRepository.save(order);
-                    });
-
-                    results.add(new ErpBatchSendResult.SendItemResult(
-                            doc.getId(), doc.getOrderId(), true, result.documentId(), null));
-                    successCount++;
-                } else {
-                    doc.markAsFailed(result.errorMessage());
-                    results.add(new ErpBatchSendResult.SendItemResult(
-                            doc.getId(), doc.getOrderId(), false, null, result.errorMessage()));
-                    failCount++;
-                }
-
-            } catch (Exception e) {
-                doc.markAsFailed(e.getMessage());
-                results.add(new ErpBatchSendResult.SendItemResult(
-                        doc.getId(), doc.getOrderId(), false, null, e.getMessage()));
-                failCount++;
-            }
-
-            documentRepository.save(doc);
-        }
+        List<ErpBatchSendResult.SendItemResult> results = documentSender.send(config, pendingDocs, true);
+        int successCount = (int) results.stream().filter(ErpBatchSendResult.SendItemResult::success).count();
+        int failCount = results.size() - successCount;
 
         log.info("Batch send completed: total={}, success={}, fail={}", pendingDocs.size(), successCount, failCount);
 
@@ -348,7 +263,6 @@ public class ErpSalesDocumentService implements ErpDocumentGenerator {
     /**
      * 선택된 전표 일괄 전송
      */
-    @Transactional
     public ErpBatchSendResult sendSelected(List<UUID> documentIds) {
         UUID tenantId = TenantContext.requireTenantId();
 
@@ -362,46 +276,9 @@ public class ErpSalesDocumentService implements ErpDocumentGenerator {
         }
 
         TenantErpConfig config = getActiveErpConfig(tenantId);
-        ECountAdapter adapter = (ECountAdapter) erpAdapterFactory.getAdapter(config.getErpType());
-
-        List<ErpBatchSendResult.SendItemResult> results = new ArrayList<>();
-        int successCount = 0;
-        int failCount = 0;
-
-        for (ErpSalesDocument doc : docs) {
-            try {
-                List<Map<String, Object>> saleList = wrapWithBulkDatas(doc.getDocumentLines());
-                Map<String, Object> requestBody = Map.of("SaleList", saleList);
-                ErpAdapter.DocumentResult result = adapter.createSaveSale(config, requestBody);
-
-                if (result.success()) {
-                    doc.markAsSent(result.documentId());
-
-                    orderRepository.findById(doc.getOrderId()).ifPresent(order -> {
-                        order.setErpSynced(true);
-                        order.setErpDocumentId(result.documentId());
-                        orderRepository.save(order);
-                    });
-
-                    results.add(new ErpBatchSendResult.SendItemResult(
-                            doc.getId(), doc.getOrderId(), true, result.documentId(), null));
-                    successCount++;
-                } else {
-                    doc.markAsFailed(result.errorMessage());
-                    results.add(new ErpBatchSendResult.SendItemResult(
-                            doc.getId(), doc.getOrderId(), false, null, result.errorMessage()));
-                    failCount++;
-                }
-
-            } catch (Exception e) {
-                doc.markAsFailed(e.getMessage());
-                results.add(new ErpBatchSendResult.SendItemResult(
-                        doc.getId(), doc.getOrderId(), false, null, e.getMessage()));
-                failCount++;
-            }
-
-            documentRepository.save(doc);
-        }
+        List<ErpBatchSendResult.SendItemResult> results = documentSender.send(config, docs, true);
+        int successCount = (int) results.stream().filter(ErpBatchSendResult.SendItemResult::success).count();
+        int failCount = results.size() - successCount;
 
         log.info("Selected batch send completed: total={}, success={}, fail={}", docs.size(), successCount, failCount);
 
@@ -532,88 +409,180 @@ public class ErpSalesDocumentService implements ErpDocumentGenerator {
     }
 
     /**
-     * 자동 전표생성/전송 배치 처리 (스케줄러에서 호출)
-     * - autoGenerateDocument가 활성화된 경우: 전표 미생성 주문에 대해 자동 전표 생성
-     * - autoSendToErp가 활성화된 경우: 미전송 전표를 ERP로 자동 전송
+     * 자동 전표생성/전송 대상 ERP 설정 (스케줄러에서 호출)
+     * - 활성 ERP 설정이 없거나 autoGenerateDocument, autoSendToErp가 모두 꺼져 있으면 empty
+     */
+    @Transactional(readOnly = true)
+    public Optional<TenantErpConfig> findAutoErpConfig(UUID tenantId) {
+        return erpConfigRepository.findByTenantIdAndActiveTrue(tenantId).stream()
+                .findFirst()
+                .filter(c -> Boolean.TRUE.equals(c.getAutoGenerateDocument())
+                        || Boolean.TRUE.equals(c.getAutoSendToErp()));
+    }
+
+    /**
+     * 자동 전표생성 청크 처리 (스케줄러에서 호출)
+     * - afterOrderId 다음 ID부터 전표 미생성 주문을 chunkSize건까지 생성
+     * - autoSendToErp가 활성화된 경우 이번 청크에서 생성한 전표를 바로 ERP로 전송 (ErpDocumentSender로 선점 후 전송)
+     * - 주문마다 별도 트랜잭션으로 생성하여 한 주문의 생성 실패가 같은 청크의 다른 전표를 롤백시키지 않음
      *
-     * @param tenantId 테넌트 ID
-     * @return 처리 결과 (생성 건수, 전송 건수 등)
+     * @return 처리 결과 (lastId: 이번 청크의 마지막 주문 ID)
      */
-    @Transactional
-    public Map<String, Object> processAutoErpBatch(UUID tenantId) {
-        Map<String, Object> result = new LinkedHashMap<>();
-        result.put("tenantId", tenantId.toString());
+    public AutoErpChunkResult generateAutoErpChunk(UUID tenantId, UUID afterOrderId, int chunkSize) {
+        TenantErpConfig config = getActiveErpConfig(tenantId);
+        List<UUID> orderIds = orderRepository.findOrderIdsWithoutErpDocumentAfter(
+                tenantId, AUTO_DOCUMENT_STATUSES, afterOrderId, PageRequest.of(0, chunkSize));
+        if (orderIds.isEmpty()) {
+            return new AutoErpChunkResult(0, 0, 0, 0, 0, null);
+        }
 
-        // 활성 ERP 설정 조회
-        List<TenantErpConfig> configs = erpConfigRepository.findByTenantIdAndActiveTrue(tenantId);
-        if (configs.isEmpty()) {
-            result.put("skipped", true);
-            result.put("reason", "활성화된 ERP 설정 없음");
-            return result;
+        List<ErpSalesDocument> generated = new ArrayList<>();
+        int generateFailCount = 0;
+        for (UUID orderId : orderIds) {
+            try {
+                generated.add(transactionTemplate.execute(status -> generateDocument(orderId)));
+            } catch (Exception e) {
+                log.warn("[AutoErpBatch] Document generation failed for order {}: {}", orderId, e.getMessage());
+                generateFailCount++;
+            }
         }
 
-        TenantErpConfig config = configs.get(0);
-        boolean autoGenerate = Boolean.TRUE.equals(config.getAutoGenerateDocument());
-        boolean autoSend = Boolean.TRUE.equals(config.getAutoSendToErp());
+        int sentCount = 0;
+        int sendFailCount = 0;
+        if (Boolean.TRUE.equals(config.getAutoSendToErp())) {
+            List<ErpSalesDocument> pendingDocs = generated.stream()
+                    .filter(d -> d.getStatus() == ErpDocumentStatus.PENDING)
+                    .toList();
+            sentCount = sendAutoErpDocuments(config, pendingDocs);
+            sendFailCount = pendingDocs.size() - sentCount;
+        }
 
-        result.put("autoGenerateDocument", autoGenerate);
-        result.put("autoSendToErp", autoSend);
+        return new AutoErpChunkResult(orderIds.size(), generated.size(), generateFailCount,
+                sentCount, sendFailCount, orderIds.get(orderIds.size() - 1));
+    }
 
-        if (!autoGenerate && !autoSend) {
-            result.put("skipped", true);
-            result.put("reason", "자동 전표생성/전송 모두 비활성화");
-            return result;
+    /**
+     * 미전송 전표 자동 전송 청크 처리 (스케줄러에서 호출)
+     * - afterDocumentId 다음 ID부터 PENDING 전표를 chunkSize건까지 ERP로 전송
+     * - 수동 생성 후 전송하지 않은 전표 등 전표생성 단계에서 전송되지 않은 누락분 보정용
+     * - 다른 전송 작업(수동 전송, 주문 이벤트 자동전송 등)이 선점한 전표는 건너뜀
+     *
+     * @return 처리 결과 (lastId: 이번 청크의 마지막 전표 ID)
+     */
+    public AutoErpChunkResult sendPendingAutoErpChunk(UUID tenantId, UUID afterDocumentId, int chunkSize) {
+        TenantErpConfig config = getActiveErpConfig(tenantId);
+        List<ErpSalesDocument> pendingDocs = documentRepository.findPendingAfter(
+                tenantId, afterDocumentId, PageRequest.of(0, chunkSize));
+        if (pendingDocs.isEmpty()) {
+            return new AutoErpChunkResult(0, 0, 0, 0, 0, null);
         }
 
-        int generatedCount = 0;
-        int generateFailCount = 0;
+        int sentCount = sendAutoErpDocuments(config, pendingDocs);
+        return new AutoErpChunkResult(pendingDocs.size(), 0, 0, sentCount, pendingDocs.size() - sentCount,
+                pendingDocs.get(pendingDocs.size() - 1).getId());
+    }
+
+    private int sendAutoErpDocuments(TenantErpConfig config, List<ErpSalesDocument> docs) {
+        if (docs.isEmpty()) {
+            return 0;
+        }
         int sentCount = 0;
-        int sendFailCount = 0;
+        for (ErpBatchSendResult.SendItemResult item : documentSender.send(config, docs, false)) {
+            if (item.success()) {
+                sentCount++;
+            } else {
+                log.warn("[AutoErpBatch] Document send failed for doc {}: {}", item.documentId(), item.errorMessage());
+            }
+        }
+        return sentCount;
+    }
 
-        // 1. 자동 전표생성
-        if (autoGenerate) {
-            List<OrderStatus> eligibleStatuses = List.of(OrderStatus.SHIPPING, OrderStatus.DELIVERED);
-            List<Order> ordersWithoutDoc = orderRepository.findOrdersWithoutErpDocument(tenantId, eligibleStatuses);
+    /**
+     * 단일 주문 자동 전표생성 및 ERP전송 (주문 상태 변경 이벤트 처리용)
+     * - processAutoErpBatch와 같은 테넌트 설정(autoGenerateDocument, autoSendToErp)을 따름
+     * - 활성 전표가 이미 있으면 새로 만들지 않고 PENDING 전표만 전송하므로 같은 주문으로 여러 번 호출해도 결과가 같음
+     * - ERP 설정이나 전표 템플릿이 없으면 아무것도 하지 않음 (재시도해도 달라지지 않으므로 예외를 던지지 않음)
+     * - 생성한 전표는 전송 전에 커밋 (ErpDocumentSender가 별도 트랜잭션에서 선점하므로)
+     *
+     * @return 전표를 생성하거나 전송했으면 true
+     */
+    public boolean processAutoErpForOrder(UUID orderId) {
+        UUID tenantId = TenantContext.requireTenantId();
 
-            log.info("[AutoErpBatch] tenant={}, ordersWithoutDocument={}", tenantId, ordersWithoutDoc.size());
+        List<TenantErpConfig> configs = erpConfigRepository.findByTenantIdAndActiveTrue(tenantId);
+        if (configs.isEmpty()) {
+            return false;
+        }
+        TenantErpConfig config = configs.get(0);
+        boolean autoGenerate = Boolean.TRUE.equals(config.getAutoGenerateDocument());
+        boolean autoSend = Boolean.TRUE.equals(config.getAutoSendToErp());
+        if (!autoGenerate && !autoSend) {
+            return false;
+        }
 
-            for (Order order : ordersWithoutDoc) {
-                try {
-                    generateDocument(order.getId());
-                    generatedCount++;
-                } catch (Exception e) {
-                    log.warn("[AutoErpBatch] Document generation failed for order {}: {}", order.getId(), e.getMessage());
-                    generateFailCount++;
-                }
+        ErpSalesDocument document = documentRepository.findActiveByOrderId(orderId).orElse(null);
+        if (document == null && autoGenerate) {
+            boolean hasTemplate = erpSalesTemplateRepository.findByTenantIdAndErpConfigId(tenantId, config.getId())
+                    .filter(ErpSalesTemplate::getActive)
+                    .isPresent();
+            if (!hasTemplate) {
+                log.debug("[AutoErp] No active sales template for tenant {}, skipping order {}", tenantId, orderId);
+                return false;
             }
+            document = transactionTemplate.execute(status -> generateDocument(orderId));
+            log.info("[AutoErp] Generated document {} for order {}", document.getId(), orderId);
         }
 
-        result.put("generatedCount", generatedCount);
-        result.put("generateFailCount", generateFailCount);
+        if (autoSend && document != null && document.getStatus() == ErpDocumentStatus.PENDING) {
+            ErpBatchSendResult.SendItemResult result = documentSender.send(config, List.of(document), false).get(0);
+            if (!result.success()) {
+                log.warn("[AutoErp] Document send failed for order {}: {}", orderId, result.errorMessage());
+            }
+        }
+        return document != null;
+    }
 
-        // 2. 자동 ERP 전송
-        if (autoSend) {
-            List<ErpSalesDocument> pendingDocs = documentRepository.findByTenantIdAndStatusIn(
-                    tenantId, List.of(ErpDocumentStatus.PENDING));
+    /**
+     * 자동 재전송 (재전송 스케줄러에서 호출)
+     * - 일시적 오류로 실패하고 nextRetryAt이 지난 전표를 오래 기다린 순으로 retryBatchSize건까지 다시 전송
+     * - 다시 실패하면 ErpDocumentSender에서 다음 재전송 시각을 정하거나, 한도를 넘으면 수동 재전송 대기로 둠
+     * - 전송 중 중단되어 SENDING으로 남은 전표도 이 주기에 정리
+     *
+     * @return 다시 전송한 전표 수
+     */
+    public int retryDueDocuments(UUID tenantId) {
+        documentSender.releaseStaleClaims(tenantId);
 
-            log.info("[AutoErpBatch] tenant={}, pendingDocuments={}", tenantId, pendingDocs.size());
+        List<ErpSalesDocument> dueDocs = documentRepository.findDueForRetry(
+                tenantId, Instant.now(), PageRequest.of(0, Math.max(1, sendProperties.retryBatchSize())));
+        if (dueDocs.isEmpty()) {
+            return 0;
+        }
 
-            for (ErpSalesDocument doc : pendingDocs) {
-                try {
-                    sendDocumentInternal(doc);
+        // 전표마다 생성 당시 ERP 설정으로 전송 (설정이 비활성화되었으면 다음 주기에 다시 확인)
+        Map<UUID, List<ErpSalesDocument>> byConfig = dueDocs.stream()
+                .collect(Collectors.groupingBy(ErpSalesDocument::getErpConfigId, LinkedHashMap::new, Collectors.toList()));
+        int sentCount = 0;
+        int failCount = 0;
+        for (Map.Entry<UUID, List<ErpSalesDocument>> entry : byConfig.entrySet()) {
+            TenantErpConfig config = erpConfigRepository.findById(entry.getKey())
+                    .filter(TenantErpConfig::getActive)
+                    .orElse(null);
+            if (config == null) {
+                log.debug("[ErpRetry] ERP config {} inactive, skipping {} documents", entry.getKey(), entry.getValue().size());
+                continue;
+            }
+            for (ErpBatchSendResult.SendItemResult item : documentSender.send(config, entry.getValue(), false)) {
+                if (item.success()) {
                     sentCount++;
-                } catch (Exception e) {
-                    log.warn("[AutoErpBatch] Document send failed for doc {}: {}", doc.getId(), e.getMessage());
-                    sendFailCount++;
+                } else {
+                    failCount++;
                 }
             }
         }
 
-        result.put("sentCount", sentCount);
-        result.put("sendFailCount", sendFailCount);
-
-        log.info("[AutoErpBatch] tenant={} completed: generated={}, sent={}", tenantId, generatedCount, sentCount);
-        return result;
+        log.info("[ErpRetry] tenant={} retried={}, sent={}, fail={}", tenantId, dueDocs.size(), sentCount, failCount);
+        return sentCount + failCount;
     }
 
     /**
@@ -647,20 +616,4 @@ public class ErpSalesDocumentService implements ErpDocumentGenerator {
                 .orElseThrow(() -> new BusinessException(ErrorCodes.ERP_TEMPLATE_NOT_FOUND,
                         "전표 템플릿이 설정되지 않았습니다. 설정 > ERP에서 전표 템플릿을 먼저 설정해주세요."));
     }
-
-    /**
-     * documentLines를 ECount API 형식 (BulkDatas 래퍼)으로 변환
-     */
-    @SuppressWarnings("unchecked")
-    private List<Map<String, Object>> wrapWithBulkDatas(List<Map<String, Object>> documentLines) {
-        List<Map<String, Object>> saleList = new ArrayList<>();
-        if (documentLines != null) {
-            for (Map<String, Object> line : documentLines) {
-                Map<String, Object> wrapper = new LinkedHashMap<>();
-                wrapper.put("BulkDatas", line);
-                saleList.add(wrapper);
-            }
-        }
-        return saleList;
-    }
 }
@@ -10,6 +10,7 @@ import com.mhub.core.erp.dto.ErpSalesTemplateRequest;
 import com.mhub.core.erp.dto.ErpSalesTemplateResponse;
 import com.mhub.core.erp.dto.SalesLineTemplateDto;
 import com.mhub.core.tenant.TenantContext;
+import com.mhub.erp.adapter.ecount.ECountSalesTemplateCompiler;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
@@ -25,6 +26,7 @@ public class ErpSalesTemplateService {
 
     private final ErpSalesTemplateRepository templateRepository;
     private final TenantErpConfigRepository erpConfigRepository;
+    private final ECountSalesTemplateCompiler templateCompiler;
 
     @Transactional(readOnly = true)
     public ErpSalesTemplateResponse getTemplate(UUID erpConfigId) {
@@ -70,6 +72,7 @@ public class ErpSalesTemplateService {
         ErpSalesTemplate template = templateRepository.findByTenantIdAndErpConfigId(tenantId, erpConfigId)
                 .orElseThrow(() -> new BusinessException(ErrorCodes.ERP_TEMPLATE_NOT_FOUND, "전표 템플릿이 설정되지 않았습니다"));
         templateRepository.delete(template);
+        templateCompiler.evict(template.getId());
         log.info("Deleted ERP sales template for tenant={}, erpConfig={}", tenantId, erpConfigId);
     }
 
@@ -0,0 +1,75 @@
+package com.mhub.erp.adapter.ecount;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 컴파일된 템플릿으로 만든 SaveSale 요청이 컴파일 도입 전 빌더의 출력(골든 파일)과 필드 순서까지 같은지 확인
+ */
+class ECountSalesDocumentBuilderGoldenTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT);
+
+    static Stream<SalesDocumentGoldenCases.Case> cases() {
+        return SalesDocumentGoldenCases.all().stream();
+    }
+
+    @ParameterizedTest(name = "{0}")
+    @MethodSource("cases")
+    void matchesGoldenFile(SalesDocumentGoldenCases.Case goldenCase) throws IOException {
+        ECountSalesDocumentBuilder builder =
+                new ECountSalesDocumentBuilder(new ErpFieldResolver(), new ECountSalesTemplateCompiler());
+
+        Map<String, Object> body = builder.buildSaveSaleRequest(
+                goldenCase.order(), goldenCase.settlements(), goldenCase.template());
+
+        assertThat(render(body)).isEqualTo(golden(goldenCase.name()));
+    }
+
+    @ParameterizedTest(name = "{0}")
+    @MethodSource("cases")
+    void cachedPlanRendersSameDocumentForEveryOrder(SalesDocumentGoldenCases.Case goldenCase) throws IOException {
+        // 같은 템플릿 버전은 한 번 컴파일한 계획을 재사용 - 이전 주문의 값이 남지 않아야 함
+        ECountSalesDocumentBuilder builder =
+                new ECountSalesDocumentBuilder(new ErpFieldResolver(), new ECountSalesTemplateCompiler());
+        for (SalesDocumentGoldenCases.Case other : SalesDocumentGoldenCases.all()) {
+            builder.buildSaveSaleRequest(other.order(), other.settlements(), goldenCase.template());
+        }
+
+        Map<String, Object> body = builder.buildSaveSaleRequest(
+                goldenCase.order(), goldenCase.settlements(), goldenCase.template());
+
+        assertThat(render(body)).isEqualTo(golden(goldenCase.name()));
+    }
+
+    @SuppressWarnings("unchecked")
+    private String render(Map<String, Object> body) throws IOException {
+        List<Map<String, Object>> saleList = (List<Map<String, Object>>) body.get("SaleList");
+        String uploadSerNo = String.valueOf(((Map<String, Object>) saleList.get(0).get("BulkDatas")).get("UPLOAD_SER_NO"));
+        for (Map<String, Object> wrapper : saleList) {
+            Map<String, Object> line = (Map<String, Object>) wrapper.get("BulkDatas");
+            // 전표 내 모든 라인은 같은 UPLOAD_SER_NO (값은 무작위이므로 골든 파일에서는 "0000")
+            assertThat(line.get("UPLOAD_SER_NO")).isEqualTo(uploadSerNo);
+            line.put("UPLOAD_SER_NO", "0000");
+        }
+        return objectMapper.writeValueAsString(body) + "\n";
+    }
+
+    private String golden(String name) throws IOException {
+        try (InputStream in = getClass().getResourceAsStream("/golden/ecount-sales/" + name + ".json")) {
+            assertThat(in).as("golden file %s", name).isNotNull();
+            return new String(in.readAllBytes(), StandardCharsets.UTF_8);
+        }
+    }
+}
@@ -0,0 +1,158 @@
+package com.mhub.erp.adapter.ecount;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.tomakehurst.wiremock.WireMockServer;
+import com.mhub.core.domain.entity.TenantErpConfig;
+import com.mhub.core.domain.enums.ErpType;
+import com.mhub.erp.adapter.ErpAdapter.DocumentResult;
+import com.mhub.erp.config.ErpSendProperties;
+import com.mhub.support.WireMockWebClients;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerConfig;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static com.github.tomakehurst.wiremock.client.WireMock.equalToJson;
+import static com.github.tomakehurst.wiremock.client.WireMock.okJson;
+import static com.github.tomakehurst.wiremock.client.WireMock.post;
+import static com.github.tomakehurst.wiremock.client.WireMock.postRequestedFor;
+import static com.github.tomakehurst.wiremock.client.WireMock.urlPathEqualTo;
+import static com.github.tomakehurst.wiremock.core.WireMockConfiguration.options;
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * SaveSale 일괄 등록 응답을 전표별 결과로 나누는 과정 - 일부 라인 실패, 전표번호 수 불일치, 요청 분할
+ */
+class ECountSaveSaleBatchTest {
+
+    private static final String SAVE_SALE_PATH = "/OAPI/V2/Sale/SaveSale";
+
+    private static WireMockServer wireMock;
+
+    private TenantErpConfig config;
+
+    @BeforeAll
+    static void startWireMock() {
+        wireMock = new WireMockServer(options().dynamicPort());
+        wireMock.start();
+    }
+
+    @AfterAll
+    static void stopWireMock() {
+        wireMock.stop();
+    }
+
+    @BeforeEach
+    void setUp() {
+        wireMock.resetAll();
+        wireMock.stubFor(post(urlPathEqualTo("/OAPI/V2/Zone"))
+                .willReturn(okJson("{\"Status\":\"200\",\"Data\":{\"ZONE\":\"CC\"}}")));
+        wireMock.stubFor(post(urlPathEqualTo("/OAPI/V2/OAPILogin"))
+                .willReturn(okJson("{\"Status\":\"200\",\"Data\":{\"Code\":\"00\",\"Datas\":{\"SESSION_ID\":\"S1\"}}}")));
+
+        config = TenantErpConfig.builder()
+                .erpType(ErpType.ECOUNT)
+                .companyCode("123456")
+                .userId("api-user")
+                .apiKey("api-key")
+                .build();
+        ReflectionTestUtils.setField(config, "id", UUID.randomUUID());
+    }
+
+    @Test
+    void partiallyFailedBatchFailsOnlyDocumentsWithFailedLines() {
+        // 전표 A(라인 0-1), B(라인 2), C(라인 3-4) 중 B의 라인 2가 실패 - SlipNos는 성공한 A, C 순서
+        wireMock.stubFor(post(urlPathEqualTo(SAVE_SALE_PATH)).willReturn(okJson("""
+                {"Status":"200","Error":null,"Data":{"SuccessCnt":4,"FailCnt":1,
+                 "ResultDetails":[{"Line":"0","IsSuccess":true},{"Line":"1","IsSuccess":true},
+                                  {"Line":"2","IsSuccess":false,"TotalError":"[PROD_CD] 품목코드가 없습니다"},
+                                  {"Line":"3","IsSuccess":true},{"Line":"4","IsSuccess":true}],
+                 "SlipNos":["20261016-1","20261016-2"]}}""")));
+
+        List<DocumentResult> results = adapter(50).createSaveSaleBatch(config, List.of(
+                List.of(line("A1"), line("A2")),
+                List.of(line("B1")),
+                List.of(line("C1"), line("C2"))));
+
+        assertThat(results).hasSize(3);
+        assertThat(results.get(0).success()).isTrue();
+        assertThat(results.get(0).documentId()).isEqualTo("20261016-1");
+        assertThat(results.get(1).success()).isFalse();
+        assertThat(results.get(1).retryable()).isFalse();
+        assertThat(results.get(1).errorMessage()).contains("품목코드가 없습니다");
+        assertThat(results.get(2).success()).isTrue();
+        assertThat(results.get(2).documentId()).isEqualTo("20261016-2");
+
+        // 요청 내 전표마다 UPLOAD_SER_NO를 따로 부여
+        wireMock.verify(postRequestedFor(urlPathEqualTo(SAVE_SALE_PATH)).withRequestBody(equalToJson("""
+                {"SaleList":[{"BulkDatas":{"PROD_CD":"A1","UPLOAD_SER_NO":"1"}},
+                             {"BulkDatas":{"PROD_CD":"A2","UPLOAD_SER_NO":"1"}},
+                             {"BulkDatas":{"PROD_CD":"B1","UPLOAD_SER_NO":"2"}},
+                             {"BulkDatas":{"PROD_CD":"C1","UPLOAD_SER_NO":"3"}},
+                             {"BulkDatas":{"PROD_CD":"C2","UPLOAD_SER_NO":"3"}}]}""")));
+    }
+
+    @Test
+    void slipCountMismatchLeavesSuccessfulDocumentsForManualCheck() {
+        // 두 전표가 모두 성공했지만 전표번호는 하나 - 어느 전표의 번호인지 알 수 없음
+        wireMock.stubFor(post(urlPathEqualTo(SAVE_SALE_PATH)).willReturn(okJson("""
+                {"Status":"200","Error":null,"Data":{"SuccessCnt":2,"FailCnt":0,
+                 "ResultDetails":[{"Line":"0","IsSuccess":true},{"Line":"1","IsSuccess":true}],
+                 "SlipNos":["20261016-1"]}}""")));
+
+        List<DocumentResult> results = adapter(50).createSaveSaleBatch(config, List.of(
+                List.of(line("A1")),
+                List.of(line("B1"))));
+
+        assertThat(results).allSatisfy(result -> {
+            assertThat(result.success()).isFalse();
+            assertThat(result.documentId()).isNull();
+            assertThat(result.retryable()).isFalse();
+            assertThat(result.errorMessage()).startsWith(ECountAdapter.UNKNOWN_OUTCOME_MESSAGE);
+        });
+    }
+
+    @Test
+    void lineIndexesRestartInEachSplitRequest() {
+        // 요청당 2건으로 나누면 두 번째 요청의 Line 0은 세 번째 전표의 첫 라인
+        wireMock.stubFor(post(urlPathEqualTo(SAVE_SALE_PATH))
+                .withRequestBody(equalToJson("{\"SaleList\":[{\"BulkDatas\":{\"PROD_CD\":\"A1\"}},{\"BulkDatas\":{\"PROD_CD\":\"B1\"}}]}", false, true))
+                .willReturn(okJson("""
+                        {"Status":"200","Error":null,"Data":{"SuccessCnt":2,"FailCnt":0,
+                         "ResultDetails":[{"Line":"0","IsSuccess":true},{"Line":"1","IsSuccess":true}],
+                         "SlipNos":["20261016-1","20261016-2"]}}""")));
+        wireMock.stubFor(post(urlPathEqualTo(SAVE_SALE_PATH))
+                .withRequestBody(equalToJson("{\"SaleList\":[{\"BulkDatas\":{\"PROD_CD\":\"C1\"}},{\"BulkDatas\":{\"PROD_CD\":\"D1\"}}]}", false, true))
+                .willReturn(okJson("""
+                        {"Status":"200","Error":null,"Data":{"SuccessCnt":1,"FailCnt":1,
+                         "ResultDetails":[{"Line":"0","IsSuccess":false,"TotalError":"재고 부족"},{"Line":"1","IsSuccess":true}],
+                         "SlipNos":["20261016-3"]}}""")));
+
+        List<DocumentResult> results = adapter(2).createSaveSaleBatch(config, List.of(
+                List.of(line("A1")), List.of(line("B1")), List.of(line("C1")), List.of(line("D1"))));
+
+        assertThat(results).extracting(DocumentResult::success).containsExactly(true, true, false, true);
+        assertThat(results).extracting(DocumentResult::documentId)
+                .containsExactly("20261016-1", "20261016-2", null, "20261016-3");
+        assertThat(results.get(2).errorMessage()).contains("재고 부족");
+        wireMock.verify(2, postRequestedFor(urlPathEqualTo(SAVE_SALE_PATH)));
+    }
+
+    private static ECountAdapter adapter(int batchSize) {
+        return new ECountAdapter(WireMockWebClients.redirectingTo(wireMock), new ECountApiProperties(batchSize, 300),
+                new ErpSendProperties(4, 6, Duration.ofMinutes(1), Duration.ofHours(2), 200, Duration.ofMinutes(10)),
+                CircuitBreakerRegistry.of(Map.of("ecount", CircuitBreakerConfig.ofDefaults())), new ObjectMapper());
+    }
+
+    private static Map<String, Object> line(String prodCd) {
+        return Map.of("PROD_CD", prodCd);
+    }
+}
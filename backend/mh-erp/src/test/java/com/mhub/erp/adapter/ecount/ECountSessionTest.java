@@ -0,0 +1,169 @@
+package com.mhub.erp.adapter.ecount;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.tomakehurst.wiremock.WireMockServer;
+import com.mhub.core.domain.entity.TenantErpConfig;
+import com.mhub.core.domain.enums.ErpType;
+import com.mhub.erp.adapter.ErpAdapter.ItemStreamResult;
+import com.mhub.erp.config.ErpSendProperties;
+import com.mhub.support.WireMockWebClients;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static com.github.tomakehurst.wiremock.client.WireMock.aResponse;
+import static com.github.tomakehurst.wiremock.client.WireMock.equalTo;
+import static com.github.tomakehurst.wiremock.client.WireMock.equalToJson;
+import static com.github.tomakehurst.wiremock.client.WireMock.okJson;
+import static com.github.tomakehurst.wiremock.client.WireMock.post;
+import static com.github.tomakehurst.wiremock.client.WireMock.postRequestedFor;
+import static com.github.tomakehurst.wiremock.client.WireMock.urlPathEqualTo;
+import static com.github.tomakehurst.wiremock.core.WireMockConfiguration.options;
+import static com.github.tomakehurst.wiremock.stubbing.Scenario.STARTED;
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ECountSessionTest {
+
+    private static final String ZONE_PATH = "/OAPI/V2/Zone";
+    private static final String LOGIN_PATH = "/OAPI/V2/OAPILogin";
+    private static final String ITEMS_PATH = "/OAPI/V2/InventoryBasic/GetBasicProductsList";
+    private static final String ITEMS_BODY =
+            "{\"Status\":\"200\",\"Error\":null,\"Data\":{\"TotalCnt\":2,\"Result\":[{\"PROD_CD\":\"A\"},{\"PROD_CD\":\"B\"}]}}";
+    private static final String SESSION_EXPIRED_BODY =
+            "{\"Status\":\"200\",\"Error\":{\"Code\":\"999\",\"Message\":\"Please login again\"},\"Data\":null}";
+
+    private static WireMockServer wireMock;
+
+    private ECountAdapter adapter;
+    private TenantErpConfig config;
+
+    @BeforeAll
+    static void startWireMock() {
+        wireMock = new WireMockServer(options().dynamicPort());
+        wireMock.start();
+    }
+
+    @AfterAll
+    static void stopWireMock() {
+        wireMock.stop();
+    }
+
+    @BeforeEach
+    void setUp() {
+        wireMock.resetAll();
+        wireMock.stubFor(post(urlPathEqualTo(ZONE_PATH))
+                .willReturn(okJson("{\"Status\":\"200\",\"Data\":{\"ZONE\":\"CC\"}}")));
+
+        adapter = new ECountAdapter(WireMockWebClients.redirectingTo(wireMock), new ECountApiProperties(50, 300),
+                new ErpSendProperties(4, 6, Duration.ofMinutes(1), Duration.ofHours(2), 200, Duration.ofMinutes(10)),
+                CircuitBreakerRegistry.ofDefaults(), new ObjectMapper());
+        config = TenantErpConfig.builder()
+                .erpType(ErpType.ECOUNT)
+                .companyCode("123456")
+                .userId("api-user")
+                .apiKey("api-key")
+                .build();
+    }
+
+    @Test
+    void concurrentCallsShareOneLogin() throws Exception {
+        // 로그인 응답을 늦춰 모든 호출이 로그인 중에 세션을 요청하게 함
+        stubLogin(STARTED, null, "SESSION-1", Duration.ofMillis(300));
+        stubItems("SESSION-1", ITEMS_BODY);
+
+        List<ItemStreamResult> results = streamConcurrently(10);
+
+        assertThat(results).allSatisfy(result -> assertThat(result.success()).isTrue());
+        wireMock.verify(1, postRequestedFor(urlPathEqualTo(ZONE_PATH)));
+        wireMock.verify(1, postRequestedFor(urlPathEqualTo(LOGIN_PATH))
+                .withHeader(WireMockWebClients.ORIGINAL_HOST_HEADER, equalTo("oapiCC.ecount.com"))
+                .withRequestBody(equalToJson("{\"COM_CODE\":\"123456\",\"USER_ID\":\"api-user\",\"ZONE\":\"CC\"}", true, true)));
+        wireMock.verify(10, postRequestedFor(urlPathEqualTo(ITEMS_PATH)).withQueryParam("SESSION_ID", equalTo("SESSION-1")));
+    }
+
+    @Test
+    void sessionIsReusedUntilExpiredResponse() throws Exception {
+        stubLogin(STARTED, "second", "SESSION-1", Duration.ZERO);
+        stubLogin("second", null, "SESSION-2", Duration.ofMillis(300));
+        stubItems("SESSION-1", SESSION_EXPIRED_BODY);
+        stubItems("SESSION-2", ITEMS_BODY);
+
+        // 첫 세션이 만료 응답을 받으면 동시에 실패한 호출들도 재로그인은 한 번만 함
+        List<ItemStreamResult> results = streamConcurrently(8);
+        assertThat(results).allSatisfy(result -> {
+            assertThat(result.success()).isTrue();
+            assertThat(result.totalCount()).isEqualTo(2);
+        });
+        assertThat(adapter.streamItems(config, 100, batch -> { }).success()).isTrue();
+
+        wireMock.verify(2, postRequestedFor(urlPathEqualTo(LOGIN_PATH)));
+        wireMock.verify(1, postRequestedFor(urlPathEqualTo(ZONE_PATH)));
+        wireMock.verify(9, postRequestedFor(urlPathEqualTo(ITEMS_PATH)).withQueryParam("SESSION_ID", equalTo("SESSION-2")));
+    }
+
+    @Test
+    void failedLoginIsNotCached() {
+        wireMock.stubFor(post(urlPathEqualTo(LOGIN_PATH))
+                .inScenario("login").whenScenarioStateIs(STARTED).willSetStateTo("recovered")
+                .willReturn(okJson("{\"Status\":\"200\",\"Data\":{\"Code\":\"20\",\"Message\":\"인증키 오류\"}}")));
+        stubLogin("recovered", null, "SESSION-1", Duration.ZERO);
+        stubItems("SESSION-1", ITEMS_BODY);
+
+        ItemStreamResult failed = adapter.streamItems(config, 100, batch -> { });
+        ItemStreamResult recovered = adapter.streamItems(config, 100, batch -> { });
+
+        assertThat(failed.success()).isFalse();
+        assertThat(failed.errorMessage()).contains("인증키 오류");
+        assertThat(recovered.success()).isTrue();
+        wireMock.verify(2, postRequestedFor(urlPathEqualTo(LOGIN_PATH)));
+    }
+
+    private List<ItemStreamResult> streamConcurrently(int callers) throws Exception {
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<ItemStreamResult>> futures = new ArrayList<>();
+        try (ExecutorService executor = Executors.newFixedThreadPool(callers)) {
+            for (int i = 0; i < callers; i++) {
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    return adapter.streamItems(config, 100, batch -> { });
+                }));
+            }
+            start.countDown();
+            List<ItemStreamResult> results = new ArrayList<>();
+            for (Future<ItemStreamResult> future : futures) {
+                results.add(future.get());
+            }
+            return results;
+        }
+    }
+
+    private void stubLogin(String state, String nextState, String sessionId, Duration delay) {
+        var mapping = post(urlPathEqualTo(LOGIN_PATH))
+                .inScenario("login")
+                .whenScenarioStateIs(state)
+                .willReturn(aResponse()
+                        .withHeader("Content-Type", "application/json")
+                        .withFixedDelay((int) delay.toMillis())
+                        .withBody("{\"Status\":\"200\",\"Data\":{\"Code\":\"00\",\"Datas\":{\"SESSION_ID\":\"" + sessionId + "\"}}}"));
+        if (nextState != null) {
+            mapping = mapping.willSetStateTo(nextState);
+        }
+        wireMock.stubFor(mapping);
+    }
+
+    private void stubItems(String sessionId, String body) {
+        wireMock.stubFor(post(urlPathEqualTo(ITEMS_PATH))
+                .withQueryParam("SESSION_ID", equalTo(sessionId))
+                .willReturn(okJson(body)));
+    }
+}
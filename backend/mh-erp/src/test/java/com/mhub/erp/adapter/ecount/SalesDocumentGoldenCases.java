@@ -0,0 +1,230 @@
+package com.mhub.erp.adapter.ecount;
+
+import com.mhub.core.domain.entity.ErpSalesTemplate;
+import com.mhub.core.domain.entity.Order;
+import com.mhub.core.domain.entity.OrderItem;
+import com.mhub.core.domain.entity.OrderSettlement;
+import com.mhub.core.domain.enums.MarketplaceType;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * 판매전표 골든 파일 케이스 - src/test/resources/golden/ecount-sales/{name}.json과 같은 이름
+ * 골든 파일은 템플릿 컴파일 도입 전 ECountSalesDocumentBuilder.buildSaveSaleRequest 출력 (UPLOAD_SER_NO는 "0000"으로 고정)
+ */
+final class SalesDocumentGoldenCases {
+
+    record Case(String name, Order order, List<OrderSettlement> settlements, ErpSalesTemplate template) {
+        @Override
+        public String toString() {
+            return name;
+        }
+    }
+
+    private static final LocalDateTime ORDERED_AT = LocalDateTime.of(2026, 3, 14, 10, 30);
+
+    private SalesDocumentGoldenCases() {
+    }
+
+    static List<Case> all() {
+        return List.of(templateValues(), negatedLines(), skipIfZero(), additionalLines(), marketplaceHeaders());
+    }
+
+    /**
+     * 글로벌 필드 매핑의 모든 값 소스 (TEMPLATE 포함)와 lineTypes 목록/문자열/생략 조합
+     */
+    static Case templateValues() {
+        Order order = order("11111111-1111-1111-1111-111111111111", MarketplaceType.NAVER, "2026031400001");
+        order.setDeliveryFee(new BigDecimal("3000"));
+        order.getItems().add(item("무선 키보드", "블랙", 2, "15900", "KB-001", "W01"));
+        order.getItems().add(item("키캡 세트", null, 3, "7000", null, null));
+
+        ErpSalesTemplate template = template(map("CUST", "C001", "EMP_CD", "E01"), Map.of());
+        template.setLineProductSale(Map.of("prodCd", "DEFAULT-PROD", "remarks", "상품판매",
+                "extraFields", map("PJT_CD", "P1", "SITE", "")));
+        template.setLineDeliveryFee(Map.of("prodCd", "DLV", "prodDes", "택배비", "vatCalculation", "NO_VAT"));
+        template.setLineSalesCommission(Map.of("prodCd", "COMM", "remarks", "수수료"));
+        template.setLineDeliveryCommission(Map.of("prodCd", "DCOMM"));
+        template.setGlobalFieldMappings(List.of(
+                mapping("P_REMARKS1", "TEMPLATE", null, "주문:{marketplaceOrderId} / {buyerName} / {productName}({optionName}) @{marketplace}", null),
+                mapping("P_REMARKS2", "TEMPLATE", null, "{receiverName}-{orderId}-{unknown}", List.of("ALL")),
+                mapping("USER_PRICE_VAT", "UNIT_PRICE_VAT", null, null, List.of("PRODUCT_SALE", "SALES_COMMISSION")),
+                mapping("P_AMT1", "SUPPLY_AMOUNT", null, null, "SALES_COMMISSION"),
+                mapping("P_AMT2", "VAT_AMOUNT", null, null, "DELIVERY_FEE"),
+                mapping("P_AMT3", "TOTAL_AMOUNT", null, null, List.of("DELIVERY_COMMISSION")),
+                mapping("ITEM_NM", "PRODUCT_NAME", null, null, "PRODUCT_SALE"),
+                mapping("ITEM_OPT", "OPTION_NAME", null, null, "PRODUCT_SALE"),
+                mapping("ORD_ID", "ORDER_ID", null, null, List.of("ALL")),
+                mapping("MKT_ORD", "MARKETPLACE_ORDER_ID", null, null, null),
+                mapping("BUYER", "BUYER_NAME", null, null, "PRODUCT_SALE"),
+                mapping("RECV", "RECEIVER_NAME", null, null, "DELIVERY_FEE"),
+                mapping("FIXED_CD", "FIXED", "F-01", null, null),
+                mapping("EMPTY_CD", "FIXED", "", null, null),
+                mapping("", "FIXED", "ignored", null, null),
+                mapping("UNKNOWN_SRC", "NOT_A_SOURCE", "x", null, null)));
+
+        List<OrderSettlement> settlements = List.of(
+                settlement("1500", "100"),
+                settlement("833", null));
+        return new Case("template-values", order, settlements, template);
+    }
+
+    /**
+     * 수수료 라인 음수 처리 (글로벌 매핑 금액 포함), 배송비 negateAmount, 마켓별 품목코드
+     */
+    static Case negatedLines() {
+        Order order = order("22222222-2222-2222-2222-222222222222", MarketplaceType.COUPANG, "CP-7700");
+        order.setDeliveryFee(new BigDecimal("2500"));
+        OrderItem item = item("텀블러", "500ml", 1, "23000", "TB-500", null);
+        item.setCommissionRate(new BigDecimal("10.8"));
+        order.getItems().add(item);
+        OrderItem second = item("빨대", null, 4, "1250", "ST-01", "W02");
+        second.setCommissionRate(new BigDecimal("7"));
+        order.getItems().add(second);
+
+        ErpSalesTemplate template = template(Map.of("CUST", "C001"), Map.of());
+        template.setLineDeliveryFee(Map.of("prodCd", "DLV", "negateAmount", "true", "remarks", "배송비 환급"));
+        template.setLineSalesCommission(Map.of("prodCd", "COMM", "prodDes", "판매수수료(공통)",
+                "marketplaceProdCds", Map.of(
+                        "COUPANG", Map.of("prodCd", "CP-COMM", "prodDes", "쿠팡 판매수수료"),
+                        "NAVER", Map.of("prodCd", "NV-COMM"))));
+        template.setLineDeliveryCommission(Map.of("prodCd", "DCOMM", "vatCalculation", "NO_VAT",
+                "marketplaceProdCds", Map.of("COUPANG", Map.of("prodDes", "쿠팡 배송수수료")),
+                "extraFields", Map.of("PJT_CD", "P9")));
+        template.setGlobalFieldMappings(List.of(
+                mapping("USER_PRICE_VAT", "UNIT_PRICE_VAT", null, null, List.of("ALL")),
+                mapping("P_AMT1", "TOTAL_AMOUNT", null, null, null),
+                mapping("P_AMT2", "SUPPLY_AMOUNT", null, null, List.of("SALES_COMMISSION", "DELIVERY_COMMISSION"))));
+        return new Case("negated-lines", order, List.of(), template);
+    }
+
+    /**
+     * 금액이 0인 라인 - skipIfZero가 true면 생략, 아니면 0원 라인 생성
+     */
+    static Case skipIfZero() {
+        Order order = order("33333333-3333-3333-3333-333333333333", MarketplaceType.NAVER, "2026031400003");
+        order.setDeliveryFee(BigDecimal.ZERO);
+        order.getItems().add(item("머그컵", null, 1, "9000", "MG-01", "W01"));
+
+        ErpSalesTemplate template = template(Map.of(), Map.of());
+        template.setLineDeliveryFee(Map.of("prodCd", "DLV", "skipIfZero", true));
+        template.setLineSalesCommission(Map.of("prodCd", "COMM", "skipIfZero", "false"));
+        template.setLineDeliveryCommission(Map.of("prodCd", "DCOMM", "skipIfZero", "TRUE"));
+        template.setGlobalFieldMappings(List.of(
+                mapping("USER_PRICE_VAT", "UNIT_PRICE_VAT", null, null, List.of("ALL"))));
+        return new Case("skip-if-zero", order, null, template);
+    }
+
+    /**
+     * 추가 항목 라인 - 비활성 항목, 창고코드 지정/기본값, 수량/단가, 음수, 부가세 없음
+     */
+    static Case additionalLines() {
+        Order order = order("44444444-4444-4444-4444-444444444444", MarketplaceType.NAVER, "2026031400004");
+        order.setTotalAmount(new BigDecimal("42000"));
+        order.setExpectedSettlementAmount(new BigDecimal("38150"));
+        order.setEstimatedDeliveryCommission(new BigDecimal("150"));
+        order.setDeliveryFee(new BigDecimal("3000"));
+        order.getItems().add(item("양말 세트", "M", 3, "13000", "SK-M", "W07"));
+
+        ErpSalesTemplate template = template(Map.of("CUST", "C001"), Map.of());
+        template.setLineDeliveryFee(Map.of("skipIfZero", true));
+        template.setAdditionalLines(List.of(
+                map("enabled", true, "prodCd", "PKG", "prodDes", "포장비", "qty", "2", "unitPrice", "550", "remarks", "포장"),
+                map("enabled", "true", "whCd", "W99", "prodDes", "쿠폰 할인", "unitPrice", "1000", "negateAmount", true),
+                map("enabled", false, "prodCd", "OFF", "prodDes", "비활성", "unitPrice", "100"),
+                map("enabled", true, "prodDes", "면세 사은품", "qty", 1, "unitPrice", 1234, "vatCalculation", "NO_VAT"),
+                map("prodDes", "enabled 없음", "unitPrice", "10")));
+        template.setGlobalFieldMappings(List.of(
+                mapping("P_REMARKS1", "TEMPLATE", null, "{marketplaceOrderId}", List.of("ALL"))));
+        return new Case("additional-lines", order, List.of(), template);
+    }
+
+    /**
+     * 마켓별 헤더가 기본 헤더를 덮어쓰고, 다른 마켓의 헤더는 적용되지 않음
+     */
+    static Case marketplaceHeaders() {
+        Order order = order("55555555-5555-5555-5555-555555555555", MarketplaceType.COUPANG, "CP-9901");
+        order.setDeliveryFee(new BigDecimal("3000"));
+        order.setEstimatedDeliveryCommission(new BigDecimal("99"));
+        order.getItems().add(item("우산", "장우산", 1, "18000", "UM-L", "W03"));
+
+        ErpSalesTemplate template = template(
+                map("CUST", "C001", "EMP_CD", "E01", "IO_TYPE", "11", "WH_CD", "HDR-WH"),
+                Map.of("COUPANG", map("CUST", "CP01", "U_MEMO1", "쿠팡"),
+                        "NAVER", Map.of("CUST", "NV01"),
+                        "ELEVENST", "not-a-map"));
+        template.setLineSalesCommission(Map.of("prodCd", "COMM"));
+        template.setLineDeliveryCommission(Map.of("prodCd", "DCOMM"));
+        return new Case("marketplace-headers", order, List.of(settlement("1800", null)), template);
+    }
+
+    private static Order order(String id, MarketplaceType marketplaceType, String marketplaceOrderId) {
+        Order order = Order.builder()
+                .marketplaceType(marketplaceType)
+                .marketplaceOrderId(marketplaceOrderId)
+                .buyerName("홍길동")
+                .receiverName("김수령")
+                .orderedAt(ORDERED_AT)
+                .build();
+        ReflectionTestUtils.setField(order, "id", UUID.fromString(id));
+        return order;
+    }
+
+    private static OrderItem item(String productName, String optionName, int quantity, String unitPrice,
+                                  String erpProdCd, String erpWhCd) {
+        BigDecimal price = new BigDecimal(unitPrice);
+        return OrderItem.builder()
+                .productName(productName)
+                .optionName(optionName)
+                .quantity(quantity)
+                .unitPrice(price)
+                .totalPrice(price.multiply(BigDecimal.valueOf(quantity)))
+                .erpProdCd(erpProdCd)
+                .erpWhCd(erpWhCd)
+                .build();
+    }
+
+    private static OrderSettlement settlement(String commission, String deliveryFeeCommission) {
+        return OrderSettlement.builder()
+                .commissionAmount(new BigDecimal(commission))
+                .deliveryFeeCommission(deliveryFeeCommission != null ? new BigDecimal(deliveryFeeCommission) : null)
+                .build();
+    }
+
+    private static ErpSalesTemplate template(Map<String, Object> defaultHeader, Map<String, Object> marketplaceHeaders) {
+        ErpSalesTemplate template = ErpSalesTemplate.builder()
+                .defaultHeader(defaultHeader)
+                .marketplaceHeaders(marketplaceHeaders)
+                .build();
+        ReflectionTestUtils.setField(template, "updatedAt", ORDERED_AT);
+        return template;
+    }
+
+    private static Map<String, Object> mapping(String fieldName, String valueSource, String fixedValue,
+                                               String templateValue, Object lineTypes) {
+        Map<String, Object> mapping = new LinkedHashMap<>();
+        mapping.put("fieldName", fieldName);
+        mapping.put("valueSource", valueSource);
+        if (fixedValue != null) mapping.put("fixedValue", fixedValue);
+        if (templateValue != null) mapping.put("templateValue", templateValue);
+        if (lineTypes != null) mapping.put("lineTypes", lineTypes);
+        return mapping;
+    }
+
+    /**
+     * 순서가 있는 Map (헤더/추가 필드의 순서가 라인 필드 순서가 되므로 Map.of 대신 사용)
+     */
+    private static Map<String, Object> map(Object... keyValues) {
+        Map<String, Object> map = new LinkedHashMap<>();
+        for (int i = 0; i < keyValues.length; i += 2) {
+            map.put((String) keyValues[i], keyValues[i + 1]);
+        }
+        return map;
+    }
+}
@@ -0,0 +1,286 @@
+package com.mhub.erp.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.tomakehurst.wiremock.WireMockServer;
+import com.github.tomakehurst.wiremock.client.ResponseDefinitionBuilder;
+import com.mhub.core.domain.entity.ErpSalesDocument;
+import com.mhub.core.domain.entity.Order;
+import com.mhub.core.domain.entity.Tenant;
+import com.mhub.core.domain.entity.TenantErpConfig;
+import com.mhub.core.domain.enums.ErpDocumentStatus;
+import com.mhub.core.domain.enums.ErpType;
+import com.mhub.core.domain.enums.MarketplaceType;
+import com.mhub.core.domain.enums.OrderStatus;
+import com.mhub.core.domain.repository.ErpSalesDocumentRepository;
+import com.mhub.core.domain.repository.OrderRepository;
+import com.mhub.core.domain.repository.TenantErpConfigRepository;
+import com.mhub.core.domain.repository.TenantRepository;
+import com.mhub.core.erp.dto.ErpBatchSendResult.SendItemResult;
+import com.mhub.erp.adapter.ecount.ECountAdapter;
+import com.mhub.erp.adapter.ecount.ECountApiProperties;
+import com.mhub.erp.adapter.ecount.ECountTransientException;
+import com.mhub.erp.adapter.ecount.ECountUnknownOutcomeException;
+import com.mhub.erp.config.ErpSendProperties;
+import com.mhub.support.PostgresIntegrationTest;
+import com.mhub.support.WireMockWebClients;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerConfig;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.net.ServerSocket;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static com.github.tomakehurst.wiremock.client.WireMock.aResponse;
+import static com.github.tomakehurst.wiremock.client.WireMock.okJson;
+import static com.github.tomakehurst.wiremock.client.WireMock.post;
+import static com.github.tomakehurst.wiremock.client.WireMock.postRequestedFor;
+import static com.github.tomakehurst.wiremock.client.WireMock.urlPathEqualTo;
+import static com.github.tomakehurst.wiremock.core.WireMockConfiguration.options;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * ECount 오류 유형별 전송 결과 - 실제 ECountAdapter를 WireMock에 연결하여 재전송 여부와 서킷 브레이커를 확인
+ * - 요청 전 실패(연결 거부)와 429만 자동 재전송, 요청을 보낸 뒤의 실패(응답 시간 초과, 5xx)는 수동 확인 대기
+ */
+class ErpDocumentSenderFailureTest extends PostgresIntegrationTest {
+
+    private static final String SAVE_SALE_PATH = "/OAPI/V2/Sale/SaveSale";
+    private static final Duration RESPONSE_TIMEOUT = Duration.ofMillis(500);
+    private static final Duration INITIAL_BACKOFF = Duration.ofMinutes(1);
+    private static final String MANUAL_CHECK = "ECount에서 전표를 확인 후 재전송해주세요";
+
+    private static WireMockServer wireMock;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private TenantRepository tenantRepository;
+
+    @Autowired
+    private TenantErpConfigRepository erpConfigRepository;
+
+    @Autowired
+    private ErpSalesDocumentRepository documentRepository;
+
+    @Autowired
+    private OrderRepository orderRepository;
+
+    private final AtomicInteger targetPort = new AtomicInteger();
+    private ErpDocumentSender sender;
+    private TenantErpConfig config;
+
+    @BeforeAll
+    static void startWireMock() {
+        wireMock = new WireMockServer(options().dynamicPort());
+        wireMock.start();
+    }
+
+    @AfterAll
+    static void stopWireMock() {
+        // DB가 없어 기반 클래스에서 건너뛰면 startWireMock이 실행되지 않음
+        if (wireMock != null) {
+            wireMock.stop();
+        }
+    }
+
+    @BeforeEach
+    void setUp() {
+        wireMock.resetAll();
+        targetPort.set(wireMock.port());
+        wireMock.stubFor(post(urlPathEqualTo("/OAPI/V2/Zone"))
+                .willReturn(okJson("{\"Status\":\"200\",\"Data\":{\"ZONE\":\"CC\"}}")));
+        wireMock.stubFor(post(urlPathEqualTo("/OAPI/V2/OAPILogin"))
+                .willReturn(okJson("{\"Status\":\"200\",\"Data\":{\"Code\":\"00\",\"Datas\":{\"SESSION_ID\":\"S1\"}}}")));
+
+        // 운영 설정(resilience4j.circuitbreaker.configs.ecount)과 같은 예외를 기록하되 적은 호출로 열리도록 함
+        CircuitBreakerRegistry circuitBreakers = CircuitBreakerRegistry.of(Map.of("ecount", CircuitBreakerConfig.custom()
+                .slidingWindowType(CircuitBreakerConfig.SlidingWindowType.COUNT_BASED)
+                .slidingWindowSize(4)
+                .minimumNumberOfCalls(3)
+                .failureRateThreshold(50)
+                .waitDurationInOpenState(Duration.ofMinutes(1))
+                .recordExceptions(ECountTransientException.class, ECountUnknownOutcomeException.class)
+                .build()));
+        ErpSendProperties sendProperties = new ErpSendProperties(4, 3, INITIAL_BACKOFF, Duration.ofHours(2),
+                200, Duration.ofMinutes(10));
+        ECountAdapter adapter = new ECountAdapter(WireMockWebClients.redirectingTo(targetPort::get, RESPONSE_TIMEOUT),
+                new ECountApiProperties(50, 300), sendProperties, circuitBreakers, new ObjectMapper());
+        ErpAdapterFactory adapterFactory = mock(ErpAdapterFactory.class);
+        when(adapterFactory.getAdapter(ErpType.ECOUNT)).thenReturn(adapter);
+        sender = new ErpDocumentSender(jdbcTemplate, documentRepository, orderRepository, adapterFactory,
+                sendProperties, entityManager, transactionManager);
+
+        Tenant tenant = tenantRepository.save(Tenant.builder().companyName("erp-send-failure-test").build());
+        config = erpConfigRepository.save(TenantErpConfig.builder()
+                .tenantId(tenant.getId())
+                .erpType(ErpType.ECOUNT)
+                .companyCode("123456")
+                .userId("api-user")
+                .apiKey("api-key")
+                .build());
+    }
+
+    @Test
+    void responseTimeoutAfterRequestWasSentIsNotResent() {
+        // ECount가 요청을 받아 처리하는 중에 응답 시간 초과 - 전표가 등록되었을 수 있음
+        stubSaveSale(okJson(saveSaleSuccess("20261016-1")).withFixedDelay(2_000));
+        ErpSalesDocument doc = createDocument("TIMEOUT");
+
+        SendItemResult result = sender.send(config, List.of(doc), false).get(0);
+
+        assertThat(result.success()).isFalse();
+        assertThat(result.errorMessage()).contains(MANUAL_CHECK);
+        assertNotQueuedForRetry(doc);
+        assertThat(saveSaleRequests()).isEqualTo(1);
+    }
+
+    @Test
+    void serverErrorIsNotResent() {
+        stubSaveSale(aResponse().withStatus(503));
+        ErpSalesDocument doc = createDocument("HTTP-503");
+
+        assertThat(sender.send(config, List.of(doc), false).get(0).errorMessage()).contains(MANUAL_CHECK, "HTTP 503");
+
+        assertNotQueuedForRetry(doc);
+        assertThat(saveSaleRequests()).isEqualTo(1);
+    }
+
+    @Test
+    void serverErrorStatusInBodyIsNotResent() {
+        stubSaveSale(okJson("{\"Status\":\"500\",\"Error\":{\"Message\":\"Internal error\"}}"));
+        ErpSalesDocument doc = createDocument("STATUS-500");
+
+        assertThat(sender.send(config, List.of(doc), false).get(0).errorMessage()).contains(MANUAL_CHECK, "Status 500");
+
+        assertNotQueuedForRetry(doc);
+    }
+
+    @Test
+    void rateLimitedDocumentIsRetriedWithGrowingBackoffUntilMaxAttempts() {
+        stubSaveSale(aResponse().withStatus(429));
+        ErpSalesDocument doc = createDocument("HTTP-429");
+
+        // 재전송 간격은 initialBackoff * 2^attempts의 절반 ~ 전체
+        sender.send(config, List.of(doc), false);
+        assertQueuedForRetry(doc, 1, INITIAL_BACKOFF);
+
+        sender.send(config, List.of(doc), false);
+        assertQueuedForRetry(doc, 2, INITIAL_BACKOFF.multipliedBy(2));
+
+        // maxAttempts(3)에 도달하면 자동 재전송하지 않음
+        sender.send(config, List.of(doc), false);
+        ErpSalesDocument exhausted = documentRepository.findById(doc.getId()).orElseThrow();
+        assertThat(exhausted.getStatus()).isEqualTo(ErpDocumentStatus.FAILED);
+        assertThat(exhausted.getSendAttempts()).isEqualTo(3);
+        assertThat(exhausted.getNextRetryAt()).isNull();
+        assertThat(saveSaleRequests()).isEqualTo(3);
+    }
+
+    @Test
+    void connectionRefusedBeforeSendingIsQueuedForRetry() throws IOException {
+        stubSaveSale(okJson(saveSaleSuccess("20261016-1")));
+        assertThat(sender.send(config, List.of(createDocument("FIRST")), false).get(0).success()).isTrue();
+
+        // 세션은 캐시되어 있고 ECount 주소만 닫힌 포트로 바뀜 - 연결을 맺지 못했으므로 요청은 전달되지 않음
+        try (ServerSocket socket = new ServerSocket(0)) {
+            targetPort.set(socket.getLocalPort());
+        }
+        ErpSalesDocument doc = createDocument("REFUSED");
+        SendItemResult result = sender.send(config, List.of(doc), false).get(0);
+
+        assertThat(result.success()).isFalse();
+        assertThat(result.errorMessage()).contains("연결 실패");
+        assertQueuedForRetry(doc, 1, INITIAL_BACKOFF);
+        assertThat(saveSaleRequests()).isEqualTo(1);
+    }
+
+    @Test
+    void openCircuitStopsCallingAndQueuesForRetry() {
+        stubSaveSale(aResponse().withStatus(502));
+        for (int i = 0; i < 3; i++) {
+            ErpSalesDocument failed = createDocument("HTTP-502-" + i);
+            sender.send(config, List.of(failed), false);
+            assertNotQueuedForRetry(failed);
+        }
+        assertThat(saveSaleRequests()).isEqualTo(3);
+
+        // 서킷이 열리면 요청하지 않으므로 ECount에 들어가지 않은 것이 확실 - 자동 재전송 대상
+        ErpSalesDocument doc = createDocument("CIRCUIT-OPEN");
+        SendItemResult result = sender.send(config, List.of(doc), false).get(0);
+
+        assertThat(result.errorMessage()).contains("일시 중단");
+        assertQueuedForRetry(doc, 1, INITIAL_BACKOFF);
+        assertThat(saveSaleRequests()).isEqualTo(3);
+    }
+
+    private void assertNotQueuedForRetry(ErpSalesDocument doc) {
+        ErpSalesDocument stored = documentRepository.findById(doc.getId()).orElseThrow();
+        assertThat(stored.getStatus()).isEqualTo(ErpDocumentStatus.FAILED);
+        assertThat(stored.getNextRetryAt()).isNull();
+        assertThat(stored.getSendClaimedAt()).isNull();
+    }
+
+    private void assertQueuedForRetry(ErpSalesDocument doc, int attempts, Duration backoff) {
+        ErpSalesDocument stored = documentRepository.findById(doc.getId()).orElseThrow();
+        assertThat(stored.getStatus()).isEqualTo(ErpDocumentStatus.FAILED);
+        assertThat(stored.getSendAttempts()).isEqualTo(attempts);
+        Instant now = Instant.now();
+        assertThat(stored.getNextRetryAt())
+                .isAfter(now.plus(backoff.dividedBy(2)).minusSeconds(5))
+                .isBefore(now.plus(backoff).plusSeconds(1));
+    }
+
+    private void stubSaveSale(ResponseDefinitionBuilder response) {
+        wireMock.stubFor(post(urlPathEqualTo(SAVE_SALE_PATH)).willReturn(response));
+    }
+
+    private int saveSaleRequests() {
+        return wireMock.countRequestsMatching(postRequestedFor(urlPathEqualTo(SAVE_SALE_PATH)).build()).getCount();
+    }
+
+    private static String saveSaleSuccess(String slipNo) {
+        return "{\"Status\":\"200\",\"Error\":null,\"Data\":{\"SuccessCnt\":1,\"FailCnt\":0," +
+                "\"ResultDetails\":[{\"Line\":\"0\",\"IsSuccess\":true}],\"SlipNos\":[\"" + slipNo + "\"]}}";
+    }
+
+    private ErpSalesDocument createDocument(String ref) {
+        Order order = orderRepository.save(Order.builder()
+                .tenantId(config.getTenantId())
+                .marketplaceType(MarketplaceType.NAVER)
+                .marketplaceOrderId(ref)
+                .status(OrderStatus.DELIVERED)
+                .build());
+        return documentRepository.save(ErpSalesDocument.builder()
+                .tenantId(config.getTenantId())
+                .orderId(order.getId())
+                .erpConfigId(config.getId())
+                .documentDate(LocalDate.now())
+                .marketplaceType(MarketplaceType.NAVER)
+                .totalAmount(BigDecimal.TEN)
+                .documentLines(List.of(Map.of("PROD_CD", ref, "QTY", "1")))
+                .build());
+    }
+}
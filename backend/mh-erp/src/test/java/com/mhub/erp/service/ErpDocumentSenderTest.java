@@ -0,0 +1,208 @@
+package com.mhub.erp.service;
+
+import com.mhub.core.domain.entity.ErpSalesDocument;
+import com.mhub.core.domain.entity.Order;
+import com.mhub.core.domain.entity.Tenant;
+import com.mhub.core.domain.entity.TenantErpConfig;
+import com.mhub.core.domain.enums.ErpDocumentStatus;
+import com.mhub.core.domain.enums.ErpType;
+import com.mhub.core.domain.enums.MarketplaceType;
+import com.mhub.core.domain.enums.OrderStatus;
+import com.mhub.core.domain.repository.ErpSalesDocumentRepository;
+import com.mhub.core.domain.repository.OrderRepository;
+import com.mhub.core.domain.repository.TenantErpConfigRepository;
+import com.mhub.core.domain.repository.TenantRepository;
+import com.mhub.core.erp.dto.ErpBatchSendResult.SendItemResult;
+import com.mhub.erp.adapter.ErpAdapter.DocumentResult;
+import com.mhub.erp.adapter.ecount.ECountAdapter;
+import com.mhub.erp.config.ErpSendProperties;
+import com.mhub.support.PostgresIntegrationTest;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class ErpDocumentSenderTest extends PostgresIntegrationTest {
+
+    private static final String REF = "ref";
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private TenantRepository tenantRepository;
+
+    @Autowired
+    private TenantErpConfigRepository erpConfigRepository;
+
+    @Autowired
+    private ErpSalesDocumentRepository documentRepository;
+
+    @Autowired
+    private OrderRepository orderRepository;
+
+    private final Map<String, AtomicInteger> erpCalls = new ConcurrentHashMap<>();
+    private ECountAdapter adapter;
+    private ErpDocumentSender sender;
+    private TenantErpConfig config;
+
+    @BeforeEach
+    void setUp() {
+        Tenant tenant = tenantRepository.save(Tenant.builder().companyName("erp-send-test").build());
+        config = erpConfigRepository.save(TenantErpConfig.builder()
+                .tenantId(tenant.getId())
+                .erpType(ErpType.ECOUNT)
+                .build());
+
+        // ERP에 전표가 들어간 횟수를 전표별로 셈 - 응답을 늦춰 동시 전송이 겹치게 함
+        adapter = mock(ECountAdapter.class);
+        when(adapter.createSaveSaleBatch(any(), anyList())).thenAnswer(invocation -> {
+            List<List<Map<String, Object>>> documents = invocation.getArgument(1);
+            Thread.sleep(100);
+            List<DocumentResult> results = new ArrayList<>();
+            for (List<Map<String, Object>> lines : documents) {
+                String ref = (String) lines.get(0).get(REF);
+                int call = erpCalls.computeIfAbsent(ref, k -> new AtomicInteger()).incrementAndGet();
+                results.add(new DocumentResult(true, "ERP-" + ref + "-" + call, null, Map.of()));
+            }
+            return results;
+        });
+        ErpAdapterFactory adapterFactory = mock(ErpAdapterFactory.class);
+        when(adapterFactory.getAdapter(ErpType.ECOUNT)).thenReturn(adapter);
+
+        ErpSendProperties properties = new ErpSendProperties(4, 6, Duration.ofMinutes(1), Duration.ofHours(2),
+                200, Duration.ofMinutes(10));
+        sender = new ErpDocumentSender(jdbcTemplate, documentRepository, orderRepository, adapterFactory,
+                properties, entityManager, transactionManager);
+    }
+
+    @Test
+    void concurrentSendersSendEachDocumentOnce() throws Exception {
+        List<ErpSalesDocument> docs = createDocuments(20);
+        int senders = 8;
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<List<SendItemResult>>> futures = new ArrayList<>();
+
+        try (ExecutorService executor = Executors.newFixedThreadPool(senders)) {
+            for (int i = 0; i < senders; i++) {
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    return sender.send(config, docs, false);
+                }));
+            }
+            start.countDown();
+
+            Map<UUID, Integer> successCount = new ConcurrentHashMap<>();
+            for (Future<List<SendItemResult>> future : futures) {
+                List<SendItemResult> results = future.get();
+                assertThat(results).hasSize(docs.size());
+                for (SendItemResult result : results) {
+                    if (result.success()) {
+                        successCount.merge(result.documentId(), 1, Integer::sum);
+                    } else {
+                        assertThat(result.errorMessage()).isEqualTo(ErpDocumentSender.NOT_CLAIMED_MESSAGE);
+                    }
+                }
+            }
+            assertThat(successCount).hasSize(docs.size()).allSatisfy((id, count) -> assertThat(count).isEqualTo(1));
+        }
+
+        assertThat(erpCalls).hasSize(docs.size());
+        assertThat(erpCalls.values()).allSatisfy(calls -> assertThat(calls.get()).isEqualTo(1));
+        for (ErpSalesDocument doc : documentRepository.findAllById(docs.stream().map(ErpSalesDocument::getId).toList())) {
+            assertThat(doc.getStatus()).isEqualTo(ErpDocumentStatus.SENT);
+            assertThat(doc.getSendClaimedAt()).isNull();
+            assertThat(orderRepository.findById(doc.getOrderId()).orElseThrow().getErpDocumentId())
+                    .isEqualTo(doc.getErpDocumentId());
+        }
+    }
+
+    @Test
+    void staleEntityIsNotSentAgainAfterAnotherSenderFinished() {
+        List<ErpSalesDocument> docs = createDocuments(3);
+        sender.send(config, docs, false);
+
+        // 먼저 읽어 둔 PENDING 상태의 엔티티로 다시 보내도 DB 상태로 선점하므로 보내지 않음
+        List<SendItemResult> again = sender.send(config, docs, true);
+
+        assertThat(again).allSatisfy(result -> {
+            assertThat(result.success()).isFalse();
+            assertThat(result.errorMessage()).isEqualTo(ErpDocumentSender.NOT_CLAIMED_MESSAGE);
+        });
+        assertThat(erpCalls.values()).allSatisfy(calls -> assertThat(calls.get()).isEqualTo(1));
+    }
+
+    @Test
+    void staleClaimIsReleasedForManualResend() {
+        List<ErpSalesDocument> docs = createDocuments(2);
+        UUID stale = docs.get(0).getId();
+        UUID recent = docs.get(1).getId();
+        jdbcTemplate.update("UPDATE erp_sales_document SET status = 'SENDING', send_claimed_at = NOW() - INTERVAL '1 hour' " +
+                "WHERE id = ?", stale);
+        jdbcTemplate.update("UPDATE erp_sales_document SET status = 'SENDING', send_claimed_at = NOW() WHERE id = ?", recent);
+
+        assertThat(sender.releaseStaleClaims(config.getTenantId())).isEqualTo(1);
+
+        ErpSalesDocument released = documentRepository.findById(stale).orElseThrow();
+        assertThat(released.getStatus()).isEqualTo(ErpDocumentStatus.FAILED);
+        assertThat(released.getNextRetryAt()).isNull();
+        assertThat(released.getErrorMessage()).isEqualTo(ErpDocumentSender.STALE_CLAIM_MESSAGE);
+        assertThat(documentRepository.findById(recent).orElseThrow().getStatus()).isEqualTo(ErpDocumentStatus.SENDING);
+
+        // 전송 중인 전표는 다시 선점하지 않음
+        sender.send(config, List.of(documentRepository.findById(recent).orElseThrow()), true);
+        verify(adapter, never()).createSaveSaleBatch(any(), anyList());
+    }
+
+    private List<ErpSalesDocument> createDocuments(int count) {
+        List<ErpSalesDocument> docs = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            Order order = orderRepository.save(Order.builder()
+                    .tenantId(config.getTenantId())
+                    .marketplaceType(MarketplaceType.NAVER)
+                    .marketplaceOrderId("ERP-" + i)
+                    .status(OrderStatus.DELIVERED)
+                    .build());
+            docs.add(ErpSalesDocument.builder()
+                    .tenantId(config.getTenantId())
+                    .orderId(order.getId())
+                    .erpConfigId(config.getId())
+                    .documentDate(LocalDate.now())
+                    .marketplaceType(MarketplaceType.NAVER)
+                    .totalAmount(BigDecimal.TEN)
+                    .documentLines(List.of(Map.of(REF, order.getId().toString())))
+                    .build());
+        }
+        return documentRepository.saveAll(docs);
+    }
+}
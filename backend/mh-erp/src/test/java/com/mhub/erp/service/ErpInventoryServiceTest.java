@@ -0,0 +1,227 @@
+package com.mhub.erp.service;
+
+import com.mhub.core.domain.entity.Tenant;
+import com.mhub.core.domain.entity.TenantErpConfig;
+import com.mhub.core.domain.enums.ErpType;
+import com.mhub.core.domain.repository.TenantErpConfigRepository;
+import com.mhub.core.domain.repository.TenantRepository;
+import com.mhub.core.erp.dto.InventoryBalanceResponse;
+import com.mhub.core.erp.dto.InventoryBalanceResponse.SyncCounts;
+import com.mhub.core.tenant.TenantContext;
+import com.mhub.erp.adapter.ErpAdapter;
+import com.mhub.erp.adapter.ErpAdapter.InventoryFetchResult;
+import com.mhub.support.PostgresIntegrationTest;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * 재고 동기화가 저장된 재고와 ERP 재고의 차이만 반영하는지 확인
+ * - 추가/변경/삭제/유지 건수와 결과 행, 그대로인 행의 last_synced_at 유지
+ * - 품목 지정 동기화는 지정 품목만 비교, 동시에 같은 행을 추가하는 동기화는 ON CONFLICT로 서로 실패시키지 않음
+ */
+@Import(ErpInventoryService.class)
+class ErpInventoryServiceTest extends PostgresIntegrationTest {
+
+    @Autowired
+    private ErpInventoryService inventoryService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TenantRepository tenantRepository;
+
+    @Autowired
+    private TenantErpConfigRepository erpConfigRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @MockBean
+    private ErpAdapterFactory adapterFactory;
+
+    private final ErpAdapter adapter = mock(ErpAdapter.class);
+    private TenantErpConfig config;
+
+    @BeforeEach
+    void setUp() {
+        when(adapterFactory.getAdapter(ErpType.ECOUNT)).thenReturn(adapter);
+
+        Tenant tenant = tenantRepository.save(Tenant.builder().companyName("inventory-sync-test").build());
+        config = erpConfigRepository.save(TenantErpConfig.builder()
+                .tenantId(tenant.getId())
+                .erpType(ErpType.ECOUNT)
+                .companyCode("123456")
+                .userId("api-user")
+                .apiKey("api-key")
+                .build());
+        TenantContext.setTenantId(tenant.getId());
+    }
+
+    @AfterEach
+    void tearDown() {
+        TenantContext.clear();
+    }
+
+    @Test
+    void appliesOnlyDifferencesAndKeepsUnchangedRows() {
+        fetchReturns(
+                balance("A", "W1", "본사", "10"),
+                balance("A", "W2", "물류", "3.5"),
+                balance("B", "W1", "본사", "0"),
+                balance("C", "W1", "본사", "7"));
+        SyncCounts first = inventoryService.syncAllInventory().getSyncCounts();
+        assertThat(first).isEqualTo(new SyncCounts(4, 0, 0, 0));
+        Map<String, LocalDateTime> syncedBefore = lastSyncedAt();
+
+        // A/W1 수량은 같은 값의 다른 표기, A/W2는 창고명만 변경, B/W1 수량 변경, C/W1 삭제, D/W1 추가
+        fetchReturns(
+                balance("A", "W1", "본사", "10.000"),
+                balance("A", "W2", "물류센터", "3.5"),
+                balance("B", "W1", "본사", 12),
+                balance("D", "W1", "본사", "1"));
+        InventoryBalanceResponse second = inventoryService.syncAllInventory();
+
+        assertThat(second.isSuccess()).isTrue();
+        assertThat(second.getSyncCounts()).isEqualTo(new SyncCounts(1, 2, 1, 1));
+        assertThat(storedRows()).containsExactly(
+                "A/W1/본사/10.00", "A/W2/물류센터/3.50", "B/W1/본사/12.00", "D/W1/본사/1.00");
+
+        Map<String, LocalDateTime> syncedAfter = lastSyncedAt();
+        assertThat(syncedAfter.get("A/W1")).isEqualTo(syncedBefore.get("A/W1"));
+        assertThat(syncedAfter.get("A/W2")).isAfter(syncedBefore.get("A/W2"));
+        assertThat(syncedAfter.get("B/W1")).isAfter(syncedBefore.get("B/W1"));
+
+        // 같은 응답으로 다시 동기화하면 쓰지 않음
+        SyncCounts third = inventoryService.syncAllInventory().getSyncCounts();
+        assertThat(third).isEqualTo(new SyncCounts(0, 0, 0, 4));
+        assertThat(lastSyncedAt()).isEqualTo(syncedAfter);
+    }
+
+    @Test
+    void scopedSyncComparesOnlyRequestedItems() {
+        fetchReturns(
+                balance("A", "W1", "본사", "10"),
+                balance("B", "W1", "본사", "5"),
+                balance("C", "W1", "본사", "7"));
+        inventoryService.syncAllInventory();
+
+        // A만 요청 - ERP 응답에 A/W1이 없으면 A/W1만 삭제, B/C는 비교 대상이 아님
+        fetchReturns(balance("A", "W2", "물류", "4"));
+        SyncCounts counts = inventoryService.syncInventoryBalance(List.of("A")).getSyncCounts();
+
+        assertThat(counts).isEqualTo(new SyncCounts(1, 0, 1, 0));
+        assertThat(storedRows()).containsExactly("A/W2/물류/4.00", "B/W1/본사/5.00", "C/W1/본사/7.00");
+    }
+
+    @Test
+    void duplicateKeysInResponseUseLastValue() {
+        fetchReturns(
+                balance("A", "W1", "본사", "1"),
+                balance("A", "W1", "본사", "2"));
+
+        SyncCounts counts = inventoryService.syncAllInventory().getSyncCounts();
+
+        assertThat(counts).isEqualTo(new SyncCounts(1, 0, 0, 0));
+        assertThat(storedRows()).containsExactly("A/W1/본사/2.00");
+    }
+
+    @Test
+    void failedFetchLeavesStoredRows() {
+        fetchReturns(balance("A", "W1", "본사", "10"));
+        inventoryService.syncAllInventory();
+
+        when(adapter.fetchInventoryBalance(any(), anyString(), anyList()))
+                .thenReturn(new InventoryFetchResult(false, List.of(), "ERP 오류"));
+        InventoryBalanceResponse response = inventoryService.syncAllInventory();
+
+        assertThat(response.isSuccess()).isFalse();
+        assertThat(response.getErrorMessage()).isEqualTo("ERP 오류");
+        assertThat(storedRows()).containsExactly("A/W1/본사/10.00");
+    }
+
+    @Test
+    void overlappingSyncsInsertingSameRowDoNotFail() throws Exception {
+        when(adapter.fetchInventoryBalance(any(), anyString(), anyList())).thenReturn(
+                new InventoryFetchResult(true, List.of(balance("A", "W1", "본사", "5")), null),
+                new InventoryFetchResult(true, List.of(balance("A", "W1", "본사", "8")), null));
+        TransactionTemplate tx = new TransactionTemplate(transactionManager);
+        AtomicReference<Future<?>> overlapping = new AtomicReference<>();
+
+        try (ExecutorService executor = Executors.newSingleThreadExecutor()) {
+            tx.executeWithoutResult(status -> {
+                // 첫 동기화가 행을 추가했지만 아직 커밋하지 않음
+                inventoryService.syncAllInventoryForConfig(config.getTenantId(), config);
+
+                // 두 번째 동기화는 커밋 전이라 행을 못 보고 추가 시도 - 유니크 키에서 첫 동기화 커밋을 기다림
+                overlapping.set(executor.submit(
+                        () -> inventoryService.syncAllInventoryForConfig(config.getTenantId(), config)));
+                assertThatThrownBy(() -> overlapping.get().get(500, TimeUnit.MILLISECONDS))
+                        .isInstanceOf(TimeoutException.class);
+            });
+            overlapping.get().get(10, TimeUnit.SECONDS);
+        }
+
+        // 두 번째 동기화가 예외 없이 끝나고 나중 값으로 갱신
+        assertThat(storedRows()).containsExactly("A/W1/본사/8.00");
+    }
+
+    @SafeVarargs
+    private void fetchReturns(Map<String, Object>... balances) {
+        when(adapter.fetchInventoryBalance(any(), anyString(), anyList()))
+                .thenReturn(new InventoryFetchResult(true, List.of(balances), null));
+    }
+
+    private static Map<String, Object> balance(String prodCd, String whCd, String whDes, Object balQty) {
+        Map<String, Object> item = new HashMap<>();
+        item.put("PROD_CD", prodCd);
+        item.put("WH_CD", whCd);
+        item.put("WH_DES", whDes);
+        item.put("BAL_QTY", balQty);
+        return item;
+    }
+
+    private List<String> storedRows() {
+        return jdbcTemplate.query("""
+                SELECT prod_cd, wh_cd, wh_des, bal_qty FROM erp_inventory_balance
+                WHERE erp_config_id = ? ORDER BY prod_cd, wh_cd
+                """, (rs, rowNum) -> rs.getString("prod_cd") + "/" + rs.getString("wh_cd") + "/"
+                + rs.getString("wh_des") + "/" + rs.getBigDecimal("bal_qty").toPlainString(), config.getId());
+    }
+
+    private Map<String, LocalDateTime> lastSyncedAt() {
+        Map<String, LocalDateTime> result = new HashMap<>();
+        jdbcTemplate.query("SELECT prod_cd, wh_cd, last_synced_at FROM erp_inventory_balance WHERE erp_config_id = ?",
+                rs -> {
+                    result.put(rs.getString("prod_cd") + "/" + rs.getString("wh_cd"),
+                            rs.getTimestamp("last_synced_at").toLocalDateTime());
+                }, config.getId());
+        return result;
+    }
+}
@@ -0,0 +1,208 @@
+package com.mhub.erp.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.tomakehurst.wiremock.WireMockServer;
+import com.mhub.core.domain.entity.Tenant;
+import com.mhub.core.domain.entity.TenantErpConfig;
+import com.mhub.core.domain.enums.ErpType;
+import com.mhub.core.domain.repository.TenantErpConfigRepository;
+import com.mhub.core.domain.repository.TenantRepository;
+import com.mhub.core.erp.dto.ErpItemSyncResponse;
+import com.mhub.core.tenant.TenantContext;
+import com.mhub.erp.adapter.ecount.ECountAdapter;
+import com.mhub.erp.adapter.ecount.ECountApiProperties;
+import com.mhub.erp.config.ErpSendProperties;
+import com.mhub.support.PostgresIntegrationTest;
+import com.mhub.support.WireMockWebClients;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.IntFunction;
+
+import static com.github.tomakehurst.wiremock.client.WireMock.okJson;
+import static com.github.tomakehurst.wiremock.client.WireMock.post;
+import static com.github.tomakehurst.wiremock.client.WireMock.serverError;
+import static com.github.tomakehurst.wiremock.client.WireMock.urlPathEqualTo;
+import static com.github.tomakehurst.wiremock.core.WireMockConfiguration.options;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.when;
+
+@Import(ErpItemSyncService.class)
+class ErpItemSyncServiceTest extends PostgresIntegrationTest {
+
+    private static final String ITEMS_PATH = "/OAPI/V2/InventoryBasic/GetBasicProductsList";
+    private static final int ITEM_COUNT = 1_234;
+
+    private static WireMockServer wireMock;
+
+    @Autowired
+    private ErpItemSyncService itemSyncService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TenantRepository tenantRepository;
+
+    @Autowired
+    private TenantErpConfigRepository erpConfigRepository;
+
+    @MockBean
+    private ErpAdapterFactory adapterFactory;
+
+    @MockBean
+    private ErpInventoryService erpInventoryService;
+
+    private TenantErpConfig config;
+
+    @BeforeAll
+    static void startWireMock() {
+        wireMock = new WireMockServer(options().dynamicPort());
+        wireMock.start();
+    }
+
+    @AfterAll
+    static void stopWireMock() {
+        // DB가 없어 기반 클래스에서 건너뛰면 startWireMock이 실행되지 않음
+        if (wireMock != null) {
+            wireMock.stop();
+        }
+    }
+
+    @BeforeEach
+    void setUp() {
+        wireMock.resetAll();
+        wireMock.stubFor(post(urlPathEqualTo("/OAPI/V2/Zone"))
+                .willReturn(okJson("{\"Status\":\"200\",\"Data\":{\"ZONE\":\"CC\"}}")));
+        wireMock.stubFor(post(urlPathEqualTo("/OAPI/V2/OAPILogin"))
+                .willReturn(okJson("{\"Status\":\"200\",\"Data\":{\"Code\":\"00\",\"Datas\":{\"SESSION_ID\":\"S1\"}}}")));
+
+        ECountAdapter adapter = new ECountAdapter(WireMockWebClients.redirectingTo(wireMock),
+                new ECountApiProperties(50, 300),
+                new ErpSendProperties(4, 6, Duration.ofMinutes(1), Duration.ofHours(2), 200, Duration.ofMinutes(10)),
+                CircuitBreakerRegistry.ofDefaults(), new ObjectMapper());
+        when(adapterFactory.getAdapter(ErpType.ECOUNT)).thenReturn(adapter);
+
+        Tenant tenant = tenantRepository.save(Tenant.builder().companyName("item-sync-test").build());
+        config = erpConfigRepository.save(TenantErpConfig.builder()
+                .tenantId(tenant.getId())
+                .erpType(ErpType.ECOUNT)
+                .companyCode("123456")
+                .userId("api-user")
+                .apiKey("api-key")
+                .build());
+        TenantContext.setTenantId(tenant.getId());
+    }
+
+    @AfterEach
+    void tearDown() {
+        TenantContext.clear();
+    }
+
+    @Test
+    void streamsAllItemsAndSkipsUnchangedOnResync() {
+        stubItems(itemsBody(ITEM_COUNT, i -> "1000"));
+
+        ErpItemSyncResponse first = itemSyncService.syncItems(config.getId());
+
+        assertThat(first.isSuccess()).isTrue();
+        assertThat(first.getTotalCount()).isEqualTo(ITEM_COUNT);
+        assertThat(first.getSyncedCount()).isEqualTo(ITEM_COUNT);
+        assertThat(first.getChangedCount()).isEqualTo(ITEM_COUNT);
+        assertThat(countItems()).isEqualTo(ITEM_COUNT);
+        assertThat(erpConfigRepository.findById(config.getId()).orElseThrow().getItemSyncedAt()).isNotNull();
+
+        ErpItemSyncResponse resync = itemSyncService.syncItems(config.getId());
+
+        assertThat(resync.isSuccess()).isTrue();
+        assertThat(resync.getSyncedCount()).isEqualTo(ITEM_COUNT);
+        assertThat(resync.getChangedCount()).isZero();
+        assertThat(countItems()).isEqualTo(ITEM_COUNT);
+    }
+
+    @Test
+    void countsOnlyChangedItems() {
+        stubItems(itemsBody(ITEM_COUNT, i -> "1000"));
+        itemSyncService.syncItems(config.getId());
+
+        // 7의 배수 품목만 가격 변경 + 새 품목 1건 추가
+        stubItems(itemsBody(ITEM_COUNT + 1, i -> i % 7 == 0 ? "2000" : "1000"));
+        ErpItemSyncResponse response = itemSyncService.syncItems(config.getId());
+
+        int expectedChanged = ITEM_COUNT / 7 + 1;
+        assertThat(response.isSuccess()).isTrue();
+        assertThat(response.getSyncedCount()).isEqualTo(ITEM_COUNT + 1);
+        assertThat(response.getChangedCount()).isEqualTo(expectedChanged);
+        assertThat(outPrice("P00007")).isEqualByComparingTo("2000");
+        assertThat(outPrice("P00008")).isEqualByComparingTo("1000");
+        assertThat(countItems()).isEqualTo(ITEM_COUNT + 1);
+    }
+
+    @Test
+    void failureAfterStreamedBatchesRollsBack() {
+        stubItems(itemsBody(ITEM_COUNT, i -> "1000"));
+        itemSyncService.syncItems(config.getId());
+
+        // 여러 배치를 저장한 뒤 응답 끝에서 오류가 오면 저장한 배치까지 되돌림
+        String body = itemsBody(ITEM_COUNT + 100, i -> "3000");
+        stubItems(body.substring(0, body.length() - 1) + ",\"Error\":{\"Message\":\"조회 중단\"}}");
+        ErpItemSyncResponse failed = itemSyncService.syncItems(config.getId());
+
+        assertThat(failed.isSuccess()).isFalse();
+        assertThat(failed.getMessage()).contains("조회 중단");
+        assertThat(countItems()).isEqualTo(ITEM_COUNT);
+        assertThat(outPrice("P00001")).isEqualByComparingTo("1000");
+    }
+
+    @Test
+    void httpErrorKeepsPreviousItems() {
+        stubItems(itemsBody(10, i -> "1000"));
+        itemSyncService.syncItems(config.getId());
+
+        wireMock.stubFor(post(urlPathEqualTo(ITEMS_PATH)).willReturn(serverError()));
+        ErpItemSyncResponse failed = itemSyncService.syncItems(config.getId());
+
+        assertThat(failed.isSuccess()).isFalse();
+        assertThat(countItems()).isEqualTo(10);
+    }
+
+    private void stubItems(String body) {
+        wireMock.stubFor(post(urlPathEqualTo(ITEMS_PATH)).willReturn(okJson(body)));
+    }
+
+    private String itemsBody(int count, IntFunction<String> outPrice) {
+        StringBuilder result = new StringBuilder();
+        for (int i = 1; i <= count; i++) {
+            if (i > 1) {
+                result.append(',');
+            }
+            result.append(String.format(
+                    "{\"PROD_CD\":\"P%05d\",\"PROD_DES\":\"품목 %d\",\"UNIT\":\"EA\",\"OUT_PRICE\":\"%s\",\"BAL_FLAG\":\"1\"}",
+                    i, i, outPrice.apply(i)));
+        }
+        return "{\"Status\":\"200\",\"Error\":null,\"Data\":{\"TotalCnt\":" + count + ",\"Result\":[" + result + "]}}";
+    }
+
+    private int countItems() {
+        return jdbcTemplate.queryForObject("SELECT count(*) FROM erp_item WHERE erp_config_id = ?",
+                Integer.class, config.getId());
+    }
+
+    private BigDecimal outPrice(String prodCd) {
+        Map<String, Object> row = jdbcTemplate.queryForMap(
+                "SELECT out_price FROM erp_item WHERE erp_config_id = ? AND prod_cd = ?", config.getId(), prodCd);
+        return (BigDecimal) row.get("out_price");
+    }
+}
@@ -0,0 +1,261 @@
+package com.mhub.erp.service;
+
+import com.mhub.core.domain.entity.ErpSalesTemplate;
+import com.mhub.core.domain.entity.Order;
+import com.mhub.core.domain.entity.Tenant;
+import com.mhub.core.domain.entity.TenantErpConfig;
+import com.mhub.core.domain.enums.ErpDocumentStatus;
+import com.mhub.core.domain.enums.ErpType;
+import com.mhub.core.domain.enums.MarketplaceType;
+import com.mhub.core.domain.enums.OrderStatus;
+import com.mhub.core.domain.repository.ErpSalesDocumentRepository;
+import com.mhub.core.domain.repository.ErpSalesTemplateRepository;
+import com.mhub.core.domain.repository.OrderRepository;
+import com.mhub.core.domain.repository.OrderSettlementRepository;
+import com.mhub.core.domain.repository.TenantErpConfigRepository;
+import com.mhub.core.domain.repository.TenantRepository;
+import com.mhub.core.erp.dto.AutoErpChunkResult;
+import com.mhub.core.tenant.TenantContext;
+import com.mhub.erp.adapter.ErpAdapter.DocumentResult;
+import com.mhub.erp.adapter.ecount.ECountAdapter;
+import com.mhub.erp.adapter.ecount.ECountSalesDocumentBuilder;
+import com.mhub.erp.config.ErpSendProperties;
+import com.mhub.support.PostgresIntegrationTest;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * 자동 전표 배치의 청크 처리 확인
+ * - 생성: 주문마다 별도 트랜잭션이라 한 주문의 생성 실패가 같은 청크의 다른 전표를 롤백시키지 않고, 실패한 주문은 다음 실행의 대상에 남음
+ * - ID 커서로 청크를 이어 조회, 생성한 전표는 ErpDocumentSender로 선점 후 전송
+ * - 전송: 같은 미전송 전표를 동시에 처리하는 청크끼리 전표를 한 번씩만 ERP로 보냄
+ */
+class ErpSalesDocumentAutoBatchTest extends PostgresIntegrationTest {
+
+    private static final String REF = "ref";
+    private static final UUID CURSOR_START = new UUID(0L, 0L);
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private TenantRepository tenantRepository;
+
+    @Autowired
+    private TenantErpConfigRepository erpConfigRepository;
+
+    @Autowired
+    private ErpSalesTemplateRepository templateRepository;
+
+    @Autowired
+    private ErpSalesDocumentRepository documentRepository;
+
+    @Autowired
+    private OrderRepository orderRepository;
+
+    @Autowired
+    private OrderSettlementRepository settlementRepository;
+
+    private final Map<String, AtomicInteger> erpCalls = new ConcurrentHashMap<>();
+    private final Set<UUID> failingOrders = ConcurrentHashMap.newKeySet();
+    private ErpSalesDocumentService service;
+    private TenantErpConfig config;
+
+    @BeforeEach
+    void setUp() {
+        Tenant tenant = tenantRepository.save(Tenant.builder().companyName("auto-erp-batch-test").build());
+        config = erpConfigRepository.save(TenantErpConfig.builder()
+                .tenantId(tenant.getId())
+                .erpType(ErpType.ECOUNT)
+                .autoGenerateDocument(true)
+                .autoSendToErp(true)
+                .build());
+        templateRepository.save(ErpSalesTemplate.builder()
+                .tenantId(tenant.getId())
+                .erpConfigId(config.getId())
+                .build());
+        TenantContext.setTenantId(tenant.getId());
+
+        // 전표 라인에 주문 ID를 넣고, failingOrders에 든 주문은 생성 중 실패
+        ECountSalesDocumentBuilder documentBuilder = mock(ECountSalesDocumentBuilder.class);
+        when(documentBuilder.buildSaveSaleRequest(any(), anyList(), any())).thenAnswer(invocation -> {
+            Order order = invocation.getArgument(0);
+            if (failingOrders.contains(order.getId())) {
+                throw new IllegalStateException("template error for " + order.getId());
+            }
+            return Map.of("SaleList", List.of(Map.of("BulkDatas", Map.of(REF, order.getId().toString(), "PRICE", "1000"))));
+        });
+
+        // ERP에 전표가 들어간 횟수를 전표별로 셈 - 응답을 늦춰 동시 전송이 겹치게 함
+        ECountAdapter adapter = mock(ECountAdapter.class);
+        when(adapter.createSaveSaleBatch(any(), anyList())).thenAnswer(invocation -> {
+            List<List<Map<String, Object>>> documents = invocation.getArgument(1);
+            Thread.sleep(100);
+            List<DocumentResult> results = new ArrayList<>();
+            for (List<Map<String, Object>> lines : documents) {
+                String ref = (String) lines.get(0).get(REF);
+                int call = erpCalls.computeIfAbsent(ref, k -> new AtomicInteger()).incrementAndGet();
+                results.add(new DocumentResult(true, "ERP-" + ref + "-" + call, null, Map.of()));
+            }
+            return results;
+        });
+        ErpAdapterFactory adapterFactory = mock(ErpAdapterFactory.class);
+        when(adapterFactory.getAdapter(ErpType.ECOUNT)).thenReturn(adapter);
+
+        ErpSendProperties properties = new ErpSendProperties(4, 6, Duration.ofMinutes(1), Duration.ofHours(2),
+                200, Duration.ofMinutes(10));
+        ErpDocumentSender sender = new ErpDocumentSender(jdbcTemplate, documentRepository, orderRepository,
+                adapterFactory, properties, entityManager, transactionManager);
+        service = new ErpSalesDocumentService(documentRepository, orderRepository, settlementRepository,
+                erpConfigRepository, templateRepository, documentBuilder, sender, properties,
+                new TransactionTemplate(transactionManager));
+    }
+
+    @AfterEach
+    void tearDown() {
+        TenantContext.clear();
+    }
+
+    @Test
+    void generationFailureDoesNotRollBackOtherOrdersInChunk() {
+        List<Order> orders = createOrders(5);
+        UUID failing = orders.get(2).getId();
+        failingOrders.add(failing);
+
+        AutoErpChunkResult result = service.generateAutoErpChunk(config.getTenantId(), CURSOR_START, 10);
+
+        assertThat(result.scannedCount()).isEqualTo(5);
+        assertThat(result.generatedCount()).isEqualTo(4);
+        assertThat(result.generateFailCount()).isEqualTo(1);
+        assertThat(result.sentCount()).isEqualTo(4);
+        assertThat(result.sendFailCount()).isZero();
+        for (Order order : orders) {
+            if (order.getId().equals(failing)) {
+                assertThat(documentRepository.findActiveByOrderId(failing)).isEmpty();
+            } else {
+                assertThat(documentRepository.findActiveByOrderId(order.getId()).orElseThrow().getStatus())
+                        .isEqualTo(ErpDocumentStatus.SENT);
+            }
+        }
+
+        // 실패한 주문은 다음 실행에서 다시 대상이 됨
+        failingOrders.clear();
+        AutoErpChunkResult retry = service.generateAutoErpChunk(config.getTenantId(), CURSOR_START, 10);
+
+        assertThat(retry.scannedCount()).isEqualTo(1);
+        assertThat(retry.lastId()).isEqualTo(failing);
+        assertThat(retry.sentCount()).isEqualTo(1);
+        assertThat(erpCalls).hasSize(5).allSatisfy((ref, calls) -> assertThat(calls.get()).isEqualTo(1));
+    }
+
+    @Test
+    void chunksFollowIdCursorPastFailedOrders() {
+        List<UUID> orderIds = createOrders(5).stream()
+                .map(Order::getId)
+                .sorted(Comparator.comparing(UUID::toString))
+                .toList();
+        // 첫 청크의 주문이 실패해도 커서는 넘어가므로 같은 실행에서 다시 조회하지 않음
+        failingOrders.add(orderIds.get(0));
+
+        List<UUID> lastIds = new ArrayList<>();
+        int scanned = 0;
+        int generated = 0;
+        UUID cursor = CURSOR_START;
+        AutoErpChunkResult result;
+        do {
+            result = service.generateAutoErpChunk(config.getTenantId(), cursor, 2);
+            scanned += result.scannedCount();
+            generated += result.generatedCount();
+            if (result.lastId() != null) {
+                lastIds.add(result.lastId());
+                cursor = result.lastId();
+            }
+        } while (result.scannedCount() >= 2);
+
+        assertThat(scanned).isEqualTo(5);
+        assertThat(generated).isEqualTo(4);
+        assertThat(lastIds).containsExactly(orderIds.get(1), orderIds.get(3), orderIds.get(4));
+        assertThat(service.generateAutoErpChunk(config.getTenantId(), cursor, 2).lastId()).isNull();
+    }
+
+    @Test
+    void concurrentSendChunksSendEachDocumentOnce() throws Exception {
+        config.setAutoSendToErp(false);
+        erpConfigRepository.save(config);
+        createOrders(12);
+        service.generateAutoErpChunk(config.getTenantId(), CURSOR_START, 50);
+        assertThat(documentRepository.countByTenantIdAndStatus(config.getTenantId(), ErpDocumentStatus.PENDING))
+                .isEqualTo(12);
+
+        int workers = 3;
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<AutoErpChunkResult>> futures = new ArrayList<>();
+        try (ExecutorService executor = Executors.newFixedThreadPool(workers)) {
+            for (int i = 0; i < workers; i++) {
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    return service.sendPendingAutoErpChunk(config.getTenantId(), CURSOR_START, 50);
+                }));
+            }
+            start.countDown();
+        }
+
+        int sent = 0;
+        for (Future<AutoErpChunkResult> future : futures) {
+            sent += future.get().sentCount();
+        }
+        assertThat(sent).isEqualTo(12);
+        assertThat(erpCalls).hasSize(12).allSatisfy((ref, calls) -> assertThat(calls.get()).isEqualTo(1));
+        assertThat(documentRepository.countByTenantIdAndStatus(config.getTenantId(), ErpDocumentStatus.SENT))
+                .isEqualTo(12);
+
+        // 모두 전송된 뒤에는 대상 없음
+        assertThat(service.sendPendingAutoErpChunk(config.getTenantId(), CURSOR_START, 50).scannedCount()).isZero();
+    }
+
+    private List<Order> createOrders(int count) {
+        List<Order> orders = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            Order order = orderRepository.save(Order.builder()
+                    .tenantId(config.getTenantId())
+                    .marketplaceType(MarketplaceType.NAVER)
+                    .marketplaceOrderId("AUTO-" + i)
+                    .status(i % 2 == 0 ? OrderStatus.SHIPPING : OrderStatus.DELIVERED)
+                    .build());
+            orders.add(order);
+        }
+        return orders;
+    }
+}
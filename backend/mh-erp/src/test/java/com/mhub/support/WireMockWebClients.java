@@ -0,0 +1,50 @@
+package com.mhub.support;
+
+import com.github.tomakehurst.wiremock.WireMockServer;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
+import org.springframework.web.reactive.function.client.ClientRequest;
+import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.util.UriComponentsBuilder;
+import reactor.netty.http.client.HttpClient;
+
+import java.time.Duration;
+import java.util.function.IntSupplier;
+
+/**
+ * 외부 API 주소가 코드에 고정된 어댑터(ECount 등)를 WireMock으로 보내기 위한 WebClient
+ * - 요청 URL의 scheme/host/port만 WireMock으로 바꾸고 경로와 쿼리는 그대로 둠
+ * - 원래 호스트는 X-Original-Host 헤더로 전달 (존(zone)별 호스트 검증용)
+ */
+public final class WireMockWebClients {
+
+    public static final String ORIGINAL_HOST_HEADER = "X-Original-Host";
+
+    private WireMockWebClients() {
+    }
+
+    public static WebClient redirectingTo(WireMockServer wireMock) {
+        return redirectingTo(wireMock::port, HttpClient.create());
+    }
+
+    /**
+     * 응답 시간 초과를 두고, 요청마다 port가 가리키는 곳으로 보냄 (중간에 닫힌 포트로 바꿔 연결 실패를 만들 수 있음)
+     */
+    public static WebClient redirectingTo(IntSupplier port, Duration responseTimeout) {
+        return redirectingTo(port, HttpClient.create().responseTimeout(responseTimeout));
+    }
+
+    private static WebClient redirectingTo(IntSupplier port, HttpClient httpClient) {
+        return WebClient.builder()
+                .clientConnector(new ReactorClientHttpConnector(httpClient))
+                .filter((request, next) -> next.exchange(ClientRequest.from(request)
+                        .url(UriComponentsBuilder.fromUri(request.url())
+                                .scheme("http")
+                                .host("localhost")
+                                .port(port.getAsInt())
+                                .build(true)
+                                .toUri())
+                        .header(ORIGINAL_HOST_HEADER, request.url().getHost())
+                        .build()))
+                .build();
+    }
+}
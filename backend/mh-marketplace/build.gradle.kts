@@ -2,6 +2,11 @@ dependencies {
     api(project(":mh-core"))
 
     implementation("org.springframework.boot:spring-boot-starter-webflux")
+    implementation("org.springframework.boot:spring-boot-starter-data-redis")
     implementation("org.mindrot:jbcrypt:0.4")
     implementation("org.apache.httpcomponents:httpclient:4.5.14")
+
+    // Test
+    testImplementation(testFixtures(project(":mh-core")))
+    testImplementation("org.wiremock:wiremock-standalone")
 }
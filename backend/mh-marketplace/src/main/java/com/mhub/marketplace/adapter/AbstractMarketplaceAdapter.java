@@ -2,16 +2,22 @@ package com.mhub.marketplace.adapter;
 
 import com.mhub.core.domain.entity.TenantMarketplaceCredential;
 import com.mhub.core.domain.enums.OrderStatus;
+import com.mhub.core.service.RateLimitService;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.web.reactive.function.client.WebClient;
 import java.util.Map;
 
 @Slf4j
 public abstract class AbstractMarketplaceAdapter implements MarketplaceAdapter {
+    /** 429 응답 시 Retry-After 대기 후 재시도하는 최대 횟수 */
+    protected static final int MAX_THROTTLE_RETRIES = 3;
+
     protected final WebClient webClient;
+    protected final RateLimitService rateLimitService;
 
-    protected AbstractMarketplaceAdapter(WebClient.Builder webClientBuilder, String baseUrl) {
+    protected AbstractMarketplaceAdapter(WebClient.Builder webClientBuilder, String baseUrl, RateLimitService rateLimitService) {
         this.webClient = webClientBuilder.baseUrl(baseUrl).build();
+        this.rateLimitService = rateLimitService;
     }
 
     protected abstract Map<String, OrderStatus> getStatusMapping();
@@ -22,6 +28,20 @@ public abstract class AbstractMarketplaceAdapter implements MarketplaceAdapter {
         return status;
     }
 
+    /**
+     * 외부 API 요청 직전 호출 - 전역/테넌트/인증정보 버킷에서 토큰을 얻을 때까지 대기
+     */
+    protected void acquirePermit(TenantMarketplaceCredential credential) {
+        rateLimitService.acquire(getMarketplaceType(), credential.getTenantId(), credential.getId());
+    }
+
+    /**
+     * 429 응답 피드백 - Retry-After 헤더(초 또는 HTTP-date)만큼 해당 인증정보 요청을 차단하고 속도를 낮춤
+     */
+    protected void reportThrottled(TenantMarketplaceCredential credential, String retryAfterHeader) {
+        rateLimitService.reportThrottled(getMarketplaceType(), credential.getId(), RetryAfter.parse(retryAfterHeader));
+    }
+
     @Override
     public boolean testConnection(TenantMarketplaceCredential credential) {
         throw new UnsupportedOperationException("testConnection not implemented for " + getMarketplaceType());
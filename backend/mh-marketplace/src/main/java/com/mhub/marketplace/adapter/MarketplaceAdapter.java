@@ -9,6 +9,8 @@ import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.Collections;
 import java.util.List;
+import java.util.Optional;
+import java.util.Set;
 
 public interface MarketplaceAdapter {
     MarketplaceType getMarketplaceType();
@@ -31,6 +33,21 @@ public interface MarketplaceAdapter {
         return Collections.emptyList();
     }
 
+    /**
+     * 기간 내 상태가 변경된 상품주문 ID 조회 (변경분 동기화용)
+     * - 네이버: GET /v1/pay-order/seller/product-orders/last-changed-statuses
+     * - 변경 이력 조회를 지원하지 않는 마켓플레이스는 Optional.empty() 반환 (호출 측에서 전체 조회로 처리)
+     *
+     * @param credential 마켓플레이스 인증 정보
+     * @param from 변경 시각 시작 (포함)
+     * @param to 변경 시각 끝
+     * @return 변경된 상품주문 ID 목록
+     */
+    default Optional<Set<String>> findChangedProductOrderIds(TenantMarketplaceCredential credential,
+                                                             LocalDateTime from, LocalDateTime to) {
+        return Optional.empty();
+    }
+
     /**
      * 건별 정산 데이터 수집
      * - 미지원 마켓플레이스는 빈 리스트 반환
@@ -0,0 +1,99 @@
+package com.mhub.marketplace.adapter;
+
+import com.mhub.common.exception.BusinessException;
+import com.mhub.common.exception.ErrorCodes;
+import com.mhub.core.tenant.TenantContext;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.slf4j.MDC;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+
+/**
+ * 마켓플레이스 API 조회를 (날짜 × 상태) 같은 독립 구간으로 나누어 병렬 실행하는 공용 실행기
+ * - 가상 스레드에서 실행하며, 호출 단위로 동시 실행 수를 제한
+ * - 결과는 입력 구간 순서대로 반환하므로 순차 실행과 동일한 병합 결과를 보장
+ * - 완료 순서대로 결과를 확인하여, 한 구간이라도 실패하면 앞 구간이 끝나기를 기다리지 않고
+ *   나머지 구간을 취소한 뒤 가장 먼저 실패한 구간의 예외를 그대로 전파
+ */
+@Slf4j
+@Component
+public class MarketplaceFetchExecutor {
+
+    @FunctionalInterface
+    public interface SliceFetcher<S, R> {
+        R fetch(S slice) throws Exception;
+    }
+
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+
+    public <S, R> List<R> fetchAll(List<S> slices, int maxConcurrency, SliceFetcher<S, R> fetcher) {
+        if (slices.isEmpty()) {
+            return List.of();
+        }
+
+        Semaphore permits = new Semaphore(Math.max(1, maxConcurrency));
+        UUID tenantId = TenantContext.getTenantId();
+        Map<String, String> mdc = MDC.getCopyOfContextMap();
+
+        CompletionService<R> completion = new ExecutorCompletionService<>(executor);
+        List<Future<R>> futures = new ArrayList<>(slices.size());
+        for (S slice : slices) {
+            futures.add(completion.submit(() -> {
+                permits.acquire();
+                if (tenantId != null) TenantContext.setTenantId(tenantId);
+                if (mdc != null) MDC.setContextMap(mdc);
+                try {
+                    return fetcher.fetch(slice);
+                } finally {
+                    TenantContext.clear();
+                    MDC.clear();
+                    permits.release();
+                }
+            }));
+        }
+
+        try {
+            for (int i = 0; i < futures.size(); i++) {
+                completion.take().get();
+            }
+            List<R> results = new ArrayList<>(slices.size());
+            for (Future<R> future : futures) {
+                results.add(future.get());
+            }
+            return results;
+        } catch (ExecutionException e) {
+            cancelAll(futures);
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException re) throw re;
+            throw new BusinessException(ErrorCodes.MARKETPLACE_API_ERROR,
+                    "마켓플레이스 조회 실패: " + cause.getMessage());
+        } catch (InterruptedException e) {
+            cancelAll(futures);
+            Thread.currentThread().interrupt();
+            throw new BusinessException(ErrorCodes.MARKETPLACE_API_ERROR, "마켓플레이스 조회가 중단되었습니다.");
+        }
+    }
+
+    private void cancelAll(List<? extends Future<?>> futures) {
+        for (Future<?> future : futures) {
+            future.cancel(true);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+}
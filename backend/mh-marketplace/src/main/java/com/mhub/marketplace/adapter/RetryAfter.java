@@ -0,0 +1,33 @@
+package com.mhub.marketplace.adapter;
+
+import java.time.Duration;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+
+/**
+ * 429 응답의 Retry-After 헤더 해석 (초 또는 HTTP-date, 없거나 읽을 수 없으면 1초)
+ */
+public final class RetryAfter {
+
+    private static final Duration DEFAULT_RETRY_AFTER = Duration.ofSeconds(1);
+
+    private RetryAfter() {
+    }
+
+    public static Duration parse(String value) {
+        if (value == null || value.isBlank()) {
+            return DEFAULT_RETRY_AFTER;
+        }
+        try {
+            return Duration.ofSeconds(Long.parseLong(value.trim()));
+        } catch (NumberFormatException e) {
+            try {
+                Duration d = Duration.between(ZonedDateTime.now(),
+                        ZonedDateTime.parse(value.trim(), DateTimeFormatter.RFC_1123_DATE_TIME));
+                return d.isNegative() ? DEFAULT_RETRY_AFTER : d;
+            } catch (Exception ignored) {
+                return DEFAULT_RETRY_AFTER;
+            }
+        }
+    }
+}
@@ -1,6 +1,5 @@
 package com.mhub.marketplace.adapter.coupang;
 
-import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.mhub.common.exception.BusinessException;
@@ -11,34 +10,29 @@ import com.mhub.core.domain.entity.OrderSettlement;
 import com.mhub.core.domain.entity.TenantMarketplaceCredential;
 import com.mhub.core.domain.enums.MarketplaceType;
 import com.mhub.core.domain.enums.OrderStatus;
-import com.mhub.core.domain.entity.CoupangCommissionRate;
-import com.mhub.core.domain.entity.CoupangSellerProduct;
-import com.mhub.core.domain.repository.CoupangCategoryRepository;
-import com.mhub.core.domain.repository.CoupangCommissionRateRepository;
-import com.mhub.core.domain.repository.CoupangSellerProductRepository;
+import com.mhub.core.service.RateLimitService;
 import com.mhub.marketplace.adapter.AbstractMarketplaceAdapter;
+import com.mhub.marketplace.adapter.MarketplaceFetchExecutor;
 import com.mhub.marketplace.adapter.coupang.dto.CoupangCategoryDto;
+import com.mhub.marketplace.adapter.coupang.dto.CoupangOrderSheetPage;
 import com.mhub.marketplace.adapter.coupang.dto.CoupangSellerProductDto;
 import lombok.extern.slf4j.Slf4j;
+import org.apache.http.Header;
 import org.apache.http.client.methods.CloseableHttpResponse;
 import org.apache.http.client.methods.HttpGet;
 import org.apache.http.client.utils.URIBuilder;
 import org.apache.http.impl.client.CloseableHttpClient;
-import org.apache.http.impl.client.HttpClients;
 import org.apache.http.util.EntityUtils;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.stereotype.Component;
 import org.springframework.web.reactive.function.client.WebClient;
 
-import javax.crypto.Mac;
-import javax.crypto.spec.SecretKeySpec;
 import java.math.BigDecimal;
-import java.nio.charset.StandardCharsets;
-import java.security.GeneralSecurityException;
+import java.net.URI;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.OffsetDateTime;
 import java.time.ZoneId;
-import java.time.ZoneOffset;
 import java.time.format.DateTimeFormatter;
 import java.util.*;
 import java.util.function.Consumer;
@@ -47,10 +41,6 @@ import java.util.function.Consumer;
 @Component
 public class CoupangAdapter extends AbstractMarketplaceAdapter {
 
-    private static final String HOST = "api-gateway.coupang.com";
-    private static final int PORT = 443;
-    private static final String SCHEMA = "https";
-
     /**
      * 수집 대상 주문 상태 목록
      * - ACCEPT: 결제완료
@@ -81,19 +71,25 @@ public class CoupangAdapter extends AbstractMarketplaceAdapter {
     );
 
     private final ObjectMapper objectMapper;
-    private final CoupangCommissionRateRepository commissionRateRepository;
-    private final CoupangSellerProductRepository sellerProductRepository;
-    private final CoupangCategoryRepository categoryRepository;
+    private final CloseableHttpClient httpClient;
+    private final CoupangApiProperties apiProperties;
+    private final URI baseUri;
+    private final MarketplaceFetchExecutor fetchExecutor;
+    private final CoupangSigner signer;
 
     public CoupangAdapter(WebClient.Builder webClientBuilder, ObjectMapper objectMapper,
-                          CoupangCommissionRateRepository commissionRateRepository,
-                          CoupangSellerProductRepository sellerProductRepository,
-                          CoupangCategoryRepository categoryRepository) {
-        super(webClientBuilder, "https://api-gateway.coupang.com");
+                          @Qualifier("coupangHttpClient") CloseableHttpClient httpClient,
+                          CoupangApiProperties apiProperties,
+                          MarketplaceFetchExecutor fetchExecutor,
+                          RateLimitService rateLimitService,
+                          CoupangSigner signer) {
+        super(webClientBuilder, apiProperties.baseUrl(), rateLimitService);
         this.objectMapper = objectMapper;
-        this.commissionRateRepository = commissionRateRepository;
-        this.sellerProductRepository = sellerProductRepository;
-        this.categoryRepository = categoryRepository;
+        this.httpClient = httpClient;
+        this.apiProperties = apiProperties;
+        this.baseUri = URI.create(apiProperties.baseUrl());
+        this.fetchExecutor = fetchExecutor;
+        this.signer = signer;
     }
 
     @Override
@@ -114,132 +110,99 @@ public class CoupangAdapter extends AbstractMarketplaceAdapter {
         String secretKey = credential.getClientSecret().trim();
         String vendorId = credential.getSellerId().trim();
 
-        List<Order> allOrders = new ArrayList<>();
-
-        // 쿠팡 API는 날짜별 조회이므로 from~to 범위를 일별로 순회
+        // 쿠팡 API는 날짜별 조회이므로 from~to 범위를 (일자 × 주문상태) 구간으로 분할
         LocalDate startDate = from.toLocalDate();
         LocalDate endDate = to.toLocalDate();
 
+        List<OrderSheetSlice> slices = new ArrayList<>();
         for (LocalDate currentDate = startDate; !currentDate.isAfter(endDate); currentDate = currentDate.plusDays(1)) {
-            String dateParam = currentDate.toString() + "+09:00";
-            log.debug("Coupang query date: {}", dateParam);
-
-            // Rate Limit 방지: 날짜별 순회 시 첫 날짜가 아니면 300ms 대기
-            if (!currentDate.equals(startDate)) {
-                try {
-                    Thread.sleep(300);
-                } catch (InterruptedException e) {
-                    Thread.currentThread().interrupt();
-                }
-            }
-
-            // 모든 주문 상태를 순회하며 수집
             for (String status : ORDER_STATUSES) {
-                log.info("Collecting Coupang orders for date {} with status: {}", currentDate, status);
-                int statusOrderCount = 0;
-                String nextToken = "";
-
-                do {
-                    try {
-                        String responseBody = executeOrdersheetRequest(accessKey, secretKey, vendorId, dateParam, dateParam, status, nextToken);
-                        log.debug("Coupang API response for date {} status {}: {}", currentDate, status, responseBody);
-
-                        JsonNode root = objectMapper.readTree(responseBody);
-
-                        int code = root.path("code").asInt(-1);
-                        if (code != 200) {
-                            String message = root.path("message").asText("Unknown error");
-                            log.error("Coupang API error for date {} status {}: {} - {}", currentDate, status, code, message);
-                            throw new BusinessException(ErrorCodes.MARKETPLACE_API_ERROR,
-                                    "쿠팡 주문 수집 실패: " + message);
-                        }
-
-                        JsonNode data = root.path("data");
-                        if (data.isArray()) {
-                            for (JsonNode shipmentBox : data) {
-                                Order order = parseCoupangOrder(shipmentBox, credential.getTenantId());
-                                if (order != null) {
-                                    allOrders.add(order);
-                                    statusOrderCount++;
-                                }
-                            }
-                        }
-
-                        nextToken = root.path("nextToken").asText("");
-                        log.debug("Coupang orders collected for date {} status {}, nextToken: {}, count so far: {}", currentDate, status, nextToken, statusOrderCount);
+                slices.add(new OrderSheetSlice(currentDate, status));
+            }
+        }
 
-                    } catch (BusinessException e) {
-                        throw e;
-                    } catch (Exception e) {
-                        log.error("Error collecting Coupang orders for date {} status {}", currentDate, status, e);
-                        throw new BusinessException(ErrorCodes.MARKETPLACE_API_ERROR,
-                                "쿠팡 주문 수집 실패: " + e.getMessage());
-                    }
-                } while (nextToken != null && !nextToken.isEmpty());
+        // 구간별 병렬 수집 (구간 내부의 nextToken 페이징은 순차)
+        List<List<Order>> sliceResults = fetchExecutor.fetchAll(slices, apiProperties.orderCollectConcurrency(),
+                slice -> collectOrderSheetSlice(credential, accessKey, secretKey, vendorId, slice));
 
-                log.info("Collected {} orders for date {} with status {} for vendor {}", statusOrderCount, currentDate, status, vendorId);
+        // shipmentBoxId 기준 중복 제거: 수집 도중 상태가 바뀐 배송건은 여러 상태 구간에 나타날 수 있으므로
+        // 구간 순서(= 상태 진행 순서)상 마지막 결과를 유지
+        Map<String, Order> ordersByShipmentBox = new LinkedHashMap<>();
+        for (List<Order> sliceOrders : sliceResults) {
+            for (Order order : sliceOrders) {
+                ordersByShipmentBox.put(order.getMarketplaceProductOrderId(), order);
             }
         }
+        List<Order> allOrders = new ArrayList<>(ordersByShipmentBox.values());
 
         log.info("Total collected {} Coupang orders for vendor {} from {} to {}", allOrders.size(), vendorId, startDate, endDate);
         return allOrders;
     }
 
-    private String executeOrdersheetRequest(String accessKey, String secretKey, String vendorId,
-                                            String fromDate, String toDate, String status, String nextToken) throws Exception {
-        CloseableHttpClient client = null;
-        try {
-            client = HttpClients.createDefault();
+    private record OrderSheetSlice(LocalDate date, String status) {}
 
-            String method = "GET";
-            String path = "/v2/providers/openapi/apis/api/v5/vendors/" + vendorId + "/ordersheets";
+    private List<Order> collectOrderSheetSlice(TenantMarketplaceCredential credential, String accessKey, String secretKey,
+                                               String vendorId, OrderSheetSlice slice) {
+        LocalDate currentDate = slice.date();
+        String status = slice.status();
+        String dateParam = currentDate.toString() + "+09:00";
+        log.debug("Collecting Coupang orders for date {} with status: {}", currentDate, status);
 
-            URIBuilder uriBuilder = new URIBuilder()
-                    .setPath(path)
-                    .addParameter("createdAtFrom", fromDate)
-                    .addParameter("createdAtTo", toDate)
-                    .addParameter("status", status)
-                    .addParameter("maxPerPage", "50")
-                    .addParameter("nextToken", nextToken != null ? nextToken : "");
-
-            String fullPath = uriBuilder.build().toString();
-            int qIdx = fullPath.indexOf('?');
-            String pathOnly = qIdx >= 0 ? fullPath.substring(0, qIdx) : fullPath;
-            String queryString = qIdx >= 0 ? fullPath.substring(qIdx + 1) : "";
-
-            String datetime = DateTimeFormatter.ofPattern("yyMMdd'T'HHmmss'Z'")
-                    .format(LocalDateTime.now(ZoneOffset.UTC));
-            String message = datetime + method + pathOnly + queryString;
-            String signature = generateHmacSignature(secretKey, message);
-            String authorization = "CEA algorithm=HmacSHA256, access-key=" + accessKey
-                    + ", signed-date=" + datetime + ", signature=" + signature;
-
-            uriBuilder.setScheme(SCHEMA).setHost(HOST).setPort(PORT);
-            HttpGet get = new HttpGet(uriBuilder.build().toString());
-            get.addHeader("Authorization", authorization);
-            get.addHeader("content-type", "application/json");
-            get.addHeader("X-Requested-By", vendorId);
+        List<Order> sliceOrders = new ArrayList<>();
+        String nextToken = "";
 
-            try (CloseableHttpResponse response = client.execute(get)) {
-                int statusCode = response.getStatusLine().getStatusCode();
-                String responseBody = response.getEntity() != null
-                        ? EntityUtils.toString(response.getEntity()) : "";
+        do {
+            try {
+                String responseBody = executeOrdersheetRequest(credential, accessKey, secretKey, vendorId, dateParam, dateParam, status, nextToken);
+                log.debug("Coupang API response for date {} status {}: {}", currentDate, status, responseBody);
+
+                CoupangOrderSheetPage sheetPage = objectMapper.readValue(responseBody, CoupangOrderSheetPage.class);
 
-                if (statusCode == 401 || statusCode == 403) {
-                    throw new BusinessException(ErrorCodes.MARKETPLACE_AUTH_FAILED,
-                            "쿠팡 인증 실패: API 키를 확인해주세요.");
+                if (!sheetPage.isSuccess()) {
+                    String message = sheetPage.message() != null ? sheetPage.message() : "Unknown error";
+                    log.error("Coupang API error for date {} status {}: {} - {}", currentDate, status, sheetPage.code(), message);
+                    throw new BusinessException(ErrorCodes.MARKETPLACE_API_ERROR,
+                            "쿠팡 주문 수집 실패: " + message);
                 }
 
-                return responseBody;
-            }
-        } finally {
-            if (client != null) {
-                try {
-                    client.close();
-                } catch (Exception ignored) {
+                if (sheetPage.data() != null) {
+                    for (JsonNode shipmentBox : sheetPage.data()) {
+                        Order order = parseCoupangOrder(shipmentBox, credential.getTenantId());
+                        if (order != null) {
+                            sliceOrders.add(order);
+                        }
+                    }
                 }
+
+                nextToken = sheetPage.nextToken() != null ? sheetPage.nextToken() : "";
+                log.debug("Coupang orders collected for date {} status {}, nextToken: {}, count so far: {}", currentDate, status, nextToken, sliceOrders.size());
+
+            } catch (BusinessException e) {
+                throw e;
+            } catch (Exception e) {
+                log.error("Error collecting Coupang orders for date {} status {}", currentDate, status, e);
+                throw new BusinessException(ErrorCodes.MARKETPLACE_API_ERROR,
+                        "쿠팡 주문 수집 실패: " + e.getMessage());
             }
-        }
+        } while (nextToken != null && !nextToken.isEmpty());
+
+        log.info("Collected {} orders for date {} with status {} for vendor {}", sliceOrders.size(), currentDate, status, vendorId);
+        return sliceOrders;
+    }
+
+    private String executeOrdersheetRequest(TenantMarketplaceCredential credential, String accessKey, String secretKey, String vendorId,
+                                            String fromDate, String toDate, String status, String nextToken) throws Exception {
+        String path = "/v2/providers/openapi/apis/api/v5/vendors/" + vendorId + "/ordersheets";
+
+        URIBuilder uriBuilder = new URIBuilder()
+                .setPath(path)
+                .addParameter("createdAtFrom", fromDate)
+                .addParameter("createdAtTo", toDate)
+                .addParameter("status", status)
+                .addParameter("maxPerPage", "50")
+                .addParameter("nextToken", nextToken != null ? nextToken : "");
+
+        return executeSignedGet(credential, accessKey, secretKey, vendorId, uriBuilder);
     }
 
     private Order parseCoupangOrder(JsonNode shipmentBox, UUID tenantId) {
@@ -289,9 +252,6 @@ public class CoupangAdapter extends AbstractMarketplaceAdapter {
                 }
             }
 
-            // rawData 저장
-            Map<String, Object> rawData = objectMapper.convertValue(shipmentBox, new TypeReference<>() {});
-
             // 배송수수료 추정 계산: 배송비 × 3.3% (수수료 3% + 부가세 10%)
             BigDecimal estimatedDeliveryCommission = BigDecimal.ZERO;
             if (shippingPrice != null && shippingPrice.compareTo(BigDecimal.ZERO) > 0) {
@@ -321,7 +281,7 @@ public class CoupangAdapter extends AbstractMarketplaceAdapter {
                     .estimatedDeliveryCommission(estimatedDeliveryCommission)
                     .orderedAt(orderedAt)
                     .erpSynced(false)
-                    .rawData(rawData)
+                    .rawData(shipmentBox)
                     .items(new ArrayList<>())
                     .build();
 
@@ -417,11 +377,7 @@ public class CoupangAdapter extends AbstractMarketplaceAdapter {
         String secretKey = credential.getClientSecret().trim();
         String vendorId = credential.getSellerId().trim();
 
-        CloseableHttpClient client = null;
         try {
-            client = HttpClients.createDefault();
-
-            String method = "GET";
             String path = "/v2/providers/openapi/apis/api/v5/vendors/" + vendorId + "/ordersheets";
             String today = LocalDate.now(ZoneId.of("Asia/Seoul")).toString();
             String dateValue = today + "+09:00";
@@ -435,78 +391,26 @@ public class CoupangAdapter extends AbstractMarketplaceAdapter {
                     .addParameter("maxPerPage", "50")
                     .addParameter("nextToken", "");
 
-            // 쿠팡 HMAC 서명: message = datetime + method + path + queryString (? 구분자 제외)
-            String fullPath = uriBuilder.build().toString();
-            int qIdx = fullPath.indexOf('?');
-            String pathOnly = qIdx >= 0 ? fullPath.substring(0, qIdx) : fullPath;
-            String queryString = qIdx >= 0 ? fullPath.substring(qIdx + 1) : "";
-
-            String datetime = DateTimeFormatter.ofPattern("yyMMdd'T'HHmmss'Z'")
-                    .format(LocalDateTime.now(ZoneOffset.UTC));
-            String message = datetime + method + pathOnly + queryString;
-            String signature = generateHmacSignature(secretKey, message);
-            String authorization = "CEA algorithm=HmacSHA256, access-key=" + accessKey
-                    + ", signed-date=" + datetime + ", signature=" + signature;
-
-            log.debug("Coupang HMAC path: {}", pathOnly);
-            log.debug("Coupang HMAC queryString: {}", queryString);
-            log.debug("Coupang HMAC message: {}", message);
-
-            // 쿠팡 샘플과 동일: scheme/host/port 설정 후 HTTP 요청
-            uriBuilder.setScheme(SCHEMA).setHost(HOST).setPort(PORT);
-            HttpGet get = new HttpGet(uriBuilder.build().toString());
-            get.addHeader("Authorization", authorization);
-            get.addHeader("content-type", "application/json");
-            get.addHeader("X-Requested-By", vendorId);
+            // 연결 테스트는 저장 전 인증정보로도 호출되므로 rate limit 대상에서 제외
+            CoupangHttpResponse response = sendSignedGet(null, accessKey, secretKey, vendorId, uriBuilder);
+            int statusCode = response.statusCode();
 
-            CloseableHttpResponse response = null;
-            try {
-                response = client.execute(get);
-                int statusCode = response.getStatusLine().getStatusCode();
-                String responseBody = response.getEntity() != null
-                        ? EntityUtils.toString(response.getEntity()) : "";
-
-                if (statusCode == 401 || statusCode == 403) {
-                    log.warn("Coupang connection test auth failed for vendor {}: {} {}",
-                            vendorId, statusCode, responseBody);
-                    throw new BusinessException(ErrorCodes.MARKETPLACE_CONNECTION_FAILED,
-                            "쿠팡 인증 실패: API 키를 확인해주세요.");
-                }
-
-                // 401/403이 아닌 응답은 인증 성공 (404 등은 vendor ID 문제일 수 있음)
-                log.info("Coupang connection test successful for vendor {} (status: {})", vendorId, statusCode);
-                return true;
-            } finally {
-                if (response != null) {
-                    response.close();
-                }
+            if (statusCode == 401 || statusCode == 403) {
+                log.warn("Coupang connection test auth failed for vendor {}: {} {}",
+                        vendorId, statusCode, response.body());
+                throw new BusinessException(ErrorCodes.MARKETPLACE_CONNECTION_FAILED,
+                        "쿠팡 인증 실패: API 키를 확인해주세요.");
             }
+
+            // 401/403이 아닌 응답은 인증 성공 (404 등은 vendor ID 문제일 수 있음)
+            log.info("Coupang connection test successful for vendor {} (status: {})", vendorId, statusCode);
+            return true;
         } catch (BusinessException e) {
             throw e;
         } catch (Exception e) {
             log.error("Coupang connection test error for vendor {}", vendorId, e);
             throw new BusinessException(ErrorCodes.MARKETPLACE_CONNECTION_FAILED,
                     "쿠팡 연결 실패: " + e.getMessage());
-        } finally {
-            if (client != null) {
-                try { client.close(); } catch (Exception ignored) {}
-            }
-        }
-    }
-
-    private String generateHmacSignature(String secretKey, String message) {
-        try {
-            Mac mac = Mac.getInstance("HmacSHA256");
-            mac.init(new SecretKeySpec(secretKey.getBytes(StandardCharsets.UTF_8), "HmacSHA256"));
-            byte[] rawHmac = mac.doFinal(message.getBytes(StandardCharsets.UTF_8));
-            StringBuilder sb = new StringBuilder();
-            for (byte b : rawHmac) {
-                sb.append(String.format("%02x", b));
-            }
-            return sb.toString();
-        } catch (GeneralSecurityException e) {
-            throw new BusinessException(ErrorCodes.MARKETPLACE_CONNECTION_FAILED,
-                    "HMAC 서명 생성 실패: " + e.getMessage());
         }
     }
 
@@ -531,7 +435,7 @@ public class CoupangAdapter extends AbstractMarketplaceAdapter {
         do {
             try {
                 pageCount++;
-                String responseBody = executeSellerProductsRequest(accessKey, secretKey, vendorId, nextToken);
+                String responseBody = executeSellerProductsRequest(credential, accessKey, secretKey, vendorId, nextToken);
                 log.debug("Coupang seller products API response page {}: {}", pageCount, responseBody);
 
                 JsonNode root = objectMapper.readTree(responseBody);
@@ -559,15 +463,6 @@ public class CoupangAdapter extends AbstractMarketplaceAdapter {
                 log.debug("Coupang seller products page {} collected, count so far: {}, nextToken: {}",
                         pageCount, allProducts.size(), nextToken);
 
-                // Rate limit: 다음 페이지 조회 전 300ms 대기
-                if (nextToken != null && !nextToken.isEmpty()) {
-                    try {
-                        Thread.sleep(300);
-                    } catch (InterruptedException e) {
-                        Thread.currentThread().interrupt();
-                    }
-                }
-
             } catch (BusinessException e) {
                 throw e;
             } catch (Exception e) {
@@ -606,7 +501,7 @@ public class CoupangAdapter extends AbstractMarketplaceAdapter {
         do {
             try {
                 pageCount++;
-                String responseBody = executeSellerProductsRequest(accessKey, secretKey, vendorId, nextToken);
+                String responseBody = executeSellerProductsRequest(credential, accessKey, secretKey, vendorId, nextToken);
                 log.debug("Coupang seller products API response page {}: {}", pageCount, responseBody);
 
                 JsonNode root = objectMapper.readTree(responseBody);
@@ -641,15 +536,6 @@ public class CoupangAdapter extends AbstractMarketplaceAdapter {
 
                 nextToken = root.path("nextToken").asText("");
 
-                // Rate limit: 다음 페이지 조회 전 300ms 대기
-                if (nextToken != null && !nextToken.isEmpty()) {
-                    try {
-                        Thread.sleep(300);
-                    } catch (InterruptedException e) {
-                        Thread.currentThread().interrupt();
-                    }
-                }
-
             } catch (BusinessException e) {
                 throw e;
             } catch (Exception e) {
@@ -666,62 +552,20 @@ public class CoupangAdapter extends AbstractMarketplaceAdapter {
     /**
      * 쿠팡 등록상품조회 API 호출
      */
-    private String executeSellerProductsRequest(String accessKey, String secretKey, String vendorId,
+    private String executeSellerProductsRequest(TenantMarketplaceCredential credential, String accessKey, String secretKey, String vendorId,
                                                   String nextToken) throws Exception {
-        CloseableHttpClient client = null;
-        try {
-            client = HttpClients.createDefault();
-
-            String method = "GET";
-            String path = "/v2/providers/seller_api/apis/api/v1/marketplace/seller-products";
-
-            URIBuilder uriBuilder = new URIBuilder()
-                    .setPath(path)
-                    .addParameter("vendorId", vendorId)
-                    .addParameter("maxPerPage", "100");
-
-            if (nextToken != null && !nextToken.isEmpty()) {
-                uriBuilder.addParameter("nextToken", nextToken);
-            }
-
-            String fullPath = uriBuilder.build().toString();
-            int qIdx = fullPath.indexOf('?');
-            String pathOnly = qIdx >= 0 ? fullPath.substring(0, qIdx) : fullPath;
-            String queryString = qIdx >= 0 ? fullPath.substring(qIdx + 1) : "";
-
-            String datetime = DateTimeFormatter.ofPattern("yyMMdd'T'HHmmss'Z'")
-                    .format(LocalDateTime.now(ZoneOffset.UTC));
-            String message = datetime + method + pathOnly + queryString;
-            String signature = generateHmacSignature(secretKey, message);
-            String authorization = "CEA algorithm=HmacSHA256, access-key=" + accessKey
-                    + ", signed-date=" + datetime + ", signature=" + signature;
-
-            uriBuilder.setScheme(SCHEMA).setHost(HOST).setPort(PORT);
-            HttpGet get = new HttpGet(uriBuilder.build().toString());
-            get.addHeader("Authorization", authorization);
-            get.addHeader("content-type", "application/json");
-            get.addHeader("X-Requested-By", vendorId);
-
-            try (CloseableHttpResponse response = client.execute(get)) {
-                int statusCode = response.getStatusLine().getStatusCode();
-                String responseBody = response.getEntity() != null
-                        ? EntityUtils.toString(response.getEntity()) : "";
+        String path = "/v2/providers/seller_api/apis/api/v1/marketplace/seller-products";
 
-                if (statusCode == 401 || statusCode == 403) {
-                    throw new BusinessException(ErrorCodes.MARKETPLACE_AUTH_FAILED,
-                            "쿠팡 인증 실패: API 키를 확인해주세요.");
-                }
+        URIBuilder uriBuilder = new URIBuilder()
+                .setPath(path)
+                .addParameter("vendorId", vendorId)
+                .addParameter("maxPerPage", "100");
 
-                return responseBody;
-            }
-        } finally {
-            if (client != null) {
-                try {
-                    client.close();
-                } catch (Exception ignored) {
-                }
-            }
+        if (nextToken != null && !nextToken.isEmpty()) {
+            uriBuilder.addParameter("nextToken", nextToken);
         }
+
+        return executeSignedGet(credential, accessKey, secretKey, vendorId, uriBuilder);
     }
 
     /**
@@ -762,71 +606,6 @@ public class CoupangAdapter extends AbstractMarketplaceAdapter {
         }
     }
 
-    /**
-     * productId로 수수료율 조회
-     * 등록상품 → displayCategoryCode → rootCategoryCode → 수수료 테이블 순서로 조회
-     * 없으면 DEFAULT 수수료율 반환
-     *
-     * @param productId 상품 ID
-     * @param tenantId 테넌트 ID
-     * @return 수수료율 (%)
-     */
-    private BigDecimal getCommissionRateByProductId(Long productId, UUID tenantId) {
-        try {
-            // 1. 등록상품에서 조회
-            Optional<CoupangSellerProduct> product = sellerProductRepository
-                    .findByTenantIdAndProductId(tenantId, productId);
-
-            if (product.isEmpty()) {
-                log.debug("Product not found in seller products: productId={}, using DEFAULT rate", productId);
-                return getDefaultCommissionRate();
-            }
-
-            CoupangSellerProduct sellerProduct = product.get();
-
-            // 2. 카테고리 기반으로 수수료율 조회
-            Long displayCategoryCode = sellerProduct.getDisplayCategoryCode();
-            if (displayCategoryCode == null) {
-                log.debug("Product has no displayCategoryCode: productId={}, using DEFAULT rate", productId);
-                return getDefaultCommissionRate();
-            }
-
-            Optional<Long> rootCode = categoryRepository
-                    .findRootCategoryCodeByDisplayCategoryCode(displayCategoryCode);
-
-            if (rootCode.isEmpty()) {
-                log.debug("Root category not found for displayCategoryCode={}, using DEFAULT rate", displayCategoryCode);
-                return getDefaultCommissionRate();
-            }
-
-            CoupangCommissionRate rate = commissionRateRepository
-                    .findRateByDisplayCategoryCodeOrDefault(rootCode.get(), LocalDate.now());
-
-            log.debug("Commission rate found via category: productId={}, rootCategoryCode={}, rate={}%",
-                    productId, rootCode.get(), rate.getCommissionRate());
-
-            return rate.getCommissionRate();
-
-        } catch (Exception e) {
-            log.warn("Error getting commission rate for productId={}: {}, using DEFAULT rate",
-                    productId, e.getMessage());
-            return getDefaultCommissionRate();
-        }
-    }
-
-    /**
-     * 기본 수수료율 반환
-     */
-    private BigDecimal getDefaultCommissionRate() {
-        try {
-            CoupangCommissionRate rate = commissionRateRepository.findRateOrDefault("DEFAULT", LocalDate.now());
-            return rate.getCommissionRate();
-        } catch (Exception e) {
-            log.warn("Failed to get DEFAULT commission rate, using 10.8%: {}", e.getMessage());
-            return BigDecimal.valueOf(10.8);
-        }
-    }
-
     /**
      * 쿠팡 정산예정금 계산
      *
@@ -894,7 +673,7 @@ public class CoupangAdapter extends AbstractMarketplaceAdapter {
         List<CoupangCategoryDto> allCategories = new ArrayList<>();
 
         try {
-            String responseBody = executeCategoryRequest(accessKey, secretKey);
+            String responseBody = executeCategoryRequest(credential, accessKey, secretKey);
             log.debug("Coupang category API response: {}", responseBody.substring(0, Math.min(500, responseBody.length())));
 
             JsonNode root = objectMapper.readTree(responseBody);
@@ -987,7 +766,7 @@ public class CoupangAdapter extends AbstractMarketplaceAdapter {
             String token = "";
             do {
                 try {
-                    String responseBody = executeRevenueHistoryRequest(accessKey, secretKey, vendorId, chunkStart, chunkEnd, token);
+                    String responseBody = executeRevenueHistoryRequest(credential, accessKey, secretKey, vendorId, chunkStart, chunkEnd, token);
                     log.debug("Coupang settlement API response: {}", responseBody != null ? responseBody.substring(0, Math.min(500, responseBody.length())) : "null");
 
                     JsonNode root = objectMapper.readTree(responseBody);
@@ -1022,15 +801,6 @@ public class CoupangAdapter extends AbstractMarketplaceAdapter {
 
                     token = root.path("nextToken").asText("");
 
-                    // Rate limit
-                    if (token != null && !token.isEmpty()) {
-                        try {
-                            Thread.sleep(300);
-                        } catch (InterruptedException e) {
-                            Thread.currentThread().interrupt();
-                        }
-                    }
-
                 } catch (BusinessException e) {
                     throw e;
                 } catch (Exception e) {
@@ -1063,8 +833,6 @@ public class CoupangAdapter extends AbstractMarketplaceAdapter {
             BigDecimal sellerDiscountAmount = toBigDecimal(itemNode.path("sellerDiscountAmount"));
             String settleType = itemNode.path("settlementType").asText(null);
 
-            Map<String, Object> rawData = objectMapper.convertValue(itemNode, new TypeReference<>() {});
-
             return OrderSettlement.builder()
                     .marketplaceType(MarketplaceType.COUPANG)
                     .marketplaceOrderId(orderId)
@@ -1081,7 +849,7 @@ public class CoupangAdapter extends AbstractMarketplaceAdapter {
                     .settlementAmount(settlementAmount)
                     .discountAmount(discountAmount)
                     .sellerDiscountAmount(sellerDiscountAmount)
-                    .rawData(rawData)
+                    .rawData(itemNode)
                     .build();
 
         } catch (Exception e) {
@@ -1090,63 +858,21 @@ public class CoupangAdapter extends AbstractMarketplaceAdapter {
         }
     }
 
-    private String executeRevenueHistoryRequest(String accessKey, String secretKey, String vendorId,
+    private String executeRevenueHistoryRequest(TenantMarketplaceCredential credential, String accessKey, String secretKey, String vendorId,
                                                  LocalDate from, LocalDate to, String token) throws Exception {
-        CloseableHttpClient client = null;
-        try {
-            client = HttpClients.createDefault();
+        String path = "/v2/providers/openapi/apis/api/v1/revenue-history";
 
-            String method = "GET";
-            String path = "/v2/providers/openapi/apis/api/v1/revenue-history";
+        URIBuilder uriBuilder = new URIBuilder()
+                .setPath(path)
+                .addParameter("vendorId", vendorId)
+                .addParameter("recognitionDateFrom", from.toString())
+                .addParameter("recognitionDateTo", to.toString())
+                .addParameter("token", token != null ? token : "")
+                .addParameter("maxPerPage", "50");
 
-            URIBuilder uriBuilder = new URIBuilder()
-                    .setPath(path)
-                    .addParameter("vendorId", vendorId)
-                    .addParameter("recognitionDateFrom", from.toString())
-                    .addParameter("recognitionDateTo", to.toString())
-                    .addParameter("token", token != null ? token : "")
-                    .addParameter("maxPerPage", "50");
-
-            String fullPath = uriBuilder.build().toString();
-            int qIdx = fullPath.indexOf('?');
-            String pathOnly = qIdx >= 0 ? fullPath.substring(0, qIdx) : fullPath;
-            String queryString = qIdx >= 0 ? fullPath.substring(qIdx + 1) : "";
-
-            log.debug("Coupang settlement API request path: {}", fullPath);
-
-            String datetime = DateTimeFormatter.ofPattern("yyMMdd'T'HHmmss'Z'")
-                    .format(LocalDateTime.now(ZoneOffset.UTC));
-            String message = datetime + method + pathOnly + queryString;
-            String signature = generateHmacSignature(secretKey, message);
-            String authorization = "CEA algorithm=HmacSHA256, access-key=" + accessKey
-                    + ", signed-date=" + datetime + ", signature=" + signature;
-
-            uriBuilder.setScheme(SCHEMA).setHost(HOST).setPort(PORT);
-            HttpGet get = new HttpGet(uriBuilder.build().toString());
-            get.addHeader("Authorization", authorization);
-            get.addHeader("content-type", "application/json");
-            get.addHeader("X-Requested-By", vendorId);
+        log.debug("Coupang settlement API request path: {}", uriBuilder.build());
 
-            try (CloseableHttpResponse response = client.execute(get)) {
-                int statusCode = response.getStatusLine().getStatusCode();
-                String responseBody = response.getEntity() != null
-                        ? EntityUtils.toString(response.getEntity()) : "";
-
-                if (statusCode == 401 || statusCode == 403) {
-                    throw new BusinessException(ErrorCodes.MARKETPLACE_AUTH_FAILED,
-                            "쿠팡 인증 실패: API 키를 확인해주세요.");
-                }
-
-                return responseBody;
-            }
-        } finally {
-            if (client != null) {
-                try {
-                    client.close();
-                } catch (Exception ignored) {
-                }
-            }
-        }
+        return executeSignedGet(credential, accessKey, secretKey, vendorId, uriBuilder);
     }
 
     private LocalDate parseSettlementDate(String dateStr) {
@@ -1205,7 +931,7 @@ public class CoupangAdapter extends AbstractMarketplaceAdapter {
         List<CoupangReturnCancelInfo> results = new ArrayList<>();
 
         try {
-            String responseBody = executeReturnRequestsApi(accessKey, secretKey, vendorId, from, to, cancelType);
+            String responseBody = executeReturnRequestsApi(credential, accessKey, secretKey, vendorId, from, to, cancelType);
             log.debug("Coupang {} API response: {}", cancelType, responseBody);
 
             JsonNode root = objectMapper.readTree(responseBody);
@@ -1252,64 +978,22 @@ public class CoupangAdapter extends AbstractMarketplaceAdapter {
     /**
      * 쿠팡 반품/취소 요청 API 호출
      */
-    private String executeReturnRequestsApi(String accessKey, String secretKey, String vendorId,
+    private String executeReturnRequestsApi(TenantMarketplaceCredential credential, String accessKey, String secretKey, String vendorId,
                                              LocalDateTime from, LocalDateTime to,
                                              String cancelType) throws Exception {
-        CloseableHttpClient client = null;
-        try {
-            client = HttpClients.createDefault();
-
-            String method = "GET";
-            String path = "/v2/providers/openapi/apis/api/v6/vendors/" + vendorId + "/returnRequests";
+        String path = "/v2/providers/openapi/apis/api/v6/vendors/" + vendorId + "/returnRequests";
 
-            DateTimeFormatter minuteFormatter = DateTimeFormatter.ofPattern("yyyy-MM-dd'T'HH:mm");
+        DateTimeFormatter minuteFormatter = DateTimeFormatter.ofPattern("yyyy-MM-dd'T'HH:mm");
 
-            URIBuilder uriBuilder = new URIBuilder()
-                    .setPath(path)
-                    .addParameter("searchType", "timeFrame")
-                    .addParameter("createdAtFrom", from.format(minuteFormatter))
-                    .addParameter("createdAtTo", to.format(minuteFormatter))
-                    .addParameter("cancelType", cancelType)
-                    .addParameter("maxPerPage", "50");
-
-            String fullPath = uriBuilder.build().toString();
-            int qIdx = fullPath.indexOf('?');
-            String pathOnly = qIdx >= 0 ? fullPath.substring(0, qIdx) : fullPath;
-            String queryString = qIdx >= 0 ? fullPath.substring(qIdx + 1) : "";
-
-            String datetime = DateTimeFormatter.ofPattern("yyMMdd'T'HHmmss'Z'")
-                    .format(LocalDateTime.now(ZoneOffset.UTC));
-            String message = datetime + method + pathOnly + queryString;
-            String signature = generateHmacSignature(secretKey, message);
-            String authorization = "CEA algorithm=HmacSHA256, access-key=" + accessKey
-                    + ", signed-date=" + datetime + ", signature=" + signature;
-
-            uriBuilder.setScheme(SCHEMA).setHost(HOST).setPort(PORT);
-            HttpGet get = new HttpGet(uriBuilder.build().toString());
-            get.addHeader("Authorization", authorization);
-            get.addHeader("content-type", "application/json");
-            get.addHeader("X-Requested-By", vendorId);
+        URIBuilder uriBuilder = new URIBuilder()
+                .setPath(path)
+                .addParameter("searchType", "timeFrame")
+                .addParameter("createdAtFrom", from.format(minuteFormatter))
+                .addParameter("createdAtTo", to.format(minuteFormatter))
+                .addParameter("cancelType", cancelType)
+                .addParameter("maxPerPage", "50");
 
-            try (CloseableHttpResponse response = client.execute(get)) {
-                int statusCode = response.getStatusLine().getStatusCode();
-                String responseBody = response.getEntity() != null
-                        ? EntityUtils.toString(response.getEntity()) : "";
-
-                if (statusCode == 401 || statusCode == 403) {
-                    throw new BusinessException(ErrorCodes.MARKETPLACE_AUTH_FAILED,
-                            "쿠팡 인증 실패: API 키를 확인해주세요.");
-                }
-
-                return responseBody;
-            }
-        } finally {
-            if (client != null) {
-                try {
-                    client.close();
-                } catch (Exception ignored) {
-                }
-            }
-        }
+        return executeSignedGet(credential, accessKey, secretKey, vendorId, uriBuilder);
     }
 
     /**
@@ -1323,52 +1007,90 @@ public class CoupangAdapter extends AbstractMarketplaceAdapter {
         return OrderStatus.RETURNED;
     }
 
-    private String executeCategoryRequest(String accessKey, String secretKey) throws Exception {
-        CloseableHttpClient client = null;
-        try {
-            client = HttpClients.createDefault();
+    private String executeCategoryRequest(TenantMarketplaceCredential credential, String accessKey, String secretKey) throws Exception {
+        String path = "/v2/providers/seller_api/apis/api/v1/marketplace/meta/display-categories";
+
+        URIBuilder uriBuilder = new URIBuilder().setPath(path);
+
+        // 카테고리 API는 vendor 단위가 아니므로 X-Requested-By 헤더를 보내지 않음
+        return executeSignedGet(credential, accessKey, secretKey, null, uriBuilder);
+    }
 
-            String method = "GET";
-            String path = "/v2/providers/seller_api/apis/api/v1/marketplace/meta/display-categories";
+    /**
+     * 서명된 GET 요청 후 401/403은 인증 실패, 429는 요청 한도 초과로 변환하여 응답 본문 반환
+     */
+    private String executeSignedGet(TenantMarketplaceCredential credential, String accessKey, String secretKey, String vendorId,
+                                    URIBuilder uriBuilder) throws Exception {
+        CoupangHttpResponse response = sendSignedGet(credential, accessKey, secretKey, vendorId, uriBuilder);
 
-            URIBuilder uriBuilder = new URIBuilder().setPath(path);
+        if (response.statusCode() == 401 || response.statusCode() == 403) {
+            throw new BusinessException(ErrorCodes.MARKETPLACE_AUTH_FAILED,
+                    "쿠팡 인증 실패: API 키를 확인해주세요.");
+        }
+        if (response.statusCode() == 429) {
+            throw new BusinessException(ErrorCodes.MARKETPLACE_RATE_LIMITED,
+                    "쿠팡 API 호출 한도 초과: 잠시 후 다시 시도해주세요.");
+        }
 
-            String fullPath = uriBuilder.build().toString();
-            int qIdx = fullPath.indexOf('?');
-            String pathOnly = qIdx >= 0 ? fullPath.substring(0, qIdx) : fullPath;
-            String queryString = qIdx >= 0 ? fullPath.substring(qIdx + 1) : "";
+        return response.body();
+    }
 
-            String datetime = DateTimeFormatter.ofPattern("yyMMdd'T'HHmmss'Z'")
-                    .format(LocalDateTime.now(ZoneOffset.UTC));
-            String message = datetime + method + pathOnly + queryString;
-            String signature = generateHmacSignature(secretKey, message);
-            String authorization = "CEA algorithm=HmacSHA256, access-key=" + accessKey
-                    + ", signed-date=" + datetime + ", signature=" + signature;
+    /**
+     * 쿠팡 HMAC 서명 후 공유 커넥션 풀로 GET 요청 실행
+     * - 요청 전 RateLimitService 토큰을 획득하고, 429 응답은 Retry-After를 반영해 재시도
+     * - 응답 본문을 끝까지 소비해야 커넥션이 풀로 반환되므로 항상 EntityUtils로 읽는다.
+     *
+     * @param credential rate limit 버킷 식별용 인증정보 (null이면 rate limit 생략)
+     * @param vendorId X-Requested-By 헤더 값 (null이면 생략)
+     * @param uriBuilder path + 쿼리 파라미터만 설정된 빌더 (scheme/host는 설정값으로 채움)
+     */
+    private CoupangHttpResponse sendSignedGet(TenantMarketplaceCredential credential, String accessKey, String secretKey,
+                                              String vendorId, URIBuilder uriBuilder) throws Exception {
+        String method = "GET";
 
-            uriBuilder.setScheme(SCHEMA).setHost(HOST).setPort(PORT);
-            HttpGet get = new HttpGet(uriBuilder.build().toString());
+        // 쿠팡 HMAC 서명: message = datetime + method + path + queryString (? 구분자 제외)
+        String fullPath = uriBuilder.build().toString();
+        int qIdx = fullPath.indexOf('?');
+        String pathOnly = qIdx >= 0 ? fullPath.substring(0, qIdx) : fullPath;
+        String queryString = qIdx >= 0 ? fullPath.substring(qIdx + 1) : "";
+
+        log.debug("Coupang HMAC path: {}", pathOnly);
+        log.debug("Coupang HMAC queryString: {}", queryString);
+
+        uriBuilder.setScheme(baseUri.getScheme()).setHost(baseUri.getHost()).setPort(baseUri.getPort());
+        URI target = uriBuilder.build();
+
+        for (int attempt = 0; ; attempt++) {
+            if (credential != null) {
+                acquirePermit(credential);
+            }
+
+            // 재시도 시 signed-date가 갱신되어야 하므로 매 시도마다 서명
+            String authorization = signer.authorization(accessKey, secretKey, method, pathOnly, queryString);
+
+            HttpGet get = new HttpGet(target);
             get.addHeader("Authorization", authorization);
             get.addHeader("content-type", "application/json");
+            if (vendorId != null) {
+                get.addHeader("X-Requested-By", vendorId);
+            }
 
-            try (CloseableHttpResponse response = client.execute(get)) {
+            try (CloseableHttpResponse response = httpClient.execute(get)) {
                 int statusCode = response.getStatusLine().getStatusCode();
                 String responseBody = response.getEntity() != null
                         ? EntityUtils.toString(response.getEntity()) : "";
 
-                if (statusCode == 401 || statusCode == 403) {
-                    throw new BusinessException(ErrorCodes.MARKETPLACE_AUTH_FAILED,
-                            "쿠팡 인증 실패: API 키를 확인해주세요.");
+                if (statusCode == 429 && credential != null && attempt < MAX_THROTTLE_RETRIES) {
+                    Header retryAfter = response.getFirstHeader("Retry-After");
+                    log.warn("Coupang API throttled (attempt {}): path={}", attempt + 1, pathOnly);
+                    reportThrottled(credential, retryAfter != null ? retryAfter.getValue() : null);
+                    continue;
                 }
 
-                return responseBody;
-            }
-        } finally {
-            if (client != null) {
-                try {
-                    client.close();
-                } catch (Exception ignored) {
-                }
+                return new CoupangHttpResponse(statusCode, responseBody);
             }
         }
     }
+
+    private record CoupangHttpResponse(int statusCode, String body) {}
 }
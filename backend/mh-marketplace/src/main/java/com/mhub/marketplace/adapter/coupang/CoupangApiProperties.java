@@ -0,0 +1,24 @@
+package com.mhub.marketplace.adapter.coupang;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * 쿠팡 Open API 호출 설정
+ * - 커넥션 풀은 전체 테넌트가 공유하며, 모든 요청이 동일 호스트로 향하므로 maxPerRoute가 실질적인 동시 연결 수 상한
+ * - orderCollectConcurrency: 주문 수집 시 (일자 × 상태) 구간을 동시에 조회하는 최대 개수 (판매자 단위)
+ */
+@ConfigurationProperties(prefix = "coupang.api")
+public record CoupangApiProperties(
+        @DefaultValue("https://api-gateway.coupang.com") String baseUrl,
+        @DefaultValue("50") int maxTotal,
+        @DefaultValue("20") int maxPerRoute,
+        @DefaultValue("5s") Duration connectTimeout,
+        @DefaultValue("30s") Duration socketTimeout,
+        @DefaultValue("5s") Duration connectionRequestTimeout,
+        @DefaultValue("30s") Duration keepAlive,
+        @DefaultValue("60s") Duration idleEvictAfter,
+        @DefaultValue("4") int orderCollectConcurrency
+) {}
@@ -0,0 +1,86 @@
+package com.mhub.marketplace.adapter.coupang;
+
+import com.mhub.common.exception.BusinessException;
+import com.mhub.common.exception.ErrorCodes;
+import org.springframework.stereotype.Component;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.HexFormat;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 쿠팡 Open API HMAC 서명 (CEA algorithm=HmacSHA256)
+ * - message = signed-date(yyMMdd'T'HHmmss'Z', UTC) + method + path + query (? 구분자 제외)
+ * - 시크릿 키별로 초기화된 Mac을 보관하고 요청마다 clone()으로 복제해 사용
+ *   (요청 스레드가 가상 스레드라 ThreadLocal은 재사용되지 않으므로 복제 방식 사용, getInstance/init 비용 제거)
+ */
+@Component
+public class CoupangSigner {
+
+    private static final String ALGORITHM = "HmacSHA256";
+    private static final DateTimeFormatter SIGNED_DATE_FORMAT =
+            DateTimeFormatter.ofPattern("yyMMdd'T'HHmmss'Z'").withZone(ZoneOffset.UTC);
+    private static final HexFormat HEX = HexFormat.of();
+    /** 보관하는 시크릿 키 수 상한 (인증정보 수 기준, 초과 시 비우고 다시 채움) */
+    private static final int MAX_CACHED_KEYS = 1000;
+
+    private final ConcurrentHashMap<String, Mac> initializedMacs = new ConcurrentHashMap<>();
+
+    /**
+     * 현재 시각으로 서명한 Authorization 헤더 값
+     *
+     * @param query 쿼리 문자열 (? 제외, 없으면 빈 문자열)
+     */
+    public String authorization(String accessKey, String secretKey, String method, String path, String query) {
+        return authorization(accessKey, secretKey, method, path, query, Instant.now());
+    }
+
+    public String authorization(String accessKey, String secretKey, String method, String path, String query,
+                                Instant signedAt) {
+        String datetime = SIGNED_DATE_FORMAT.format(signedAt);
+        String signature = sign(secretKey, datetime + method + path + query);
+        return "CEA algorithm=HmacSHA256, access-key=" + accessKey
+                + ", signed-date=" + datetime + ", signature=" + signature;
+    }
+
+    /**
+     * HMAC-SHA256 서명 (소문자 hex)
+     */
+    public String sign(String secretKey, String message) {
+        Mac mac = newMac(secretKey);
+        return HEX.formatHex(mac.doFinal(message.getBytes(StandardCharsets.UTF_8)));
+    }
+
+    private Mac newMac(String secretKey) {
+        try {
+            Mac prototype = initializedMacs.get(secretKey);
+            if (prototype == null) {
+                if (initializedMacs.size() >= MAX_CACHED_KEYS) {
+                    initializedMacs.clear();
+                }
+                prototype = initializedMacs.computeIfAbsent(secretKey, CoupangSigner::initMac);
+            }
+            return (Mac) prototype.clone();
+        } catch (CloneNotSupportedException e) {
+            // 복제를 지원하지 않는 provider면 매번 초기화
+            return initMac(secretKey);
+        }
+    }
+
+    private static Mac initMac(String secretKey) {
+        try {
+            Mac mac = Mac.getInstance(ALGORITHM);
+            mac.init(new SecretKeySpec(secretKey.getBytes(StandardCharsets.UTF_8), ALGORITHM));
+            return mac;
+        } catch (GeneralSecurityException e) {
+            throw new BusinessException(ErrorCodes.MARKETPLACE_CONNECTION_FAILED,
+                    "HMAC 서명 생성 실패: " + e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,23 @@
+package com.mhub.marketplace.adapter.coupang.dto;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.databind.JsonNode;
+
+import java.util.List;
+
+/**
+ * 쿠팡 발주서 목록 조회(ordersheets) 응답 한 페이지
+ * - 응답 전체를 트리로 읽지 않고 봉투 필드만 바인딩, 배송건(shipmentBox)은 건별 JsonNode로 받아
+ *   파싱 후 Order.rawData에 그대로 보관
+ */
+@JsonIgnoreProperties(ignoreUnknown = true)
+public record CoupangOrderSheetPage(
+        Integer code,
+        String message,
+        String nextToken,
+        List<JsonNode> data
+) {
+    public boolean isSuccess() {
+        return code != null && code == 200;
+    }
+}
@@ -0,0 +1,215 @@
+package com.mhub.marketplace.adapter.naver;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.mhub.common.exception.BusinessException;
+import com.mhub.common.exception.ErrorCodes;
+import com.mhub.core.domain.entity.TenantMarketplaceCredential;
+import com.mhub.core.domain.enums.MarketplaceType;
+import com.mhub.core.service.RateLimitService;
+import com.mhub.marketplace.adapter.RetryAfter;
+import com.mhub.marketplace.adapter.naver.NaverTokenCache.NaverToken;
+import lombok.extern.slf4j.Slf4j;
+import org.mindrot.jbcrypt.BCrypt;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.util.LinkedMultiValueMap;
+import org.springframework.util.MultiValueMap;
+import org.springframework.web.reactive.function.BodyInserters;
+import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.publisher.Mono;
+
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * 네이버 커머스 API 클라이언트 (전체 테넌트 공유)
+ * - 커넥션 풀을 가진 naverWebClient 하나로 모든 요청을 보냄 (요청마다 WebClient를 만들지 않음)
+ * - 액세스 토큰은 NaverTokenCache에서 가져오며 인증정보 엔티티에 저장하지 않음
+ * - 401 응답은 해당 토큰을 버리고 새 토큰으로 한 번만 다시 요청
+ * - 모든 요청은 rate limit 토큰 획득 후 실행, 429 응답은 Retry-After 만큼 인증정보를 차단하고 최대 MAX_THROTTLE_RETRIES회 재시도
+ */
+@Slf4j
+@Component
+public class NaverApiClient {
+
+    private static final int MAX_THROTTLE_RETRIES = 3;
+    private static final long DEFAULT_TOKEN_EXPIRES_IN_SECONDS = 3600;
+
+    private final WebClient webClient;
+    private final NaverTokenCache tokenCache;
+    private final RateLimitService rateLimitService;
+    private final ObjectMapper objectMapper;
+    private final NaverApiProperties properties;
+
+    public NaverApiClient(@Qualifier("naverWebClient") WebClient webClient, NaverTokenCache tokenCache,
+                          RateLimitService rateLimitService, ObjectMapper objectMapper, NaverApiProperties properties) {
+        this.webClient = webClient;
+        this.tokenCache = tokenCache;
+        this.rateLimitService = rateLimitService;
+        this.objectMapper = objectMapper;
+        this.properties = properties;
+    }
+
+    /**
+     * GET 요청
+     *
+     * @param pathAndQuery baseUrl 뒤의 경로와 쿼리 (이미 인코딩된 값, 다시 인코딩하지 않음)
+     */
+    public String get(TenantMarketplaceCredential credential, String pathAndQuery) {
+        URI uri = URI.create(properties.baseUrl() + pathAndQuery);
+        return exchange(credential, token -> webClient.get()
+                .uri(uri)
+                .header("Authorization", "Bearer " + token)
+                .retrieve()
+                .bodyToMono(String.class));
+    }
+
+    /**
+     * JSON 본문 POST 요청
+     */
+    public String post(TenantMarketplaceCredential credential, String path, Object body) {
+        URI uri = URI.create(properties.baseUrl() + path);
+        return exchange(credential, token -> webClient.post()
+                .uri(uri)
+                .header("Authorization", "Bearer " + token)
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(body)
+                .retrieve()
+                .bodyToMono(String.class));
+    }
+
+    /**
+     * 캐시된 토큰을 버리고 새로 발급
+     */
+    public void refreshToken(TenantMarketplaceCredential credential) {
+        tokenCache.refresh(credential.getId(), null, () -> issueTokenOrThrow(credential));
+    }
+
+    /**
+     * 토큰 발급 - POST /v1/oauth2/token (캐시를 거치지 않음, 연결 테스트용으로도 사용)
+     *
+     * @throws WebClientResponseException 네이버가 발급을 거부한 경우
+     */
+    public NaverToken issueToken(TenantMarketplaceCredential credential) {
+        String clientId = credential.getClientId().trim();
+        String clientSecret = credential.getClientSecret().trim();
+        long timestamp = System.currentTimeMillis();
+
+        MultiValueMap<String, String> formData = new LinkedMultiValueMap<>();
+        formData.add("client_id", clientId);
+        formData.add("timestamp", String.valueOf(timestamp));
+        formData.add("client_secret_sign", generateClientSecretSign(clientId, clientSecret, timestamp));
+        formData.add("grant_type", "client_credentials");
+        formData.add("type", "SELF");
+
+        String response = withRateLimit(credential, () -> webClient.post()
+                .uri(URI.create(properties.baseUrl() + "/v1/oauth2/token"))
+                .contentType(MediaType.APPLICATION_FORM_URLENCODED)
+                .body(BodyInserters.fromFormData(formData))
+                .retrieve()
+                .bodyToMono(String.class)
+                .block());
+
+        try {
+            JsonNode root = objectMapper.readTree(response);
+            String accessToken = root.path("access_token").asText(null);
+            if (accessToken == null || accessToken.isEmpty()) {
+                throw new BusinessException(ErrorCodes.MARKETPLACE_AUTH_FAILED, "네이버 토큰 발급 실패: 응답에 토큰이 없습니다");
+            }
+            long expiresIn = root.path("expires_in").asLong(DEFAULT_TOKEN_EXPIRES_IN_SECONDS);
+            log.debug("New Naver access token obtained for credential {}, expires in {} seconds", credential.getId(), expiresIn);
+            return new NaverToken(accessToken, Instant.now().plusSeconds(expiresIn));
+        } catch (BusinessException e) {
+            throw e;
+        } catch (Exception e) {
+            throw new BusinessException(ErrorCodes.MARKETPLACE_AUTH_FAILED, "네이버 토큰 발급 실패: " + e.getMessage());
+        }
+    }
+
+    /**
+     * 네이버 오류 응답에서 message 추출 (없으면 응답 본문 그대로)
+     */
+    public static String parseErrorMessage(String responseBody) {
+        if (responseBody == null || responseBody.isBlank()) {
+            return "알 수 없는 오류";
+        }
+        try {
+            int msgIdx = responseBody.indexOf("\"message\":\"");
+            if (msgIdx >= 0) {
+                int start = msgIdx + "\"message\":\"".length();
+                int end = responseBody.indexOf("\"", start);
+                if (end > start) {
+                    return responseBody.substring(start, end);
+                }
+            }
+        } catch (Exception ignored) {
+            // fall through
+        }
+        return responseBody;
+    }
+
+    private String exchange(TenantMarketplaceCredential credential, Function<String, Mono<String>> request) {
+        String token = accessToken(credential);
+        try {
+            return withRateLimit(credential, () -> request.apply(token).block());
+        } catch (WebClientResponseException.Unauthorized e) {
+            log.info("Naver API returned 401 for credential {}, retrying once with a new token", credential.getId());
+            String refreshed = tokenCache.refresh(credential.getId(), token, () -> issueTokenOrThrow(credential));
+            return withRateLimit(credential, () -> request.apply(refreshed).block());
+        }
+    }
+
+    private String accessToken(TenantMarketplaceCredential credential) {
+        return tokenCache.get(credential.getId(), () -> issueTokenOrThrow(credential));
+    }
+
+    private NaverToken issueTokenOrThrow(TenantMarketplaceCredential credential) {
+        try {
+            return issueToken(credential);
+        } catch (BusinessException e) {
+            throw e;
+        } catch (WebClientResponseException e) {
+            log.error("Failed to get Naver access token: {}", e.getResponseBodyAsString());
+            throw new BusinessException(ErrorCodes.MARKETPLACE_AUTH_FAILED,
+                    "네이버 토큰 발급 실패: " + parseErrorMessage(e.getResponseBodyAsString()));
+        } catch (RuntimeException e) {
+            log.error("Failed to get Naver access token", e);
+            throw new BusinessException(ErrorCodes.MARKETPLACE_AUTH_FAILED, "네이버 토큰 발급 실패: " + e.getMessage());
+        }
+    }
+
+    private <T> T withRateLimit(TenantMarketplaceCredential credential, Supplier<T> call) {
+        for (int attempt = 0; ; attempt++) {
+            rateLimitService.acquire(MarketplaceType.NAVER, credential.getTenantId(), credential.getId());
+            try {
+                return call.get();
+            } catch (WebClientResponseException.TooManyRequests e) {
+                if (attempt >= MAX_THROTTLE_RETRIES) {
+                    throw e;
+                }
+                log.warn("Naver API throttled (attempt {}) for seller {}", attempt + 1, credential.getSellerId());
+                rateLimitService.reportThrottled(MarketplaceType.NAVER, credential.getId(),
+                        RetryAfter.parse(e.getHeaders().getFirst("Retry-After")));
+            }
+        }
+    }
+
+    /**
+     * 네이버 커머스 API 전자서명 생성
+     * 1. password = clientId + "_" + timestamp
+     * 2. bcrypt hash (clientSecret을 salt로 사용)
+     * 3. Base64 인코딩
+     */
+    private static String generateClientSecretSign(String clientId, String clientSecret, long timestamp) {
+        String password = clientId + "_" + timestamp;
+        String hashed = BCrypt.hashpw(password, clientSecret);
+        return Base64.getEncoder().encodeToString(hashed.getBytes(StandardCharsets.UTF_8));
+    }
+}
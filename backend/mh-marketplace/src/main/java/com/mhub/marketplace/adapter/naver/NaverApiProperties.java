@@ -0,0 +1,23 @@
+package com.mhub.marketplace.adapter.naver;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * 네이버 커머스 API 호출 설정
+ * - 커넥션 풀(maxConnections)은 전체 테넌트가 공유하는 naverWebClient 하나에 적용
+ * - tokenRefreshBefore: 토큰 만료 이만큼 전부터 새 토큰 발급 (그 사이 다른 호출은 기존 토큰을 계속 사용)
+ * - tokenLockTimeout: 다른 인스턴스가 같은 인증정보 토큰을 발급 중일 때 Redis에 새 토큰이 올라오기를 기다리는 최대 시간
+ */
+@ConfigurationProperties(prefix = "naver.api")
+public record NaverApiProperties(
+        @DefaultValue("https://api.commerce.naver.com/external") String baseUrl,
+        @DefaultValue("50") int maxConnections,
+        @DefaultValue("5s") Duration connectTimeout,
+        @DefaultValue("30s") Duration responseTimeout,
+        @DefaultValue("30s") Duration maxIdleTime,
+        @DefaultValue("5m") Duration tokenRefreshBefore,
+        @DefaultValue("10s") Duration tokenLockTimeout
+) {}
@@ -1,8 +1,8 @@
 package com.mhub.marketplace.adapter.naver;
 
-import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
 import com.mhub.common.exception.BusinessException;
 import com.mhub.common.exception.ErrorCodes;
 import com.mhub.core.domain.entity.Order;
@@ -11,20 +11,17 @@ import com.mhub.core.domain.entity.OrderSettlement;
 import com.mhub.core.domain.entity.TenantMarketplaceCredential;
 import com.mhub.core.domain.enums.MarketplaceType;
 import com.mhub.core.domain.enums.OrderStatus;
+import com.mhub.core.service.RateLimitService;
 import com.mhub.marketplace.adapter.AbstractMarketplaceAdapter;
 import com.mhub.marketplace.adapter.dto.OrderStatusInfo;
+import com.mhub.marketplace.adapter.naver.dto.NaverProductOrderPage;
 import lombok.extern.slf4j.Slf4j;
-import org.mindrot.jbcrypt.BCrypt;
-import org.springframework.http.MediaType;
 import org.springframework.stereotype.Component;
-import org.springframework.util.LinkedMultiValueMap;
-import org.springframework.util.MultiValueMap;
-import org.springframework.web.reactive.function.BodyInserters;
 import org.springframework.web.reactive.function.client.WebClient;
 import org.springframework.web.reactive.function.client.WebClientResponseException;
 
 import java.math.BigDecimal;
-import java.net.URI;
+import java.net.URLEncoder;
 import java.nio.charset.StandardCharsets;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
@@ -78,11 +75,18 @@ public class NaverSmartStoreAdapter extends AbstractMarketplaceAdapter {
         return STATUS_MAPPING.getOrDefault(productOrderStatus, OrderStatus.PAYMENT_COMPLETE);
     }
 
+    /** product-orders/query 1회 최대 조회 건수 */
+    private static final int PRODUCT_ORDER_QUERY_LIMIT = 300;
+    private static final DateTimeFormatter NAVER_DATETIME_FORMAT = DateTimeFormatter.ofPattern("yyyy-MM-dd'T'HH:mm:ss.SSS");
+
     private final ObjectMapper objectMapper;
+    private final NaverApiClient naverApiClient;
 
-    public NaverSmartStoreAdapter(WebClient.Builder webClientBuilder, ObjectMapper objectMapper) {
-        super(webClientBuilder, "https://api.commerce.naver.com/external");
+    public NaverSmartStoreAdapter(WebClient.Builder webClientBuilder, ObjectMapper objectMapper,
+                                  RateLimitService rateLimitService, NaverApiClient naverApiClient) {
+        super(webClientBuilder, "https://api.commerce.naver.com/external", rateLimitService);
         this.objectMapper = objectMapper;
+        this.naverApiClient = naverApiClient;
     }
 
     @Override
@@ -99,8 +103,6 @@ public class NaverSmartStoreAdapter extends AbstractMarketplaceAdapter {
     public List<Order> collectOrders(TenantMarketplaceCredential credential, LocalDateTime from, LocalDateTime to) {
         log.info("Collecting Naver orders for seller {} from {} to {}", credential.getSellerId(), from, to);
 
-        String accessToken = getAccessToken(credential);
-
         // orderId 기준으로 주문 그룹화 (같은 주문의 여러 상품을 하나의 Order로 병합)
         Map<String, Order> orderMap = new LinkedHashMap<>();
 
@@ -110,21 +112,12 @@ public class NaverSmartStoreAdapter extends AbstractMarketplaceAdapter {
 
         for (LocalDate currentDate = startDate; !currentDate.isAfter(endDate); currentDate = currentDate.plusDays(1)) {
             // 날짜 포맷: 2026-02-03T00:00:00.000%2B09:00 (URL 인코딩된 +09:00)
-            String targetDate = currentDate.toString();
-            String fromStr = targetDate + "T00:00:00.000%2B09:00";
-            String toStr = targetDate + "T23:59:59.000%2B09:00";
+            // 첫날/마지막 날은 요청 시각까지만 조회 (워터마크 기반 수집 시 당일 전체를 다시 받지 않도록)
+            String fromStr = formatNaverDateTime(currentDate.equals(startDate) ? from : currentDate.atStartOfDay());
+            String toStr = formatNaverDateTime(currentDate.equals(endDate) ? to : currentDate.atTime(23, 59, 59));
 
             log.debug("Naver date range for {}: from={}, to={}", currentDate, fromStr, toStr);
 
-            // Rate Limit 방지: 날짜별 순회 시 첫 날짜가 아니면 500ms 대기
-            if (!currentDate.equals(startDate)) {
-                try {
-                    Thread.sleep(500);
-                } catch (InterruptedException e) {
-                    Thread.currentThread().interrupt();
-                }
-            }
-
             boolean hasMore = true;
             int page = 1;
             while (hasMore) {
@@ -139,35 +132,25 @@ public class NaverSmartStoreAdapter extends AbstractMarketplaceAdapter {
                     }
 
                     String path = uriBuilder.toString();
-                    String fullUrl = "https://api.commerce.naver.com/external" + path;
-                    log.debug("Naver API request URL: {}", fullUrl);
+                    log.debug("Naver API request path: {}", path);
 
-                    String response = WebClient.create()
-                            .get()
-                            .uri(URI.create(fullUrl))
-                            .header("Authorization", "Bearer " + accessToken)
-                            .retrieve()
-                            .bodyToMono(String.class)
-                            .block();
+                    String response = naverApiClient.get(credential, path);
 
                     log.debug("Naver API response length: {}", response != null ? response.length() : 0);
 
-                    JsonNode root = objectMapper.readTree(response);
-                    JsonNode data = root.path("data");
-                    JsonNode contents = data.path("contents");
-                    JsonNode pagination = data.path("pagination");
+                    NaverProductOrderPage orderPage = objectMapper.readValue(response, NaverProductOrderPage.class);
+                    List<JsonNode> contents = orderPage.contents();
 
                     log.info("Naver contents count for date {}: {}", currentDate, contents.size());
 
-                    if (contents.isArray() && contents.size() > 0) {
+                    if (!contents.isEmpty()) {
                         // contents에서 직접 주문 정보 파싱 (같은 orderId는 병합)
                         for (JsonNode item : contents) {
                             mergeNaverProductOrder(item, credential.getTenantId(), orderMap);
                         }
 
                         // 다음 페이지 확인
-                        boolean hasNext = pagination.path("hasNext").asBoolean(false);
-                        if (hasNext) {
+                        if (orderPage.hasNext()) {
                             page++;
                         } else {
                             hasMore = false;
@@ -182,6 +165,8 @@ public class NaverSmartStoreAdapter extends AbstractMarketplaceAdapter {
                     log.error("Naver API error while collecting orders for date {}: {} {}", currentDate, e.getStatusCode(), e.getResponseBodyAsString());
                     throw new BusinessException(ErrorCodes.MARKETPLACE_API_ERROR,
                             "네이버 주문 수집 실패: " + parseNaverErrorMessage(e.getResponseBodyAsString()));
+                } catch (BusinessException e) {
+                    throw e;
                 } catch (Exception e) {
                     log.error("Error collecting Naver orders for date {}", currentDate, e);
                     throw new BusinessException(ErrorCodes.MARKETPLACE_API_ERROR,
@@ -350,9 +335,6 @@ public class NaverSmartStoreAdapter extends AbstractMarketplaceAdapter {
             String productId = productOrderNode.path("productId").asText(null);
             String itemNo = productOrderNode.path("itemNo").asText(null);
 
-            // rawData 저장
-            Map<String, Object> rawData = objectMapper.convertValue(item, new TypeReference<>() {});
-
             Order order = Order.builder()
                     .tenantId(tenantId)
                     .marketplaceType(MarketplaceType.NAVER)
@@ -376,7 +358,7 @@ public class NaverSmartStoreAdapter extends AbstractMarketplaceAdapter {
                     .expectedSettlementAmount(expectedSettlementAmount)
                     .orderedAt(orderedAt)
                     .erpSynced(false)
-                    .rawData(rawData)
+                    .rawData(item)
                     .items(new ArrayList<>())
                     .build();
 
@@ -415,67 +397,99 @@ public class NaverSmartStoreAdapter extends AbstractMarketplaceAdapter {
         }
     }
 
-    private String getAccessToken(TenantMarketplaceCredential credential) {
-        // 토큰이 유효하면 기존 토큰 사용
-        if (credential.getAccessToken() != null && credential.getTokenExpiresAt() != null
-                && LocalDateTime.now().isBefore(credential.getTokenExpiresAt().minusMinutes(5))) {
-            return credential.getAccessToken();
+    /**
+     * since 이후 변경된 상품주문을 상세 조회하여 반환
+     * - last-changed-statuses로 변경된 productOrderId만 찾고, product-orders/query로 상세 조회
+     */
+    @Override
+    public List<Order> getChangedOrders(TenantMarketplaceCredential credential, LocalDateTime since) {
+        log.info("Getting changed Naver orders since {}", since);
+        Set<String> changedIds = findChangedProductOrderIds(credential, since, LocalDateTime.now()).orElseThrow();
+        if (changedIds.isEmpty()) {
+            return Collections.emptyList();
+        }
+
+        Map<String, Order> orderMap = new LinkedHashMap<>();
+        List<String> ids = new ArrayList<>(changedIds);
+        for (int i = 0; i < ids.size(); i += PRODUCT_ORDER_QUERY_LIMIT) {
+            JsonNode data = queryProductOrders(credential, ids.subList(i, Math.min(i + PRODUCT_ORDER_QUERY_LIMIT, ids.size())));
+            for (JsonNode item : data) {
+                // query 응답은 {order, productOrder, ...} 형태 - 목록 조회 응답과 같은 {productOrderId, content} 형태로 맞춤
+                ObjectNode wrapped = objectMapper.createObjectNode();
+                wrapped.put("productOrderId", item.path("productOrder").path("productOrderId").asText());
+                wrapped.set("content", item);
+                mergeNaverProductOrder(wrapped, credential.getTenantId(), orderMap);
+            }
         }
 
-        // 새 토큰 발급
-        return requestNewAccessToken(credential);
+        log.info("Collected {} changed Naver orders ({} product orders) since {}", orderMap.size(), ids.size(), since);
+        return new ArrayList<>(orderMap.values());
     }
 
-    private String requestNewAccessToken(TenantMarketplaceCredential credential) {
-        String clientId = credential.getClientId().trim();
-        String clientSecret = credential.getClientSecret().trim();
+    /**
+     * 변경 상품주문 ID 조회 - GET /v1/pay-order/seller/product-orders/last-changed-statuses
+     * - 조회 범위는 최대 24시간이므로 구간을 나누어 조회
+     * - 한 번에 다 내려오지 않으면 응답의 more(moreFrom, moreSequence)로 이어서 조회
+     */
+    @Override
+    public Optional<Set<String>> findChangedProductOrderIds(TenantMarketplaceCredential credential,
+                                                            LocalDateTime from, LocalDateTime to) {
+        Set<String> productOrderIds = new LinkedHashSet<>();
 
-        try {
-            long timestamp = System.currentTimeMillis();
-            String clientSecretSign = generateClientSecretSign(clientId, clientSecret, timestamp);
-
-            MultiValueMap<String, String> formData = new LinkedMultiValueMap<>();
-            formData.add("client_id", clientId);
-            formData.add("timestamp", String.valueOf(timestamp));
-            formData.add("client_secret_sign", clientSecretSign);
-            formData.add("grant_type", "client_credentials");
-            formData.add("type", "SELF");
-
-            String response = webClient.post()
-                    .uri("/v1/oauth2/token")
-                    .contentType(MediaType.APPLICATION_FORM_URLENCODED)
-                    .body(BodyInserters.fromFormData(formData))
-                    .retrieve()
-                    .bodyToMono(String.class)
-                    .block();
-
-            JsonNode root = objectMapper.readTree(response);
-            String accessToken = root.path("access_token").asText();
-            int expiresIn = root.path("expires_in").asInt(3600);
-
-            // 토큰 정보 업데이트 (credential에 직접 저장)
-            credential.setAccessToken(accessToken);
-            credential.setTokenExpiresAt(LocalDateTime.now().plusSeconds(expiresIn));
-
-            log.debug("New Naver access token obtained, expires in {} seconds", expiresIn);
-            return accessToken;
+        for (LocalDateTime windowFrom = from; windowFrom.isBefore(to); windowFrom = windowFrom.plusHours(24)) {
+            LocalDateTime windowTo = windowFrom.plusHours(24).isBefore(to) ? windowFrom.plusHours(24) : to;
+            String lastChangedFrom = formatNaverDateTime(windowFrom);
+            String lastChangedTo = formatNaverDateTime(windowTo);
+            String moreSequence = null;
 
-        } catch (WebClientResponseException e) {
-            log.error("Failed to get Naver access token: {}", e.getResponseBodyAsString());
-            throw new BusinessException(ErrorCodes.MARKETPLACE_AUTH_FAILED,
-                    "네이버 토큰 발급 실패: " + parseNaverErrorMessage(e.getResponseBodyAsString()));
-        } catch (Exception e) {
-            log.error("Failed to get Naver access token", e);
-            throw new BusinessException(ErrorCodes.MARKETPLACE_AUTH_FAILED,
-                    "네이버 토큰 발급 실패: " + e.getMessage());
+            do {
+                try {
+                    StringBuilder uriBuilder = new StringBuilder("/v1/pay-order/seller/product-orders/last-changed-statuses")
+                            .append("?lastChangedFrom=").append(lastChangedFrom)
+                            .append("&lastChangedTo=").append(lastChangedTo);
+                    if (moreSequence != null) {
+                        uriBuilder.append("&moreSequence=").append(moreSequence);
+                    }
+                    String response = naverApiClient.get(credential, uriBuilder.toString());
+
+                    JsonNode data = objectMapper.readTree(response).path("data");
+                    for (JsonNode changed : data.path("lastChangeStatuses")) {
+                        String productOrderId = changed.path("productOrderId").asText(null);
+                        if (productOrderId != null) {
+                            productOrderIds.add(productOrderId);
+                        }
+                    }
+
+                    JsonNode more = data.path("more");
+                    if (more.hasNonNull("moreSequence")) {
+                        lastChangedFrom = URLEncoder.encode(more.path("moreFrom").asText(), StandardCharsets.UTF_8);
+                        moreSequence = URLEncoder.encode(more.path("moreSequence").asText(), StandardCharsets.UTF_8);
+                    } else {
+                        moreSequence = null;
+                    }
+                } catch (WebClientResponseException e) {
+                    log.error("Naver last-changed-statuses failed: {} {}", e.getStatusCode(), e.getResponseBodyAsString());
+                    throw new BusinessException(ErrorCodes.MARKETPLACE_API_ERROR,
+                            "네이버 변경 주문 조회 실패: " + parseNaverErrorMessage(e.getResponseBodyAsString()));
+                } catch (BusinessException e) {
+                    throw e;
+                } catch (Exception e) {
+                    log.error("Error querying Naver last-changed-statuses from {} to {}", windowFrom, windowTo, e);
+                    throw new BusinessException(ErrorCodes.MARKETPLACE_API_ERROR,
+                            "네이버 변경 주문 조회 실패: " + e.getMessage());
+                }
+            } while (moreSequence != null);
         }
+
+        log.info("Naver last-changed-statuses returned {} product orders from {} to {}", productOrderIds.size(), from, to);
+        return Optional.of(productOrderIds);
     }
 
-    @Override
-    public List<Order> getChangedOrders(TenantMarketplaceCredential credential, LocalDateTime since) {
-        log.info("Getting changed Naver orders since {}", since);
-        // 변경된 주문은 lastChangedFrom 파라미터로 조회
-        return collectOrders(credential, since, LocalDateTime.now());
+    /**
+     * 네이버 API 일시 파라미터 (KST, URL 인코딩된 +09:00)
+     */
+    private String formatNaverDateTime(LocalDateTime dateTime) {
+        return dateTime.format(NAVER_DATETIME_FORMAT) + "%2B09:00";
     }
 
     @Override
@@ -485,44 +499,42 @@ public class NaverSmartStoreAdapter extends AbstractMarketplaceAdapter {
         }
 
         log.info("Querying Naver order statuses for {} orders", productOrderIds.size());
-        String accessToken = getAccessToken(credential);
+        List<OrderStatusInfo> result = parseOrderStatusesResponse(queryProductOrders(credential, productOrderIds));
+        log.info("Naver order status query returned {} statuses", result.size());
+        return result;
+    }
 
+    /**
+     * 상품주문 상세 조회 - POST /v1/pay-order/seller/product-orders/query (최대 300개)
+     *
+     * @return 응답의 data 배열
+     */
+    private JsonNode queryProductOrders(TenantMarketplaceCredential credential, List<String> productOrderIds) {
         try {
-            // POST /v1/pay-order/seller/product-orders/query
             Map<String, Object> requestBody = Map.of("productOrderIds", productOrderIds);
 
-            String response = webClient.post()
-                    .uri("/v1/pay-order/seller/product-orders/query")
-                    .header("Authorization", "Bearer " + accessToken)
-                    .contentType(MediaType.APPLICATION_JSON)
-                    .bodyValue(requestBody)
-                    .retrieve()
-                    .bodyToMono(String.class)
-                    .block();
+            String response = naverApiClient.post(credential, "/v1/pay-order/seller/product-orders/query", requestBody);
 
-            log.debug("Naver order status query response: {}", response);
-            List<OrderStatusInfo> result = parseOrderStatusesResponse(response);
-            log.info("Naver order status query returned {} statuses", result.size());
-            return result;
+            log.debug("Naver product order query response: {}", response);
+            return objectMapper.readTree(response).path("data");
 
         } catch (WebClientResponseException e) {
-            log.error("Naver order status query failed: {} {}", e.getStatusCode(), e.getResponseBodyAsString());
+            log.error("Naver product order query failed: {} {}", e.getStatusCode(), e.getResponseBodyAsString());
             throw new BusinessException(ErrorCodes.MARKETPLACE_API_ERROR,
                     "네이버 주문 상태 조회 실패: " + parseNaverErrorMessage(e.getResponseBodyAsString()));
+        } catch (BusinessException e) {
+            throw e;
         } catch (Exception e) {
-            log.error("Error querying Naver order statuses", e);
+            log.error("Error querying Naver product orders", e);
             throw new BusinessException(ErrorCodes.MARKETPLACE_API_ERROR,
                     "네이버 주문 상태 조회 실패: " + e.getMessage());
         }
     }
 
-    private List<OrderStatusInfo> parseOrderStatusesResponse(String response) {
+    private List<OrderStatusInfo> parseOrderStatusesResponse(JsonNode data) {
         List<OrderStatusInfo> results = new ArrayList<>();
 
         try {
-            JsonNode root = objectMapper.readTree(response);
-            JsonNode data = root.path("data");
-
             if (data.isArray()) {
                 for (JsonNode item : data) {
                     JsonNode productOrder = item.path("productOrder");
@@ -552,19 +564,9 @@ public class NaverSmartStoreAdapter extends AbstractMarketplaceAdapter {
     public List<OrderSettlement> collectSettlements(TenantMarketplaceCredential credential, LocalDate from, LocalDate to) {
         log.info("Collecting Naver settlements for seller {} from {} to {}", credential.getSellerId(), from, to);
 
-        String accessToken = getAccessToken(credential);
         List<OrderSettlement> allSettlements = new ArrayList<>();
 
         for (LocalDate currentDate = from; !currentDate.isAfter(to); currentDate = currentDate.plusDays(1)) {
-            // Rate Limit 방지
-            if (!currentDate.equals(from)) {
-                try {
-                    Thread.sleep(500);
-                } catch (InterruptedException e) {
-                    Thread.currentThread().interrupt();
-                }
-            }
-
             boolean hasMore = true;
             int page = 1;
             while (hasMore) {
@@ -580,16 +582,9 @@ public class NaverSmartStoreAdapter extends AbstractMarketplaceAdapter {
                     }
 
                     String path = uriBuilder.toString();
-                    String fullUrl = "https://api.commerce.naver.com/external" + path;
-                    log.debug("Naver settlement API request URL: {}", fullUrl);
+                    log.debug("Naver settlement API request path: {}", path);
 
-                    String response = WebClient.create()
-                            .get()
-                            .uri(URI.create(fullUrl))
-                            .header("Authorization", "Bearer " + accessToken)
-                            .retrieve()
-                            .bodyToMono(String.class)
-                            .block();
+                    String response = naverApiClient.get(credential, path);
 
                     JsonNode root = objectMapper.readTree(response);
                     JsonNode elements = root.path("elements");
@@ -618,6 +613,8 @@ public class NaverSmartStoreAdapter extends AbstractMarketplaceAdapter {
                     log.error("Naver settlement API error for date {}: {} {}", currentDate, e.getStatusCode(), e.getResponseBodyAsString());
                     throw new BusinessException(ErrorCodes.MARKETPLACE_API_ERROR,
                             "네이버 정산 수집 실패: " + parseNaverErrorMessage(e.getResponseBodyAsString()));
+                } catch (BusinessException e) {
+                    throw e;
                 } catch (Exception e) {
                     log.error("Error collecting Naver settlements for date {}", currentDate, e);
                     throw new BusinessException(ErrorCodes.MARKETPLACE_API_ERROR,
@@ -651,8 +648,6 @@ public class NaverSmartStoreAdapter extends AbstractMarketplaceAdapter {
             BigDecimal discountAmount = toBigDecimal(item.path("sellingInterlockCommissionAmount"));
             BigDecimal sellerDiscountAmount = toBigDecimal(item.path("benefitSettleAmount"));
 
-            Map<String, Object> rawData = objectMapper.convertValue(item, new TypeReference<>() {});
-
             return OrderSettlement.builder()
                     .marketplaceType(MarketplaceType.NAVER)
                     .marketplaceOrderId(orderId != null ? orderId : "")
@@ -671,7 +666,7 @@ public class NaverSmartStoreAdapter extends AbstractMarketplaceAdapter {
                     .settlementAmount(settlementAmount)
                     .discountAmount(discountAmount)
                     .sellerDiscountAmount(sellerDiscountAmount)
-                    .rawData(rawData)
+                    .rawData(item)
                     .build();
 
         } catch (Exception e) {
@@ -708,39 +703,13 @@ public class NaverSmartStoreAdapter extends AbstractMarketplaceAdapter {
     @Override
     public void refreshToken(TenantMarketplaceCredential credential) {
         log.info("Refreshing Naver OAuth2 token for seller {}", credential.getSellerId());
-        requestNewAccessToken(credential);
+        naverApiClient.refreshToken(credential);
     }
 
     @Override
     public boolean testConnection(TenantMarketplaceCredential credential) {
-        String clientId = credential.getClientId().trim();
-        String clientSecret = credential.getClientSecret().trim();
-
         try {
-            long timestamp = System.currentTimeMillis();
-            String clientSecretSign = generateClientSecretSign(clientId, clientSecret, timestamp);
-
-            MultiValueMap<String, String> formData = new LinkedMultiValueMap<>();
-            formData.add("client_id", clientId);
-            formData.add("timestamp", String.valueOf(timestamp));
-            formData.add("client_secret_sign", clientSecretSign);
-            formData.add("grant_type", "client_credentials");
-            formData.add("type", "SELF");
-
-            log.debug("Naver token request: client_id={}, timestamp={}", clientId, timestamp);
-
-            WebClient authClient = WebClient.builder()
-                    .baseUrl("https://api.commerce.naver.com/external")
-                    .build();
-
-            authClient.post()
-                    .uri("/v1/oauth2/token")
-                    .contentType(MediaType.APPLICATION_FORM_URLENCODED)
-                    .body(BodyInserters.fromFormData(formData))
-                    .retrieve()
-                    .toBodilessEntity()
-                    .block();
-
+            naverApiClient.issueToken(credential);
             log.info("Naver connection test successful for seller {}", credential.getSellerId());
             return true;
         } catch (WebClientResponseException e) {
@@ -750,8 +719,6 @@ public class NaverSmartStoreAdapter extends AbstractMarketplaceAdapter {
             String detail = parseNaverErrorMessage(responseBody);
             throw new BusinessException(ErrorCodes.MARKETPLACE_CONNECTION_FAILED,
                     "네이버 연결 실패: " + detail);
-        } catch (BusinessException e) {
-            throw e;
         } catch (Exception e) {
             log.error("Naver connection test error for seller {}", credential.getSellerId(), e);
             throw new BusinessException(ErrorCodes.MARKETPLACE_CONNECTION_FAILED,
@@ -760,33 +727,6 @@ public class NaverSmartStoreAdapter extends AbstractMarketplaceAdapter {
     }
 
     private String parseNaverErrorMessage(String responseBody) {
-        if (responseBody == null || responseBody.isBlank()) {
-            return "알 수 없는 오류";
-        }
-        try {
-            int msgIdx = responseBody.indexOf("\"message\":\"");
-            if (msgIdx >= 0) {
-                int start = msgIdx + "\"message\":\"".length();
-                int end = responseBody.indexOf("\"", start);
-                if (end > start) {
-                    return responseBody.substring(start, end);
-                }
-            }
-        } catch (Exception ignored) {
-            // fall through
-        }
-        return responseBody;
-    }
-
-    /**
-     * 네이버 커머스 API 전자서명 생성
-     * 1. password = clientId + "_" + timestamp
-     * 2. bcrypt hash (clientSecret을 salt로 사용)
-     * 3. Base64 인코딩
-     */
-    private String generateClientSecretSign(String clientId, String clientSecret, long timestamp) {
-        String password = clientId + "_" + timestamp;
-        String hashed = BCrypt.hashpw(password, clientSecret);
-        return Base64.getEncoder().encodeToString(hashed.getBytes(StandardCharsets.UTF_8));
+        return NaverApiClient.parseErrorMessage(responseBody);
     }
 }
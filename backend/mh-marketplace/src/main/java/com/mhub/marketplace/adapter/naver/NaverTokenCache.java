@@ -0,0 +1,194 @@
+package com.mhub.marketplace.adapter.naver;
+
+import com.mhub.core.crypto.AesEncryptor;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * 네이버 OAuth 토큰 캐시 (인증정보별)
+ * - 인스턴스 메모리 → Redis(암호화 저장, 만료 시각까지 TTL) 순으로 조회하고, 둘 다 없거나 갱신 시점이면 발급
+ * - 인스턴스 안에서는 인증정보별로 발급을 한 번만 실행하고 동시 호출은 그 결과를 기다림
+ *   (갱신 시점이지만 아직 만료 전이면 기다리지 않고 기존 토큰 사용)
+ * - 인스턴스 간에는 Redis 락으로 발급을 한 곳에서만 하고 나머지는 Redis에 올라온 토큰을 사용
+ * - 401 응답을 받은 토큰은 invalidate로 메모리/Redis에서 제거 (그 사이 이미 갱신된 토큰은 유지)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class NaverTokenCache {
+
+    private static final Duration LOCK_POLL_INTERVAL = Duration.ofMillis(200);
+
+    private final StringRedisTemplate redisTemplate;
+    private final AesEncryptor aesEncryptor;
+    private final NaverApiProperties properties;
+
+    private final ConcurrentHashMap<UUID, NaverToken> tokens = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<UUID, CompletableFuture<NaverToken>> inFlight = new ConcurrentHashMap<>();
+
+    public record NaverToken(String value, Instant expiresAt) {}
+
+    /**
+     * 유효한 토큰 반환 - 없거나 갱신 시점이면 issuer로 발급 (인증정보별 single-flight)
+     */
+    public String get(UUID credentialId, Supplier<NaverToken> issuer) {
+        NaverToken cached = tokens.get(credentialId);
+        if (cached != null && !needsRefresh(cached)) {
+            return cached.value();
+        }
+        CompletableFuture<NaverToken> running = inFlight.get(credentialId);
+        if (running != null && cached != null && isUsable(cached)) {
+            return cached.value();
+        }
+        return refresh(credentialId, issuer).value();
+    }
+
+    /**
+     * 토큰 강제 재발급 (캐시된 토큰 제거 후 발급)
+     */
+    public String refresh(UUID credentialId, String rejectedToken, Supplier<NaverToken> issuer) {
+        invalidate(credentialId, rejectedToken);
+        return get(credentialId, issuer);
+    }
+
+    /**
+     * 거부된 토큰 제거 - 현재 캐시된 토큰이 rejectedToken과 같을 때만 (null이면 무조건 제거)
+     */
+    public void invalidate(UUID credentialId, String rejectedToken) {
+        NaverToken cached = tokens.get(credentialId);
+        if (cached != null && (rejectedToken == null || cached.value().equals(rejectedToken))) {
+            tokens.remove(credentialId, cached);
+        }
+        NaverToken shared = readShared(credentialId);
+        if (shared != null && (rejectedToken == null || shared.value().equals(rejectedToken))) {
+            redisTemplate.delete(tokenKey(credentialId));
+        }
+    }
+
+    private NaverToken refresh(UUID credentialId, Supplier<NaverToken> issuer) {
+        CompletableFuture<NaverToken> mine = new CompletableFuture<>();
+        CompletableFuture<NaverToken> existing = inFlight.putIfAbsent(credentialId, mine);
+        if (existing != null) {
+            return join(existing);
+        }
+        try {
+            NaverToken token = loadShared(credentialId, issuer);
+            tokens.put(credentialId, token);
+            mine.complete(token);
+            return token;
+        } catch (RuntimeException e) {
+            mine.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(credentialId, mine);
+        }
+    }
+
+    /**
+     * Redis에 갱신 시점 전의 토큰이 있으면 사용, 없으면 락을 잡은 인스턴스가 발급해 Redis에 기록
+     */
+    private NaverToken loadShared(UUID credentialId, Supplier<NaverToken> issuer) {
+        NaverToken shared = readShared(credentialId);
+        if (shared != null && !needsRefresh(shared)) {
+            return shared;
+        }
+
+        String lockKey = tokenKey(credentialId) + ":lock";
+        String lockOwner = UUID.randomUUID().toString();
+        Instant waitUntil = Instant.now().plus(properties.tokenLockTimeout());
+        boolean locked = tryLock(lockKey, lockOwner);
+        while (!locked && Instant.now().isBefore(waitUntil)) {
+            sleep(LOCK_POLL_INTERVAL);
+            shared = readShared(credentialId);
+            if (shared != null && !needsRefresh(shared)) {
+                return shared;
+            }
+            locked = tryLock(lockKey, lockOwner);
+        }
+        if (!locked) {
+            log.warn("Naver token lock wait timed out for credential {}, issuing without lock", credentialId);
+        }
+
+        try {
+            NaverToken token = issuer.get();
+            writeShared(credentialId, token);
+            return token;
+        } finally {
+            if (locked && lockOwner.equals(redisTemplate.opsForValue().get(lockKey))) {
+                redisTemplate.delete(lockKey);
+            }
+        }
+    }
+
+    private boolean tryLock(String lockKey, String owner) {
+        return Boolean.TRUE.equals(redisTemplate.opsForValue().setIfAbsent(lockKey, owner, properties.tokenLockTimeout()));
+    }
+
+    private NaverToken readShared(UUID credentialId) {
+        String stored = redisTemplate.opsForValue().get(tokenKey(credentialId));
+        if (stored == null) {
+            return null;
+        }
+        try {
+            int sep = stored.indexOf('|');
+            Instant expiresAt = Instant.ofEpochMilli(Long.parseLong(stored.substring(0, sep)));
+            return new NaverToken(aesEncryptor.decrypt(stored.substring(sep + 1)), expiresAt);
+        } catch (RuntimeException e) {
+            log.warn("Discarding unreadable Naver token cache entry for credential {}: {}", credentialId, e.getMessage());
+            redisTemplate.delete(tokenKey(credentialId));
+            return null;
+        }
+    }
+
+    private void writeShared(UUID credentialId, NaverToken token) {
+        Duration ttl = Duration.between(Instant.now(), token.expiresAt());
+        if (ttl.isNegative() || ttl.isZero()) {
+            return;
+        }
+        redisTemplate.opsForValue().set(tokenKey(credentialId),
+                token.expiresAt().toEpochMilli() + "|" + aesEncryptor.encrypt(token.value()), ttl);
+    }
+
+    private boolean needsRefresh(NaverToken token) {
+        return !Instant.now().isBefore(token.expiresAt().minus(properties.tokenRefreshBefore()));
+    }
+
+    private static boolean isUsable(NaverToken token) {
+        return Instant.now().isBefore(token.expiresAt());
+    }
+
+    private static NaverToken join(CompletableFuture<NaverToken> future) {
+        try {
+            return Objects.requireNonNull(future.join());
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException re) {
+                throw re;
+            }
+            throw e;
+        }
+    }
+
+    private static void sleep(Duration duration) {
+        try {
+            Thread.sleep(duration.toMillis());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for Naver token", e);
+        }
+    }
+
+    private static String tokenKey(UUID credentialId) {
+        return "naver:token:" + credentialId;
+    }
+}
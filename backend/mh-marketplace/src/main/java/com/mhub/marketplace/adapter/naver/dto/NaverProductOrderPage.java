@@ -0,0 +1,29 @@
+package com.mhub.marketplace.adapter.naver.dto;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.databind.JsonNode;
+
+import java.util.List;
+
+/**
+ * 네이버 상품주문 목록 조회(product-orders) 응답 한 페이지
+ * - 응답 전체를 트리로 읽지 않고 봉투 필드만 바인딩, 상품주문은 건별 JsonNode로 받아
+ *   파싱 후 Order.rawData에 그대로 보관
+ */
+@JsonIgnoreProperties(ignoreUnknown = true)
+public record NaverProductOrderPage(Data data) {
+
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    public record Data(List<JsonNode> contents, Pagination pagination) {}
+
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    public record Pagination(boolean hasNext) {}
+
+    public List<JsonNode> contents() {
+        return data != null && data.contents() != null ? data.contents() : List.of();
+    }
+
+    public boolean hasNext() {
+        return data != null && data.pagination() != null && data.pagination().hasNext();
+    }
+}
@@ -1,8 +1,21 @@
 package com.mhub.marketplace.config;
 
+import com.mhub.marketplace.adapter.coupang.CoupangApiProperties;
+import com.mhub.marketplace.adapter.naver.NaverApiProperties;
+import io.netty.channel.ChannelOption;
+import org.apache.http.client.config.RequestConfig;
+import org.apache.http.impl.client.CloseableHttpClient;
+import org.apache.http.impl.client.DefaultConnectionKeepAliveStrategy;
+import org.apache.http.impl.client.HttpClients;
+import org.apache.http.impl.conn.PoolingHttpClientConnectionManager;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
 import org.springframework.web.reactive.function.client.WebClient;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
+
+import java.util.concurrent.TimeUnit;
 
 @Configuration
 public class MarketplaceConfig {
@@ -10,4 +23,62 @@ public class MarketplaceConfig {
     public WebClient.Builder marketplaceWebClientBuilder() {
         return WebClient.builder().codecs(c -> c.defaultCodecs().maxInMemorySize(2 * 1024 * 1024));
     }
+
+    /**
+     * 네이버 커머스 API 전용 커넥션 풀
+     */
+    @Bean(name = "naverConnectionProvider", destroyMethod = "dispose")
+    public ConnectionProvider naverConnectionProvider(NaverApiProperties props) {
+        return ConnectionProvider.builder("naver-commerce")
+                .maxConnections(props.maxConnections())
+                .maxIdleTime(props.maxIdleTime())
+                .evictInBackground(props.maxIdleTime())
+                .build();
+    }
+
+    /**
+     * 네이버 커머스 API 전용 WebClient (커넥션 풀 공유, NaverApiClient에서 사용)
+     * 공유 marketplaceWebClientBuilder는 복제해서 설정이 다른 클라이언트로 번지지 않게 한다.
+     */
+    @Bean(name = "naverWebClient")
+    public WebClient naverWebClient(WebClient.Builder marketplaceWebClientBuilder,
+                                    ConnectionProvider naverConnectionProvider, NaverApiProperties props) {
+        HttpClient httpClient = HttpClient.create(naverConnectionProvider)
+                .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, (int) props.connectTimeout().toMillis())
+                .responseTimeout(props.responseTimeout());
+        return marketplaceWebClientBuilder.clone()
+                .clientConnector(new ReactorClientHttpConnector(httpClient))
+                .build();
+    }
+
+    /**
+     * 쿠팡 Open API 전용 HttpClient (커넥션 풀 공유)
+     * 요청마다 클라이언트를 생성하면 매번 TLS 핸드셰이크가 발생하므로 애플리케이션 수명 동안 하나를 재사용한다.
+     */
+    @Bean(name = "coupangHttpClient", destroyMethod = "close")
+    public CloseableHttpClient coupangHttpClient(CoupangApiProperties props) {
+        PoolingHttpClientConnectionManager connectionManager = new PoolingHttpClientConnectionManager();
+        connectionManager.setMaxTotal(props.maxTotal());
+        connectionManager.setDefaultMaxPerRoute(props.maxPerRoute());
+        // 서버 측에서 먼저 끊은 keep-alive 연결을 재사용하기 전에 검증
+        connectionManager.setValidateAfterInactivity(2000);
+
+        RequestConfig requestConfig = RequestConfig.custom()
+                .setConnectTimeout((int) props.connectTimeout().toMillis())
+                .setSocketTimeout((int) props.socketTimeout().toMillis())
+                .setConnectionRequestTimeout((int) props.connectionRequestTimeout().toMillis())
+                .build();
+
+        long maxKeepAliveMillis = props.keepAlive().toMillis();
+        return HttpClients.custom()
+                .setConnectionManager(connectionManager)
+                .setDefaultRequestConfig(requestConfig)
+                .setKeepAliveStrategy((response, context) -> {
+                    long serverKeepAlive = DefaultConnectionKeepAliveStrategy.INSTANCE.getKeepAliveDuration(response, context);
+                    return serverKeepAlive > 0 ? Math.min(serverKeepAlive, maxKeepAliveMillis) : maxKeepAliveMillis;
+                })
+                .evictExpiredConnections()
+                .evictIdleConnections(props.idleEvictAfter().toMillis(), TimeUnit.MILLISECONDS)
+                .build();
+    }
 }
@@ -0,0 +1,254 @@
+package com.mhub.marketplace.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.mhub.core.domain.entity.Order;
+import com.mhub.core.domain.entity.OrderItem;
+import com.mhub.core.domain.enums.MarketplaceType;
+import com.mhub.core.domain.event.OrderCollectedEvent;
+import com.mhub.core.service.OrderEventOutboxService;
+import com.mhub.core.service.OrderStatsService;
+import com.mhub.core.service.ProductMappingService;
+import com.mhub.marketplace.service.SyncLeaseService.SyncLease;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * 수집된 주문 저장 (JDBC 배치)
+ * - order_key에 INSERT ... ON CONFLICT DO NOTHING으로 키를 먼저 선점하여 새 주문만 골라냄
+ *   (동시 수집/다중 인스턴스에서도 DB 레벨에서 중복 방지)
+ *   키는 항상 같은 순서로 선점하여, 겹치는 주문을 동시에 수집하는 트랜잭션끼리 서로를 기다리며 교착되지 않게 함
+ * - 새 주문에만 자동 매핑을 적용한 뒤 orders / order_item을 배치 INSERT하고 일자 통계(order_daily_stats)에 반영
+ * - 마켓플레이스 API 조회는 호출 측에서 트랜잭션 밖에서 수행하고, 이 서비스는 DB 쓰기 구간만 트랜잭션으로 묶음
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class OrderIngestionService {
+
+    private static final int BATCH_SIZE = 500;
+
+    private static final String INSERT_ORDER_KEY_SQL =
+            "INSERT INTO order_key (tenant_id, marketplace_type, marketplace_order_id, " +
+            "marketplace_product_order_id, order_id, order_created_at) " +
+            "VALUES (?, ?, ?, ?, ?, ?) " +
+            "ON CONFLICT (tenant_id, marketplace_type, marketplace_order_id, marketplace_product_order_id) DO NOTHING";
+
+    private static final String INSERT_ORDER_SQL =
+            "INSERT INTO orders (id, tenant_id, marketplace_type, marketplace_order_id, marketplace_product_order_id, " +
+            "status, marketplace_status, place_order_status, buyer_name, buyer_phone, receiver_name, receiver_phone, " +
+            "receiver_address, receiver_address_base, receiver_address_detail, receiver_zipcode, delivery_memo, " +
+            "total_amount, delivery_fee, ordered_at, erp_synced, erp_document_id, expected_settlement_amount, " +
+            "estimated_delivery_commission, settlement_collected, raw_data, created_at, updated_at) " +
+            "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?::jsonb, ?, ?)";
+
+    private static final String INSERT_ORDER_ITEM_SQL =
+            "INSERT INTO order_item (id, order_id, tenant_id, product_name, option_name, quantity, unit_price, " +
+            "total_price, marketplace_product_id, marketplace_sku, erp_item_id, erp_prod_cd, erp_wh_cd, " +
+            "commission_rate, expected_settlement_amount, created_at, updated_at) " +
+            "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final SyncLeaseService syncLeaseService;
+    private final ProductMappingService productMappingService;
+    private final OrderStatsService orderStatsService;
+    private final OrderEventOutboxService orderEventOutboxService;
+    private final ObjectMapper objectMapper;
+
+    private record PendingOrder(UUID id, Order order) {}
+
+    private static final Comparator<PendingOrder> ORDER_KEY_ORDER = Comparator
+            .comparing((PendingOrder pending) -> pending.order().getMarketplaceOrderId())
+            .thenComparing(pending -> productOrderKey(pending.order()));
+
+    /**
+     * 수집된 주문 중 새 주문만 저장하고 OrderCollectedEvent를 아웃박스에 기록
+     * - 저장 전과 커밋 직전에 수집 리스가 아직 유효한지 확인 (리스를 잃은 수집은 저장하지 않음)
+     *
+     * @param lease 이 수집이 보유한 credential 동기화 리스
+     * @return 새로 저장된 주문 수
+     */
+    @Transactional
+    public int ingest(SyncLease lease, UUID tenantId, MarketplaceType mkt, List<Order> orders) {
+        syncLeaseService.assertHeld(lease);
+        LocalDateTime now = LocalDateTime.now();
+        Timestamp nowTs = Timestamp.valueOf(now);
+
+        // 1. 주문 ID를 미리 부여하고 order_key 선점 - 선점에 성공한 주문만 새 주문
+        List<PendingOrder> candidates = new ArrayList<>(orders.size());
+        for (Order order : orders) {
+            candidates.add(new PendingOrder(UUID.randomUUID(), order));
+        }
+        List<PendingOrder> newOrders = claimOrderKeys(tenantId, mkt, candidates, nowTs);
+
+        if (newOrders.isEmpty()) {
+            log.info("No new orders for tenant={} mkt={} (all {} orders already exist)", tenantId, mkt, orders.size());
+            return 0;
+        }
+
+        // 2. 새 주문들에 자동 매핑 일괄 적용 (매핑은 한 번에 조회하여 메모리에서 매칭)
+        List<Order> newOrderEntities = newOrders.stream().map(PendingOrder::order).toList();
+        productMappingService.applyAutoMapping(newOrderEntities, tenantId, mkt);
+
+        // 3. orders / order_item 배치 INSERT + 일자 통계 반영
+        insertOrders(tenantId, mkt, newOrders, nowTs);
+        insertOrderItems(tenantId, newOrders, nowTs);
+        orderStatsService.recordCollected(tenantId, mkt, newOrderEntities);
+
+        // 4. 수집 이벤트를 같은 트랜잭션에서 아웃박스에 기록
+        orderEventOutboxService.appendAll(newOrders.stream()
+                .map(pending -> new OrderCollectedEvent(pending.id(), tenantId, mkt, pending.order().getMarketplaceOrderId()))
+                .toList());
+
+        return newOrders.size();
+    }
+
+    private List<PendingOrder> claimOrderKeys(UUID tenantId, MarketplaceType mkt,
+                                              List<PendingOrder> unsorted, Timestamp nowTs) {
+        List<PendingOrder> candidates = unsorted.stream().sorted(ORDER_KEY_ORDER).toList();
+        List<PendingOrder> claimed = new ArrayList<>();
+        for (int i = 0; i < candidates.size(); i += BATCH_SIZE) {
+            List<PendingOrder> chunk = candidates.subList(i, Math.min(i + BATCH_SIZE, candidates.size()));
+
+            List<Object[]> batchArgs = new ArrayList<>(chunk.size());
+            for (PendingOrder pending : chunk) {
+                Order order = pending.order();
+                batchArgs.add(new Object[] {
+                        tenantId,
+                        mkt.name(),
+                        order.getMarketplaceOrderId(),
+                        productOrderKey(order),
+                        pending.id(),
+                        nowTs
+                });
+            }
+
+            int[] counts = jdbcTemplate.batchUpdate(INSERT_ORDER_KEY_SQL, batchArgs);
+            Set<UUID> unknown = new HashSet<>();
+            for (int j = 0; j < chunk.size(); j++) {
+                if (counts[j] > 0) {
+                    claimed.add(chunk.get(j));
+                } else if (counts[j] == Statement.SUCCESS_NO_INFO) {
+                    unknown.add(chunk.get(j).id());
+                }
+            }
+
+            // 드라이버가 행별 결과를 주지 않는 경우(reWriteBatchedInserts 등) 실제 저장된 키로 확인
+            if (!unknown.isEmpty()) {
+                Set<UUID> stored = new HashSet<>(jdbcTemplate.queryForList(
+                        "SELECT order_id FROM order_key WHERE order_id = ANY(?)",
+                        UUID.class, (Object) unknown.toArray(new UUID[0])));
+                for (PendingOrder pending : chunk) {
+                    if (stored.contains(pending.id())) {
+                        claimed.add(pending);
+                    }
+                }
+            }
+        }
+        return claimed;
+    }
+
+    private static String productOrderKey(Order order) {
+        return order.getMarketplaceProductOrderId() != null ? order.getMarketplaceProductOrderId() : "";
+    }
+
+    private void insertOrders(UUID tenantId, MarketplaceType mkt, List<PendingOrder> newOrders, Timestamp nowTs) {
+        List<Object[]> batchArgs = new ArrayList<>(newOrders.size());
+        for (PendingOrder pending : newOrders) {
+            Order order = pending.order();
+            batchArgs.add(new Object[] {
+                    pending.id(),
+                    tenantId,
+                    mkt.name(),
+                    order.getMarketplaceOrderId(),
+                    order.getMarketplaceProductOrderId(),
+                    order.getStatus() != null ? order.getStatus().name() : null,
+                    order.getMarketplaceStatus(),
+                    order.getPlaceOrderStatus(),
+                    order.getBuyerName(),
+                    order.getBuyerPhone(),
+                    order.getReceiverName(),
+                    order.getReceiverPhone(),
+                    order.getReceiverAddress(),
+                    order.getReceiverAddressBase(),
+                    order.getReceiverAddressDetail(),
+                    order.getReceiverZipcode(),
+                    order.getDeliveryMemo(),
+                    order.getTotalAmount(),
+                    order.getDeliveryFee(),
+                    order.getOrderedAt() != null ? Timestamp.valueOf(order.getOrderedAt()) : null,
+                    Boolean.TRUE.equals(order.getErpSynced()),
+                    order.getErpDocumentId(),
+                    order.getExpectedSettlementAmount(),
+                    order.getEstimatedDeliveryCommission(),
+                    Boolean.TRUE.equals(order.getSettlementCollected()),
+                    toJson(order.getRawData()),
+                    nowTs,
+                    nowTs
+            });
+        }
+        executeInChunks(INSERT_ORDER_SQL, batchArgs);
+    }
+
+    private void insertOrderItems(UUID tenantId, List<PendingOrder> newOrders, Timestamp nowTs) {
+        List<Object[]> batchArgs = new ArrayList<>();
+        for (PendingOrder pending : newOrders) {
+            if (pending.order().getItems() == null) {
+                continue;
+            }
+            for (OrderItem item : pending.order().getItems()) {
+                batchArgs.add(new Object[] {
+                        UUID.randomUUID(),
+                        pending.id(),
+                        tenantId,
+                        item.getProductName(),
+                        item.getOptionName(),
+                        item.getQuantity(),
+                        item.getUnitPrice(),
+                        item.getTotalPrice(),
+                        item.getMarketplaceProductId(),
+                        item.getMarketplaceSku(),
+                        item.getErpItemId(),
+                        item.getErpProdCd(),
+                        item.getErpWhCd(),
+                        item.getCommissionRate(),
+                        item.getExpectedSettlementAmount(),
+                        nowTs,
+                        nowTs
+                });
+            }
+        }
+        executeInChunks(INSERT_ORDER_ITEM_SQL, batchArgs);
+    }
+
+    private void executeInChunks(String sql, List<Object[]> batchArgs) {
+        for (int i = 0; i < batchArgs.size(); i += BATCH_SIZE) {
+            jdbcTemplate.batchUpdate(sql, batchArgs.subList(i, Math.min(i + BATCH_SIZE, batchArgs.size())));
+        }
+    }
+
+    private String toJson(Object value) {
+        if (value == null) {
+            return null;
+        }
+        try {
+            return objectMapper.writeValueAsString(value);
+        } catch (JsonProcessingException e) {
+            log.warn("Failed to serialize raw_data: {}", e.getMessage());
+            return null;
+        }
+    }
+}
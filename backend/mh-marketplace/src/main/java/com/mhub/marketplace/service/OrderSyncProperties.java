@@ -0,0 +1,25 @@
+package com.mhub.marketplace.service;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * 주문 동기화 워터마크 설정
+ * - overlap: 워터마크보다 이만큼 앞에서 조회를 시작 (마켓플레이스 반영 지연/시계 오차 대비, 중복은 order_key로 걸러짐)
+ * - maxLookback: 워터마크가 이보다 오래되었으면 이 범위까지만 조회 (장애 후 과도한 재조회 방지)
+ * - fullStatusSyncInterval: 상태 동기화를 변경분 조회로 하더라도 이 주기마다 미완료 주문 전체를 다시 확인
+ * - leaseTtl / leaseRenewInterval: credential 동기화 리스 유효 기간과 연장 주기 (인스턴스가 죽으면 leaseTtl 뒤 다른 인스턴스가 획득)
+ * - leaseWaitTimeout / leasePollInterval: 다른 인스턴스가 리스를 보유 중일 때 기다리는 최대 시간과 확인 주기
+ */
+@ConfigurationProperties(prefix = "order-sync")
+public record OrderSyncProperties(
+        @DefaultValue("10m") Duration overlap,
+        @DefaultValue("7d") Duration maxLookback,
+        @DefaultValue("6h") Duration fullStatusSyncInterval,
+        @DefaultValue("2m") Duration leaseTtl,
+        @DefaultValue("30s") Duration leaseRenewInterval,
+        @DefaultValue("5m") Duration leaseWaitTimeout,
+        @DefaultValue("2s") Duration leasePollInterval
+) {}
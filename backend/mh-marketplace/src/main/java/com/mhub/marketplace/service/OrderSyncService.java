@@ -4,28 +4,29 @@ import com.mhub.core.domain.entity.Order;
 import com.mhub.core.domain.entity.TenantMarketplaceCredential;
 import com.mhub.core.domain.enums.MarketplaceType;
 import com.mhub.core.domain.enums.OrderStatus;
-import com.mhub.core.domain.event.OrderCollectedEvent;
 import com.mhub.core.domain.event.OrderStatusChangedEvent;
 import com.mhub.core.domain.repository.OrderRepository;
-import com.mhub.core.service.ProductMappingService;
-import com.mhub.core.service.RateLimitService;
+import com.mhub.core.service.OrderEventOutboxService;
+import com.mhub.core.service.OrderStatsService;
 import com.mhub.marketplace.adapter.MarketplaceAdapter;
 import com.mhub.marketplace.adapter.coupang.CoupangAdapter;
 import com.mhub.marketplace.adapter.dto.OrderStatusInfo;
+import com.mhub.marketplace.service.SyncLeaseService.LeaseMode;
+import com.mhub.marketplace.service.SyncLeaseService.SyncLease;
+import com.mhub.marketplace.service.SyncWatermarkService.SyncStream;
+import com.mhub.marketplace.service.SyncWatermarkService.Watermark;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 import java.time.LocalDateTime;
-import java.util.ArrayList;
-import java.util.HashSet;
+import java.util.Comparator;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
 import java.util.Set;
 import java.util.UUID;
-import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.locks.ReentrantLock;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 
@@ -33,43 +34,57 @@ import java.util.stream.Collectors;
 public class OrderSyncService {
     private final MarketplaceAdapterFactory adapterFactory;
     private final OrderRepository orderRepository;
-    private final RateLimitService rateLimitService;
-    private final ProductMappingService productMappingService;
-    private final ApplicationEventPublisher eventPublisher;
+    private final OrderIngestionService orderIngestionService;
+    private final OrderStatsService orderStatsService;
+    private final SyncWatermarkService watermarkService;
+    private final OrderSyncProperties syncProperties;
+    private final SyncLeaseService leaseService;
+    private final TransactionTemplate transactionTemplate;
+    private final OrderEventOutboxService orderEventOutboxService;
 
-    // Credential별 락 - 동일 credential에 대한 동시 주문 수집 방지
-    private final ConcurrentHashMap<UUID, ReentrantLock> credentialLocks = new ConcurrentHashMap<>();
+    /**
+     * 주문 수집 - 마켓플레이스 API 조회는 트랜잭션 밖에서 수행하고 저장은 OrderIngestionService에 위임
+     * - 다른 인스턴스에서 같은 credential을 수집 중이면 끝날 때까지 기다린 뒤 요청한 구간을 직접 수집
+     *   (요청마다 조회 구간이 달라 실행 중인 수집 결과를 재사용할 수 없음)
+     */
+    public int syncOrders(TenantMarketplaceCredential credential, LocalDateTime from, LocalDateTime to) {
+        UUID tenantId = credential.getTenantId();
+        MarketplaceType mkt = credential.getMarketplaceType();
 
-    private ReentrantLock getCredentialLock(UUID credentialId) {
-        return credentialLocks.computeIfAbsent(credentialId, k -> new ReentrantLock());
+        return leaseService.runExclusive(credential, SyncStream.NEW_ORDERS, LeaseMode.WAIT,
+                lease -> doSyncOrders(credential, lease, tenantId, mkt, from, to));
     }
 
-    @Transactional
-    public int syncOrders(TenantMarketplaceCredential credential, LocalDateTime from, LocalDateTime to) {
+    /**
+     * 워터마크 기반 신규 주문 수집
+     * - (워터마크 - overlap) ~ 현재까지만 조회, 워터마크가 없으면 당일 00:00부터
+     * - 저장 트랜잭션이 커밋된 뒤에만 워터마크를 이번 조회 구간의 끝으로 전진 (조회/저장 실패 시 다음 실행에서 같은 구간 재조회)
+     * - 다른 인스턴스에서 이미 수집 중이면 새로 수집하지 않고 그 결과를 재사용 (SQS 재전달, 스케줄 중복 등)
+     */
+    public int syncNewOrders(TenantMarketplaceCredential credential) {
         UUID tenantId = credential.getTenantId();
         MarketplaceType mkt = credential.getMarketplaceType();
 
-        // Credential별 락 획득 - 동일 credential에 대한 동시 실행 방지
-        ReentrantLock lock = getCredentialLock(credential.getId());
-        if (!lock.tryLock()) {
-            log.info("Sync already in progress for credential={}, skipping", credential.getId());
-            return 0;
-        }
+        return leaseService.runExclusive(credential, SyncStream.NEW_ORDERS, LeaseMode.COALESCE, lease -> {
+            LocalDateTime to = LocalDateTime.now();
+            LocalDateTime from = watermarkService.find(credential.getId(), SyncStream.NEW_ORDERS)
+                    .map(w -> w.highWaterAt().minus(syncProperties.overlap()))
+                    .orElse(to.toLocalDate().atStartOfDay());
+            LocalDateTime floor = to.minus(syncProperties.maxLookback());
+            if (from.isBefore(floor)) {
+                log.warn("Order sync watermark for credential={} is older than {}, collecting from {}",
+                        credential.getId(), syncProperties.maxLookback(), floor);
+                from = floor;
+            }
 
-        try {
-            return doSyncOrders(credential, tenantId, mkt, from, to);
-        } finally {
-            lock.unlock();
-        }
+            int savedCount = doSyncOrders(credential, lease, tenantId, mkt, from, to);
+            watermarkService.advance(credential, SyncStream.NEW_ORDERS, to, false);
+            return savedCount;
+        });
     }
 
-    private int doSyncOrders(TenantMarketplaceCredential credential, UUID tenantId,
+    private int doSyncOrders(TenantMarketplaceCredential credential, SyncLease lease, UUID tenantId,
                              MarketplaceType mkt, LocalDateTime from, LocalDateTime to) {
-        if (!rateLimitService.tryAcquire(mkt, tenantId)) {
-            log.warn("Rate limited: tenant={} mkt={}", tenantId, mkt);
-            return -1;
-        }
-
         MarketplaceAdapter adapter = adapterFactory.getAdapter(mkt);
         List<Order> orders = adapter.collectOrders(credential, from, to);
 
@@ -78,7 +93,7 @@ public class OrderSyncService {
             return 0;
         }
 
-        // 1. 모든 주문에 tenantId 설정
+        // 모든 주문에 tenantId 설정
         for (Order order : orders) {
             order.setTenantId(tenantId);
             if (order.getItems() != null) {
@@ -86,83 +101,66 @@ public class OrderSyncService {
             }
         }
 
-        // 2. 기존 주문 존재 여부를 배치로 조회
-        List<String> orderKeys = orders.stream()
-                .map(o -> buildOrderKey(o.getMarketplaceOrderId(), o.getMarketplaceProductOrderId()))
-                .toList();
-
-        Set<String> existingKeys = new HashSet<>(
-                orderRepository.findExistingOrderKeys(tenantId, mkt, orderKeys)
-        );
-
-        // 3. 새 주문만 필터링
-        List<Order> newOrders = new ArrayList<>();
-        for (Order order : orders) {
-            String key = buildOrderKey(order.getMarketplaceOrderId(), order.getMarketplaceProductOrderId());
-            if (!existingKeys.contains(key)) {
-                newOrders.add(order);
-            }
-        }
-
-        if (newOrders.isEmpty()) {
-            log.info("No new orders for tenant={} mkt={} (all {} orders already exist)", tenantId, mkt, orders.size());
-            return 0;
-        }
-
-        // 4. 새 주문들에 자동 매핑 적용
-        for (Order order : newOrders) {
-            int mappedCount = productMappingService.applyAutoMapping(order, tenantId, mkt);
-            if (mappedCount > 0) {
-                log.debug("Auto-mapped {} items for order: {}", mappedCount, order.getMarketplaceOrderId());
-            }
+        // 새 주문 판별 + 배치 저장 (DB 쓰기 구간만 트랜잭션)
+        int savedCount = orderIngestionService.ingest(lease, tenantId, mkt, orders);
+        if (savedCount > 0) {
+            log.info("Synced {} new orders for tenant={} mkt={} (total collected: {})", savedCount, tenantId, mkt, orders.size());
         }
-
-        // 5. 배치 저장
-        List<Order> savedOrders = orderRepository.saveAll(newOrders);
-
-        // 6. 이벤트 발행
-        for (Order order : savedOrders) {
-            eventPublisher.publishEvent(new OrderCollectedEvent(order.getId(), tenantId, mkt, order.getMarketplaceOrderId()));
-        }
-
-        log.info("Synced {} new orders for tenant={} mkt={} (total collected: {})", newOrders.size(), tenantId, mkt, orders.size());
-        return newOrders.size();
-    }
-
-    private String buildOrderKey(String marketplaceOrderId, String marketplaceProductOrderId) {
-        return marketplaceOrderId + ":" + (marketplaceProductOrderId != null ? marketplaceProductOrderId : "");
+        return savedCount;
     }
 
     /**
      * 미완료 주문의 상태 업데이트
      * - DB에서 완료 상태가 아닌 주문 조회
      * - 마켓플레이스 API로 현재 상태 배치 조회
-     * - 상태 변경 시 DB 업데이트 및 이벤트 발행
+     * - 상태 변경 시 DB 업데이트 및 이벤트를 아웃박스에 기록
+     * - 상태 워터마크가 있으면 (워터마크 - overlap) 이후 변경분만 조회하고, fullStatusSyncInterval마다 전체 확인
+     *   워터마크는 상태 변경과 같은 트랜잭션에서 전진하므로 커밋된 경우에만 반영됨
+     * - credential 리스를 잡은 뒤 트랜잭션을 시작하고, 커밋 직전에 리스가 유효한지 확인
+     *   (다른 인스턴스에서 실행 중이면 끝날 때까지 기다렸다가 그 결과를 재사용)
      *
      * @param credential 마켓플레이스 인증 정보
      * @return 업데이트된 주문 수
      */
-    @Transactional
     public int updateOrderStatuses(TenantMarketplaceCredential credential) {
-        UUID tenantId = credential.getTenantId();
+        return leaseService.runExclusive(credential, SyncStream.ORDER_STATUS, LeaseMode.COALESCE,
+                lease -> Objects.requireNonNull(transactionTemplate.execute(status -> doUpdateOrderStatuses(credential, lease))));
+    }
+
+    private int doUpdateOrderStatuses(TenantMarketplaceCredential credential, SyncLease lease) {
         MarketplaceType mkt = credential.getMarketplaceType();
+        LocalDateTime startedAt = LocalDateTime.now();
+
+        // 변경분 조회 시작 시각 (null이면 전체 확인)
+        Optional<Watermark> watermark = watermarkService.find(credential.getId(), SyncStream.ORDER_STATUS);
+        boolean fullSync = watermark.isEmpty()
+                || watermark.get().lastFullSyncAt() == null
+                || watermark.get().lastFullSyncAt().isBefore(startedAt.minus(syncProperties.fullStatusSyncInterval()));
+        LocalDateTime changedSince = fullSync ? null : watermark.get().highWaterAt().minus(syncProperties.overlap());
 
         // 마켓플레이스별 분기
+        int updatedCount;
         if (mkt == MarketplaceType.NAVER) {
-            return updateNaverOrderStatuses(credential);
+            updatedCount = updateNaverOrderStatuses(credential, changedSince, startedAt);
         } else if (mkt == MarketplaceType.COUPANG) {
-            return updateCoupangOrderStatuses(credential);
+            updatedCount = updateCoupangOrderStatuses(credential, changedSince);
+        } else {
+            log.warn("Status update not supported for marketplace: {}", mkt);
+            return 0;
         }
 
-        log.warn("Status update not supported for marketplace: {}", mkt);
-        return 0;
+        leaseService.assertHeld(lease);
+        watermarkService.advance(credential, SyncStream.ORDER_STATUS, startedAt, fullSync);
+        return updatedCount;
     }
 
     /**
      * 네이버 주문 상태 업데이트
      * - product-orders/query API를 사용하여 배치로 상태 조회
+     * - changedSince가 있으면 last-changed-statuses로 그 이후 변경된 주문만 조회 대상으로 삼음
      */
-    private int updateNaverOrderStatuses(TenantMarketplaceCredential credential) {
+    private int updateNaverOrderStatuses(TenantMarketplaceCredential credential,
+                                         LocalDateTime changedSince, LocalDateTime changedUntil) {
         UUID tenantId = credential.getTenantId();
         MarketplaceType mkt = MarketplaceType.NAVER;
 
@@ -187,12 +185,23 @@ public class OrderSyncService {
         log.info("Found {} pending Naver orders to check status: tenant={}",
                 pendingOrders.size(), tenantId);
 
-        // 3. productOrderId 리스트 추출
+        // 3. productOrderId 리스트 추출 (변경분 조회 시 변경된 주문만)
+        Set<String> changedIds = changedSince != null
+                ? adapterFactory.getAdapter(mkt).findChangedProductOrderIds(credential, changedSince, changedUntil).orElse(null)
+                : null;
         List<String> productOrderIds = pendingOrders.stream()
                 .map(Order::getMarketplaceProductOrderId)
                 .filter(id -> id != null && !id.isEmpty())
+                .filter(id -> changedIds == null || changedIds.contains(id))
                 .toList();
 
+        if (changedIds != null) {
+            log.info("Naver orders changed since {}: {} of {} pending orders", changedSince, productOrderIds.size(), pendingOrders.size());
+            if (productOrderIds.isEmpty()) {
+                return 0;
+            }
+        }
+
         if (productOrderIds.isEmpty()) {
             log.warn("No valid productOrderIds found for pending Naver orders");
             return 0;
@@ -229,13 +238,14 @@ public class OrderSyncService {
                     OrderStatus oldStatus = order.getStatus();
                     order.setStatus(info.getStatus());
                     order.setMarketplaceStatus(info.getMarketplaceStatus());
+                    orderStatsService.recordStatusChange(order, oldStatus, info.getStatus());
                     updatedCount++;
 
                     log.debug("Naver order {} status changed: {} -> {}",
                             order.getMarketplaceProductOrderId(), oldStatus, info.getStatus());
 
-                    // 상태 변경 이벤트 발행
-                    eventPublisher.publishEvent(new OrderStatusChangedEvent(
+                    // 상태 변경 이벤트를 아웃박스에 기록
+                    orderEventOutboxService.append(new OrderStatusChangedEvent(
                             order.getId(), tenantId, oldStatus, info.getStatus(), "MARKETPLACE_SYNC"));
                 }
             }
@@ -247,10 +257,11 @@ public class OrderSyncService {
 
     /**
      * 쿠팡 주문 상태 업데이트
-     * - collectOrders로 7일치 조회 후 DB 미완료 주문과 비교 (정상 배송 흐름)
-     * - returnRequests API로 반품/취소 상태 조회 후 업데이트
+     * - collectOrders로 가장 오래된 미완료 주문의 주문일부터 조회 후 DB 미완료 주문과 비교 (정상 배송 흐름)
+     *   (쿠팡 발주서 API는 변경 시각 조회를 지원하지 않음)
+     * - returnRequests API로 반품/취소 상태 조회 후 업데이트 - changedSince가 있으면 그 이후 접수된 요청만 조회
      */
-    private int updateCoupangOrderStatuses(TenantMarketplaceCredential credential) {
+    private int updateCoupangOrderStatuses(TenantMarketplaceCredential credential, LocalDateTime changedSince) {
         UUID tenantId = credential.getTenantId();
         MarketplaceType mkt = MarketplaceType.COUPANG;
 
@@ -275,8 +286,13 @@ public class OrderSyncService {
         log.info("Found {} pending Coupang orders to check status: tenant={}",
                 pendingOrders.size(), tenantId);
 
-        // 3. 쿠팡 API로 7일치 주문 조회 (정상 배송 흐름)
-        LocalDateTime from = since;
+        // 3. 쿠팡 API로 미완료 주문이 걸쳐 있는 기간만 조회 (정상 배송 흐름)
+        LocalDateTime from = pendingOrders.stream()
+                .map(Order::getOrderedAt)
+                .filter(Objects::nonNull)
+                .min(Comparator.naturalOrder())
+                .filter(oldest -> oldest.isAfter(since))
+                .orElse(since);
         LocalDateTime to = LocalDateTime.now();
         MarketplaceAdapter adapter = adapterFactory.getAdapter(mkt);
         List<Order> marketplaceOrders = adapter.collectOrders(credential, from, to);
@@ -302,18 +318,20 @@ public class OrderSyncService {
                 OrderStatus oldStatus = dbOrder.getStatus();
                 dbOrder.setStatus(mktOrder.getStatus());
                 dbOrder.setMarketplaceStatus(mktOrder.getMarketplaceStatus());
+                orderStatsService.recordStatusChange(dbOrder, oldStatus, mktOrder.getStatus());
                 updatedCount++;
 
                 log.debug("Coupang order {} status changed: {} -> {}",
                         shipmentBoxId, oldStatus, mktOrder.getStatus());
 
-                eventPublisher.publishEvent(new OrderStatusChangedEvent(
+                orderEventOutboxService.append(new OrderStatusChangedEvent(
                         dbOrder.getId(), tenantId, oldStatus, mktOrder.getStatus(), "MARKETPLACE_SYNC"));
             }
         }
 
         // --- 반품/취소 요청으로 상태 업데이트 ---
-        updatedCount += updateCoupangReturnCancelStatuses(credential, pendingOrders, from, to, tenantId);
+        LocalDateTime claimFrom = changedSince != null && changedSince.isAfter(since) ? changedSince : since;
+        updatedCount += updateCoupangReturnCancelStatuses(credential, pendingOrders, claimFrom, to, tenantId);
 
         log.info("Updated {} Coupang order statuses: tenant={}", updatedCount, tenantId);
         return updatedCount;
@@ -390,12 +408,13 @@ public class OrderSyncService {
                 OrderStatus oldStatus = dbOrder.getStatus();
                 dbOrder.setStatus(newStatus);
                 dbOrder.setMarketplaceStatus(info.receiptStatus());
+                orderStatsService.recordStatusChange(dbOrder, oldStatus, newStatus);
                 updatedCount++;
 
                 log.debug("Coupang order {} status changed via {}: {} -> {}",
                         info.shipmentBoxId(), info.receiptType(), oldStatus, newStatus);
 
-                eventPublisher.publishEvent(new OrderStatusChangedEvent(
+                orderEventOutboxService.append(new OrderStatusChangedEvent(
                         dbOrder.getId(), tenantId, oldStatus, newStatus, "MARKETPLACE_SYNC"));
 
                 // 이미 업데이트한 주문은 맵에서 제거하여 중복 업데이트 방지
@@ -0,0 +1,263 @@
+package com.mhub.marketplace.service;
+
+import com.mhub.common.exception.BusinessException;
+import com.mhub.common.exception.ErrorCodes;
+import com.mhub.core.domain.entity.TenantMarketplaceCredential;
+import com.mhub.marketplace.service.SyncWatermarkService.SyncStream;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.lang.management.ManagementFactory;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.ToIntFunction;
+
+/**
+ * credential별 동기화 리스 락 (sync_lease)
+ * - 여러 인스턴스에서 같은 (credential, 동기화 종류)를 동시에 수집하지 않도록 DB 행으로 리스를 잡음
+ * - 시각은 모두 DB 시각(NOW()) 기준이라 인스턴스 간 시계 오차의 영향을 받지 않음
+ * - 획득할 때마다 새 펜싱 토큰을 발급하고, 쓰기 트랜잭션은 assertHeld로 토큰이 아직 유효한지 확인
+ *   (리스가 만료되어 다른 인스턴스가 가져간 뒤 늦게 끝난 수집은 커밋되지 않음)
+ *   확인은 잠금 없는 조회라 수집 중에도 리스 연장을 막지 않음
+ * - 보유 중에는 leaseRenewInterval마다 연장하여 오래 걸리는 수집 중 만료되지 않게 함
+ *   연장은 lock_timeout을 두어 한 리스 행이 잠겨 있어도 다른 credential의 연장이 밀리지 않게 함
+ * - 리스 획득/연장/해제는 별도 트랜잭션으로 즉시 커밋 (호출 측 트랜잭션과 무관하게 다른 인스턴스에 보임)
+ */
+@Slf4j
+@Service
+public class SyncLeaseService {
+
+    private static final String ACQUIRE_SQL =
+            "INSERT INTO sync_lease (credential_id, stream, tenant_id, fence_token, owner, acquired_at, lease_until) " +
+            "VALUES (?, ?, ?, nextval('sync_lease_fence_seq'), ?, NOW(), NOW() + ? * INTERVAL '1 millisecond') " +
+            "ON CONFLICT (credential_id, stream) DO UPDATE SET " +
+            "tenant_id = EXCLUDED.tenant_id, fence_token = EXCLUDED.fence_token, owner = EXCLUDED.owner, " +
+            "acquired_at = EXCLUDED.acquired_at, lease_until = EXCLUDED.lease_until, released_at = NULL, result_count = NULL " +
+            "WHERE sync_lease.lease_until <= NOW() " +
+            "RETURNING fence_token";
+
+    private static final String RENEW_LOCK_TIMEOUT = "2s";
+
+    /**
+     * 이미 실행 중인 동기화가 있을 때의 처리 방식
+     */
+    public enum LeaseMode {
+        /** 기다리지 않고 0 반환 */
+        SKIP,
+        /** 리스가 풀릴 때까지 기다린 뒤 직접 실행 (조회 구간이 요청마다 다른 경우) */
+        WAIT,
+        /** 실행 중인 동기화가 끝날 때까지 기다렸다가 그 결과를 재사용 (실패했거나 결과가 없으면 직접 실행) */
+        COALESCE
+    }
+
+    /**
+     * 보유 중인 리스
+     *
+     * @param fenceToken 이번 획득의 펜싱 토큰 (획득할 때마다 증가)
+     */
+    public record SyncLease(UUID credentialId, SyncStream stream, long fenceToken) {}
+
+    private record LeaseState(long fenceToken, boolean active, boolean released, Integer resultCount) {}
+
+    private final JdbcTemplate jdbcTemplate;
+    private final OrderSyncProperties properties;
+    private final TransactionTemplate leaseTransaction;
+    private final String owner = ManagementFactory.getRuntimeMXBean().getName();
+    private final ScheduledExecutorService renewScheduler = Executors.newSingleThreadScheduledExecutor(
+            Thread.ofPlatform().name("sync-lease-renew").daemon().factory());
+
+    public SyncLeaseService(JdbcTemplate jdbcTemplate, OrderSyncProperties properties,
+                            PlatformTransactionManager transactionManager) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.properties = properties;
+        this.leaseTransaction = new TransactionTemplate(transactionManager);
+        this.leaseTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    /**
+     * 리스를 잡고 작업 실행 - 다른 인스턴스가 보유 중이면 mode에 따라 건너뛰기/대기/결과 재사용
+     *
+     * @param task 리스를 보유한 동안 실행할 작업 (쓰기 트랜잭션에서 assertHeld로 리스 확인)
+     * @return 작업 결과 (SKIP으로 건너뛰면 0, COALESCE로 합류하면 실행 중이던 동기화의 결과)
+     */
+    public int runExclusive(TenantMarketplaceCredential credential, SyncStream stream, LeaseMode mode,
+                            ToIntFunction<SyncLease> task) {
+        Optional<SyncLease> lease = tryAcquire(credential, stream);
+        if (lease.isPresent()) {
+            return runHeld(lease.get(), task);
+        }
+        if (mode == LeaseMode.SKIP) {
+            log.info("{} sync already in progress for credential={}, skipping", stream, credential.getId());
+            return 0;
+        }
+
+        Long awaitedToken = mode == LeaseMode.COALESCE
+                ? findState(credential.getId(), stream).map(LeaseState::fenceToken).orElse(null)
+                : null;
+        log.info("{} sync already in progress for credential={}, waiting ({})", stream, credential.getId(), mode);
+
+        long deadline = System.nanoTime() + properties.leaseWaitTimeout().toNanos();
+        while (System.nanoTime() < deadline) {
+            sleep(properties.leasePollInterval().toMillis());
+
+            if (mode == LeaseMode.COALESCE) {
+                Optional<LeaseState> state = findState(credential.getId(), stream);
+                if (state.isPresent()) {
+                    LeaseState current = state.get();
+                    if (awaitedToken != null && current.fenceToken() == awaitedToken
+                            && current.released() && current.resultCount() != null) {
+                        log.info("Reusing {} sync result of lease #{} for credential={}: {}",
+                                stream, awaitedToken, credential.getId(), current.resultCount());
+                        return current.resultCount();
+                    }
+                    // 기다리던 동기화가 끝나고 다른 인스턴스가 다시 잡았으면 그 동기화에 합류
+                    if (current.active()) {
+                        awaitedToken = current.fenceToken();
+                        continue;
+                    }
+                }
+            }
+
+            lease = tryAcquire(credential, stream);
+            if (lease.isPresent()) {
+                return runHeld(lease.get(), task);
+            }
+        }
+
+        throw new BusinessException(ErrorCodes.MARKETPLACE_SYNC_IN_PROGRESS,
+                stream + " sync is still running for credential " + credential.getId());
+    }
+
+    /**
+     * 쓰기 트랜잭션 안에서 호출 - 리스가 아직 이 토큰으로 유효한지 지금 확인하고, 커밋 직전에 한 번 더 확인
+     * - 행을 잠그지 않으므로 확인 뒤 작업이 길어져도 리스 연장을 막지 않음
+     * - 만료까지 leaseRenewInterval 이상 남아 있어야 유효로 봄: 정상 연장 중이면 항상 leaseTtl - leaseRenewInterval 이상
+     *   남아 있고, 다른 인스턴스는 만료 후에만 가져갈 수 있으므로 확인부터 커밋까지 그 안에 끝나면 리스를 뺏긴 채 커밋되지 않음
+     */
+    public void assertHeld(SyncLease lease) {
+        checkHeld(lease);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void beforeCommit(boolean readOnly) {
+                    checkHeld(lease);
+                }
+            });
+        }
+    }
+
+    private void checkHeld(SyncLease lease) {
+        List<Long> held = jdbcTemplate.queryForList(
+                "SELECT fence_token FROM sync_lease WHERE credential_id = ? AND stream = ? AND fence_token = ? " +
+                "AND released_at IS NULL AND lease_until > NOW() + ? * INTERVAL '1 millisecond'",
+                Long.class, lease.credentialId(), lease.stream().name(), lease.fenceToken(),
+                properties.leaseRenewInterval().toMillis());
+        if (held.isEmpty()) {
+            throw new BusinessException(ErrorCodes.MARKETPLACE_SYNC_LEASE_LOST,
+                    lease.stream() + " sync lease #" + lease.fenceToken() + " for credential "
+                            + lease.credentialId() + " is no longer held");
+        }
+    }
+
+    private int runHeld(SyncLease lease, ToIntFunction<SyncLease> task) {
+        long renewMillis = properties.leaseRenewInterval().toMillis();
+        ScheduledFuture<?> renewal = renewScheduler.scheduleAtFixedRate(
+                () -> renew(lease), renewMillis, renewMillis, TimeUnit.MILLISECONDS);
+        Integer result = null;
+        try {
+            result = task.applyAsInt(lease);
+            return result;
+        } finally {
+            renewal.cancel(false);
+            release(lease, result);
+        }
+    }
+
+    private Optional<SyncLease> tryAcquire(TenantMarketplaceCredential credential, SyncStream stream) {
+        List<Long> tokens = leaseTransaction.execute(status -> jdbcTemplate.queryForList(ACQUIRE_SQL, Long.class,
+                credential.getId(), stream.name(), credential.getTenantId(), owner, properties.leaseTtl().toMillis()));
+        if (tokens == null || tokens.isEmpty()) {
+            return Optional.empty();
+        }
+        SyncLease lease = new SyncLease(credential.getId(), stream, tokens.get(0));
+        log.debug("Acquired {} sync lease #{} for credential={}", stream, lease.fenceToken(), credential.getId());
+        return Optional.of(lease);
+    }
+
+    /**
+     * 리스 연장 - 모든 리스를 연장 스레드 하나가 처리하므로 행 잠금을 기다리지 않음
+     * (잠금 대기가 RENEW_LOCK_TIMEOUT을 넘으면 이번 연장은 건너뛰고 다음 주기에 다시 시도)
+     */
+    private void renew(SyncLease lease) {
+        try {
+            Integer updated = leaseTransaction.execute(status -> {
+                jdbcTemplate.execute("SET LOCAL lock_timeout = '" + RENEW_LOCK_TIMEOUT + "'");
+                return jdbcTemplate.update(
+                        "UPDATE sync_lease SET lease_until = NOW() + ? * INTERVAL '1 millisecond' " +
+                        "WHERE credential_id = ? AND stream = ? AND fence_token = ? AND released_at IS NULL",
+                        properties.leaseTtl().toMillis(), lease.credentialId(), lease.stream().name(), lease.fenceToken());
+            });
+            if (updated == null || updated == 0) {
+                log.warn("{} sync lease #{} for credential={} was lost before renewal",
+                        lease.stream(), lease.fenceToken(), lease.credentialId());
+            }
+        } catch (Exception e) {
+            log.warn("Failed to renew {} sync lease #{} for credential={}: {}",
+                    lease.stream(), lease.fenceToken(), lease.credentialId(), e.getMessage());
+        }
+    }
+
+    /**
+     * 리스 해제 - 작업이 실패했으면 result_count를 비워 대기 중인 요청이 직접 실행하도록 함
+     */
+    private void release(SyncLease lease, Integer result) {
+        try {
+            leaseTransaction.executeWithoutResult(status -> jdbcTemplate.update(
+                    "UPDATE sync_lease SET lease_until = NOW(), released_at = NOW(), result_count = ? " +
+                    "WHERE credential_id = ? AND stream = ? AND fence_token = ?",
+                    result, lease.credentialId(), lease.stream().name(), lease.fenceToken()));
+        } catch (Exception e) {
+            // 해제하지 못해도 leaseTtl 뒤 만료되므로 다음 실행에서 다시 획득 가능
+            log.warn("Failed to release {} sync lease #{} for credential={}: {}",
+                    lease.stream(), lease.fenceToken(), lease.credentialId(), e.getMessage());
+        }
+    }
+
+    private Optional<LeaseState> findState(UUID credentialId, SyncStream stream) {
+        return jdbcTemplate.query(
+                "SELECT fence_token, lease_until > NOW() AS active, released_at IS NOT NULL AS released, result_count " +
+                "FROM sync_lease WHERE credential_id = ? AND stream = ?",
+                (rs, rowNum) -> new LeaseState(
+                        rs.getLong("fence_token"),
+                        rs.getBoolean("active"),
+                        rs.getBoolean("released"),
+                        (Integer) rs.getObject("result_count")),
+                credentialId, stream.name()).stream().findFirst();
+    }
+
+    private void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new BusinessException(ErrorCodes.MARKETPLACE_SYNC_IN_PROGRESS, "Interrupted while waiting for sync lease");
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        renewScheduler.shutdownNow();
+    }
+}
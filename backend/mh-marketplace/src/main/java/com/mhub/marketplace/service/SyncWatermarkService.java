@@ -0,0 +1,68 @@
+package com.mhub.marketplace.service;
+
+import com.mhub.core.domain.entity.TenantMarketplaceCredential;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * credential별 동기화 워터마크 (marketplace_sync_watermark)
+ * - 호출 측 트랜잭션에 참여하므로, 동기화 결과와 같은 트랜잭션에서 advance하면 커밋될 때만 워터마크가 전진
+ * - high_water_at은 GREATEST로만 갱신되어 늦게 끝난 이전 실행이 워터마크를 되돌리지 않음
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class SyncWatermarkService {
+
+    private static final String UPSERT_SQL =
+            "INSERT INTO marketplace_sync_watermark (credential_id, stream, tenant_id, high_water_at, last_full_sync_at, updated_at) " +
+            "VALUES (?, ?, ?, ?, ?, NOW()) " +
+            "ON CONFLICT (credential_id, stream) DO UPDATE SET " +
+            "high_water_at = GREATEST(marketplace_sync_watermark.high_water_at, EXCLUDED.high_water_at), " +
+            "last_full_sync_at = COALESCE(EXCLUDED.last_full_sync_at, marketplace_sync_watermark.last_full_sync_at), " +
+            "updated_at = NOW()";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public enum SyncStream {
+        /** 신규 주문 수집 */
+        NEW_ORDERS,
+        /** 주문 상태 동기화 */
+        ORDER_STATUS
+    }
+
+    public record Watermark(LocalDateTime highWaterAt, LocalDateTime lastFullSyncAt) {}
+
+    public Optional<Watermark> find(UUID credentialId, SyncStream stream) {
+        return jdbcTemplate.query(
+                "SELECT high_water_at, last_full_sync_at FROM marketplace_sync_watermark " +
+                "WHERE credential_id = ? AND stream = ?",
+                (rs, rowNum) -> new Watermark(
+                        rs.getTimestamp("high_water_at").toLocalDateTime(),
+                        rs.getTimestamp("last_full_sync_at") != null
+                                ? rs.getTimestamp("last_full_sync_at").toLocalDateTime() : null),
+                credentialId, stream.name()).stream().findFirst();
+    }
+
+    /**
+     * 워터마크 전진
+     *
+     * @param highWaterAt 이번 동기화에서 빠짐없이 반영된 구간의 끝 시각
+     * @param fullSync    전체 조회로 동기화했으면 true (last_full_sync_at도 highWaterAt으로 갱신)
+     */
+    public void advance(TenantMarketplaceCredential credential, SyncStream stream,
+                        LocalDateTime highWaterAt, boolean fullSync) {
+        Timestamp highWater = Timestamp.valueOf(highWaterAt);
+        jdbcTemplate.update(UPSERT_SQL,
+                credential.getId(), stream.name(), credential.getTenantId(), highWater, fullSync ? highWater : null);
+        log.debug("Advanced {} watermark for credential {} to {} (fullSync={})",
+                stream, credential.getId(), highWaterAt, fullSync);
+    }
+}
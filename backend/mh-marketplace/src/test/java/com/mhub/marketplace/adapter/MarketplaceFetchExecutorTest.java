@@ -0,0 +1,114 @@
+package com.mhub.marketplace.adapter;
+
+import com.mhub.common.exception.BusinessException;
+import com.mhub.common.exception.ErrorCodes;
+import com.mhub.core.tenant.TenantContext;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.List;
+import java.util.Random;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class MarketplaceFetchExecutorTest {
+
+    private final MarketplaceFetchExecutor executor = new MarketplaceFetchExecutor();
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdown();
+        TenantContext.clear();
+    }
+
+    @Test
+    void parallelResultsMatchSequentialOrderWithinConcurrencyLimit() {
+        List<Integer> slices = IntStream.range(0, 30).boxed().toList();
+        AtomicInteger running = new AtomicInteger();
+        AtomicInteger maxRunning = new AtomicInteger();
+        Random random = new Random(7);
+        List<Integer> delays = slices.stream().map(i -> random.nextInt(30)).toList();
+
+        MarketplaceFetchExecutor.SliceFetcher<Integer, List<String>> fetcher = slice -> {
+            maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+            try {
+                // 늦게 시작한 구간이 먼저 끝나도록 구간마다 다른 지연
+                Thread.sleep(delays.get(slice));
+                return List.of(slice + "-a", slice + "-b");
+            } finally {
+                running.decrementAndGet();
+            }
+        };
+
+        List<List<String>> sequential = executor.fetchAll(slices, 1, fetcher);
+        assertThat(maxRunning.get()).isEqualTo(1);
+
+        maxRunning.set(0);
+        List<List<String>> parallel = executor.fetchAll(slices, 4, fetcher);
+
+        assertThat(parallel).isEqualTo(sequential);
+        assertThat(maxRunning.get()).isBetween(2, 4);
+    }
+
+    @Test
+    void slicesRunWithCallerTenant() {
+        UUID tenantId = UUID.randomUUID();
+        TenantContext.setTenantId(tenantId);
+
+        List<UUID> tenants = executor.fetchAll(List.of(1, 2, 3, 4, 5), 2, slice -> TenantContext.getTenantId());
+
+        assertThat(tenants).containsOnly(tenantId);
+        assertThat(TenantContext.getTenantId()).isEqualTo(tenantId);
+    }
+
+    @Test
+    void firstFailureCancelsRunningAndPendingSlices() throws Exception {
+        BusinessException failure = new BusinessException(ErrorCodes.MARKETPLACE_API_ERROR, "slice 1 failed");
+        CountDownLatch slowSliceInterrupted = new CountDownLatch(1);
+        AtomicInteger completed = new AtomicInteger();
+        AtomicInteger started = new AtomicInteger();
+
+        long start = System.nanoTime();
+        // 0번 구간이 오래 걸려도 1번 구간의 실패를 기다리지 않고 전파
+        assertThatThrownBy(() -> executor.fetchAll(IntStream.range(0, 10).boxed().toList(), 2, slice -> {
+            started.incrementAndGet();
+            if (slice == 1) {
+                Thread.sleep(50);
+                throw failure;
+            }
+            try {
+                Thread.sleep(5_000);
+            } catch (InterruptedException e) {
+                if (slice == 0) {
+                    slowSliceInterrupted.countDown();
+                }
+                throw e;
+            }
+            completed.incrementAndGet();
+            return slice;
+        })).isSameAs(failure);
+
+        assertThat(Duration.ofNanos(System.nanoTime() - start)).isLessThan(Duration.ofSeconds(2));
+        assertThat(slowSliceInterrupted.await(2, TimeUnit.SECONDS)).isTrue();
+        Thread.sleep(200);
+        assertThat(completed.get()).isZero();
+        assertThat(started.get()).isLessThan(10);
+    }
+
+    @Test
+    void checkedFailureIsWrappedAsMarketplaceError() {
+        assertThatThrownBy(() -> executor.fetchAll(List.of(1), 1, slice -> {
+            throw new IOException("connection reset");
+        }))
+                .isInstanceOf(BusinessException.class)
+                .hasMessageContaining("connection reset");
+    }
+}
@@ -0,0 +1,279 @@
+package com.mhub.marketplace.adapter.coupang;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.github.tomakehurst.wiremock.WireMockServer;
+import com.mhub.core.domain.entity.Order;
+import com.mhub.core.domain.entity.TenantMarketplaceCredential;
+import com.mhub.core.domain.enums.MarketplaceType;
+import com.mhub.core.service.RateLimitService;
+import com.mhub.marketplace.adapter.MarketplaceFetchExecutor;
+import com.mhub.marketplace.config.MarketplaceConfig;
+import org.apache.http.impl.client.CloseableHttpClient;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.reactive.function.client.WebClient;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static com.github.tomakehurst.wiremock.client.WireMock.equalTo;
+import static com.github.tomakehurst.wiremock.client.WireMock.get;
+import static com.github.tomakehurst.wiremock.client.WireMock.getRequestedFor;
+import static com.github.tomakehurst.wiremock.client.WireMock.okJson;
+import static com.github.tomakehurst.wiremock.client.WireMock.urlPathEqualTo;
+import static com.github.tomakehurst.wiremock.core.WireMockConfiguration.options;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+/**
+ * 주문 수집 - (일자 × 상태) 구간 병렬 수집이 순차 수집과 같은 결과를 내는지, 공유 커넥션 풀이 연결을 재사용하는지 확인
+ * - 연결 수는 WireMock 앞에 둔 TCP 프록시에서 accept 횟수로 센다.
+ */
+class CoupangAdapterTest {
+
+    private static final String VENDOR_ID = "A00012345";
+    private static final String ORDERS_PATH = "/v2/providers/openapi/apis/api/v5/vendors/" + VENDOR_ID + "/ordersheets";
+    private static final List<String> STATUSES = List.of(
+            "ACCEPT", "INSTRUCT", "DEPARTURE", "DELIVERING", "FINAL_DELIVERY", "NONE_TRACKING");
+    private static final LocalDate FROM = LocalDate.of(2026, 3, 14);
+    private static final int DAYS = 3;
+
+    private static WireMockServer wireMock;
+    private static CountingProxy proxy;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final MarketplaceFetchExecutor fetchExecutor = new MarketplaceFetchExecutor();
+    private final List<CloseableHttpClient> httpClients = new ArrayList<>();
+    private TenantMarketplaceCredential credential;
+
+    @BeforeAll
+    static void startServers() throws IOException {
+        wireMock = new WireMockServer(options().dynamicPort());
+        wireMock.start();
+        proxy = new CountingProxy(wireMock.port());
+    }
+
+    @AfterAll
+    static void stopServers() throws IOException {
+        proxy.close();
+        wireMock.stop();
+    }
+
+    @BeforeEach
+    void setUp() {
+        wireMock.resetAll();
+        credential = TenantMarketplaceCredential.builder()
+                .tenantId(UUID.randomUUID())
+                .marketplaceType(MarketplaceType.COUPANG)
+                .sellerId(VENDOR_ID)
+                .clientId("access-key")
+                .clientSecret("secret-key")
+                .build();
+        ReflectionTestUtils.setField(credential, "id", UUID.randomUUID());
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        for (CloseableHttpClient client : httpClients) {
+            client.close();
+        }
+        fetchExecutor.shutdown();
+    }
+
+    @Test
+    void parallelCollectionMatchesSequentialIncludingDedupe() {
+        Map<String, String> expected = stubOrderSheets(new Random(42));
+
+        List<Order> sequential = adapter("http://localhost:" + wireMock.port(), 1, 20).collectOrders(credential,
+                FROM.atStartOfDay(), FROM.plusDays(DAYS - 1).atTime(23, 59));
+        List<Order> parallel = adapter("http://localhost:" + wireMock.port(), 6, 20).collectOrders(credential,
+                FROM.atStartOfDay(), FROM.plusDays(DAYS - 1).atTime(23, 59));
+
+        // 상태가 바뀐 배송건은 뒤 상태 구간의 결과가 남고, 순서는 처음 나타난 구간 기준
+        assertThat(summarize(sequential)).containsExactlyElementsOf(expected.entrySet());
+        assertThat(summarize(parallel)).containsExactlyElementsOf(expected.entrySet());
+        assertThat(parallel).extracting(Order::getTenantId).containsOnly(credential.getTenantId());
+        // 구간마다 2페이지
+        wireMock.verify(2 * 2 * DAYS * STATUSES.size(), getRequestedFor(urlPathEqualTo(ORDERS_PATH)));
+    }
+
+    @Test
+    void pooledClientReusesConnectionsAcrossSlicesAndCalls() {
+        stubOrderSheets(new Random(7));
+        int concurrency = 4;
+        CoupangAdapter adapter = adapter("http://localhost:" + proxy.port(), concurrency, concurrency);
+        proxy.reset();
+
+        for (int i = 0; i < 3; i++) {
+            assertThat(adapter.collectOrders(credential, FROM.atStartOfDay(), FROM.plusDays(DAYS - 1).atTime(23, 59)))
+                    .isNotEmpty();
+        }
+
+        int requests = wireMock.getAllServeEvents().size();
+        assertThat(requests).isEqualTo(3 * 2 * DAYS * STATUSES.size());
+        // 요청마다 새 연결을 맺으면 connections == requests
+        assertThat(proxy.connections()).isBetween(1, concurrency);
+    }
+
+    private CoupangAdapter adapter(String baseUrl, int orderCollectConcurrency, int maxPerRoute) {
+        CoupangApiProperties props = new CoupangApiProperties(baseUrl, 50, maxPerRoute,
+                Duration.ofSeconds(5), Duration.ofSeconds(10), Duration.ofSeconds(5),
+                Duration.ofSeconds(30), Duration.ofSeconds(60), orderCollectConcurrency);
+        CloseableHttpClient httpClient = new MarketplaceConfig().coupangHttpClient(props);
+        httpClients.add(httpClient);
+        return new CoupangAdapter(WebClient.builder(), objectMapper, httpClient, props, fetchExecutor,
+                mock(RateLimitService.class), new CoupangSigner());
+    }
+
+    /**
+     * 구간마다 2페이지(nextToken) 응답을 임의 지연과 함께 등록하고, 순차 수집 시 기대되는 (shipmentBoxId → 상태)를 반환
+     * - 각 일자의 일부 배송건은 다음 상태 구간에도 나타나도록 하여 중복 제거를 검증
+     */
+    private Map<String, String> stubOrderSheets(Random random) {
+        Map<String, String> expected = new LinkedHashMap<>();
+        for (int day = 0; day < DAYS; day++) {
+            String dateParam = FROM.plusDays(day) + "+09:00";
+            for (int s = 0; s < STATUSES.size(); s++) {
+                String status = STATUSES.get(s);
+                List<List<Long>> pages = List.of(new ArrayList<>(), new ArrayList<>());
+                for (int n = 0; n < 3; n++) {
+                    pages.get(n % 2).add(shipmentBoxId(day, s, n));
+                }
+                // 이전 상태 구간의 첫 배송건이 이 상태로 바뀜
+                if (s > 0) {
+                    pages.get(1).add(shipmentBoxId(day, s - 1, 0));
+                }
+                for (int page = 0; page < 2; page++) {
+                    String token = page == 0 ? "" : "page-2";
+                    String nextToken = page == 0 ? "page-2" : null;
+                    wireMock.stubFor(get(urlPathEqualTo(ORDERS_PATH))
+                            .withQueryParam("createdAtFrom", equalTo(dateParam))
+                            .withQueryParam("createdAtTo", equalTo(dateParam))
+                            .withQueryParam("status", equalTo(status))
+                            .withQueryParam("nextToken", equalTo(token))
+                            .withHeader("X-Requested-By", equalTo(VENDOR_ID))
+                            .willReturn(okJson(orderSheetPage(pages.get(page), status, nextToken))
+                                    .withFixedDelay(random.nextInt(25))));
+                    for (Long id : pages.get(page)) {
+                        expected.put(String.valueOf(id), status);
+                    }
+                }
+            }
+        }
+        return expected;
+    }
+
+    private static long shipmentBoxId(int day, int statusIndex, int n) {
+        return 1_000_000L + day * 10_000L + statusIndex * 100L + n;
+    }
+
+    private String orderSheetPage(List<Long> shipmentBoxIds, String status, String nextToken) {
+        ObjectNode root = objectMapper.createObjectNode();
+        root.put("code", 200);
+        root.put("message", "OK");
+        root.put("nextToken", nextToken);
+        ArrayNode data = root.putArray("data");
+        for (Long id : shipmentBoxIds) {
+            ObjectNode box = data.addObject();
+            box.put("shipmentBoxId", id);
+            box.put("orderId", id + 500_000_000L);
+            box.put("status", status);
+            box.putObject("orderer").put("name", "주문자" + id);
+            box.putObject("receiver").put("name", "수령인" + id).put("addr1", "서울시").put("addr2", "101호");
+            box.putObject("shippingPrice").put("units", 3000);
+            box.put("orderedAt", "2026-03-14T10:00:00");
+            ObjectNode item = box.putArray("orderItems").addObject();
+            item.put("vendorItemName", "상품" + id);
+            item.put("shippingCount", 1);
+            item.putObject("salesPrice").put("units", 10000);
+            item.putObject("orderPrice").put("units", 10000);
+            item.put("productId", 77L);
+            item.put("vendorItemId", id + 1);
+        }
+        return root.toString();
+    }
+
+    private static List<Map.Entry<String, String>> summarize(List<Order> orders) {
+        return orders.stream()
+                .map(order -> Map.entry(order.getMarketplaceProductOrderId(), order.getMarketplaceStatus()))
+                .toList();
+    }
+
+    /**
+     * 받은 TCP 연결 수를 세며 대상 포트로 바이트를 그대로 중계하는 프록시
+     */
+    private static final class CountingProxy implements AutoCloseable {
+
+        private final ServerSocket serverSocket;
+        private final AtomicInteger connections = new AtomicInteger();
+
+        CountingProxy(int targetPort) throws IOException {
+            serverSocket = new ServerSocket(0, 50, InetAddress.getLoopbackAddress());
+            Thread.ofVirtual().start(() -> {
+                while (!serverSocket.isClosed()) {
+                    try {
+                        Socket client = serverSocket.accept();
+                        connections.incrementAndGet();
+                        Socket upstream = new Socket(InetAddress.getLoopbackAddress(), targetPort);
+                        Thread.ofVirtual().start(() -> pipe(client, upstream));
+                        Thread.ofVirtual().start(() -> pipe(upstream, client));
+                    } catch (IOException e) {
+                        // 종료 시 accept 중단
+                    }
+                }
+            });
+        }
+
+        int port() {
+            return serverSocket.getLocalPort();
+        }
+
+        int connections() {
+            return connections.get();
+        }
+
+        void reset() {
+            connections.set(0);
+        }
+
+        private static void pipe(Socket from, Socket to) {
+            try (InputStream in = from.getInputStream(); OutputStream out = to.getOutputStream()) {
+                in.transferTo(out);
+            } catch (IOException e) {
+                // 한쪽이 닫히면 중계 종료
+            } finally {
+                try {
+                    from.close();
+                    to.close();
+                } catch (IOException ignored) {
+                    // 이미 닫힘
+                }
+            }
+        }
+
+        @Override
+        public void close() throws IOException {
+            serverSocket.close();
+        }
+    }
+}
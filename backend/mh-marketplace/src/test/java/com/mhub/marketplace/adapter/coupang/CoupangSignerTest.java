@@ -0,0 +1,63 @@
+package com.mhub.marketplace.adapter.coupang;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 고정 벡터 - RFC 4231 test case 2와, 쿠팡 서명 메시지 형식으로 openssl dgst -sha256 -hmac으로 계산한 값
+ */
+class CoupangSignerTest {
+
+    private static final Instant SIGNED_AT = Instant.parse("2026-03-16T01:30:45Z");
+    private static final String ORDERS_PATH = "/v2/providers/openapi/apis/api/v4/vendors/A00012345/ordersheets";
+    private static final String ORDERS_QUERY = "createdAtFrom=2026-03-15&createdAtTo=2026-03-16&status=ACCEPT";
+    private static final String ORDERS_SIGNATURE = "5de5b4b07cdac7cef3a8c4018de5ddada77cefbb4288f8cb466d6d2835e4a1fe";
+    private static final String PRODUCTS_PATH = "/v2/providers/seller_api/apis/api/v1/marketplace/seller-products";
+    private static final String PRODUCTS_SIGNATURE = "ccbf57f7f5d636daa99ad7fbe2fb9fa2155062eb968f552603a8f904db2dc090";
+
+    private final CoupangSigner signer = new CoupangSigner();
+
+    @Test
+    void signMatchesRfc4231Vector() {
+        assertThat(signer.sign("Jefe", "what do ya want for nothing?"))
+                .isEqualTo("5bdcc146bf60754e6a042426089575c75a003f089d2739839dec58b964ec3843");
+    }
+
+    @Test
+    void authorizationSignsDateMethodPathAndQuery() {
+        // 시크릿 키는 UTF-8 바이트로 사용
+        assertThat(signer.authorization("access-1", "test-secret-키", "GET", ORDERS_PATH, ORDERS_QUERY, SIGNED_AT))
+                .isEqualTo("CEA algorithm=HmacSHA256, access-key=access-1, signed-date=260316T013045Z, signature="
+                        + ORDERS_SIGNATURE);
+        assertThat(signer.authorization("access-2", "other-secret", "POST", PRODUCTS_PATH, "", SIGNED_AT))
+                .isEqualTo("CEA algorithm=HmacSHA256, access-key=access-2, signed-date=260316T013045Z, signature="
+                        + PRODUCTS_SIGNATURE);
+    }
+
+    @Test
+    void cachedMacGivesSameSignatureOnRepeatedAndConcurrentCalls() throws Exception {
+        // 같은 키의 Mac을 복제해 쓰므로 이전 호출의 상태가 다음 서명에 섞이지 않아야 함
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            List<Future<Boolean>> results = new ArrayList<>();
+            for (int i = 0; i < 2_000; i++) {
+                boolean orders = i % 2 == 0;
+                results.add(executor.submit(() -> orders
+                        ? signer.authorization("access-1", "test-secret-키", "GET", ORDERS_PATH, ORDERS_QUERY, SIGNED_AT)
+                                .endsWith(ORDERS_SIGNATURE)
+                        : signer.authorization("access-2", "other-secret", "POST", PRODUCTS_PATH, "", SIGNED_AT)
+                                .endsWith(PRODUCTS_SIGNATURE)));
+            }
+            for (Future<Boolean> result : results) {
+                assertThat(result.get()).isTrue();
+            }
+        }
+    }
+}
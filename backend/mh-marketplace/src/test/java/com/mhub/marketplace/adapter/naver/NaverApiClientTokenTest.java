@@ -0,0 +1,226 @@
+package com.mhub.marketplace.adapter.naver;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.tomakehurst.wiremock.WireMockServer;
+import com.github.tomakehurst.wiremock.client.ResponseDefinitionBuilder;
+import com.mhub.core.crypto.AesEncryptor;
+import com.mhub.core.crypto.EncryptionProperties;
+import com.mhub.core.domain.entity.TenantMarketplaceCredential;
+import com.mhub.core.domain.enums.MarketplaceType;
+import com.mhub.core.service.RateLimitService;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.reactive.function.client.WebClient;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static com.github.tomakehurst.wiremock.client.WireMock.aResponse;
+import static com.github.tomakehurst.wiremock.client.WireMock.equalTo;
+import static com.github.tomakehurst.wiremock.client.WireMock.get;
+import static com.github.tomakehurst.wiremock.client.WireMock.getRequestedFor;
+import static com.github.tomakehurst.wiremock.client.WireMock.okJson;
+import static com.github.tomakehurst.wiremock.client.WireMock.post;
+import static com.github.tomakehurst.wiremock.client.WireMock.postRequestedFor;
+import static com.github.tomakehurst.wiremock.client.WireMock.unauthorized;
+import static com.github.tomakehurst.wiremock.client.WireMock.urlPathEqualTo;
+import static com.github.tomakehurst.wiremock.core.WireMockConfiguration.options;
+import static com.github.tomakehurst.wiremock.stubbing.Scenario.STARTED;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class NaverApiClientTokenTest {
+
+    private static final String TOKEN_PATH = "/v1/oauth2/token";
+    private static final String ORDERS_PATH = "/v1/pay-order/seller/product-orders/last-changed-statuses";
+    // clientSecret은 bcrypt salt 형식이어야 서명 생성 가능
+    private static final String CLIENT_SECRET = "$2a$04$abcdefghijklmnopqrstuu";
+
+    private static WireMockServer wireMock;
+
+    private final Map<String, String> redis = new ConcurrentHashMap<>();
+    private final StringRedisTemplate redisTemplate = fakeRedis(redis);
+    private TenantMarketplaceCredential credential;
+    private AesEncryptor aesEncryptor;
+
+    @BeforeAll
+    static void startWireMock() {
+        wireMock = new WireMockServer(options().dynamicPort());
+        wireMock.start();
+    }
+
+    @AfterAll
+    static void stopWireMock() {
+        wireMock.stop();
+    }
+
+    @BeforeEach
+    void setUp() {
+        wireMock.resetAll();
+        EncryptionProperties encryption = new EncryptionProperties();
+        encryption.setKey("bG9jYWwtZGV2LWVuY3J5cHRpb24ta2V5LTMyY2hhciE=");
+        aesEncryptor = new AesEncryptor(encryption);
+
+        credential = TenantMarketplaceCredential.builder()
+                .tenantId(UUID.randomUUID())
+                .marketplaceType(MarketplaceType.NAVER)
+                .sellerId("seller")
+                .clientId("client-id")
+                .clientSecret(CLIENT_SECRET)
+                .build();
+        ReflectionTestUtils.setField(credential, "id", UUID.randomUUID());
+    }
+
+    @Test
+    void concurrentFirstCallsIssueOneToken() throws Exception {
+        stubToken(STARTED, null, "token-1", 3600, Duration.ofMillis(300));
+        stubOrders("token-1", okJson("{\"data\":[]}"));
+        NaverApiClient client = newClient();
+
+        List<String> responses = callConcurrently(10, () -> client.get(credential, ORDERS_PATH));
+
+        assertThat(responses).hasSize(10).allMatch("{\"data\":[]}"::equals);
+        wireMock.verify(1, postRequestedFor(urlPathEqualTo(TOKEN_PATH)));
+        wireMock.verify(10, getRequestedFor(urlPathEqualTo(ORDERS_PATH)));
+    }
+
+    @Test
+    void instancesShareTokenThroughRedis() throws Exception {
+        stubToken(STARTED, null, "token-1", 3600, Duration.ofMillis(500));
+        stubOrders("token-1", okJson("{\"data\":[]}"));
+        // 같은 Redis를 쓰는 두 인스턴스 - 락을 잡지 못한 쪽은 Redis에 올라온 토큰을 사용
+        NaverApiClient first = newClient();
+        NaverApiClient second = newClient();
+
+        AtomicInteger seq = new AtomicInteger();
+        List<String> responses = callConcurrently(8,
+                () -> (seq.getAndIncrement() % 2 == 0 ? first : second).get(credential, ORDERS_PATH));
+
+        assertThat(responses).hasSize(8);
+        wireMock.verify(1, postRequestedFor(urlPathEqualTo(TOKEN_PATH)));
+        assertThat(redis).containsKey("naver:token:" + credential.getId());
+    }
+
+    @Test
+    void unauthorizedTokenIsRefreshedOnce() throws Exception {
+        stubToken(STARTED, "rotated", "token-1", 3600, Duration.ZERO);
+        stubToken("rotated", null, "token-2", 3600, Duration.ofMillis(300));
+        stubOrders("token-1", unauthorized());
+        stubOrders("token-2", okJson("{\"data\":[]}"));
+        NaverApiClient client = newClient();
+        client.refreshToken(credential);
+
+        // token-1이 거부되면 동시에 401을 받은 호출들도 새 토큰은 한 번만 발급
+        List<String> responses = callConcurrently(6, () -> client.get(credential, ORDERS_PATH));
+
+        assertThat(responses).hasSize(6).allMatch("{\"data\":[]}"::equals);
+        wireMock.verify(2, postRequestedFor(urlPathEqualTo(TOKEN_PATH)));
+        wireMock.verify(6, getRequestedFor(urlPathEqualTo(ORDERS_PATH))
+                .withHeader("Authorization", equalTo("Bearer token-2")));
+        assertThat(aesEncryptor.decrypt(redis.get("naver:token:" + credential.getId()).split("\\|", 2)[1]))
+                .isEqualTo("token-2");
+    }
+
+    @Test
+    void tokenInsideRefreshWindowIsReissued() {
+        // 만료까지 4분 남은 토큰은 갱신 시점(5분 전)을 지났으므로 다음 호출에서 다시 발급
+        stubToken(STARTED, "rotated", "token-1", 240, Duration.ZERO);
+        stubToken("rotated", null, "token-2", 3600, Duration.ZERO);
+        stubOrders("token-1", okJson("{\"data\":[1]}"));
+        stubOrders("token-2", okJson("{\"data\":[2]}"));
+        NaverApiClient client = newClient();
+
+        assertThat(client.get(credential, ORDERS_PATH)).isEqualTo("{\"data\":[1]}");
+        assertThat(client.get(credential, ORDERS_PATH)).isEqualTo("{\"data\":[2]}");
+        assertThat(client.get(credential, ORDERS_PATH)).isEqualTo("{\"data\":[2]}");
+        wireMock.verify(2, postRequestedFor(urlPathEqualTo(TOKEN_PATH)));
+    }
+
+    private NaverApiClient newClient() {
+        NaverApiProperties properties = new NaverApiProperties("http://localhost:" + wireMock.port(), 10,
+                Duration.ofSeconds(5), Duration.ofSeconds(5), Duration.ofSeconds(30),
+                Duration.ofMinutes(5), Duration.ofSeconds(5));
+        NaverTokenCache tokenCache = new NaverTokenCache(redisTemplate, aesEncryptor, properties);
+        return new NaverApiClient(WebClient.create(), tokenCache, mock(RateLimitService.class),
+                new ObjectMapper(), properties);
+    }
+
+    private void stubToken(String state, String nextState, String token, long expiresIn, Duration delay) {
+        var mapping = post(urlPathEqualTo(TOKEN_PATH))
+                .inScenario("token")
+                .whenScenarioStateIs(state)
+                .willReturn(aResponse()
+                        .withHeader("Content-Type", "application/json")
+                        .withFixedDelay((int) delay.toMillis())
+                        .withBody("{\"access_token\":\"" + token + "\",\"expires_in\":" + expiresIn
+                                + ",\"token_type\":\"Bearer\"}"));
+        if (nextState != null) {
+            mapping = mapping.willSetStateTo(nextState);
+        }
+        wireMock.stubFor(mapping);
+    }
+
+    private void stubOrders(String token, ResponseDefinitionBuilder response) {
+        wireMock.stubFor(get(urlPathEqualTo(ORDERS_PATH))
+                .withHeader("Authorization", equalTo("Bearer " + token))
+                .willReturn(response));
+    }
+
+    private interface Call {
+        String call() throws Exception;
+    }
+
+    private static List<String> callConcurrently(int callers, Call call) throws Exception {
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<String>> futures = new ArrayList<>();
+        try (ExecutorService executor = Executors.newFixedThreadPool(callers)) {
+            for (int i = 0; i < callers; i++) {
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    return call.call();
+                }));
+            }
+            start.countDown();
+            List<String> results = new ArrayList<>();
+            for (Future<String> future : futures) {
+                results.add(future.get());
+            }
+            return results;
+        }
+    }
+
+    /**
+     * 토큰 캐시가 쓰는 get/set/setIfAbsent/delete만 맵으로 흉내 낸 Redis (TTL은 무시)
+     */
+    @SuppressWarnings("unchecked")
+    private static StringRedisTemplate fakeRedis(Map<String, String> store) {
+        StringRedisTemplate template = mock(StringRedisTemplate.class);
+        ValueOperations<String, String> ops = mock(ValueOperations.class);
+        when(template.opsForValue()).thenReturn(ops);
+        when(ops.get(anyString())).thenAnswer(inv -> store.get((String) inv.getArgument(0)));
+        doAnswer(inv -> store.put(inv.getArgument(0), inv.getArgument(1)))
+                .when(ops).set(anyString(), anyString(), any(Duration.class));
+        when(ops.setIfAbsent(anyString(), anyString(), any(Duration.class)))
+                .thenAnswer(inv -> store.putIfAbsent(inv.getArgument(0), inv.getArgument(1)) == null);
+        when(template.delete(anyString())).thenAnswer(inv -> store.remove((String) inv.getArgument(0)) != null);
+        return template;
+    }
+}
@@ -0,0 +1,155 @@
+package com.mhub.marketplace.service;
+
+import com.mhub.core.domain.entity.Order;
+import com.mhub.core.domain.entity.OrderItem;
+import com.mhub.core.domain.enums.MarketplaceType;
+import com.mhub.core.domain.enums.OrderStatus;
+import com.mhub.core.service.OrderEventOutboxService;
+import com.mhub.core.service.OrderStatsService;
+import com.mhub.core.service.ProductMappingService;
+import com.mhub.marketplace.service.SyncLeaseService.SyncLease;
+import com.mhub.marketplace.service.SyncWatermarkService.SyncStream;
+import com.mhub.support.PostgresIntegrationTest;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@Import({OrderIngestionService.class, OrderStatsService.class, OrderEventOutboxService.class})
+class OrderIngestionServiceTest extends PostgresIntegrationTest {
+
+    @Autowired
+    private OrderIngestionService orderIngestionService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @MockBean
+    private SyncLeaseService syncLeaseService;
+
+    @MockBean
+    private ProductMappingService productMappingService;
+
+    private UUID tenantId;
+    private SyncLease lease;
+
+    @BeforeEach
+    void setUp() {
+        tenantId = UUID.randomUUID();
+        lease = new SyncLease(UUID.randomUUID(), SyncStream.NEW_ORDERS, 1L);
+    }
+
+    @Test
+    void ingestSkipsOrdersAlreadyStored() {
+        List<Order> first = List.of(order("A-1", "P-1"), order("A-1", "P-2"), order("A-2", null));
+
+        assertThat(orderIngestionService.ingest(lease, tenantId, MarketplaceType.NAVER, first)).isEqualTo(3);
+
+        List<Order> second = List.of(order("A-1", "P-1"), order("A-2", null), order("A-3", "P-1"));
+        assertThat(orderIngestionService.ingest(lease, tenantId, MarketplaceType.NAVER, second)).isEqualTo(1);
+
+        assertThat(countOrders()).isEqualTo(4);
+        assertThat(countOrderKeys()).isEqualTo(4);
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM order_item WHERE tenant_id = ?", Long.class, tenantId)).isEqualTo(4);
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM order_event_outbox WHERE tenant_id = ?", Long.class, tenantId)).isEqualTo(4);
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT SUM(order_count) FROM order_daily_stats WHERE tenant_id = ?", Long.class, tenantId)).isEqualTo(4);
+    }
+
+    @Test
+    void ingestKeepsOneOrderForDuplicatesInSameBatch() {
+        List<Order> orders = List.of(order("B-1", "P-1"), order("B-1", "P-1"), order("B-2", null), order("B-2", null));
+
+        assertThat(orderIngestionService.ingest(lease, tenantId, MarketplaceType.COUPANG, orders)).isEqualTo(2);
+        assertThat(countOrders()).isEqualTo(2);
+    }
+
+    @Test
+    void sameOrderIdOnDifferentMarketplacesIsNotDuplicate() {
+        orderIngestionService.ingest(lease, tenantId, MarketplaceType.NAVER, List.of(order("C-1", "P-1")));
+
+        assertThat(orderIngestionService.ingest(lease, tenantId, MarketplaceType.COUPANG, List.of(order("C-1", "P-1"))))
+                .isEqualTo(1);
+        assertThat(countOrders()).isEqualTo(2);
+    }
+
+    @Test
+    void concurrentIngestOfOverlappingBatchesStoresEachOrderOnce() throws Exception {
+        int workers = 6;
+        int distinctOrders = 300;
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<Integer>> results = new ArrayList<>();
+
+        try (ExecutorService executor = Executors.newFixedThreadPool(workers)) {
+            for (int w = 0; w < workers; w++) {
+                // 워커마다 시작 위치를 달리해 서로 다른 순서로 같은 주문들을 저장
+                int offset = w * 37;
+                List<Order> batch = IntStream.range(0, distinctOrders)
+                        .mapToObj(i -> order("D-" + ((i + offset) % distinctOrders), "P-1"))
+                        .toList();
+                results.add(executor.submit(() -> {
+                    start.await();
+                    return orderIngestionService.ingest(lease, tenantId, MarketplaceType.NAVER, batch);
+                }));
+            }
+            start.countDown();
+
+            int inserted = 0;
+            for (Future<Integer> result : results) {
+                inserted += result.get();
+            }
+            assertThat(inserted).isEqualTo(distinctOrders);
+        }
+
+        assertThat(countOrders()).isEqualTo(distinctOrders);
+        assertThat(countOrderKeys()).isEqualTo(distinctOrders);
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT SUM(order_count) FROM order_daily_stats WHERE tenant_id = ?", Long.class, tenantId))
+                .isEqualTo(distinctOrders);
+    }
+
+    private long countOrders() {
+        return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM orders WHERE tenant_id = ?", Long.class, tenantId);
+    }
+
+    private long countOrderKeys() {
+        return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM order_key WHERE tenant_id = ?", Long.class, tenantId);
+    }
+
+    private Order order(String marketplaceOrderId, String productOrderId) {
+        Order order = Order.builder()
+                .tenantId(tenantId)
+                .marketplaceOrderId(marketplaceOrderId)
+                .marketplaceProductOrderId(productOrderId)
+                .status(OrderStatus.PAYMENT_COMPLETE)
+                .receiverName("홍길동")
+                .totalAmount(new BigDecimal("10000"))
+                .orderedAt(LocalDateTime.now())
+                .build();
+        order.addItem(OrderItem.builder()
+                .tenantId(tenantId)
+                .productName("상품")
+                .quantity(1)
+                .unitPrice(new BigDecimal("10000"))
+                .totalPrice(new BigDecimal("10000"))
+                .build());
+        return order;
+    }
+}
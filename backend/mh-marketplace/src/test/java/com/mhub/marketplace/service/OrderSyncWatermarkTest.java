@@ -0,0 +1,228 @@
+package com.mhub.marketplace.service;
+
+import com.mhub.common.exception.BusinessException;
+import com.mhub.common.exception.ErrorCodes;
+import com.mhub.core.domain.entity.Order;
+import com.mhub.core.domain.entity.Tenant;
+import com.mhub.core.domain.entity.TenantMarketplaceCredential;
+import com.mhub.core.domain.enums.MarketplaceType;
+import com.mhub.core.domain.enums.OrderStatus;
+import com.mhub.core.domain.repository.TenantMarketplaceCredentialRepository;
+import com.mhub.core.domain.repository.TenantRepository;
+import com.mhub.core.service.OrderEventOutboxService;
+import com.mhub.core.service.OrderStatsService;
+import com.mhub.core.service.ProductMappingService;
+import com.mhub.marketplace.adapter.MarketplaceAdapter;
+import com.mhub.marketplace.service.SyncWatermarkService.SyncStream;
+import com.mhub.marketplace.service.SyncWatermarkService.Watermark;
+import com.mhub.support.PostgresIntegrationTest;
+import org.assertj.core.data.TemporalUnitOffset;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.within;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * 워터마크 기반 신규 주문 수집 - 조회 구간(겹침, 공백 상한)과 실패 시 워터마크가 전진하지 않는지 확인
+ * - 마켓플레이스 어댑터만 가짜로 두고 저장/통계/워터마크/리스는 실제 DB로 실행
+ */
+@Import({OrderSyncService.class, OrderIngestionService.class, OrderStatsService.class, OrderEventOutboxService.class,
+        SyncWatermarkService.class, SyncLeaseService.class, OrderSyncWatermarkTest.Config.class})
+class OrderSyncWatermarkTest extends PostgresIntegrationTest {
+
+    private static final Duration OVERLAP = Duration.ofMinutes(10);
+    private static final Duration MAX_LOOKBACK = Duration.ofDays(2);
+    /** TIMESTAMP 컬럼은 마이크로초 단위로 반올림하여 저장 */
+    private static final TemporalUnitOffset STORED_PRECISION = within(1, ChronoUnit.MICROS);
+
+    @TestConfiguration
+    static class Config {
+        @Bean
+        OrderSyncProperties orderSyncProperties() {
+            return new OrderSyncProperties(OVERLAP, MAX_LOOKBACK, Duration.ofHours(6),
+                    Duration.ofMinutes(2), Duration.ofSeconds(30), Duration.ofSeconds(5), Duration.ofMillis(100));
+        }
+    }
+
+    @Autowired
+    private OrderSyncService orderSyncService;
+
+    @Autowired
+    private SyncWatermarkService watermarkService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TenantRepository tenantRepository;
+
+    @Autowired
+    private TenantMarketplaceCredentialRepository credentialRepository;
+
+    @MockBean
+    private MarketplaceAdapterFactory adapterFactory;
+
+    @MockBean
+    private ProductMappingService productMappingService;
+
+    private final MarketplaceAdapter adapter = mock(MarketplaceAdapter.class);
+    private final List<LocalDateTime[]> windows = new ArrayList<>();
+    private TenantMarketplaceCredential credential;
+
+    @BeforeEach
+    void setUp() {
+        Tenant tenant = tenantRepository.save(Tenant.builder().companyName("watermark-test").build());
+        credential = credentialRepository.save(TenantMarketplaceCredential.builder()
+                .tenantId(tenant.getId())
+                .marketplaceType(MarketplaceType.NAVER)
+                .build());
+        when(adapterFactory.getAdapter(MarketplaceType.NAVER)).thenReturn(adapter);
+    }
+
+    @Test
+    void firstRunStartsAtStartOfTodayAndAdvancesToWindowEnd() {
+        collectReturns(() -> List.of(order("A-1")));
+
+        LocalDateTime before = LocalDateTime.now();
+        assertThat(orderSyncService.syncNewOrders(credential)).isEqualTo(1);
+
+        LocalDateTime[] window = windows.get(0);
+        assertThat(window[0]).isEqualTo(LocalDate.now().atStartOfDay());
+        assertThat(window[1]).isAfterOrEqualTo(before);
+        assertThat(highWaterAt()).isCloseTo(window[1], STORED_PRECISION);
+    }
+
+    @Test
+    void nextRunOverlapsPreviousWindowAndSkipsStoredOrders() {
+        collectReturns(() -> List.of(order("B-1"), order("B-2")));
+        orderSyncService.syncNewOrders(credential);
+        LocalDateTime firstHighWater = highWaterAt();
+
+        // 겹치는 구간에서 이미 저장한 주문이 다시 조회됨
+        collectReturns(() -> List.of(order("B-2"), order("B-3")));
+        assertThat(orderSyncService.syncNewOrders(credential)).isEqualTo(1);
+
+        LocalDateTime[] second = windows.get(1);
+        assertThat(second[0]).isEqualTo(firstHighWater.minus(OVERLAP));
+        assertThat(second[0]).isBefore(windows.get(0)[1]);
+        assertThat(highWaterAt()).isCloseTo(second[1], STORED_PRECISION);
+        assertThat(countOrders()).isEqualTo(3);
+    }
+
+    @Test
+    void gapLongerThanMaxLookbackIsCapped() {
+        watermarkService.advance(credential, SyncStream.NEW_ORDERS, LocalDateTime.now().minusDays(30), false);
+        collectReturns(List::of);
+
+        orderSyncService.syncNewOrders(credential);
+
+        LocalDateTime[] window = windows.get(0);
+        assertThat(window[0]).isEqualTo(window[1].minus(MAX_LOOKBACK));
+        assertThat(highWaterAt()).isCloseTo(window[1], STORED_PRECISION);
+    }
+
+    @Test
+    void failedFetchKeepsWatermarkAndRetriesSameWindow() {
+        LocalDateTime watermark = micros(LocalDateTime.now().minusHours(3));
+        watermarkService.advance(credential, SyncStream.NEW_ORDERS, watermark, false);
+        collectReturns(() -> {
+            throw new BusinessException(ErrorCodes.MARKETPLACE_API_ERROR, "page 3 failed");
+        });
+
+        assertThatThrownBy(() -> orderSyncService.syncNewOrders(credential)).isInstanceOf(BusinessException.class);
+        assertThat(highWaterAt()).isEqualTo(watermark);
+
+        collectReturns(() -> List.of(order("C-1")));
+        assertThat(orderSyncService.syncNewOrders(credential)).isEqualTo(1);
+
+        assertThat(windows).extracting(w -> w[0]).containsExactly(watermark.minus(OVERLAP), watermark.minus(OVERLAP));
+        assertThat(highWaterAt()).isCloseTo(windows.get(1)[1], STORED_PRECISION);
+    }
+
+    @Test
+    void failedIngestRollsBackBatchAndKeepsWatermark() {
+        LocalDateTime watermark = micros(LocalDateTime.now().minusHours(1));
+        watermarkService.advance(credential, SyncStream.NEW_ORDERS, watermark, false);
+        collectReturns(() -> List.of(order("D-1"), order("D-2")));
+        // 주문 INSERT 뒤, 같은 저장 트랜잭션 안에서 실패
+        doThrow(new IllegalStateException("mapping failed"))
+                .when(productMappingService).applyAutoMapping(anyList(), any(), any());
+
+        assertThatThrownBy(() -> orderSyncService.syncNewOrders(credential)).isInstanceOf(IllegalStateException.class);
+        assertThat(countOrders()).isZero();
+        assertThat(highWaterAt()).isEqualTo(watermark);
+
+        doReturn(0).when(productMappingService).applyAutoMapping(anyList(), any(), any());
+        assertThat(orderSyncService.syncNewOrders(credential)).isEqualTo(2);
+        assertThat(windows.get(1)[0]).isEqualTo(watermark.minus(OVERLAP));
+        assertThat(countOrders()).isEqualTo(2);
+    }
+
+    @Test
+    void watermarkNeverMovesBackward() {
+        LocalDateTime latest = micros(LocalDateTime.now());
+        watermarkService.advance(credential, SyncStream.NEW_ORDERS, latest, false);
+
+        // 늦게 끝난 이전 실행
+        watermarkService.advance(credential, SyncStream.NEW_ORDERS, latest.minusMinutes(30), false);
+
+        assertThat(highWaterAt()).isEqualTo(latest);
+    }
+
+    private void collectReturns(Supplier<List<Order>> orders) {
+        doAnswer(invocation -> {
+            windows.add(new LocalDateTime[] {invocation.getArgument(1), invocation.getArgument(2)});
+            return new ArrayList<>(orders.get());
+        }).when(adapter).collectOrders(any(), any(), any());
+    }
+
+    private LocalDateTime highWaterAt() {
+        return watermarkService.find(credential.getId(), SyncStream.NEW_ORDERS).map(Watermark::highWaterAt).orElseThrow();
+    }
+
+    private long countOrders() {
+        return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM orders WHERE tenant_id = ?", Long.class,
+                credential.getTenantId());
+    }
+
+    /** 워터마크로 직접 저장할 시각을 저장 정밀도에 맞춤 */
+    private static LocalDateTime micros(LocalDateTime time) {
+        return time.truncatedTo(ChronoUnit.MICROS);
+    }
+
+    private Order order(String marketplaceOrderId) {
+        return Order.builder()
+                .marketplaceType(MarketplaceType.NAVER)
+                .marketplaceOrderId(marketplaceOrderId)
+                .marketplaceProductOrderId(marketplaceOrderId + "-1")
+                .status(OrderStatus.PAYMENT_COMPLETE)
+                .receiverName("홍길동")
+                .totalAmount(new BigDecimal("10000"))
+                .orderedAt(LocalDateTime.now())
+                .build();
+    }
+}
@@ -0,0 +1,210 @@
+package com.mhub.marketplace.service;
+
+import com.mhub.common.exception.BusinessException;
+import com.mhub.common.exception.ErrorCodes;
+import com.mhub.core.domain.entity.Tenant;
+import com.mhub.core.domain.entity.TenantMarketplaceCredential;
+import com.mhub.core.domain.enums.MarketplaceType;
+import com.mhub.core.domain.repository.TenantMarketplaceCredentialRepository;
+import com.mhub.core.domain.repository.TenantRepository;
+import com.mhub.marketplace.service.SyncLeaseService.LeaseMode;
+import com.mhub.marketplace.service.SyncLeaseService.SyncLease;
+import com.mhub.marketplace.service.SyncWatermarkService.SyncStream;
+import com.mhub.support.PostgresIntegrationTest;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class SyncLeaseServiceTest extends PostgresIntegrationTest {
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private TenantRepository tenantRepository;
+
+    @Autowired
+    private TenantMarketplaceCredentialRepository credentialRepository;
+
+    private TenantMarketplaceCredential credential;
+    private TransactionTemplate transactionTemplate;
+    private SyncLeaseService stalledInstance;
+    private SyncLeaseService otherInstance;
+
+    @BeforeEach
+    void setUp() {
+        Tenant tenant = tenantRepository.save(Tenant.builder().companyName("lease-test").build());
+        credential = credentialRepository.save(TenantMarketplaceCredential.builder()
+                .tenantId(tenant.getId())
+                .marketplaceType(MarketplaceType.NAVER)
+                .build());
+        transactionTemplate = new TransactionTemplate(transactionManager);
+        // 연장 주기를 길게 잡아 테스트 중에는 연장되지 않는 인스턴스 (멈춘 수집을 흉내냄)
+        stalledInstance = leaseService(Duration.ofMinutes(2), Duration.ofMinutes(1));
+        otherInstance = leaseService(Duration.ofMinutes(2), Duration.ofMinutes(1));
+    }
+
+    @AfterEach
+    void tearDown() {
+        stalledInstance.shutdown();
+        otherInstance.shutdown();
+    }
+
+    @Test
+    void secondInstanceSkipsWhileLeaseIsHeld() throws Exception {
+        CountDownLatch acquired = new CountDownLatch(1);
+        CountDownLatch finish = new CountDownLatch(1);
+        CompletableFuture<Integer> holder = CompletableFuture.supplyAsync(() ->
+                stalledInstance.runExclusive(credential, SyncStream.NEW_ORDERS, LeaseMode.SKIP, lease -> {
+                    acquired.countDown();
+                    await(finish);
+                    return 7;
+                }));
+        assertThat(acquired.await(10, TimeUnit.SECONDS)).isTrue();
+
+        assertThat(otherInstance.runExclusive(credential, SyncStream.NEW_ORDERS, LeaseMode.SKIP, lease -> 1))
+                .isZero();
+        // 다른 동기화 종류는 별도 리스
+        assertThat(otherInstance.runExclusive(credential, SyncStream.ORDER_STATUS, LeaseMode.SKIP, lease -> 3))
+                .isEqualTo(3);
+
+        finish.countDown();
+        assertThat(holder.get(10, TimeUnit.SECONDS)).isEqualTo(7);
+        assertThat(otherInstance.runExclusive(credential, SyncStream.NEW_ORDERS, LeaseMode.SKIP, lease -> 1))
+                .isEqualTo(1);
+    }
+
+    @Test
+    void expiredLeaseIsTakenOverWithNewFenceAndOldHolderIsFenced() throws Exception {
+        CountDownLatch acquired = new CountDownLatch(1);
+        CountDownLatch takenOver = new CountDownLatch(1);
+        SyncLease[] stalledLease = new SyncLease[1];
+        CompletableFuture<Integer> stalled = CompletableFuture.supplyAsync(() ->
+                stalledInstance.runExclusive(credential, SyncStream.NEW_ORDERS, LeaseMode.SKIP, lease -> {
+                    stalledLease[0] = lease;
+                    acquired.countDown();
+                    await(takenOver);
+                    stalledInstance.assertHeld(lease);
+                    return 1;
+                }));
+        assertThat(acquired.await(10, TimeUnit.SECONDS)).isTrue();
+
+        expireLease();
+        SyncLease[] newLease = new SyncLease[1];
+        int result = otherInstance.runExclusive(credential, SyncStream.NEW_ORDERS, LeaseMode.SKIP, lease -> {
+            newLease[0] = lease;
+            takenOver.countDown();
+            // 이전 보유자가 늦게 끝나며 해제를 시도해도 새 리스는 유지
+            assertThatThrownBy(() -> stalled.get(10, TimeUnit.SECONDS))
+                    .hasCauseInstanceOf(BusinessException.class)
+                    .cause()
+                    .extracting("code").isEqualTo(ErrorCodes.MARKETPLACE_SYNC_LEASE_LOST);
+            otherInstance.assertHeld(lease);
+            return 5;
+        });
+
+        assertThat(result).isEqualTo(5);
+        assertThat(newLease[0].fenceToken()).isGreaterThan(stalledLease[0].fenceToken());
+    }
+
+    @Test
+    void writeIsNotCommittedWhenLeaseIsLostBeforeCommit() {
+        LocalDate marker = LocalDate.of(2000, 1, 1);
+
+        stalledInstance.runExclusive(credential, SyncStream.NEW_ORDERS, LeaseMode.SKIP, lease -> {
+            assertThatThrownBy(() -> transactionTemplate.executeWithoutResult(status -> {
+                stalledInstance.assertHeld(lease);
+                insertMarker(marker);
+
+                // 작업 도중 리스가 만료되어 다른 인스턴스가 가져감
+                expireLease();
+                otherInstance.runExclusive(credential, SyncStream.NEW_ORDERS, LeaseMode.SKIP, other -> 0);
+            }))
+                    .isInstanceOf(BusinessException.class)
+                    .extracting("code").isEqualTo(ErrorCodes.MARKETPLACE_SYNC_LEASE_LOST);
+            return 0;
+        });
+
+        assertThat(countMarkers(marker)).isZero();
+    }
+
+    @Test
+    void longWriteTransactionDoesNotBlockRenewal() {
+        SyncLeaseService renewing = leaseService(Duration.ofSeconds(1), Duration.ofMillis(200));
+        LocalDate marker = LocalDate.of(2000, 1, 2);
+        try {
+            // 리스 TTL보다 오래 걸리는 쓰기 트랜잭션 - 연장이 막히면 커밋 직전 확인에서 실패
+            renewing.runExclusive(credential, SyncStream.NEW_ORDERS, LeaseMode.SKIP, lease -> {
+                transactionTemplate.executeWithoutResult(status -> {
+                    renewing.assertHeld(lease);
+                    insertMarker(marker);
+                    sleep(Duration.ofMillis(2500));
+                });
+                return 1;
+            });
+        } finally {
+            renewing.shutdown();
+        }
+
+        assertThat(countMarkers(marker)).isEqualTo(1);
+    }
+
+    private SyncLeaseService leaseService(Duration leaseTtl, Duration leaseRenewInterval) {
+        OrderSyncProperties properties = new OrderSyncProperties(Duration.ofMinutes(10), Duration.ofDays(7),
+                Duration.ofHours(6), leaseTtl, leaseRenewInterval, Duration.ofSeconds(5), Duration.ofMillis(100));
+        return new SyncLeaseService(jdbcTemplate, properties, transactionManager);
+    }
+
+    private void expireLease() {
+        // 보유 중인 인스턴스와 무관하게 즉시 커밋되도록 별도 트랜잭션에서 만료시킴
+        CompletableFuture.runAsync(() -> jdbcTemplate.update(
+                "UPDATE sync_lease SET lease_until = NOW() - INTERVAL '1 second' WHERE credential_id = ?",
+                credential.getId())).join();
+    }
+
+    private void insertMarker(LocalDate orderDate) {
+        jdbcTemplate.update("INSERT INTO order_daily_stats (tenant_id, order_date, marketplace_type, status, order_count) " +
+                "VALUES (?, ?, 'NAVER', 'PAYMENT_COMPLETE', 1)", credential.getTenantId(), orderDate);
+    }
+
+    private long countMarkers(LocalDate orderDate) {
+        return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM order_daily_stats WHERE tenant_id = ? AND order_date = ?",
+                Long.class, credential.getTenantId(), orderDate);
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            if (!latch.await(10, TimeUnit.SECONDS)) {
+                throw new IllegalStateException("Timed out waiting for latch");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static void sleep(Duration duration) {
+        try {
+            Thread.sleep(duration.toMillis());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        }
+    }
+}
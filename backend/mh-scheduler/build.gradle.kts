@@ -7,6 +7,12 @@ dependencies {
     implementation("net.javacrumbs.shedlock:shedlock-spring")
     implementation("net.javacrumbs.shedlock:shedlock-provider-jdbc-template")
 
+    // Metrics
+    implementation("io.micrometer:micrometer-core")
+
     // AWS SQS
     implementation("io.awspring.cloud:spring-cloud-aws-starter-sqs")
+
+    // Test
+    testImplementation(testFixtures(project(":mh-core")))
 }
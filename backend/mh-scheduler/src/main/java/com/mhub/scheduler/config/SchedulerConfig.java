@@ -7,9 +7,7 @@ import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.scheduling.annotation.EnableAsync;
 import org.springframework.scheduling.annotation.EnableScheduling;
-import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 import javax.sql.DataSource;
-import java.util.concurrent.Executor;
 
 @Configuration @EnableScheduling @EnableAsync
 @EnableSchedulerLock(defaultLockAtMostFor = "PT30M")
@@ -18,11 +16,4 @@ public class SchedulerConfig {
     public LockProvider lockProvider(DataSource dataSource) {
         return new JdbcTemplateLockProvider(JdbcTemplateLockProvider.Configuration.builder().withJdbcTemplate(new org.springframework.jdbc.core.JdbcTemplate(dataSource)).usingDbTime().build());
     }
-    @Bean("orderSyncExecutor")
-    public Executor orderSyncExecutor() {
-        ThreadPoolTaskExecutor e = new ThreadPoolTaskExecutor();
-        e.setCorePoolSize(10); e.setMaxPoolSize(20); e.setQueueCapacity(500);
-        e.setThreadNamePrefix("order-sync-"); e.setWaitForTasksToCompleteOnShutdown(true); e.setAwaitTerminationSeconds(60); e.initialize();
-        return e;
-    }
 }
@@ -0,0 +1,19 @@
+package com.mhub.scheduler.job;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * 자동 전표생성/전송 야간 배치 설정
+ * - maxConcurrentTenants: 동시에 처리하는 테넌트 수 (테넌트마다 한 번에 DB 커넥션 1개 사용, ERP 응답 대기 중에는 사용하지 않음)
+ * - chunkSize: 한 번에 조회하여 생성/전송하는 주문(전표) 수, 청크가 끝날 때마다 체크포인트 저장 (생성은 주문마다 별도 트랜잭션)
+ * - resumeWindow: 이 시간 안에 시작되어 끝나지 않은(RUNNING) 기록은 이어서 처리, 더 오래된 기록은 실패로 닫고 처음부터
+ */
+@ConfigurationProperties(prefix = "erp.auto-batch")
+public record AutoErpBatchProperties(
+        @DefaultValue("4") int maxConcurrentTenants,
+        @DefaultValue("200") int chunkSize,
+        @DefaultValue("12h") Duration resumeWindow
+) {}
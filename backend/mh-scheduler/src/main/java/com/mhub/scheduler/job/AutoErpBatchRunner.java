@@ -0,0 +1,288 @@
+package com.mhub.scheduler.job;
+
+import com.mhub.core.domain.entity.JobExecutionLog;
+import com.mhub.core.domain.entity.Tenant;
+import com.mhub.core.domain.entity.TenantErpConfig;
+import com.mhub.core.domain.repository.JobExecutionLogRepository;
+import com.mhub.core.domain.repository.TenantRepository;
+import com.mhub.core.erp.dto.AutoErpChunkResult;
+import com.mhub.core.tenant.SchedulerTenantHelper;
+import com.mhub.erp.service.ErpSalesDocumentService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 자동 전표생성/전송 배치 실행기 (NightlyBatchScheduler에서 호출)
+ * - 테넌트를 가상 스레드에서 병렬 처리하고, 동시에 처리하는 테넌트 수는 maxConcurrentTenants로 제한
+ * - 테넌트 안에서는 chunkSize건씩 전표 생성 후 바로 전송(GENERATE), 끝나면 남은 PENDING 전표를 청크 단위로 전송(SEND)
+ * - 전송은 ErpDocumentSender가 전표를 선점한 뒤 하므로 재전송 스케줄러나 수동 전송과 같은 전표를 중복 전송하지 않음
+ * - 테넌트별 JobExecutionLog를 체크포인트로 사용: 청크마다 단계/커서/건수/소요 시간을 metadata에 저장하고,
+ *   배치가 중단되어 RUNNING으로 남은 기록은 다음 실행 때 저장된 커서부터 이어서 처리
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class AutoErpBatchRunner {
+
+    static final String JOB_NAME = "AUTO_ERP_DOCUMENT_BATCH";
+
+    private static final String PHASE_GENERATE = "GENERATE";
+    private static final String PHASE_SEND = "SEND";
+    /** 커서 시작값 - PostgreSQL uuid 정렬에서 가장 작은 값 */
+    private static final UUID CURSOR_START = new UUID(0L, 0L);
+
+    private final TenantRepository tenantRepository;
+    private final ErpSalesDocumentService erpSalesDocumentService;
+    private final SchedulerTenantHelper schedulerTenantHelper;
+    private final JobExecutionLogRepository jobLogRepository;
+    private final AutoErpBatchProperties properties;
+
+    public record BatchSummary(int processedTenants, int skippedTenants, int failedTenants,
+                               int totalGenerated, int totalSent) {}
+
+    private enum TenantOutcome { PROCESSED, SKIPPED, FAILED }
+
+    public BatchSummary run() {
+        List<Tenant> tenants = tenantRepository.findByActiveTrue();
+        Semaphore tenantSlots = new Semaphore(Math.max(1, properties.maxConcurrentTenants()));
+        AtomicInteger processed = new AtomicInteger();
+        AtomicInteger skipped = new AtomicInteger();
+        AtomicInteger failed = new AtomicInteger();
+        AtomicInteger generated = new AtomicInteger();
+        AtomicInteger sent = new AtomicInteger();
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (Tenant t : tenants) {
+                try {
+                    tenantSlots.acquire();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    log.warn("Auto ERP batch interrupted; remaining tenants resume on the next run");
+                    break;
+                }
+                executor.submit(() -> {
+                    try {
+                        TenantCheckpoint checkpoint = new TenantCheckpoint();
+                        switch (processTenant(t.getId(), checkpoint)) {
+                            case PROCESSED -> processed.incrementAndGet();
+                            case SKIPPED -> skipped.incrementAndGet();
+                            case FAILED -> failed.incrementAndGet();
+                        }
+                        generated.addAndGet(checkpoint.generatedCount);
+                        sent.addAndGet(checkpoint.sentCount);
+                    } finally {
+                        tenantSlots.release();
+                    }
+                });
+            }
+        }
+
+        return new BatchSummary(processed.get(), skipped.get(), failed.get(), generated.get(), sent.get());
+    }
+
+    private TenantOutcome processTenant(UUID tenantId, TenantCheckpoint checkpoint) {
+        try {
+            schedulerTenantHelper.setTenant(tenantId);
+
+            Optional<TenantErpConfig> config = erpSalesDocumentService.findAutoErpConfig(tenantId);
+            if (config.isEmpty()) {
+                log.debug("Auto ERP batch skipped for tenant {}: no active ERP config with auto generate/send", tenantId);
+                return TenantOutcome.SKIPPED;
+            }
+
+            startOrResume(tenantId, checkpoint);
+            long startNanos = System.nanoTime();
+            try {
+                runPhases(tenantId, checkpoint,
+                        Boolean.TRUE.equals(config.get().getAutoGenerateDocument()),
+                        Boolean.TRUE.equals(config.get().getAutoSendToErp()));
+                checkpoint.elapsedMillis += elapsedMillis(startNanos);
+                finish(checkpoint, "SUCCESS", null);
+            } catch (Exception e) {
+                checkpoint.elapsedMillis += elapsedMillis(startNanos);
+                finish(checkpoint, "FAILED", e.getMessage());
+                throw e;
+            }
+
+            log.info("Auto ERP batch for tenant {}: generated={}, sent={}, elapsedMs={}",
+                    tenantId, checkpoint.generatedCount, checkpoint.sentCount, checkpoint.elapsedMillis);
+            return TenantOutcome.PROCESSED;
+        } catch (Exception e) {
+            log.error("Auto ERP batch failed for tenant {}", tenantId, e);
+            return TenantOutcome.FAILED;
+        } finally {
+            schedulerTenantHelper.clearTenant();
+        }
+    }
+
+    private void runPhases(UUID tenantId, TenantCheckpoint checkpoint, boolean autoGenerate, boolean autoSend) {
+        int chunkSize = Math.max(1, properties.chunkSize());
+
+        if (PHASE_GENERATE.equals(checkpoint.phase)) {
+            if (autoGenerate) {
+                AutoErpChunkResult result;
+                do {
+                    long chunkStart = System.nanoTime();
+                    result = erpSalesDocumentService.generateAutoErpChunk(tenantId, checkpoint.orderCursor, chunkSize);
+                    checkpoint.generatePhaseMillis += elapsedMillis(chunkStart);
+                    checkpoint.add(result);
+                    if (result.lastId() != null) {
+                        checkpoint.orderCursor = result.lastId();
+                    }
+                    save(checkpoint);
+                } while (result.scannedCount() >= chunkSize);
+            }
+            checkpoint.phase = PHASE_SEND;
+            save(checkpoint);
+        }
+
+        if (autoSend) {
+            AutoErpChunkResult result;
+            do {
+                long chunkStart = System.nanoTime();
+                result = erpSalesDocumentService.sendPendingAutoErpChunk(tenantId, checkpoint.documentCursor, chunkSize);
+                checkpoint.sendPhaseMillis += elapsedMillis(chunkStart);
+                checkpoint.add(result);
+                if (result.lastId() != null) {
+                    checkpoint.documentCursor = result.lastId();
+                }
+                save(checkpoint);
+            } while (result.scannedCount() >= chunkSize);
+        }
+    }
+
+    /**
+     * resumeWindow 안에 시작되어 끝나지 않은 기록이 있으면 그 체크포인트부터, 없으면 새 기록으로 시작
+     */
+    private void startOrResume(UUID tenantId, TenantCheckpoint checkpoint) {
+        LocalDateTime now = LocalDateTime.now();
+        Optional<JobExecutionLog> running = jobLogRepository
+                .findFirstByJobNameAndTenantIdAndStatusOrderByStartedAtDesc(JOB_NAME, tenantId, "RUNNING");
+
+        if (running.isPresent()) {
+            JobExecutionLog previous = running.get();
+            if (previous.getStartedAt().isAfter(now.minus(properties.resumeWindow()))) {
+                checkpoint.restore(previous);
+                log.info("Resuming auto ERP batch for tenant {}: phase={}, generated={}, sent={}",
+                        tenantId, checkpoint.phase, checkpoint.generatedCount, checkpoint.sentCount);
+                save(checkpoint);
+                return;
+            }
+            previous.setStatus("FAILED");
+            previous.setFinishedAt(now);
+            previous.setErrorMessage("Interrupted and not resumed within " + properties.resumeWindow());
+            jobLogRepository.save(previous);
+        }
+
+        checkpoint.jobLog = JobExecutionLog.builder()
+                .jobName(JOB_NAME)
+                .tenantId(tenantId)
+                .startedAt(now)
+                .status("RUNNING")
+                .build();
+        save(checkpoint);
+    }
+
+    private void finish(TenantCheckpoint checkpoint, String status, String errorMessage) {
+        checkpoint.jobLog.setStatus(status);
+        checkpoint.jobLog.setFinishedAt(LocalDateTime.now());
+        if (errorMessage != null) {
+            checkpoint.jobLog.setErrorMessage(errorMessage.substring(0, Math.min(errorMessage.length(), 2000)));
+        } else if ("FAILED".equals(status)) {
+            checkpoint.jobLog.setErrorMessage("Unknown error");
+        }
+        save(checkpoint);
+    }
+
+    private void save(TenantCheckpoint checkpoint) {
+        checkpoint.jobLog.setRecordsProcessed(checkpoint.generatedCount + checkpoint.sentCount);
+        checkpoint.jobLog.setMetadata(checkpoint.toMetadata());
+        checkpoint.jobLog = jobLogRepository.save(checkpoint.jobLog);
+    }
+
+    private static long elapsedMillis(long startNanos) {
+        return TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos);
+    }
+
+    /**
+     * 테넌트 진행 상태 - JobExecutionLog.metadata로 저장/복원
+     */
+    private static final class TenantCheckpoint {
+        JobExecutionLog jobLog;
+        String phase = PHASE_GENERATE;
+        UUID orderCursor = CURSOR_START;
+        UUID documentCursor = CURSOR_START;
+        int chunks;
+        int resumeCount;
+        int generatedCount;
+        int generateFailCount;
+        int sentCount;
+        int sendFailCount;
+        long generatePhaseMillis;
+        long sendPhaseMillis;
+        long elapsedMillis;
+
+        void add(AutoErpChunkResult result) {
+            chunks++;
+            generatedCount += result.generatedCount();
+            generateFailCount += result.generateFailCount();
+            sentCount += result.sentCount();
+            sendFailCount += result.sendFailCount();
+        }
+
+        void restore(JobExecutionLog previous) {
+            jobLog = previous;
+            Map<String, Object> m = previous.getMetadata() != null ? previous.getMetadata() : Map.of();
+            phase = PHASE_SEND.equals(m.get("phase")) ? PHASE_SEND : PHASE_GENERATE;
+            orderCursor = uuidValue(m.get("orderCursor"));
+            documentCursor = uuidValue(m.get("documentCursor"));
+            chunks = (int) longValue(m.get("chunks"));
+            resumeCount = (int) longValue(m.get("resumeCount")) + 1;
+            generatedCount = (int) longValue(m.get("generatedCount"));
+            generateFailCount = (int) longValue(m.get("generateFailCount"));
+            sentCount = (int) longValue(m.get("sentCount"));
+            sendFailCount = (int) longValue(m.get("sendFailCount"));
+            generatePhaseMillis = longValue(m.get("generatePhaseMillis"));
+            sendPhaseMillis = longValue(m.get("sendPhaseMillis"));
+            elapsedMillis = longValue(m.get("elapsedMillis"));
+        }
+
+        Map<String, Object> toMetadata() {
+            Map<String, Object> m = new LinkedHashMap<>();
+            m.put("phase", phase);
+            m.put("orderCursor", orderCursor.toString());
+            m.put("documentCursor", documentCursor.toString());
+            m.put("chunks", chunks);
+            m.put("resumeCount", resumeCount);
+            m.put("generatedCount", generatedCount);
+            m.put("generateFailCount", generateFailCount);
+            m.put("sentCount", sentCount);
+            m.put("sendFailCount", sendFailCount);
+            m.put("generatePhaseMillis", generatePhaseMillis);
+            m.put("sendPhaseMillis", sendPhaseMillis);
+            m.put("elapsedMillis", elapsedMillis);
+            return m;
+        }
+
+        private static UUID uuidValue(Object value) {
+            return value != null ? UUID.fromString(value.toString()) : CURSOR_START;
+        }
+
+        private static long longValue(Object value) {
+            return value instanceof Number n ? n.longValue() : 0L;
+        }
+    }
+}
@@ -0,0 +1,45 @@
+package com.mhub.scheduler.job;
+
+import com.mhub.core.domain.entity.Tenant;
+import com.mhub.core.domain.repository.TenantRepository;
+import com.mhub.core.tenant.SchedulerTenantHelper;
+import com.mhub.erp.service.ErpSalesDocumentService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import net.javacrumbs.shedlock.spring.annotation.SchedulerLock;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * ERP 전표 자동 재전송
+ * - 일시적 오류(ERP 5xx/429, 네트워크 오류, 시간 초과)로 실패한 전표를 nextRetryAt이 지나면 다시 전송
+ * - 확인 주기는 erp.send.retry-poll-interval, 재시도 한도와 간격은 ErpSendProperties
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ErpSendRetryScheduler {
+
+    private final TenantRepository tenantRepository;
+    private final ErpSalesDocumentService erpSalesDocumentService;
+    private final SchedulerTenantHelper schedulerTenantHelper;
+
+    @Scheduled(fixedDelayString = "${erp.send.retry-poll-interval:PT1M}")
+    @SchedulerLock(name = "erpSendRetry", lockAtMostFor = "PT30M")
+    public void retryFailedSends() {
+        int totalRetried = 0;
+        for (Tenant t : tenantRepository.findByActiveTrue()) {
+            try {
+                schedulerTenantHelper.setTenant(t.getId());
+                totalRetried += erpSalesDocumentService.retryDueDocuments(t.getId());
+            } catch (Exception e) {
+                log.error("ERP send retry failed for tenant {}", t.getId(), e);
+            } finally {
+                schedulerTenantHelper.clearTenant();
+            }
+        }
+        if (totalRetried > 0) {
+            log.info("ERP send retry completed: retriedDocuments={}", totalRetried);
+        }
+    }
+}
@@ -116,9 +116,7 @@ public class LocalOrderSyncScheduler {
 
             int count;
             if (syncType == SyncType.NEW_ORDERS) {
-                LocalDateTime from = LocalDate.now().atStartOfDay();
-                LocalDateTime to = LocalDateTime.now();
-                count = orderSyncService.syncOrders(cred, from, to);
+                count = orderSyncService.syncNewOrders(cred);
                 log.info("[LOCAL] New order collection completed: tenant={} mkt={} count={}",
                         tenantId, cred.getMarketplaceType(), count);
             } else if (syncType == SyncType.SETTLEMENT_COLLECTION) {
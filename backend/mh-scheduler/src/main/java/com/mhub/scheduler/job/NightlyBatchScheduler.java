@@ -2,8 +2,8 @@ package com.mhub.scheduler.job;
 
 import com.mhub.core.domain.entity.Tenant;
 import com.mhub.core.domain.repository.TenantRepository;
+import com.mhub.core.service.OrderStatsService;
 import com.mhub.core.tenant.SchedulerTenantHelper;
-import com.mhub.erp.service.ErpSalesDocumentService;
 import com.mhub.erp.service.ErpSyncService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -11,9 +11,6 @@ import net.javacrumbs.shedlock.spring.annotation.SchedulerLock;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 
-import java.util.List;
-import java.util.Map;
-
 @Slf4j
 @Component
 @RequiredArgsConstructor
@@ -21,8 +18,9 @@ public class NightlyBatchScheduler {
 
     private final TenantRepository tenantRepository;
     private final ErpSyncService erpSyncService;
-    private final ErpSalesDocumentService erpSalesDocumentService;
+    private final AutoErpBatchRunner autoErpBatchRunner;
     private final SchedulerTenantHelper schedulerTenantHelper;
+    private final OrderStatsService orderStatsService;
 
     @Scheduled(cron = "0 0 2 * * *")
     @SchedulerLock(name = "nightlySettlementBatch", lockAtMostFor = "PT2H", lockAtLeastFor = "PT10M")
@@ -64,49 +62,39 @@ public class NightlyBatchScheduler {
      * - 각 테넌트의 ERP 설정에서 autoGenerateDocument, autoSendToErp 활성화 여부에 따라 처리
      * - autoGenerateDocument가 활성화된 경우: 배송중/배송완료 주문 중 전표 미생성 건에 대해 자동 전표 생성
      * - autoSendToErp가 활성화된 경우: 미전송(PENDING) 전표를 ERP로 자동 전송
+     * - 평상시에는 주문 상태 변경 이벤트(AutoErpDocumentEventHandler)로 바로 처리되며, 이 배치는 누락분 보정용
+     * - 테넌트 병렬 처리, 청크 단위 생성/전송, 중단 시 이어서 처리는 AutoErpBatchRunner 참고
      */
     @Scheduled(cron = "0 0 3 * * *")
     @SchedulerLock(name = "autoErpDocumentBatch", lockAtMostFor = "PT2H", lockAtLeastFor = "PT10M")
     public void runAutoErpDocumentBatch() {
         log.info("Starting auto ERP document batch (generate + send)");
 
-        int totalGenerated = 0;
-        int totalSent = 0;
-        int processedTenants = 0;
-        int skippedTenants = 0;
+        AutoErpBatchRunner.BatchSummary summary = autoErpBatchRunner.run();
+
+        log.info("Auto ERP document batch completed: processedTenants={}, skippedTenants={}, failedTenants={}, totalGenerated={}, totalSent={}",
+                summary.processedTenants(), summary.skippedTenants(), summary.failedTenants(),
+                summary.totalGenerated(), summary.totalSent());
+    }
 
+    /**
+     * 일자 주문 통계 재집계 (매일 04:00)
+     * - 증감 반영 경로 밖에서 orders가 변경된 경우의 드리프트 보정
+     */
+    @Scheduled(cron = "0 0 4 * * *")
+    @SchedulerLock(name = "orderStatsRebuild", lockAtMostFor = "PT1H", lockAtLeastFor = "PT5M")
+    public void runOrderStatsRebuild() {
+        log.info("Starting order stats rebuild");
         for (Tenant t : tenantRepository.findByActiveTrue()) {
             try {
                 schedulerTenantHelper.setTenant(t.getId());
-                Map<String, Object> result = erpSalesDocumentService.processAutoErpBatch(t.getId());
-
-                if (Boolean.TRUE.equals(result.get("skipped"))) {
-                    log.debug("Auto ERP batch skipped for tenant {}: {}", t.getId(), result.get("reason"));
-                    skippedTenants++;
-                } else {
-                    int generated = (int) result.getOrDefault("generatedCount", 0);
-                    int sent = (int) result.getOrDefault("sentCount", 0);
-                    totalGenerated += generated;
-                    totalSent += sent;
-                    processedTenants++;
-                    log.info("Auto ERP batch for tenant {}: generated={}, sent={}", t.getId(), generated, sent);
-                }
+                orderStatsService.rebuild(t.getId());
             } catch (Exception e) {
-                log.error("Auto ERP batch failed for tenant {}", t.getId(), e);
+                log.error("Order stats rebuild failed for tenant {}", t.getId(), e);
             } finally {
                 schedulerTenantHelper.clearTenant();
             }
         }
-
-        log.info("Auto ERP document batch completed: processedTenants={}, skippedTenants={}, totalGenerated={}, totalSent={}",
-                processedTenants, skippedTenants, totalGenerated, totalSent);
-    }
-
-    @Scheduled(cron = "0 0 3 1 * *")
-    @SchedulerLock(name = "monthlyPartitionMaintenance", lockAtMostFor = "PT30M", lockAtLeastFor = "PT5M")
-    public void runMonthlyPartitionMaintenance() {
-        log.info("Starting monthly partition maintenance");
-        log.warn("Monthly partition maintenance skipped: not yet implemented");
-        log.info("Monthly partition maintenance completed");
+        log.info("Order stats rebuild completed");
     }
 }
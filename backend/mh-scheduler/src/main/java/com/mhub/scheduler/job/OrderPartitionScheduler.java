@@ -0,0 +1,73 @@
+package com.mhub.scheduler.job;
+
+import com.mhub.scheduler.partition.OrderPartitionMaintenanceService;
+import com.mhub.scheduler.partition.OrderPartitionMaintenanceService.MaintenanceResult;
+import com.mhub.scheduler.partition.OrderPartitionProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import net.javacrumbs.shedlock.spring.annotation.SchedulerLock;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * orders 파티션 관리 배치
+ * - 매일 04:30 + 애플리케이션 기동 시 실행 (멱등이므로 매일 실행해도 필요한 작업만 수행)
+ * - mhub.orders.partition.lookahead.months: 이번 달 이후로 만들어진 파티션 개월 수 (-1이면 이번 달 파티션 없음)
+ *   minLookAheadMonths 미만이면 경고 로그, 실패 시 mhub.orders.partition.maintenance.failures 증가
+ */
+@Slf4j
+@Component
+public class OrderPartitionScheduler {
+
+    private final OrderPartitionMaintenanceService maintenanceService;
+    private final OrderPartitionProperties properties;
+    private final AtomicInteger coveredMonths = new AtomicInteger(-1);
+    private final Counter failureCounter;
+
+    public OrderPartitionScheduler(OrderPartitionMaintenanceService maintenanceService,
+                                   OrderPartitionProperties properties,
+                                   MeterRegistry meterRegistry) {
+        this.maintenanceService = maintenanceService;
+        this.properties = properties;
+        Gauge.builder("mhub.orders.partition.lookahead.months", coveredMonths, AtomicInteger::get)
+                .description("Months of orders partitions available after the current month")
+                .register(meterRegistry);
+        this.failureCounter = Counter.builder("mhub.orders.partition.maintenance.failures")
+                .description("Failed orders partition maintenance runs")
+                .register(meterRegistry);
+    }
+
+    @Scheduled(cron = "0 30 4 * * *")
+    @SchedulerLock(name = "orderPartitionMaintenance", lockAtMostFor = "PT30M", lockAtLeastFor = "PT5M")
+    public void runPartitionMaintenance() {
+        maintain();
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @SchedulerLock(name = "orderPartitionMaintenance", lockAtMostFor = "PT30M")
+    public void runOnStartup() {
+        maintain();
+    }
+
+    private void maintain() {
+        log.info("Starting order partition maintenance");
+        try {
+            MaintenanceResult result = maintenanceService.maintain();
+            coveredMonths.set(result.coveredMonths());
+            if (result.coveredMonths() < properties.minLookAheadMonths()) {
+                log.warn("Order partition look-ahead is low: coveredMonths={}, minLookAheadMonths={}",
+                        result.coveredMonths(), properties.minLookAheadMonths());
+            }
+        } catch (Exception e) {
+            failureCounter.increment();
+            log.error("Order partition maintenance failed", e);
+        }
+        log.info("Order partition maintenance completed");
+    }
+}
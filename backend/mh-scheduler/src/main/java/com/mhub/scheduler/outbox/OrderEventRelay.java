@@ -0,0 +1,190 @@
+package com.mhub.scheduler.outbox;
+
+import com.mhub.core.domain.event.OrderCollectedEvent;
+import com.mhub.core.domain.event.OrderStatusChangedEvent;
+import com.mhub.core.service.OrderEventHandler;
+import com.mhub.core.service.OrderEventOutboxService;
+import com.mhub.core.service.OrderEventOutboxService.OutboxEntry;
+import com.mhub.core.tenant.SchedulerTenantHelper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import net.javacrumbs.shedlock.spring.annotation.SchedulerLock;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+
+/**
+ * 주문 이벤트 아웃박스 릴레이
+ * - poll-interval마다 대기 이벤트를 가져와 등록된 OrderEventHandler들에 전달
+ * - 같은 주문의 이벤트는 id 순서대로 하나씩 처리 - claim이 주문마다 가장 앞선 PENDING 이벤트만 가져가므로
+ *   앞선 이벤트가 재시도 대기 중이면 성공하거나 DEAD가 될 때까지 뒤 이벤트는 전달하지 않음
+ * - 주문끼리는 가상 스레드에서 병렬 처리하되 동시에 처리하는 이벤트 수는 maxConcurrency로 제한
+ *   (핸들러마다 DB 커넥션을 사용하므로 커넥션 풀의 절반을 넘으면 절반으로 줄여서 적용)
+ * - 핸들러별 처리 이력(handled_by)을 남겨 재시도 시 실패한 핸들러만 다시 호출
+ * - 실패 시 지수 백오프로 재시도, maxAttempts에 도달하면 DEAD (mhub.order_events.dead 증가)
+ * - 여러 인스턴스가 동시에 실행해도 claim(FOR UPDATE SKIP LOCKED)으로 이벤트를 나눠 가져감
+ */
+@Slf4j
+@Component
+public class OrderEventRelay {
+
+    private final OrderEventOutboxService outboxService;
+    private final List<OrderEventHandler> handlers;
+    private final SchedulerTenantHelper schedulerTenantHelper;
+    private final OrderEventRelayProperties properties;
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+    private final Semaphore deliverySlots;
+
+    private final Counter deliveredCounter;
+    private final Counter retriedCounter;
+    private final Counter deadCounter;
+
+    public OrderEventRelay(OrderEventOutboxService outboxService,
+                           List<OrderEventHandler> handlers,
+                           SchedulerTenantHelper schedulerTenantHelper,
+                           OrderEventRelayProperties properties,
+                           MeterRegistry meterRegistry,
+                           @Value("${spring.datasource.hikari.maximum-pool-size:10}") int connectionPoolSize) {
+        this.outboxService = outboxService;
+        this.handlers = handlers;
+        this.schedulerTenantHelper = schedulerTenantHelper;
+        this.properties = properties;
+        int concurrency = Math.max(1, Math.min(properties.maxConcurrency(), connectionPoolSize / 2));
+        if (concurrency < properties.maxConcurrency()) {
+            log.warn("order-events.relay.max-concurrency {} exceeds half of the connection pool ({}), using {}",
+                    properties.maxConcurrency(), connectionPoolSize, concurrency);
+        }
+        this.deliverySlots = new Semaphore(concurrency);
+        this.deliveredCounter = Counter.builder("mhub.order_events.delivered")
+                .description("Order events delivered to all handlers")
+                .register(meterRegistry);
+        this.retriedCounter = Counter.builder("mhub.order_events.retried")
+                .description("Order event deliveries that failed and were scheduled for retry")
+                .register(meterRegistry);
+        this.deadCounter = Counter.builder("mhub.order_events.dead")
+                .description("Order events moved to DEAD after exhausting retries")
+                .register(meterRegistry);
+    }
+
+    @Scheduled(fixedDelayString = "${order-events.relay.poll-interval:PT2S}")
+    public void relay() {
+        List<OutboxEntry> entries;
+        try {
+            entries = outboxService.claim(properties.batchSize(), properties.claimTimeout());
+        } catch (Exception e) {
+            log.error("Failed to claim order events", e);
+            return;
+        }
+        if (entries.isEmpty()) {
+            return;
+        }
+
+        // claim이 주문마다 한 건만 가져오므로 이벤트끼리는 순서와 무관하게 병렬 처리
+        List<Callable<Void>> tasks = new ArrayList<>(entries.size());
+        for (OutboxEntry entry : entries) {
+            tasks.add(() -> {
+                deliverySlots.acquire();
+                try {
+                    deliver(entry);
+                } finally {
+                    deliverySlots.release();
+                }
+                return null;
+            });
+        }
+
+        try {
+            executor.invokeAll(tasks);
+        } catch (InterruptedException e) {
+            // 처리하지 못한 이벤트는 claimTimeout 뒤 다시 전달됨
+            Thread.currentThread().interrupt();
+        }
+        log.debug("Relayed {} order events", entries.size());
+    }
+
+    private void deliver(OutboxEntry entry) {
+        if (entry.event() == null) {
+            outboxService.fail(entry.id(), entry.handledBy(), "Unreadable event payload", Duration.ZERO, 0);
+            deadCounter.increment();
+            return;
+        }
+
+        Set<String> handledBy = new HashSet<>(entry.handledBy());
+        String error = null;
+        try {
+            schedulerTenantHelper.setTenant(entry.tenantId());
+            for (OrderEventHandler handler : handlers) {
+                if (handledBy.contains(handler.name())) {
+                    continue;
+                }
+                try {
+                    switch (entry.event()) {
+                        case OrderCollectedEvent e -> handler.onOrderCollected(e);
+                        case OrderStatusChangedEvent e -> handler.onOrderStatusChanged(e);
+                        default -> throw new IllegalStateException("Unsupported event " + entry.event().getClass());
+                    }
+                    handledBy.add(handler.name());
+                } catch (Exception e) {
+                    log.warn("Order event {} handler {} failed (attempt {}): {}",
+                            entry.id(), handler.name(), entry.attempts() + 1, e.getMessage());
+                    error = handler.name() + ": " + e.getMessage();
+                }
+            }
+        } catch (Exception e) {
+            log.warn("Order event {} delivery failed: {}", entry.id(), e.getMessage());
+            error = e.getMessage();
+        } finally {
+            schedulerTenantHelper.clearTenant();
+        }
+
+        if (error == null) {
+            outboxService.complete(entry.id(), handledBy);
+            deliveredCounter.increment();
+            return;
+        }
+
+        boolean dead = outboxService.fail(entry.id(), handledBy, error, backoff(entry.attempts()), properties.maxAttempts());
+        if (dead) {
+            deadCounter.increment();
+            log.error("Order event {} for order {} moved to DEAD after {} attempts: {}",
+                    entry.id(), entry.orderId(), entry.attempts() + 1, error);
+        } else {
+            retriedCounter.increment();
+        }
+    }
+
+    /**
+     * initialBackoff * 2^attempts (최대 maxBackoff)
+     */
+    private Duration backoff(int attempts) {
+        Duration delay = properties.initialBackoff().multipliedBy(1L << Math.min(attempts, 20));
+        return delay.compareTo(properties.maxBackoff()) > 0 ? properties.maxBackoff() : delay;
+    }
+
+    /**
+     * 처리 완료 이벤트 정리 (매일 05:00)
+     */
+    @Scheduled(cron = "0 0 5 * * *")
+    @SchedulerLock(name = "orderEventOutboxPurge", lockAtMostFor = "PT30M", lockAtLeastFor = "PT5M")
+    public void purgeProcessed() {
+        int deleted = outboxService.purgeProcessed(properties.retention());
+        log.info("Purged {} processed order events older than {}", deleted, properties.retention());
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+}
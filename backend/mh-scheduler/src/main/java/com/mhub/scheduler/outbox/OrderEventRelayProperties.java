@@ -0,0 +1,27 @@
+package com.mhub.scheduler.outbox;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * 주문 이벤트 아웃박스 릴레이 설정
+ * - batchSize: 한 번에 가져가는 이벤트 수 (주문별로 묶어 가상 스레드에서 병렬 처리)
+ * - maxConcurrency: 동시에 처리하는 주문 수 - 핸들러마다 DB 커넥션을 쓰므로 커넥션 풀 크기의 절반을 넘으면 절반으로 줄여 적용
+ * - claimTimeout: 가져간 이벤트를 다른 릴레이가 가져가지 않는 시간 - 처리 중 프로세스가 죽으면 이 시간 뒤 재전달
+ * - maxAttempts: 이 횟수만큼 실패하면 DEAD로 전환
+ * - initialBackoff / maxBackoff: 재시도 간격 (실패할 때마다 두 배, 최대 maxBackoff)
+ * - retention: 처리 완료 이벤트 보관 기간
+ * 확인 주기(order-events.relay.poll-interval)는 @Scheduled에서 직접 읽음
+ */
+@ConfigurationProperties(prefix = "order-events.relay")
+public record OrderEventRelayProperties(
+        @DefaultValue("100") int batchSize,
+        @DefaultValue("4") int maxConcurrency,
+        @DefaultValue("5m") Duration claimTimeout,
+        @DefaultValue("8") int maxAttempts,
+        @DefaultValue("30s") Duration initialBackoff,
+        @DefaultValue("1h") Duration maxBackoff,
+        @DefaultValue("7d") Duration retention
+) {}
@@ -0,0 +1,122 @@
+package com.mhub.scheduler.partition;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * orders 월별 파티션 관리
+ * - 이번 달부터 lookAheadMonths 이후까지 파티션이 없으면 생성 (create_monthly_partition 함수 사용, RLS 포함)
+ *   orders의 인덱스는 부모 테이블에 정의되어 있어 새 파티션에 자동으로 생성됨
+ * - retentionMonths가 설정되면 보관 기간이 지난 파티션을 DETACH (테이블은 보관용으로 남김)
+ * - 모든 단계가 현재 파티션 상태를 보고 필요한 작업만 수행하므로 여러 번 실행해도 결과가 같음
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class OrderPartitionMaintenanceService {
+
+    private static final String PARENT_TABLE = "orders";
+    private static final Pattern PARTITION_NAME = Pattern.compile("^orders_(\\d{4})_(\\d{2})$");
+
+    private static final String LIST_PARTITIONS_SQL =
+            "SELECT c.relname FROM pg_inherits i " +
+            "JOIN pg_class c ON c.oid = i.inhrelid " +
+            "WHERE i.inhparent = 'public.orders'::regclass";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final OrderPartitionProperties properties;
+
+    /**
+     * @param created        새로 생성한 파티션 월
+     * @param detached       분리한 파티션 이름
+     * @param coveredMonths  이번 달 이후로 연속해서 존재하는 파티션 개월 수
+     */
+    public record MaintenanceResult(List<YearMonth> created, List<String> detached, int coveredMonths) {}
+
+    public MaintenanceResult maintain() {
+        return maintain(YearMonth.now());
+    }
+
+    /**
+     * 기준 월(currentMonth)로 파티션 관리 수행
+     */
+    public MaintenanceResult maintain(YearMonth currentMonth) {
+        Map<YearMonth, String> partitions = findPartitions();
+
+        // 1. 이번 달 ~ lookAheadMonths 이후까지 누락된 파티션 생성
+        List<YearMonth> created = new ArrayList<>();
+        for (int i = 0; i <= properties.lookAheadMonths(); i++) {
+            YearMonth month = currentMonth.plusMonths(i);
+            if (!partitions.containsKey(month)) {
+                createPartition(month);
+                created.add(month);
+            }
+        }
+        if (!created.isEmpty()) {
+            partitions = findPartitions();
+        }
+
+        // 2. 보관 기간이 지난 파티션 분리
+        List<String> detached = new ArrayList<>();
+        if (properties.retentionMonths() > 0) {
+            YearMonth oldestRetained = currentMonth.minusMonths(properties.retentionMonths());
+            for (Map.Entry<YearMonth, String> entry : partitions.entrySet()) {
+                if (entry.getKey().isBefore(oldestRetained)) {
+                    detachPartition(entry.getValue());
+                    detached.add(entry.getValue());
+                }
+            }
+        }
+
+        int coveredMonths = countCoveredMonths(partitions, currentMonth);
+        log.info("Order partition maintenance for {}: created={}, detached={}, coveredMonths={}",
+                currentMonth, created, detached, coveredMonths);
+        return new MaintenanceResult(created, detached, coveredMonths);
+    }
+
+    /**
+     * 이번 달 이후로 빈틈없이 이어진 파티션 개월 수 (이번 달 파티션이 없으면 -1)
+     */
+    private int countCoveredMonths(Map<YearMonth, String> partitions, YearMonth currentMonth) {
+        int covered = -1;
+        YearMonth month = currentMonth;
+        while (partitions.containsKey(month)) {
+            covered++;
+            month = month.plusMonths(1);
+        }
+        return covered;
+    }
+
+    private Map<YearMonth, String> findPartitions() {
+        Map<YearMonth, String> partitions = new TreeMap<>();
+        for (String name : jdbcTemplate.queryForList(LIST_PARTITIONS_SQL, String.class)) {
+            Matcher matcher = PARTITION_NAME.matcher(name);
+            if (matcher.matches()) {
+                partitions.put(YearMonth.of(Integer.parseInt(matcher.group(1)), Integer.parseInt(matcher.group(2))), name);
+            }
+        }
+        return partitions;
+    }
+
+    private void createPartition(YearMonth month) {
+        jdbcTemplate.queryForList("SELECT create_monthly_partition(?, ?, ?)",
+                PARENT_TABLE, month.getYear(), month.getMonthValue());
+        log.info("Created order partition for {}", month);
+    }
+
+    private void detachPartition(String partitionName) {
+        // partitionName은 PARTITION_NAME 패턴을 통과한 이름만 전달됨
+        jdbcTemplate.execute("ALTER TABLE " + PARENT_TABLE + " DETACH PARTITION " + partitionName);
+        log.info("Detached order partition {}", partitionName);
+    }
+}
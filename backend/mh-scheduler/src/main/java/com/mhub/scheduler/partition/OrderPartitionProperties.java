@@ -0,0 +1,18 @@
+package com.mhub.scheduler.partition;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * orders 월별 파티션 관리 설정
+ * - lookAheadMonths: 이번 달 이후로 미리 만들어 둘 파티션 개월 수
+ * - minLookAheadMonths: 미리 만들어진 파티션이 이 개월 수 미만이면 경고 (생성 실패 감지용)
+ * - retentionMonths: 이번 달 기준 이 개월 수보다 오래된 파티션을 orders에서 분리(DETACH), 0이면 분리하지 않음
+ *   (분리된 파티션 테이블은 삭제하지 않고 보관용으로 남겨둠)
+ */
+@ConfigurationProperties(prefix = "partition.orders")
+public record OrderPartitionProperties(
+        @DefaultValue("3") int lookAheadMonths,
+        @DefaultValue("2") int minLookAheadMonths,
+        @DefaultValue("0") int retentionMonths
+) {}
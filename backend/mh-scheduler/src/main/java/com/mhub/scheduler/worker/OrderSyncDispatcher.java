@@ -0,0 +1,209 @@
+package com.mhub.scheduler.worker;
+
+import com.mhub.core.domain.enums.MarketplaceType;
+import io.awspring.cloud.sqs.listener.Visibility;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 주문 동기화 작업 실행기
+ * - 작업은 가상 스레드에서 실행하고, SQS 리스너 스레드는 작업을 넘긴 뒤 바로 반환
+ * - 같은 인증정보 중복/마켓플레이스별 한도를 먼저 확인하고, 통과한 작업만 전체 동시 실행 슬롯(maxInFlight)을 기다림
+ *   슬롯이 차면 리스너 스레드가 대기하여 더 이상 메시지를 가져오지 않음
+ * - maxInFlight는 커넥션 풀 크기의 절반을 넘지 않도록 줄여서 적용 (작업마다 DB 커넥션을 사용하므로)
+ * - 마켓플레이스별 한도 초과 또는 같은 인증정보의 다른 작업이 실행 중이면 DEFERRED를 반환하고,
+ *   OrderSyncWorker가 메시지를 deferDelay 지연으로 다시 보내 다른 셀러/마켓 메시지가 먼저 처리되도록 함
+ * - 실행 중인 메시지는 visibilityExtendInterval마다 가시성 타임아웃을 연장하여 긴 수집 중 재전달되지 않게 함
+ */
+@Slf4j
+@Component
+@Profile("!local")
+public class OrderSyncDispatcher {
+
+    public enum Admission {
+        /** 실행 시작 */
+        ACCEPTED,
+        /** 같은 인증정보의 같은 종류 작업이 이미 실행 중 - 중복이므로 처리 불필요 */
+        DUPLICATE,
+        /** 한도 초과로 나중에 다시 처리 (호출 측에서 지연 재전송) */
+        DEFERRED
+    }
+
+    private final OrderSyncWorkerProperties properties;
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+    private final ScheduledExecutorService visibilityScheduler = Executors.newSingleThreadScheduledExecutor(
+            Thread.ofPlatform().name("order-sync-visibility").daemon().factory());
+
+    private final Semaphore inFlightSlots;
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final Map<String, AtomicInteger> inFlightByMarketplace = new ConcurrentHashMap<>();
+    private final Map<String, SyncType> runningCredentials = new ConcurrentHashMap<>();
+
+    private final MeterRegistry meterRegistry;
+    private final Timer queueLagTimer;
+    private final AtomicInteger lastQueueLagSeconds = new AtomicInteger();
+    private final Counter deferredCounter;
+
+    public OrderSyncDispatcher(OrderSyncWorkerProperties properties, MeterRegistry meterRegistry,
+                               @Value("${spring.datasource.hikari.maximum-pool-size:10}") int connectionPoolSize) {
+        this.properties = properties;
+        this.meterRegistry = meterRegistry;
+        int maxInFlight = Math.max(1, Math.min(properties.maxInFlight(), connectionPoolSize / 2));
+        if (maxInFlight < properties.maxInFlight()) {
+            log.warn("order-sync-worker.max-in-flight {} exceeds half of the connection pool ({}), using {}",
+                    properties.maxInFlight(), connectionPoolSize, maxInFlight);
+        }
+        this.inFlightSlots = new Semaphore(maxInFlight);
+
+        Gauge.builder("mhub.order_sync.in_flight", inFlight, AtomicInteger::get)
+                .description("Order sync jobs currently running on this worker")
+                .register(meterRegistry);
+        for (MarketplaceType type : MarketplaceType.values()) {
+            marketplaceCounter(type.name());
+        }
+        this.queueLagTimer = Timer.builder("mhub.order_sync.queue.lag")
+                .description("Time between publishing an order sync message and starting to process it")
+                .register(meterRegistry);
+        Gauge.builder("mhub.order_sync.queue.lag.last", lastQueueLagSeconds, AtomicInteger::get)
+                .description("Queue lag in seconds of the most recently received order sync message")
+                .baseUnit("seconds")
+                .register(meterRegistry);
+        this.deferredCounter = Counter.builder("mhub.order_sync.deferred")
+                .description("Order sync messages returned to the queue because a concurrency cap was reached")
+                .register(meterRegistry);
+    }
+
+    /**
+     * SQS SentTimestamp(epoch millis) 기준 대기 시간 기록
+     */
+    public void recordQueueLag(String sentTimestamp) {
+        if (sentTimestamp == null || sentTimestamp.isBlank()) {
+            return;
+        }
+        try {
+            long lagMillis = Math.max(0, System.currentTimeMillis() - Long.parseLong(sentTimestamp));
+            queueLagTimer.record(Duration.ofMillis(lagMillis));
+            lastQueueLagSeconds.set((int) (lagMillis / 1000));
+        } catch (NumberFormatException e) {
+            log.debug("Invalid SentTimestamp: {}", sentTimestamp);
+        }
+    }
+
+    /**
+     * 작업 실행 요청
+     * - 중복/마켓플레이스 한도 확인을 먼저 하여, 어차피 실행하지 않을 메시지가 전체 슬롯을 기다리지 않게 함
+     *
+     * @param job        실행할 작업
+     * @param onComplete 작업 종료(성공/실패 무관) 후 호출 - 메시지 삭제(ack)
+     * @return DEFERRED면 메시지를 삭제하지 않았으므로 호출 측에서 지연 재전송
+     */
+    public Admission submit(OrderSyncMessage msg, Visibility visibility, Runnable job, Runnable onComplete) {
+        SyncType syncType = msg.syncType() != null ? msg.syncType() : SyncType.NEW_ORDERS;
+        SyncType running = runningCredentials.putIfAbsent(msg.credentialId(), syncType);
+        if (running != null) {
+            if (running == syncType) {
+                return Admission.DUPLICATE;
+            }
+            return defer(msg, "credential busy with " + running);
+        }
+
+        AtomicInteger marketplaceInFlight = marketplaceCounter(msg.marketplaceType());
+        if (marketplaceInFlight.incrementAndGet() > properties.maxPerMarketplace()) {
+            marketplaceInFlight.decrementAndGet();
+            runningCredentials.remove(msg.credentialId());
+            return defer(msg, "marketplace limit reached");
+        }
+
+        try {
+            inFlightSlots.acquire();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            marketplaceInFlight.decrementAndGet();
+            runningCredentials.remove(msg.credentialId());
+            return defer(msg, "worker shutting down");
+        }
+
+        inFlight.incrementAndGet();
+        try {
+            executor.submit(() -> {
+                ScheduledFuture<?> heartbeat = visibilityScheduler.scheduleAtFixedRate(
+                        () -> extendVisibility(msg, visibility),
+                        0, properties.visibilityExtendInterval().toMillis(), TimeUnit.MILLISECONDS);
+                try {
+                    job.run();
+                } finally {
+                    heartbeat.cancel(false);
+                    release(msg, marketplaceInFlight);
+                    onComplete.run();
+                }
+            });
+        } catch (RuntimeException e) {
+            release(msg, marketplaceInFlight);
+            throw e;
+        }
+        return Admission.ACCEPTED;
+    }
+
+    private void release(OrderSyncMessage msg, AtomicInteger marketplaceInFlight) {
+        inFlight.decrementAndGet();
+        marketplaceInFlight.decrementAndGet();
+        runningCredentials.remove(msg.credentialId());
+        inFlightSlots.release();
+    }
+
+    private Admission defer(OrderSyncMessage msg, String reason) {
+        deferredCounter.increment();
+        log.debug("Deferring {} for credential={} mkt={}: {}", msg.syncType(), msg.credentialId(), msg.marketplaceType(), reason);
+        return Admission.DEFERRED;
+    }
+
+    private void extendVisibility(OrderSyncMessage msg, Visibility visibility) {
+        visibility.changeToAsync((int) properties.visibilityTimeout().toSeconds())
+                .exceptionally(e -> {
+                    log.warn("Failed to extend visibility for credential={}: {}", msg.credentialId(), e.getMessage());
+                    return null;
+                });
+    }
+
+    private AtomicInteger marketplaceCounter(String marketplaceType) {
+        String key = marketplaceType != null ? marketplaceType : "UNKNOWN";
+        return inFlightByMarketplace.computeIfAbsent(key, k -> {
+            AtomicInteger counter = new AtomicInteger();
+            Gauge.builder("mhub.order_sync.in_flight.marketplace", counter, AtomicInteger::get)
+                    .description("Order sync jobs currently running per marketplace")
+                    .tag("marketplace", k)
+                    .register(meterRegistry);
+            return counter;
+        });
+    }
+
+    /**
+     * 종료 시 실행 중인 작업을 잠시 기다린 뒤 중단 - 삭제(ack)되지 않은 메시지는 가시성 타임아웃 후 다시 전달됨
+     */
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        executor.shutdown();
+        if (!executor.awaitTermination(30, TimeUnit.SECONDS)) {
+            executor.shutdownNow();
+        }
+        visibilityScheduler.shutdownNow();
+    }
+}
@@ -9,34 +9,88 @@ import com.mhub.core.tenant.SchedulerTenantHelper;
 import com.mhub.marketplace.service.OrderSyncService;
 import com.mhub.marketplace.service.SettlementSyncService;
 import io.awspring.cloud.sqs.annotation.SqsListener;
+import io.awspring.cloud.sqs.listener.SqsHeaders;
+import io.awspring.cloud.sqs.listener.Visibility;
+import io.awspring.cloud.sqs.listener.acknowledgement.Acknowledgement;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Profile;
+import org.springframework.messaging.handler.annotation.Header;
 import org.springframework.stereotype.Component;
-import java.time.LocalDate;
+import software.amazon.awssdk.services.sqs.SqsAsyncClient;
+import software.amazon.awssdk.services.sqs.model.SendMessageRequest;
 import java.time.LocalDateTime;
 import java.util.UUID;
 
 @Slf4j @Component @RequiredArgsConstructor
 @Profile("!local")
 public class OrderSyncWorker {
+    /** SQS DelaySeconds 최대값 */
+    private static final int MAX_DELAY_SECONDS = 900;
+
     private final OrderSyncService orderSyncService;
     private final SettlementSyncService settlementSyncService;
     private final TenantMarketplaceCredentialRepository credentialRepository;
     private final JobExecutionLogRepository jobLogRepository;
     private final ObjectMapper objectMapper;
     private final SchedulerTenantHelper schedulerTenantHelper;
+    private final OrderSyncDispatcher dispatcher;
+    private final OrderSyncWorkerProperties workerProperties;
+    private final SqsAsyncClient sqsAsyncClient;
+
+    @Value("${mhub.aws.sqs.order-sync-queue:order-sync-queue}") private String orderSyncQueue;
 
-    @SqsListener(value = "${mhub.aws.sqs.order-sync-queue:order-sync-queue}", maxConcurrentMessages = "20")
-    public void processOrderSync(String messageBody) {
+    /**
+     * 메시지를 받아 가상 스레드 작업으로 넘기고 바로 반환
+     * - 메시지는 작업이 끝난 뒤 삭제(수동 ack), 실행 중에는 OrderSyncDispatcher가 가시성 타임아웃을 연장
+     * - 동시 실행 한도를 넘으면 같은 내용을 deferDelay 지연 메시지로 다시 보내고 원래 메시지는 삭제
+     *   (가시성 변경으로 미루면 수신 횟수가 늘어 정상 메시지도 DLQ로 넘어갈 수 있으므로)
+     */
+    @SqsListener(value = "${mhub.aws.sqs.order-sync-queue:order-sync-queue}", maxConcurrentMessages = "20",
+            acknowledgementMode = "MANUAL")
+    public void processOrderSync(String messageBody, Acknowledgement acknowledgement, Visibility visibility,
+                                 @Header(name = SqsHeaders.MessageSystemAttributes.SQS_SENT_TIMESTAMP, required = false)
+                                 String sentTimestamp) {
         OrderSyncMessage msg;
         try {
             msg = objectMapper.readValue(messageBody, OrderSyncMessage.class);
         } catch (Exception e) {
             log.error("Failed to parse: {}", messageBody, e);
+            acknowledgement.acknowledge();
             return;
         }
 
+        dispatcher.recordQueueLag(sentTimestamp);
+        OrderSyncDispatcher.Admission admission = dispatcher.submit(msg, visibility,
+                () -> runJob(msg), acknowledgement::acknowledge);
+        if (admission == OrderSyncDispatcher.Admission.DUPLICATE) {
+            log.info("{} already running for credential={}, dropping duplicate message", msg.syncType(), msg.credentialId());
+            acknowledgement.acknowledge();
+        } else if (admission == OrderSyncDispatcher.Admission.DEFERRED) {
+            requeueDelayed(msg, messageBody, acknowledgement);
+        }
+    }
+
+    /**
+     * 지연 재전송 후 원래 메시지 삭제 - 재전송에 실패하면 삭제하지 않아 가시성 타임아웃 뒤 다시 전달됨
+     */
+    private void requeueDelayed(OrderSyncMessage msg, String messageBody, Acknowledgement acknowledgement) {
+        int delaySeconds = (int) Math.min(MAX_DELAY_SECONDS, workerProperties.deferDelay().toSeconds());
+        sqsAsyncClient.sendMessage(SendMessageRequest.builder()
+                        .queueUrl(orderSyncQueue)
+                        .messageBody(messageBody)
+                        .delaySeconds(delaySeconds)
+                        .build())
+                .thenRun(acknowledgement::acknowledge)
+                .exceptionally(e -> {
+                    log.warn("Failed to requeue deferred {} for credential={}: {}",
+                            msg.syncType(), msg.credentialId(), e.getMessage());
+                    return null;
+                });
+    }
+
+    private void runJob(OrderSyncMessage msg) {
         UUID tenantId = UUID.fromString(msg.tenantId());
         UUID credentialId = UUID.fromString(msg.credentialId());
         SyncType syncType = msg.syncType() != null ? msg.syncType() : SyncType.NEW_ORDERS;
@@ -62,10 +116,8 @@ public class OrderSyncWorker {
 
             int count;
             if (syncType == SyncType.NEW_ORDERS) {
-                // 신규 주문 수집: 당일 주문만
-                LocalDateTime from = LocalDate.now().atStartOfDay();
-                LocalDateTime to = LocalDateTime.now();
-                count = orderSyncService.syncOrders(cred, from, to);
+                // 신규 주문 수집: 마지막 수집 워터마크 이후 (없으면 당일 주문)
+                count = orderSyncService.syncNewOrders(cred);
                 log.info("New order collection completed: tenant={} mkt={} count={}",
                         tenantId, msg.marketplaceType(), count);
             } else if (syncType == SyncType.SETTLEMENT_COLLECTION) {
@@ -0,0 +1,24 @@
+package com.mhub.scheduler.worker;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * 주문 동기화 SQS 워커 설정
+ * - maxInFlight: 워커 인스턴스 전체 동시 실행 작업 수 - 작업마다 DB 커넥션을 사용하므로
+ *   spring.datasource.hikari.maximum-pool-size의 절반을 넘으면 절반으로 줄여 적용 (HTTP 요청/다른 스케줄러 몫)
+ * - maxPerMarketplace: 마켓플레이스별 동시 실행 작업 수 (한 마켓 작업이 워커를 독점하지 않도록)
+ * - visibilityTimeout / visibilityExtendInterval: 작업 중인 메시지의 가시성 타임아웃을 주기적으로 연장
+ * - deferDelay: 마켓플레이스 한도 초과 또는 같은 인증정보의 다른 작업이 실행 중일 때 메시지를 다시 보내는 지연 (최대 15분)
+ *   가시성 변경 대신 새 메시지로 보내므로 ApproximateReceiveCount가 늘지 않아 DLQ로 넘어가지 않음
+ */
+@ConfigurationProperties(prefix = "order-sync-worker")
+public record OrderSyncWorkerProperties(
+        @DefaultValue("4") int maxInFlight,
+        @DefaultValue("2") int maxPerMarketplace,
+        @DefaultValue("5m") Duration visibilityTimeout,
+        @DefaultValue("2m") Duration visibilityExtendInterval,
+        @DefaultValue("30s") Duration deferDelay
+) {}
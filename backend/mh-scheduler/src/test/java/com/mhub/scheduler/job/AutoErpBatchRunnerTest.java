@@ -0,0 +1,254 @@
+package com.mhub.scheduler.job;
+
+import com.mhub.core.domain.entity.JobExecutionLog;
+import com.mhub.core.domain.entity.Tenant;
+import com.mhub.core.domain.entity.TenantErpConfig;
+import com.mhub.core.domain.repository.JobExecutionLogRepository;
+import com.mhub.core.domain.repository.TenantRepository;
+import com.mhub.core.erp.dto.AutoErpChunkResult;
+import com.mhub.core.tenant.SchedulerTenantHelper;
+import com.mhub.erp.service.ErpSalesDocumentService;
+import com.mhub.scheduler.job.AutoErpBatchRunner.BatchSummary;
+import com.mhub.support.PostgresIntegrationTest;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * 자동 전표 배치 실행기의 체크포인트/재개 확인 (전표 서비스는 목, 실행 기록은 실제 job_execution_log 사용)
+ * - 청크마다 커서와 건수를 metadata에 저장하고, resumeWindow 안의 RUNNING 기록은 저장된 단계/커서부터 이어서 처리
+ * - resumeWindow가 지난 RUNNING 기록은 실패로 닫고 처음부터, 한 테넌트의 실패는 다른 테넌트 처리에 영향 없음
+ */
+class AutoErpBatchRunnerTest extends PostgresIntegrationTest {
+
+    private static final int CHUNK_SIZE = 10;
+    private static final UUID CURSOR_START = new UUID(0L, 0L);
+
+    @Autowired
+    private JobExecutionLogRepository jobLogRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private final TenantRepository tenantRepository = mock(TenantRepository.class);
+    private final ErpSalesDocumentService documentService = mock(ErpSalesDocumentService.class);
+    private final List<UUID> tenantIds = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        when(documentService.sendPendingAutoErpChunk(any(), any(), anyInt()))
+                .thenReturn(new AutoErpChunkResult(0, 0, 0, 0, 0, null));
+    }
+
+    @AfterEach
+    void tearDown() {
+        for (UUID tenantId : tenantIds) {
+            jdbcTemplate.update("DELETE FROM job_execution_log WHERE job_name = ? AND tenant_id = ?",
+                    AutoErpBatchRunner.JOB_NAME, tenantId);
+        }
+    }
+
+    @Test
+    void savesCursorAfterEveryChunk() {
+        UUID tenantId = newTenant(true, true);
+        UUID first = UUID.randomUUID();
+        UUID second = UUID.randomUUID();
+        when(documentService.generateAutoErpChunk(tenantId, CURSOR_START, CHUNK_SIZE))
+                .thenReturn(new AutoErpChunkResult(CHUNK_SIZE, 9, 1, 9, 0, first));
+        when(documentService.generateAutoErpChunk(tenantId, first, CHUNK_SIZE))
+                .thenReturn(new AutoErpChunkResult(4, 4, 0, 3, 1, second));
+
+        BatchSummary summary = runner(4).run();
+
+        assertThat(summary).isEqualTo(new BatchSummary(1, 0, 0, 13, 12));
+        JobExecutionLog jobLog = onlyLog(tenantId);
+        assertThat(jobLog.getStatus()).isEqualTo("SUCCESS");
+        assertThat(jobLog.getRecordsProcessed()).isEqualTo(25);
+        assertThat(jobLog.getMetadata())
+                .containsEntry("phase", "SEND")
+                .containsEntry("orderCursor", second.toString())
+                .containsEntry("documentCursor", CURSOR_START.toString())
+                .containsEntry("chunks", 3)
+                .containsEntry("generatedCount", 13)
+                .containsEntry("generateFailCount", 1)
+                .containsEntry("sentCount", 12)
+                .containsEntry("sendFailCount", 1)
+                .containsEntry("resumeCount", 0);
+    }
+
+    @Test
+    void resumesInterruptedRunFromSavedCursor() {
+        UUID tenantId = newTenant(true, true);
+        UUID cursor = UUID.randomUUID();
+        JobExecutionLog interrupted = runningLog(tenantId, LocalDateTime.now().minusHours(1),
+                Map.of("phase", "GENERATE", "orderCursor", cursor.toString(), "chunks", 2, "generatedCount", 15,
+                        "sentCount", 15, "elapsedMillis", 5000));
+        when(documentService.generateAutoErpChunk(tenantId, cursor, CHUNK_SIZE))
+                .thenReturn(new AutoErpChunkResult(2, 2, 0, 2, 0, UUID.randomUUID()));
+
+        runner(4).run();
+
+        verify(documentService, never()).generateAutoErpChunk(eq(tenantId), eq(CURSOR_START), anyInt());
+        JobExecutionLog jobLog = onlyLog(tenantId);
+        assertThat(jobLog.getId()).isEqualTo(interrupted.getId());
+        assertThat(jobLog.getStatus()).isEqualTo("SUCCESS");
+        assertThat(jobLog.getMetadata())
+                .containsEntry("resumeCount", 1)
+                .containsEntry("generatedCount", 17)
+                .containsEntry("sentCount", 17)
+                .containsEntry("chunks", 4);
+        assertThat(((Number) jobLog.getMetadata().get("elapsedMillis")).longValue()).isGreaterThanOrEqualTo(5000);
+    }
+
+    @Test
+    void resumeInSendPhaseSkipsGeneration() {
+        UUID tenantId = newTenant(true, true);
+        UUID documentCursor = UUID.randomUUID();
+        runningLog(tenantId, LocalDateTime.now().minusMinutes(10),
+                Map.of("phase", "SEND", "orderCursor", UUID.randomUUID().toString(),
+                        "documentCursor", documentCursor.toString()));
+
+        runner(4).run();
+
+        verify(documentService, never()).generateAutoErpChunk(any(), any(), anyInt());
+        verify(documentService).sendPendingAutoErpChunk(tenantId, documentCursor, CHUNK_SIZE);
+        assertThat(onlyLog(tenantId).getStatus()).isEqualTo("SUCCESS");
+    }
+
+    @Test
+    void staleRunningLogIsClosedAndTenantStartsOver() {
+        UUID tenantId = newTenant(true, false);
+        JobExecutionLog stale = runningLog(tenantId, LocalDateTime.now().minusHours(13),
+                Map.of("phase", "GENERATE", "orderCursor", UUID.randomUUID().toString()));
+        when(documentService.generateAutoErpChunk(tenantId, CURSOR_START, CHUNK_SIZE))
+                .thenReturn(new AutoErpChunkResult(0, 0, 0, 0, 0, null));
+
+        runner(4).run();
+
+        verify(documentService).generateAutoErpChunk(tenantId, CURSOR_START, CHUNK_SIZE);
+        verify(documentService, never()).sendPendingAutoErpChunk(eq(tenantId), any(), anyInt());
+        JobExecutionLog closed = jobLogRepository.findById(stale.getId()).orElseThrow();
+        assertThat(closed.getStatus()).isEqualTo("FAILED");
+        assertThat(closed.getFinishedAt()).isNotNull();
+        assertThat(jobLogRepository.findFirstByJobNameAndTenantIdAndStatusOrderByStartedAtDesc(
+                AutoErpBatchRunner.JOB_NAME, tenantId, "SUCCESS")).isPresent();
+    }
+
+    @Test
+    void failingTenantKeepsLastCheckpointAndOthersContinue() {
+        UUID failingTenant = newTenant(true, true);
+        UUID okTenant = newTenant(true, true);
+        UUID skippedTenant = newTenant(false, false);
+        UUID cursor = UUID.randomUUID();
+        when(documentService.generateAutoErpChunk(failingTenant, CURSOR_START, CHUNK_SIZE))
+                .thenReturn(new AutoErpChunkResult(CHUNK_SIZE, CHUNK_SIZE, 0, CHUNK_SIZE, 0, cursor));
+        when(documentService.generateAutoErpChunk(failingTenant, cursor, CHUNK_SIZE))
+                .thenThrow(new IllegalStateException("db down"));
+        when(documentService.generateAutoErpChunk(okTenant, CURSOR_START, CHUNK_SIZE))
+                .thenReturn(new AutoErpChunkResult(3, 3, 0, 3, 0, UUID.randomUUID()));
+
+        BatchSummary summary = runner(1).run();
+
+        assertThat(summary.processedTenants()).isEqualTo(1);
+        assertThat(summary.skippedTenants()).isEqualTo(1);
+        assertThat(summary.failedTenants()).isEqualTo(1);
+        JobExecutionLog failed = onlyLog(failingTenant);
+        assertThat(failed.getStatus()).isEqualTo("FAILED");
+        assertThat(failed.getErrorMessage()).isEqualTo("db down");
+        assertThat(failed.getMetadata())
+                .containsEntry("orderCursor", cursor.toString())
+                .containsEntry("generatedCount", CHUNK_SIZE);
+        assertThat(onlyLog(okTenant).getStatus()).isEqualTo("SUCCESS");
+        assertThat(logs(skippedTenant)).isEmpty();
+    }
+
+    @Test
+    void concurrentTenantsAreCapped() {
+        AtomicInteger running = new AtomicInteger();
+        AtomicInteger maxRunning = new AtomicInteger();
+        for (int i = 0; i < 6; i++) {
+            UUID tenantId = newTenant(true, false);
+            when(documentService.generateAutoErpChunk(tenantId, CURSOR_START, CHUNK_SIZE)).thenAnswer(invocation -> {
+                maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+                Thread.sleep(100);
+                running.decrementAndGet();
+                return new AutoErpChunkResult(1, 1, 0, 0, 0, UUID.randomUUID());
+            });
+        }
+
+        BatchSummary summary = runner(2).run();
+
+        assertThat(summary.processedTenants()).isEqualTo(6);
+        assertThat(maxRunning.get()).isEqualTo(2);
+    }
+
+    private AutoErpBatchRunner runner(int maxConcurrentTenants) {
+        return new AutoErpBatchRunner(tenantRepository, documentService, mock(SchedulerTenantHelper.class),
+                jobLogRepository, new AutoErpBatchProperties(maxConcurrentTenants, CHUNK_SIZE, Duration.ofHours(12)));
+    }
+
+    private UUID newTenant(boolean autoGenerate, boolean autoSend) {
+        UUID tenantId = UUID.randomUUID();
+        tenantIds.add(tenantId);
+        List<Tenant> tenants = new ArrayList<>();
+        for (UUID id : tenantIds) {
+            Tenant tenant = Tenant.builder().companyName("auto-erp-runner-test").build();
+            ReflectionTestUtils.setField(tenant, "id", id);
+            tenants.add(tenant);
+        }
+        when(tenantRepository.findByActiveTrue()).thenReturn(tenants);
+
+        Optional<TenantErpConfig> config = autoGenerate || autoSend
+                ? Optional.of(TenantErpConfig.builder()
+                        .tenantId(tenantId)
+                        .autoGenerateDocument(autoGenerate)
+                        .autoSendToErp(autoSend)
+                        .build())
+                : Optional.empty();
+        when(documentService.findAutoErpConfig(tenantId)).thenReturn(config);
+        return tenantId;
+    }
+
+    private JobExecutionLog runningLog(UUID tenantId, LocalDateTime startedAt, Map<String, Object> metadata) {
+        return jobLogRepository.save(JobExecutionLog.builder()
+                .jobName(AutoErpBatchRunner.JOB_NAME)
+                .tenantId(tenantId)
+                .startedAt(startedAt)
+                .status("RUNNING")
+                .metadata(metadata)
+                .build());
+    }
+
+    private List<JobExecutionLog> logs(UUID tenantId) {
+        return jobLogRepository.findAll().stream()
+                .filter(l -> AutoErpBatchRunner.JOB_NAME.equals(l.getJobName()) && tenantId.equals(l.getTenantId()))
+                .toList();
+    }
+
+    private JobExecutionLog onlyLog(UUID tenantId) {
+        List<JobExecutionLog> logs = logs(tenantId);
+        assertThat(logs).hasSize(1);
+        return logs.get(0);
+    }
+}
@@ -0,0 +1,177 @@
+package com.mhub.scheduler.outbox;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.mhub.core.domain.enums.OrderStatus;
+import com.mhub.core.domain.event.OrderStatusChangedEvent;
+import com.mhub.core.service.OrderEventHandler;
+import com.mhub.core.service.OrderEventOutboxService;
+import com.mhub.core.tenant.SchedulerTenantHelper;
+import com.mhub.support.PostgresIntegrationTest;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+class OrderEventRelayTest extends PostgresIntegrationTest {
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    private final UUID tenantId = UUID.randomUUID();
+    private final AtomicInteger running = new AtomicInteger();
+    private final AtomicInteger maxRunning = new AtomicInteger();
+    private final List<OrderStatusChangedEvent> delivered = Collections.synchronizedList(new ArrayList<>());
+    private final Set<UUID> failingOrders = ConcurrentHashMap.newKeySet();
+
+    private OrderEventOutboxService outboxService;
+    private OrderEventRelay relay;
+
+    @BeforeEach
+    void setUp() {
+        // claim은 테넌트 구분 없이 가져가므로 다른 테스트가 남긴 이벤트를 비움
+        jdbcTemplate.update("DELETE FROM order_event_outbox");
+        outboxService = new OrderEventOutboxService(jdbcTemplate, objectMapper);
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (relay != null) {
+            relay.shutdown();
+        }
+    }
+
+    @Test
+    void deliveriesNeverExceedMaxConcurrency() {
+        relay = newRelay(3, 20);
+        List<UUID> orders = appendEvents(12, 1);
+
+        relay.relay();
+
+        assertThat(delivered).hasSize(12);
+        assertThat(maxRunning.get()).isEqualTo(3);
+        assertThat(countByStatus("DONE")).isEqualTo(orders.size());
+    }
+
+    @Test
+    void maxConcurrencyIsCappedAtHalfOfConnectionPool() {
+        relay = newRelay(8, 4);
+        appendEvents(10, 1);
+
+        relay.relay();
+
+        assertThat(delivered).hasSize(10);
+        assertThat(maxRunning.get()).isEqualTo(2);
+    }
+
+    @Test
+    void claimTakesOnlyHeadEventPerOrder() {
+        relay = newRelay(4, 20);
+        List<UUID> orders = appendEvents(3, 3);
+
+        // 주문마다 가장 앞선 이벤트 한 건씩만 전달되고, 세 번에 걸쳐 상태 순서대로 전달
+        for (int round = 0; round < 3; round++) {
+            relay.relay();
+            assertThat(delivered).hasSize(3 * (round + 1));
+        }
+        relay.relay();
+
+        assertThat(delivered).hasSize(9);
+        for (UUID orderId : orders) {
+            assertThat(delivered.stream().filter(e -> e.orderId().equals(orderId)).map(OrderStatusChangedEvent::toStatus))
+                    .containsExactly(OrderStatus.PREPARING, OrderStatus.SHIPPING_READY, OrderStatus.SHIPPING);
+        }
+    }
+
+    @Test
+    void failedHeadEventHoldsBackLaterEventsOfSameOrder() {
+        relay = newRelay(4, 20);
+        List<UUID> orders = appendEvents(2, 2);
+        UUID blocked = orders.get(0);
+        failingOrders.add(blocked);
+
+        relay.relay();
+        relay.relay();
+
+        // 재시도 대기 중인 앞 이벤트가 있는 주문은 뒤 이벤트를 가져가지 않음
+        assertThat(delivered).extracting(OrderStatusChangedEvent::orderId).containsOnly(orders.get(1));
+        assertThat(delivered).hasSize(2);
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT count(*) FROM order_event_outbox WHERE order_id = ? AND status = 'PENDING' AND attempts = 0",
+                Integer.class, blocked)).isEqualTo(1);
+    }
+
+    private OrderEventRelay newRelay(int maxConcurrency, int connectionPoolSize) {
+        OrderEventRelayProperties properties = new OrderEventRelayProperties(100, maxConcurrency,
+                Duration.ofMinutes(5), 8, Duration.ofMinutes(1), Duration.ofHours(1), Duration.ofDays(7));
+        OrderEventHandler handler = new OrderEventHandler() {
+            @Override
+            public String name() {
+                return "test";
+            }
+
+            @Override
+            public void onOrderStatusChanged(OrderStatusChangedEvent event) {
+                maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+                try {
+                    Thread.sleep(100);
+                    if (failingOrders.contains(event.orderId())) {
+                        throw new IllegalStateException("handler failure");
+                    }
+                    delivered.add(event);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                } finally {
+                    running.decrementAndGet();
+                }
+            }
+        };
+        return new OrderEventRelay(outboxService, List.of(handler), mock(SchedulerTenantHelper.class), properties,
+                new SimpleMeterRegistry(), connectionPoolSize);
+    }
+
+    /**
+     * 주문 orderCount개에 상태 변경 이벤트를 eventsPerOrder개씩 기록
+     */
+    private List<UUID> appendEvents(int orderCount, int eventsPerOrder) {
+        OrderStatus[] statuses = {OrderStatus.PREPARING, OrderStatus.SHIPPING_READY, OrderStatus.SHIPPING};
+        List<UUID> orders = new ArrayList<>();
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            for (int i = 0; i < orderCount; i++) {
+                UUID orderId = UUID.randomUUID();
+                orders.add(orderId);
+                for (int e = 0; e < eventsPerOrder; e++) {
+                    OrderStatus from = e == 0 ? OrderStatus.PAYMENT_COMPLETE : statuses[e - 1];
+                    outboxService.append(new OrderStatusChangedEvent(orderId, tenantId, from, statuses[e], "test"));
+                }
+            }
+        });
+        return orders;
+    }
+
+    private int countByStatus(String status) {
+        return jdbcTemplate.queryForObject("SELECT count(*) FROM order_event_outbox WHERE status = ?",
+                Integer.class, status);
+    }
+}
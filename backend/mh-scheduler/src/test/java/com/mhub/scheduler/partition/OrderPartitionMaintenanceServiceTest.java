@@ -0,0 +1,123 @@
+package com.mhub.scheduler.partition;
+
+import com.mhub.support.PostgresIntegrationTest;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.YearMonth;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 실제 파티션(2025년 이후)과 겹치지 않도록 1990~1991년 월을 기준 월로 사용
+ * - 보관 기간 분리는 기준 월보다 오래된 모든 파티션이 대상이므로 실제 파티션보다 앞선 월이어야 함
+ */
+class OrderPartitionMaintenanceServiceTest extends PostgresIntegrationTest {
+
+    private static final String TEST_PARTITIONS_SQL =
+            "SELECT c.relname FROM pg_class c WHERE c.relname ~ '^orders_199[01]_\\d{2}$' AND c.relkind = 'r' ORDER BY 1";
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    @AfterEach
+    void dropTestPartitions() {
+        for (String name : jdbcTemplate.queryForList(TEST_PARTITIONS_SQL, String.class)) {
+            jdbcTemplate.execute("DROP TABLE " + name);
+        }
+    }
+
+    @Test
+    void createsLookAheadMonthsAcrossYearBoundary() {
+        OrderPartitionMaintenanceService service = service(3, 0);
+
+        OrderPartitionMaintenanceService.MaintenanceResult result = service.maintain(YearMonth.of(1990, 11));
+
+        assertThat(result.created()).containsExactly(
+                YearMonth.of(1990, 11), YearMonth.of(1990, 12), YearMonth.of(1991, 1), YearMonth.of(1991, 2));
+        assertThat(result.detached()).isEmpty();
+        assertThat(result.coveredMonths()).isEqualTo(3);
+        assertThat(attachedPartitions()).containsExactly(
+                "orders_1990_11", "orders_1990_12", "orders_1991_01", "orders_1991_02");
+
+        // 12월 파티션은 다음 해 1월 1일까지
+        assertThat(partitionBound("orders_1990_12"))
+                .isEqualTo("FOR VALUES FROM ('1990-12-01 00:00:00') TO ('1991-01-01 00:00:00')");
+        assertThat(partitionBound("orders_1991_01"))
+                .isEqualTo("FOR VALUES FROM ('1991-01-01 00:00:00') TO ('1991-02-01 00:00:00')");
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT relrowsecurity FROM pg_class WHERE relname = 'orders_1991_01'", Boolean.class)).isTrue();
+    }
+
+    @Test
+    void repeatedRunIsNoOpAndNextMonthOnlyAddsOnePartition() {
+        OrderPartitionMaintenanceService service = service(3, 0);
+        service.maintain(YearMonth.of(1990, 11));
+
+        OrderPartitionMaintenanceService.MaintenanceResult again = service.maintain(YearMonth.of(1990, 11));
+        assertThat(again.created()).isEmpty();
+        assertThat(again.coveredMonths()).isEqualTo(3);
+
+        OrderPartitionMaintenanceService.MaintenanceResult nextYear = service.maintain(YearMonth.of(1991, 1));
+        assertThat(nextYear.created()).containsExactly(YearMonth.of(1991, 3), YearMonth.of(1991, 4));
+        assertThat(nextYear.coveredMonths()).isEqualTo(3);
+    }
+
+    @Test
+    void fillsGapAndReportsCoverageUpToFirstMissingMonth() {
+        createPartition(1990, 12);
+        createPartition(1991, 2);
+
+        // 1991-01이 비어 있으므로 이번 달만 연속으로 존재
+        OrderPartitionMaintenanceService.MaintenanceResult lookAheadZero = service(0, 0).maintain(YearMonth.of(1990, 12));
+        assertThat(lookAheadZero.created()).isEmpty();
+        assertThat(lookAheadZero.coveredMonths()).isZero();
+
+        OrderPartitionMaintenanceService.MaintenanceResult result = service(3, 0).maintain(YearMonth.of(1990, 12));
+        assertThat(result.created()).containsExactly(YearMonth.of(1991, 1), YearMonth.of(1991, 3));
+        assertThat(result.coveredMonths()).isEqualTo(3);
+    }
+
+    @Test
+    void detachesPartitionsOlderThanRetentionButKeepsTables() {
+        createPartition(1990, 8);
+        createPartition(1990, 9);
+
+        OrderPartitionMaintenanceService.MaintenanceResult result = service(2, 2).maintain(YearMonth.of(1991, 1));
+
+        // 기준 월 1991-01, 보관 2개월 → 1990-11 이전 분리
+        assertThat(result.detached()).containsExactly("orders_1990_08", "orders_1990_09");
+        assertThat(result.created()).containsExactly(YearMonth.of(1991, 1), YearMonth.of(1991, 2), YearMonth.of(1991, 3));
+        assertThat(attachedPartitions()).containsExactly("orders_1991_01", "orders_1991_02", "orders_1991_03");
+        assertThat(jdbcTemplate.queryForList(TEST_PARTITIONS_SQL, String.class))
+                .contains("orders_1990_08", "orders_1990_09");
+
+        assertThat(service(2, 2).maintain(YearMonth.of(1991, 1)).detached()).isEmpty();
+    }
+
+    private OrderPartitionMaintenanceService service(int lookAheadMonths, int retentionMonths) {
+        return new OrderPartitionMaintenanceService(jdbcTemplate,
+                new OrderPartitionProperties(lookAheadMonths, 1, retentionMonths));
+    }
+
+    private void createPartition(int year, int month) {
+        jdbcTemplate.queryForList("SELECT create_monthly_partition('orders', ?, ?)", year, month);
+    }
+
+    private List<String> attachedPartitions() {
+        return jdbcTemplate.queryForList(
+                "SELECT c.relname FROM pg_inherits i JOIN pg_class c ON c.oid = i.inhrelid " +
+                "WHERE i.inhparent = 'public.orders'::regclass AND c.relname ~ '^orders_199[01]_' ORDER BY 1",
+                String.class);
+    }
+
+    private String partitionBound(String partitionName) {
+        return jdbcTemplate.queryForObject(
+                "SELECT pg_get_expr(relpartbound, oid) FROM pg_class WHERE relname = ?", String.class, partitionName);
+    }
+}
@@ -0,0 +1,159 @@
+package com.mhub.scheduler.worker;
+
+import com.mhub.scheduler.worker.OrderSyncDispatcher.Admission;
+import io.awspring.cloud.sqs.listener.Visibility;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class OrderSyncDispatcherTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final Visibility visibility = mock(Visibility.class);
+    private final CountDownLatch release = new CountDownLatch(1);
+    private final AtomicInteger running = new AtomicInteger();
+    private final AtomicInteger maxRunning = new AtomicInteger();
+    private final AtomicInteger completed = new AtomicInteger();
+    private OrderSyncDispatcher dispatcher;
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        release.countDown();
+        if (dispatcher != null) {
+            dispatcher.shutdown();
+        }
+    }
+
+    @Test
+    void maxInFlightIsCappedAtHalfOfConnectionPool() throws Exception {
+        dispatcher = newDispatcher(8, 8, 6);
+
+        // 풀 6 → 동시 실행 3개, 나머지 submit은 슬롯이 빌 때까지 리스너 스레드에서 대기
+        List<Future<Admission>> admissions = new ArrayList<>();
+        try (ExecutorService listeners = Executors.newFixedThreadPool(6)) {
+            for (int i = 0; i < 6; i++) {
+                OrderSyncMessage msg = message("NAVER", SyncType.NEW_ORDERS);
+                admissions.add(listeners.submit(() -> dispatcher.submit(msg, visibility, blockingJob(), completed::incrementAndGet)));
+            }
+            awaitRunning(3);
+            Thread.sleep(200);
+            assertThat(running.get()).isEqualTo(3);
+            assertThat(admissions.stream().filter(Future::isDone).count()).isEqualTo(3);
+
+            release.countDown();
+            for (Future<Admission> admission : admissions) {
+                assertThat(admission.get(5, TimeUnit.SECONDS)).isEqualTo(Admission.ACCEPTED);
+            }
+        }
+        awaitCompleted(6);
+        assertThat(maxRunning.get()).isEqualTo(3);
+    }
+
+    @Test
+    void marketplaceLimitDefersWithoutWaitingForSlot() throws Exception {
+        dispatcher = newDispatcher(4, 2, 20);
+
+        assertThat(submit(message("NAVER", SyncType.NEW_ORDERS))).isEqualTo(Admission.ACCEPTED);
+        assertThat(submit(message("NAVER", SyncType.NEW_ORDERS))).isEqualTo(Admission.ACCEPTED);
+        assertThat(submit(message("NAVER", SyncType.NEW_ORDERS))).isEqualTo(Admission.DEFERRED);
+        assertThat(submit(message("COUPANG", SyncType.NEW_ORDERS))).isEqualTo(Admission.ACCEPTED);
+        awaitRunning(3);
+
+        assertThat(meterRegistry.counter("mhub.order_sync.deferred").count()).isEqualTo(1.0);
+        assertThat(meterRegistry.get("mhub.order_sync.in_flight.marketplace").tag("marketplace", "NAVER")
+                .gauge().value()).isEqualTo(2.0);
+
+        release.countDown();
+        awaitCompleted(3);
+        assertThat(submit(message("NAVER", SyncType.NEW_ORDERS))).isEqualTo(Admission.ACCEPTED);
+        awaitCompleted(4);
+    }
+
+    @Test
+    void sameCredentialIsRejectedBeforeWaitingForSlot() throws Exception {
+        dispatcher = newDispatcher(1, 2, 20);
+        OrderSyncMessage first = message("NAVER", SyncType.NEW_ORDERS);
+        assertThat(submit(first)).isEqualTo(Admission.ACCEPTED);
+        awaitRunning(1);
+
+        // 유일한 슬롯이 사용 중이어도 같은 인증정보 메시지는 기다리지 않고 바로 판정
+        OrderSyncMessage duplicate = new OrderSyncMessage(first.tenantId(), first.marketplaceType(),
+                first.credentialId(), SyncType.NEW_ORDERS);
+        OrderSyncMessage otherType = new OrderSyncMessage(first.tenantId(), first.marketplaceType(),
+                first.credentialId(), SyncType.STATUS_UPDATE);
+        assertTimeoutPreemptively(Duration.ofSeconds(1), () -> {
+            assertThat(submit(duplicate)).isEqualTo(Admission.DUPLICATE);
+            assertThat(submit(otherType)).isEqualTo(Admission.DEFERRED);
+        });
+
+        release.countDown();
+        awaitCompleted(1);
+        assertThat(completed.get()).isEqualTo(1);
+        assertThat(maxRunning.get()).isEqualTo(1);
+        verify(visibility, atLeastOnce()).changeToAsync(300);
+    }
+
+    private OrderSyncDispatcher newDispatcher(int maxInFlight, int maxPerMarketplace, int connectionPoolSize) {
+        when(visibility.changeToAsync(anyInt())).thenReturn(CompletableFuture.completedFuture(null));
+        OrderSyncWorkerProperties properties = new OrderSyncWorkerProperties(maxInFlight, maxPerMarketplace,
+                Duration.ofMinutes(5), Duration.ofMinutes(2), Duration.ofSeconds(30));
+        return new OrderSyncDispatcher(properties, meterRegistry, connectionPoolSize);
+    }
+
+    private Admission submit(OrderSyncMessage msg) {
+        return dispatcher.submit(msg, visibility, blockingJob(), completed::incrementAndGet);
+    }
+
+    private Runnable blockingJob() {
+        return () -> {
+            maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+            try {
+                release.await(10, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } finally {
+                running.decrementAndGet();
+            }
+        };
+    }
+
+    private void awaitRunning(int expected) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (running.get() < expected && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+        assertThat(running.get()).isEqualTo(expected);
+    }
+
+    private void awaitCompleted(int expected) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (completed.get() < expected && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+        assertThat(completed.get()).isEqualTo(expected);
+    }
+
+    private static OrderSyncMessage message(String marketplaceType, SyncType syncType) {
+        return new OrderSyncMessage(UUID.randomUUID().toString(), marketplaceType, UUID.randomUUID().toString(), syncType);
+    }
+}
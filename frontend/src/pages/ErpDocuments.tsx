@@ -88,6 +88,11 @@ const statusConfig: Record<
     className: "text-yellow-600",
     badgeClass: "bg-yellow-100 text-yellow-700 border-yellow-200",
   },
+  SENDING: {
+    icon: Loader2,
+    className: "text-blue-600",
+    badgeClass: "bg-blue-100 text-blue-700 border-blue-200",
+  },
   SENT: {
     icon: CheckCircle2,
     className: "text-green-600",
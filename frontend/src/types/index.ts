@@ -563,10 +563,11 @@ export interface InventoryBalanceResponse {
 }
 
 // ERP 판매전표 관련 타입
-export type ErpDocumentStatus = 'PENDING' | 'SENT' | 'FAILED' | 'CANCELLED';
+export type ErpDocumentStatus = 'PENDING' | 'SENDING' | 'SENT' | 'FAILED' | 'CANCELLED';
 
 export const ErpDocumentStatusLabels: Record<ErpDocumentStatus, string> = {
   PENDING: '미전송',
+  SENDING: '전송중',
   SENT: '전송완료',
   FAILED: '전송실패',
   CANCELLED: '취소',
@@ -611,6 +612,7 @@ export interface ErpDocumentCounts {
   PENDING: number;
   SENT: number;
   FAILED: number;
+  SENDING?: number;
   CANCELLED?: number;
 }
 